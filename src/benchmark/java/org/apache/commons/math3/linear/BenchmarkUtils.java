@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+
+/**
+ * Helpers building the operands of the linear algebra benchmarks.
+ *
+ * @version $Id$
+ */
+final class BenchmarkUtils {
+
+    /** Private constructor for utility class. */
+    private BenchmarkUtils() {
+    }
+
+    /**
+     * Build a matrix with entries uniformly distributed in [-1, 1).
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param seed seed of the generator
+     * @return a new matrix
+     */
+    static double[][] randomMatrix(final int rows, final int columns, final long seed) {
+        final RandomGenerator random = new Well19937c(seed);
+        final double[][] m = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m[i][j] = 2 * random.nextDouble() - 1;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Build a symmetric positive definite matrix.
+     *
+     * @param size matrix dimension
+     * @param seed seed of the generator
+     * @return a new matrix, equal to A<sup>T</sup>A + n I for a random A
+     */
+    static RealMatrix randomSpdMatrix(final int size, final long seed) {
+        final RealMatrix a = new BlockRealMatrix(randomMatrix(size, size, seed));
+        final RealMatrix spd = a.transpose().multiply(a);
+        for (int i = 0; i < size; ++i) {
+            spd.addToEntry(i, i, size);
+        }
+        return spd;
+    }
+
+}
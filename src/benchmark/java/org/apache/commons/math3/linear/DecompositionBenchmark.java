@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the matrix decompositions and the solvers they provide.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class DecompositionBenchmark {
+
+    /** Matrices dimension. */
+    @Param({ "10", "100", "300" })
+    private int size;
+
+    /** General square matrix. */
+    private RealMatrix general;
+
+    /** Symmetric positive definite matrix. */
+    private RealMatrix spd;
+
+    /** Right hand side for the solvers. */
+    private RealVector b;
+
+    /** Build the operands. */
+    @Setup
+    public void setUp() {
+        general = new BlockRealMatrix(BenchmarkUtils.randomMatrix(size, size, 0x5eb6b5d9e6ea5f61l));
+        spd     = BenchmarkUtils.randomSpdMatrix(size, 0xa7f6bf7d73b1f42dl);
+        b       = new ArrayRealVector(BenchmarkUtils.randomMatrix(1, size, 0x1c3c9d6d80e32f8cl)[0], false);
+    }
+
+    /** @return LU decomposition */
+    @Benchmark
+    public LUDecomposition lu() {
+        return new LUDecomposition(general);
+    }
+
+    /** @return solution of a general system by LU decomposition */
+    @Benchmark
+    public RealVector luSolve() {
+        return new LUDecomposition(general).getSolver().solve(b);
+    }
+
+    /** @return QR decomposition */
+    @Benchmark
+    public QRDecomposition qr() {
+        return new QRDecomposition(general);
+    }
+
+    /** @return Cholesky decomposition */
+    @Benchmark
+    public CholeskyDecomposition cholesky() {
+        return new CholeskyDecomposition(spd);
+    }
+
+    /** @return solution of a symmetric positive definite system by Cholesky decomposition */
+    @Benchmark
+    public RealVector choleskySolve() {
+        return new CholeskyDecomposition(spd).getSolver().solve(b);
+    }
+
+    /** @return eigen decomposition of a symmetric matrix */
+    @Benchmark
+    public EigenDecomposition eigenSymmetric() {
+        return new EigenDecomposition(spd);
+    }
+
+    /** @return eigenvalues of a symmetric matrix */
+    @Benchmark
+    public double[] eigenvaluesSymmetric() {
+        return new EigenDecomposition(spd, false).getRealEigenvalues();
+    }
+
+    /** @return eigen decomposition of a non-symmetric matrix */
+    @Benchmark
+    public EigenDecomposition eigenGeneral() {
+        return new EigenDecomposition(general);
+    }
+
+    /** @return singular value decomposition */
+    @Benchmark
+    public SingularValueDecomposition svd() {
+        return new SingularValueDecomposition(general);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the dense matrix products.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class MatrixMultiplyBenchmark {
+
+    /** Matrices dimension. */
+    @Param({ "10", "100", "500" })
+    private int size;
+
+    /** Left operand, in block layout. */
+    private BlockRealMatrix blockA;
+
+    /** Right operand, in block layout. */
+    private BlockRealMatrix blockB;
+
+    /** Left operand, in row-array layout. */
+    private Array2DRowRealMatrix arrayA;
+
+    /** Right operand, in row-array layout. */
+    private Array2DRowRealMatrix arrayB;
+
+    /** Build the operands. */
+    @Setup
+    public void setUp() {
+        final double[][] a = BenchmarkUtils.randomMatrix(size, size, 0x3ba3c3f1b4aee42dl);
+        final double[][] b = BenchmarkUtils.randomMatrix(size, size, 0x93a7c2c99db4ad2el);
+        blockA = new BlockRealMatrix(a);
+        blockB = new BlockRealMatrix(b);
+        arrayA = new Array2DRowRealMatrix(a);
+        arrayB = new Array2DRowRealMatrix(b);
+    }
+
+    /** @return block product */
+    @Benchmark
+    public RealMatrix blockMultiply() {
+        return blockA.multiply(blockB);
+    }
+
+    /** @return row-array product */
+    @Benchmark
+    public RealMatrix arrayMultiply() {
+        return arrayA.multiply(arrayB);
+    }
+
+    /** @return block transposed product */
+    @Benchmark
+    public RealMatrix blockTransposeMultiply() {
+        return blockA.transpose().multiply(blockB);
+    }
+
+    /** @return block matrix-vector product */
+    @Benchmark
+    public double[] blockOperate() {
+        return blockA.operate(blockB.getRow(0));
+    }
+
+}
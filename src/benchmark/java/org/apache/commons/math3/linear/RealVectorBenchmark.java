@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for vector arithmetic mixing dense and sparse operands.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class RealVectorBenchmark {
+
+    /** Vectors dimension. */
+    @Param({ "1000", "100000" })
+    private int dimension;
+
+    /** Fraction of non-zero entries in the sparse vectors. */
+    @Param({ "0.001", "0.01", "0.1" })
+    private double density;
+
+    /** Dense operand. */
+    private ArrayRealVector dense;
+
+    /** Dense accumulator for the in-place operations. */
+    private ArrayRealVector accumulator;
+
+    /** Sparse operand. */
+    private OpenMapRealVector sparse;
+
+    /** Other sparse operand. */
+    private OpenMapRealVector otherSparse;
+
+    /** Build the operands. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937c(0xb1e3b3e0a1c8f1e9l);
+        final double[] data = new double[dimension];
+        for (int i = 0; i < dimension; ++i) {
+            data[i] = random.nextDouble();
+        }
+        dense       = new ArrayRealVector(data, false);
+        accumulator = new ArrayRealVector(data, true);
+        sparse      = randomSparse(random);
+        otherSparse = randomSparse(random);
+    }
+
+    /** @return dense + sparse */
+    @Benchmark
+    public RealVector addDenseSparse() {
+        return dense.add(sparse);
+    }
+
+    /** @return sparse - dense */
+    @Benchmark
+    public RealVector subtractSparseDense() {
+        return sparse.subtract(dense);
+    }
+
+    /** @return dense . sparse */
+    @Benchmark
+    public double dotProductDenseSparse() {
+        return dense.dotProduct(sparse);
+    }
+
+    /** @return sparse . sparse */
+    @Benchmark
+    public double dotProductSparseSparse() {
+        return sparse.dotProduct(otherSparse);
+    }
+
+    /** @return dense += sparse, computed in place */
+    @Benchmark
+    public RealVector addToSelfDenseSparse() {
+        return accumulator.addToSelf(sparse);
+    }
+
+    /** @return 0.5 dense + 2 sparse, computed in place */
+    @Benchmark
+    public RealVector combineToSelfDenseSparse() {
+        return accumulator.combineToSelf(0.5, 2, sparse);
+    }
+
+    /** @return distance between a dense and a sparse vector */
+    @Benchmark
+    public double distanceDenseSparse() {
+        return dense.getDistance(sparse);
+    }
+
+    /**
+     * Build a sparse vector with the configured density.
+     *
+     * @param random generator for the positions and values
+     * @return a new sparse vector
+     */
+    private OpenMapRealVector randomSparse(final RandomGenerator random) {
+        final int nonZero = (int) (density * dimension);
+        final OpenMapRealVector v = new OpenMapRealVector(dimension, nonZero);
+        for (int i = 0; i < nonZero; ++i) {
+            v.setEntry(random.nextInt(dimension), random.nextDouble() + 1);
+        }
+        return v;
+    }
+
+}
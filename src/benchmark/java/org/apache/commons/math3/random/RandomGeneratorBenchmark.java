@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link RandomGenerator} implementations.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class RandomGeneratorBenchmark {
+
+    /** Simple name of the generator class, in the {@code random} package. */
+    @Param({ "JDKRandomGenerator", "MersenneTwister", "ISAACRandom",
+             "Well512a", "Well1024a", "Well19937c", "Well44497b",
+             "SplitMix64", "XoRoShiRo128Plus", "XoShiRo256StarStar", "PcgXshRr32" })
+    private String generatorName;
+
+    /** Generator under test. */
+    private RandomGenerator generator;
+
+    /** Ziggurat gaussian sampler over the generator under test. */
+    private ZigguratNormalizedRandomGenerator zigguratNormal;
+
+    /** Ziggurat exponential sampler over the generator under test. */
+    private ZigguratExponentialRandomGenerator zigguratExponential;
+
+    /** Destination of the bulk benchmarks. */
+    private byte[] bytes;
+
+    /** Destination of the bulk double benchmarks. */
+    private double[] doubles;
+
+    /**
+     * Build the generator.
+     * @throws Exception if the generator cannot be instantiated
+     */
+    @Setup
+    public void setUp() throws Exception {
+        final String name = RandomGenerator.class.getPackage().getName() + "." + generatorName;
+        generator = (RandomGenerator) Class.forName(name).newInstance();
+        generator.setSeed(0x4d8c3e8a1f2b7c69l);
+        zigguratNormal      = new ZigguratNormalizedRandomGenerator(generator);
+        zigguratExponential = new ZigguratExponentialRandomGenerator(generator);
+        bytes   = new byte[1024];
+        doubles = new double[1024];
+    }
+
+    /** @return a random int */
+    @Benchmark
+    public int nextInt() {
+        return generator.nextInt();
+    }
+
+    /** @return a random int in a bounded range */
+    @Benchmark
+    public int nextIntBounded() {
+        return generator.nextInt(1000);
+    }
+
+    /** @return a random long */
+    @Benchmark
+    public long nextLong() {
+        return generator.nextLong();
+    }
+
+    /** @return a random double */
+    @Benchmark
+    public double nextDouble() {
+        return generator.nextDouble();
+    }
+
+    /** @return a random gaussian deviate */
+    @Benchmark
+    public double nextGaussian() {
+        return generator.nextGaussian();
+    }
+
+    /** @return a random gaussian deviate generated by the ziggurat method */
+    @Benchmark
+    public double nextGaussianZiggurat() {
+        return zigguratNormal.nextNormalizedDouble();
+    }
+
+    /** @return a random exponential deviate generated by the ziggurat method */
+    @Benchmark
+    public double nextExponentialZiggurat() {
+        return zigguratExponential.nextExponential();
+    }
+
+    /** @return a filled byte array */
+    @Benchmark
+    public byte[] nextBytes() {
+        generator.nextBytes(bytes);
+        return bytes;
+    }
+
+    /** @return a double array filled one value at a time */
+    @Benchmark
+    public double[] nextDoublesLoop() {
+        for (int i = 0; i < doubles.length; ++i) {
+            doubles[i] = generator.nextDouble();
+        }
+        return doubles;
+    }
+
+    /** @return a double array filled by the bulk method, when available */
+    @Benchmark
+    public double[] nextDoublesBulk() {
+        if (generator instanceof BitsStreamGenerator) {
+            ((BitsStreamGenerator) generator).nextDoubles(doubles, 0, doubles.length);
+            return doubles;
+        }
+        return nextDoublesLoop();
+    }
+
+}
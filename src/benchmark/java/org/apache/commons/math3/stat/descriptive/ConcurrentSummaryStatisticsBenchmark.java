@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ConcurrentSummaryStatistics} against
+ * {@link SynchronizedSummaryStatistics}, with many threads adding values to
+ * the same instance.
+ * <p>
+ * With one stripe, all threads contend on a single lock, as with
+ * {@link SynchronizedSummaryStatistics}. With more stripes than threads, the
+ * remaining cost is the cache traffic between stripes, which is what the
+ * padding of the stripes is meant to avoid.
+ * </p>
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConcurrentSummaryStatisticsBenchmark {
+
+    /** Number of stripes of the concurrent statistics. */
+    @Param({ "1", "64" })
+    private int stripes;
+
+    /** Statistics updated under a single monitor. */
+    private SynchronizedSummaryStatistics synchronizedStatistics;
+
+    /** Statistics updated on stripes. */
+    private ConcurrentSummaryStatistics concurrentStatistics;
+
+    /** Build the statistics. */
+    @Setup
+    public void setUp() {
+        synchronizedStatistics = new SynchronizedSummaryStatistics();
+        concurrentStatistics   = new ConcurrentSummaryStatistics(stripes);
+    }
+
+    /** Per-thread source of values. */
+    @State(Scope.Thread)
+    public static class Values {
+
+        /** Next value to add. */
+        private double next;
+
+        /** @return a new value */
+        double next() {
+            next += 0.25;
+            if (next > 1000) {
+                next = 0.25;
+            }
+            return next;
+        }
+
+    }
+
+    /**
+     * @param values per-thread source of values
+     * @return the statistics
+     */
+    @Benchmark
+    public SynchronizedSummaryStatistics addSynchronized(final Values values) {
+        synchronizedStatistics.addValue(values.next());
+        return synchronizedStatistics;
+    }
+
+    /**
+     * @param values per-thread source of values
+     * @return the statistics
+     */
+    @Benchmark
+    public ConcurrentSummaryStatistics addConcurrent(final Values values) {
+        concurrentStatistics.addValue(values.next());
+        return concurrentStatistics;
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.CircularDoubleArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link DescriptiveStatistics} and {@link SummaryStatistics}.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class DescriptiveStatisticsBenchmark {
+
+    /** Number of values. */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** Sample values. */
+    private double[] values;
+
+    /** Statistics over all the sample values. */
+    private DescriptiveStatistics statistics;
+
+    /** Rolling statistics, with a window of half the sample size. */
+    private DescriptiveStatistics rolling;
+
+    /** Rolling statistics stored in a circular buffer. */
+    private DescriptiveStatistics circular;
+
+    /** Index of the next value added to the rolling statistics. */
+    private int next;
+
+    /** Build the sample. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937c(0x2f1e6b9a4c3d8e07l);
+        values = new double[size];
+        for (int i = 0; i < size; ++i) {
+            values[i] = random.nextGaussian();
+        }
+        statistics = new DescriptiveStatistics(values);
+        rolling    = new DescriptiveStatistics(size / 2);
+        circular   = new DescriptiveStatistics(new CircularDoubleArray());
+        circular.setWindowSize(size / 2);
+        for (int i = 0; i < size / 2; ++i) {
+            rolling.addValue(values[i]);
+            circular.addValue(values[i]);
+        }
+        next = 0;
+    }
+
+    /** @return statistics built by adding all values one at a time */
+    @Benchmark
+    public DescriptiveStatistics addValues() {
+        final DescriptiveStatistics stats = new DescriptiveStatistics();
+        for (final double v : values) {
+            stats.addValue(v);
+        }
+        return stats;
+    }
+
+    /** @return statistics stored in a circular buffer, built by adding all values one at a time */
+    @Benchmark
+    public DescriptiveStatistics addValuesCircular() {
+        final DescriptiveStatistics stats = new DescriptiveStatistics(new CircularDoubleArray());
+        for (final double v : values) {
+            stats.addValue(v);
+        }
+        return stats;
+    }
+
+    /** @return summary statistics built by adding all values one at a time */
+    @Benchmark
+    public SummaryStatistics addValuesSummary() {
+        final SummaryStatistics stats = new SummaryStatistics();
+        for (final double v : values) {
+            stats.addValue(v);
+        }
+        return stats;
+    }
+
+    /** @return mean and standard deviation, packed together */
+    @Benchmark
+    public double meanAndStandardDeviation() {
+        return statistics.getMean() + statistics.getStandardDeviation();
+    }
+
+    /** @return higher moments, packed together */
+    @Benchmark
+    public double skewnessAndKurtosis() {
+        return statistics.getSkewness() + statistics.getKurtosis();
+    }
+
+    /** @return median of all the values */
+    @Benchmark
+    public double median() {
+        return statistics.getPercentile(50);
+    }
+
+    /** @return mean of the rolling window after adding one value */
+    @Benchmark
+    public double rollingMean() {
+        rolling.addValue(values[next]);
+        next = (next + 1) % size;
+        return rolling.getMean();
+    }
+
+    /** @return number of values in the rolling window after adding one value */
+    @Benchmark
+    public long rollingAdd() {
+        rolling.addValue(values[next]);
+        next = (next + 1) % size;
+        return rolling.getN();
+    }
+
+    /** @return number of values in the circular rolling window after adding one value */
+    @Benchmark
+    public long rollingAddCircular() {
+        circular.addValue(values[next]);
+        next = (next + 1) % size;
+        return circular.getN();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Percentile}.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class PercentileBenchmark {
+
+    /** Number of values. */
+    @Param({ "1000", "100000" })
+    private int size;
+
+    /** Sample values. */
+    private double[] values;
+
+    /** Sorted sample values. */
+    private double[] sorted;
+
+    /** Build the sample. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937c(0x6c8e9cf570932bd5l);
+        values = new double[size];
+        for (int i = 0; i < size; ++i) {
+            values[i] = random.nextGaussian();
+        }
+        sorted = values.clone();
+        Arrays.sort(sorted);
+    }
+
+    /** @return median of fresh data */
+    @Benchmark
+    public double median() {
+        return new Percentile().evaluate(values, 50);
+    }
+
+    /** @return median of already sorted data */
+    @Benchmark
+    public double medianSorted() {
+        return new Percentile().evaluate(sorted, 50);
+    }
+
+    /** @return several quantiles of the same data, computed with a cached selection */
+    @Benchmark
+    public double quartiles() {
+        final Percentile percentile = new Percentile();
+        percentile.setData(values);
+        return percentile.evaluate(25) + percentile.evaluate(50) + percentile.evaluate(75);
+    }
+
+    /** @return several quantiles of the same data, computed by a single multi-quantile call */
+    @Benchmark
+    public double[] quartilesMulti() {
+        return new Percentile().evaluate(values, new double[] { 25, 50, 75 });
+    }
+
+    /** @return tail quantiles of the same data, computed in place on a scratch copy */
+    @Benchmark
+    public double[] tailQuantilesInPlace() {
+        return new Percentile().evaluateInPlace(values.clone(), 0, size, new double[] { 50, 90, 99, 99.9 });
+    }
+
+    /** @return median, as computed by the {@link Median} statistic */
+    @Benchmark
+    public double medianStatistic() {
+        return new Median().evaluate(values);
+    }
+
+}
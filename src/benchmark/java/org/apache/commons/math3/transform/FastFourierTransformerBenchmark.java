@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.transform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link FastFourierTransformer}.
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@State(Scope.Benchmark)
+public class FastFourierTransformerBenchmark {
+
+    /** Number of samples, must be a power of two. */
+    @Param({ "256", "4096", "65536" })
+    private int size;
+
+    /** Transformer under test. */
+    private FastFourierTransformer transformer;
+
+    /** Real samples. */
+    private double[] real;
+
+    /** Complex samples. */
+    private Complex[] complex;
+
+    /** Samples in the split real/imaginary layout, as a template. */
+    private double[][] dataRI;
+
+    /** Work array for the in-place transform. */
+    private double[][] work;
+
+    /** Build the samples. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937c(0x0f3c5a7e91b2d4c6l);
+        transformer = new FastFourierTransformer(DftNormalization.STANDARD);
+        real    = new double[size];
+        complex = new Complex[size];
+        dataRI  = new double[2][size];
+        work    = new double[2][size];
+        for (int i = 0; i < size; ++i) {
+            real[i]      = random.nextDouble();
+            complex[i]   = new Complex(random.nextDouble(), random.nextDouble());
+            dataRI[0][i] = complex[i].getReal();
+            dataRI[1][i] = complex[i].getImaginary();
+        }
+    }
+
+    /** @return forward transform of real samples */
+    @Benchmark
+    public Complex[] forwardReal() {
+        return transformer.transform(real, TransformType.FORWARD);
+    }
+
+    /** @return forward transform of complex samples */
+    @Benchmark
+    public Complex[] forwardComplex() {
+        return transformer.transform(complex, TransformType.FORWARD);
+    }
+
+    /** @return forward transform of split real/imaginary samples, computed in place */
+    @Benchmark
+    public double[][] forwardInPlace() {
+        System.arraycopy(dataRI[0], 0, work[0], 0, size);
+        System.arraycopy(dataRI[1], 0, work[1], 0, size);
+        FastFourierTransformer.transformInPlace(work, DftNormalization.STANDARD, TransformType.FORWARD);
+        return work;
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing {@link FastMath} with {@link Math}.
+ * <p>
+ * Each benchmark evaluates the function on a fixed array of arguments and
+ * reports the average time of a single call. The arguments are chosen in the
+ * ranges used by the accuracy tests of {@code FastMathTest}.
+ * </p>
+ *
+ * @version $Id$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms512M", "-Xmx512M" })
+@OperationsPerInvocation(FastMathBenchmark.SIZE)
+@State(Scope.Benchmark)
+public class FastMathBenchmark {
+
+    /** Number of arguments per invocation. */
+    static final int SIZE = 1024;
+
+    /** Arguments in [-10, 10). */
+    private double[] x;
+
+    /** Arguments in (0, 1e6). */
+    private double[] positive;
+
+    /** Arguments in [-1, 1). */
+    private double[] unit;
+
+    /** Build the arguments. */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937c(0x7a3f1c6b08d2e95fl);
+        x        = new double[SIZE];
+        positive = new double[SIZE];
+        unit     = new double[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            x[i]        = 20 * random.nextDouble() - 10;
+            positive[i] = 1.0e6 * random.nextDouble() + Double.MIN_VALUE;
+            unit[i]     = 2 * random.nextDouble() - 1;
+        }
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathExp() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.exp(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathExp() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.exp(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathLog() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.log(positive[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathLog() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.log(positive[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathPow() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.pow(positive[i], unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathPow() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.pow(positive[i], unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathSin() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.sin(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathSin() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.sin(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathCos() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.cos(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathCos() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.cos(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathTan() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.tan(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathTan() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.tan(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathAtan2() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.atan2(x[i], unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathAtan2() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.atan2(x[i], unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathAsin() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.asin(unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathAsin() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.asin(unit[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathSqrt() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.sqrt(positive[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathSqrt() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.sqrt(positive[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathCbrt() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.cbrt(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathCbrt() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.cbrt(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double fastMathTanh() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += FastMath.tanh(x[i]);
+        }
+        return s;
+    }
+
+    /** @return sum of the function values */
+    @Benchmark
+    public double mathTanh() {
+        double s = 0;
+        for (int i = 0; i < SIZE; ++i) {
+            s += Math.tanh(x[i]);
+        }
+        return s;
+    }
+
+}
@@ -20,12 +20,14 @@ import java.io.Serializable;
 
 import org.apache.commons.math3.exception.MathInternalError;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.RandomDataImpl;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Base class for integer-valued discrete distributions.  Default
@@ -197,7 +199,7 @@ public abstract class AbstractIntegerDistribution implements IntegerDistribution
      * {@inheritDoc}
      *
      * The default implementation generates the sample by calling
-     * {@link #sample()} in a loop.
+     * {@link #sample(int[])}.
      */
     public int[] sample(int sampleSize) {
         if (sampleSize <= 0) {
@@ -205,12 +207,28 @@ public abstract class AbstractIntegerDistribution implements IntegerDistribution
                     LocalizedFormats.NUMBER_OF_SAMPLES, sampleSize);
         }
         int[] out = new int[sampleSize];
-        for (int i = 0; i < sampleSize; i++) {
-            out[i] = sample();
-        }
+        sample(out);
         return out;
     }
 
+    /**
+     * Fill an array with random values drawn from this distribution.
+     * <p>
+     * The default implementation calls {@link #sample()} in a loop.
+     * Distributions able to generate values in bulk override it.
+     * </p>
+     *
+     * @param values array to fill
+     * @throws NullArgumentException if {@code values} is null
+     * @since 3.2
+     */
+    public void sample(int[] values) throws NullArgumentException {
+        MathUtils.checkNotNull(values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sample();
+        }
+    }
+
     /**
      * Computes the cumulative probability function and checks for {@code NaN}
      * values returned. Throws {@code MathInternalError} if the value is
@@ -21,12 +21,14 @@ import java.io.Serializable;
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.analysis.solvers.UnivariateSolverUtils;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.RandomDataImpl;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Base class for probability distributions on the reals.
@@ -263,7 +265,7 @@ implements RealDistribution, Serializable {
      * {@inheritDoc}
      *
      * The default implementation generates the sample by calling
-     * {@link #sample()} in a loop.
+     * {@link #sample(double[])}.
      */
     public double[] sample(int sampleSize) {
         if (sampleSize <= 0) {
@@ -271,12 +273,28 @@ implements RealDistribution, Serializable {
                     sampleSize);
         }
         double[] out = new double[sampleSize];
-        for (int i = 0; i < sampleSize; i++) {
-            out[i] = sample();
-        }
+        sample(out);
         return out;
     }
 
+    /**
+     * Fill an array with random values drawn from this distribution.
+     * <p>
+     * The default implementation calls {@link #sample()} in a loop.
+     * Distributions able to generate values in bulk override it.
+     * </p>
+     *
+     * @param values array to fill
+     * @throws NullArgumentException if {@code values} is null
+     * @since 3.2
+     */
+    public void sample(double[] values) throws NullArgumentException {
+        MathUtils.checkNotNull(values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sample();
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
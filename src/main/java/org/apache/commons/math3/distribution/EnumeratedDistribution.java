@@ -16,6 +16,8 @@
  */
 package org.apache.commons.math3.distribution;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
@@ -72,6 +74,19 @@ public class EnumeratedDistribution<T> implements Serializable {
      */
     private final double[] probabilities;
 
+    /**
+     * Cutoffs of the alias table: a value drawn uniformly in column i
+     * selects singletons[i] below cutoffs[i], and singletons[aliases[i]] above.
+     * Not serialized, rebuilt from the probabilities when deserializing.
+     */
+    private transient double[] cutoffs;
+
+    /**
+     * Aliases of the alias table.
+     * Not serialized, rebuilt from the probabilities when deserializing.
+     */
+    private transient int[] aliases;
+
     /**
      * Create an enumerated distribution using the given probability mass function
      * enumeration.
@@ -124,6 +139,74 @@ public class EnumeratedDistribution<T> implements Serializable {
         }
 
         probabilities = MathArrays.normalizeArray(probs, 1.0);
+
+        buildAliasTable();
+    }
+
+    /**
+     * Build the alias table used for sampling in constant time.
+     * <p>
+     * This is Vose's variant of Walker's alias method, see Michael D. Vose, <a
+     * href="http://dx.doi.org/10.1109/32.92917">A linear algorithm for generating
+     * random numbers with a given distribution</a>, IEEE Transactions on Software
+     * Engineering, 17 (9), 1991. Each of the n columns of the table holds the
+     * probability mass 1/n, shared between at most two values.
+     * </p>
+     */
+    private void buildAliasTable() {
+        final int n = probabilities.length;
+        cutoffs = new double[n];
+        aliases = new int[n];
+
+        // stacks of the columns with less and more than the average mass
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int nSmall = 0;
+        int nLarge = 0;
+        for (int i = 0; i < n; i++) {
+            cutoffs[i] = probabilities[i] * n;
+            aliases[i] = i;
+            if (cutoffs[i] < 1) {
+                small[nSmall++] = i;
+            } else {
+                large[nLarge++] = i;
+            }
+        }
+
+        // fill each small column with mass taken from a large one
+        while (nSmall > 0 && nLarge > 0) {
+            final int s = small[--nSmall];
+            final int l = large[--nLarge];
+            aliases[s] = l;
+            cutoffs[l] -= 1 - cutoffs[s];
+            if (cutoffs[l] < 1) {
+                small[nSmall++] = l;
+            } else {
+                large[nLarge++] = l;
+            }
+        }
+
+        // remaining columns are full, up to rounding errors
+        while (nLarge > 0) {
+            cutoffs[large[--nLarge]] = 1;
+        }
+        while (nSmall > 0) {
+            cutoffs[small[--nSmall]] = 1;
+        }
+    }
+
+    /**
+     * Read a serialized object and rebuild its alias table.
+     *
+     * @param stream input stream
+     * @throws IOException if object cannot be read
+     * @throws ClassNotFoundException if the class corresponding
+     * to the serialized object cannot be found
+     */
+    private void readObject(final ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        buildAliasTable();
     }
 
     /**
@@ -182,24 +265,17 @@ public class EnumeratedDistribution<T> implements Serializable {
 
     /**
      * Generate a random value sampled from this distribution.
+     * <p>
+     * Sampling uses an alias table built at construction, so it takes
+     * constant time whatever the number of values.
+     * </p>
      *
      * @return a random value.
      */
     public T sample() {
-        final double randomValue = random.nextDouble();
-        double sum = 0;
-
-        for (int i = 0; i < probabilities.length; i++) {
-            sum += probabilities[i];
-            if (randomValue < sum) {
-                return singletons.get(i);
-            }
-        }
-
-        /* This should never happen, but it ensures we will return a correct
-         * object in case the loop above has some floating point inequality
-         * problem on the final iteration. */
-        return singletons.get(singletons.size() - 1);
+        final int column = random.nextInt(cutoffs.length);
+        final int index  = (random.nextDouble() < cutoffs[column]) ? column : aliases[column];
+        return singletons.get(index);
     }
 
     /**
@@ -20,10 +20,12 @@ import org.apache.commons.math3.exception.NotStrictlyPositiveException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.ArithmeticUtils;
 import org.apache.commons.math3.util.ResizableDoubleArray;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.random.ZigguratExponentialRandomGenerator;
 
 /**
  * Implementation of the exponential distribution.
@@ -58,6 +60,8 @@ public class ExponentialDistribution extends AbstractRealDistribution {
     private final double mean;
     /** Inverse cumulative probability accuracy. */
     private final double solverAbsoluteAccuracy;
+    /** Ziggurat sampler (null if samples are generated by the inversion method). */
+    private final ZigguratExponentialRandomGenerator ziggurat;
 
     /**
      * Initialize tables.
@@ -125,6 +129,32 @@ public class ExponentialDistribution extends AbstractRealDistribution {
                                    double mean,
                                    double inverseCumAccuracy)
         throws NotStrictlyPositiveException {
+        this(rng, mean, inverseCumAccuracy, false);
+    }
+
+    /**
+     * Creates an exponential distribution, selecting the sampling method.
+     * <p>
+     * By default, samples are generated by the inversion method described in
+     * {@link #sample()}. If {@code ziggurat} is {@code true}, they are
+     * generated by a {@link ZigguratExponentialRandomGenerator} built over
+     * {@code rng}, which is much faster.
+     * </p>
+     *
+     * @param rng Random number generator.
+     * @param mean Mean of this distribution.
+     * @param inverseCumAccuracy Maximum absolute error in inverse
+     * cumulative probability estimates (defaults to
+     * {@link #DEFAULT_INVERSE_ABSOLUTE_ACCURACY}).
+     * @param ziggurat Whether samples are generated using the ziggurat method.
+     * @throws NotStrictlyPositiveException if {@code mean <= 0}.
+     * @since 3.2
+     */
+    public ExponentialDistribution(RandomGenerator rng,
+                                   double mean,
+                                   double inverseCumAccuracy,
+                                   boolean ziggurat)
+        throws NotStrictlyPositiveException {
         super(rng);
 
         if (mean <= 0) {
@@ -132,6 +162,7 @@ public class ExponentialDistribution extends AbstractRealDistribution {
         }
         this.mean = mean;
         solverAbsoluteAccuracy = inverseCumAccuracy;
+        this.ziggurat = ziggurat ? new ZigguratExponentialRandomGenerator(rng) : null;
     }
 
     /**
@@ -198,13 +229,18 @@ public class ExponentialDistribution extends AbstractRealDistribution {
      * <p><strong>Algorithm Description</strong>: this implementation uses the
      * <a href="http://www.jesus.ox.ac.uk/~clifford/a5/chap1/node5.html">
      * Inversion Method</a> to generate exponentially distributed random values
-     * from uniform deviates.</p>
+     * from uniform deviates, unless the ziggurat method has been selected
+     * at construction.</p>
      *
      * @return a random value.
      * @since 2.2
      */
     @Override
     public double sample() {
+        if (ziggurat != null) {
+            return mean * ziggurat.nextExponential();
+        }
+
         // Step 1:
         double a = 0;
         double u = random.nextDouble();
@@ -311,4 +347,20 @@ public class ExponentialDistribution extends AbstractRealDistribution {
     public boolean isSupportConnected() {
         return true;
     }
+
+    /** {@inheritDoc}
+     * @since 3.2
+     */
+    @Override
+    public void sample(final double[] values) {
+        if (ziggurat == null) {
+            super.sample(values);
+            return;
+        }
+        MathUtils.checkNotNull(values);
+        ziggurat.nextExponentials(values);
+        for (int i = 0; i < values.length; ++i) {
+            values[i] *= mean;
+        }
+    }
 }
@@ -23,8 +23,10 @@ import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.special.Erf;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.random.ZigguratNormalizedRandomGenerator;
 
 /**
  * Implementation of the normal (gaussian) distribution.
@@ -51,6 +53,8 @@ public class NormalDistribution extends AbstractRealDistribution {
     private final double standardDeviation;
     /** Inverse cumulative probability accuracy. */
     private final double solverAbsoluteAccuracy;
+    /** Ziggurat sampler (null if samples are generated by the polar method). */
+    private final ZigguratNormalizedRandomGenerator ziggurat;
 
     /**
      * Create a normal distribution with mean equal to zero and standard
@@ -102,6 +106,32 @@ public class NormalDistribution extends AbstractRealDistribution {
                               double sd,
                               double inverseCumAccuracy)
         throws NotStrictlyPositiveException {
+        this(rng, mean, sd, inverseCumAccuracy, false);
+    }
+
+    /**
+     * Creates a normal distribution, selecting the sampling method.
+     * <p>
+     * By default, samples are generated by {@link RandomGenerator#nextGaussian()}.
+     * If {@code ziggurat} is {@code true}, they are generated by a
+     * {@link ZigguratNormalizedRandomGenerator} built over {@code rng}, which
+     * is much faster.
+     * </p>
+     *
+     * @param rng Random number generator.
+     * @param mean Mean for this distribution.
+     * @param sd Standard deviation for this distribution.
+     * @param inverseCumAccuracy Inverse cumulative probability accuracy.
+     * @param ziggurat Whether samples are generated using the ziggurat method.
+     * @throws NotStrictlyPositiveException if {@code sd <= 0}.
+     * @since 3.2
+     */
+    public NormalDistribution(RandomGenerator rng,
+                              double mean,
+                              double sd,
+                              double inverseCumAccuracy,
+                              boolean ziggurat)
+        throws NotStrictlyPositiveException {
         super(rng);
 
         if (sd <= 0) {
@@ -111,6 +141,7 @@ public class NormalDistribution extends AbstractRealDistribution {
         this.mean = mean;
         standardDeviation = sd;
         solverAbsoluteAccuracy = inverseCumAccuracy;
+        this.ziggurat = ziggurat ? new ZigguratNormalizedRandomGenerator(rng) : null;
     }
 
     /**
@@ -265,6 +296,25 @@ public class NormalDistribution extends AbstractRealDistribution {
     /** {@inheritDoc} */
     @Override
     public double sample()  {
+        if (ziggurat != null) {
+            return standardDeviation * ziggurat.nextNormalizedDouble() + mean;
+        }
         return standardDeviation * random.nextGaussian() + mean;
     }
+
+    /** {@inheritDoc}
+     * @since 3.2
+     */
+    @Override
+    public void sample(final double[] values) {
+        if (ziggurat == null) {
+            super.sample(values);
+            return;
+        }
+        MathUtils.checkNotNull(values);
+        ziggurat.nextNormalizedDoubles(values);
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = standardDeviation * values[i] + mean;
+        }
+    }
 }
@@ -20,8 +20,10 @@ package org.apache.commons.math3.distribution;
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.random.BitsStreamGenerator;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Implementation of the uniform real distribution.
@@ -227,4 +229,25 @@ public class UniformRealDistribution extends AbstractRealDistribution {
         final double u = random.nextDouble();
         return u * upper + (1 - u) * lower;
     }
+
+    /** {@inheritDoc}
+     * <p>When the underlying generator is a {@link BitsStreamGenerator},
+     * the uniform deviates are generated in bulk.</p>
+     * @since 3.2
+     */
+    @Override
+    public void sample(final double[] values) {
+        MathUtils.checkNotNull(values);
+        if (random instanceof BitsStreamGenerator) {
+            ((BitsStreamGenerator) random).nextDoubles(values, 0, values.length);
+        } else {
+            for (int i = 0; i < values.length; ++i) {
+                values[i] = random.nextDouble();
+            }
+        }
+        for (int i = 0; i < values.length; ++i) {
+            final double u = values[i];
+            values[i] = u * upper + (1 - u) * lower;
+        }
+    }
 }
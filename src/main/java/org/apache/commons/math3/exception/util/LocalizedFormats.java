@@ -137,6 +137,7 @@ public enum LocalizedFormats implements Localizable {
     INSUFFICIENT_ROWS_AND_COLUMNS("insufficient data: only {0} rows and {1} columns."),
     INTEGRATION_METHOD_NEEDS_AT_LEAST_TWO_PREVIOUS_POINTS("multistep method needs at least {0} previous steps, got {1}"),
     INTERNAL_ERROR("internal error, please fill a bug report at {0}"),
+    INTERRUPTED_COMPUTATION("computation was interrupted"),
     INVALID_BINARY_DIGIT("invalid binary digit: {0}"),
     INVALID_BINARY_CHROMOSOME("binary mutation works on BinaryChromosome only"),
     INVALID_BRACKETING_PARAMETERS("invalid bracketing parameters:  lower bound={0},  initial={1}, upper bound={2}"),
@@ -147,6 +148,7 @@ public enum LocalizedFormats implements Localizable {
     NOT_ENOUGH_DATA_REGRESSION("the number of observations is not sufficient to conduct regression"),
     INVALID_REGRESSION_ARRAY("input data array length = {0} does not match the number of observations = {1} and the number of regressors = {2}"),
     INVALID_REGRESSION_OBSERVATION("length of regressor array = {0} does not match the number of variables = {1} in the model"),
+    INCOMPATIBLE_REGRESSION_MODELS("incompatible regression models: {0} regressors (intercept: {1}) and {2} regressors (intercept: {3})"),
     INVALID_ROUNDING_METHOD("invalid rounding method {0}, valid methods: {1} ({2}), {3} ({4}), {5} ({6}), {7} ({8}), {9} ({10}), {11} ({12}), {13} ({14}), {15} ({16})"),
     ITERATOR_EXHAUSTED("iterator exhausted"),
     ITERATIONS("iterations"), /* keep */
@@ -308,6 +310,7 @@ public enum LocalizedFormats implements Localizable {
     SIMPLE_MESSAGE("{0}"),
     SINGULAR_MATRIX("matrix is singular"), /* keep */
     SINGULAR_OPERATOR("operator is singular"),
+    SOLUTION_SHARES_RIGHT_HAND_SIDE("solution array must not share storage with the right-hand side"),
     SUBARRAY_ENDS_AFTER_ARRAY_END("subarray ends after array end"),
     TOO_LARGE_CUTOFF_SINGULAR_VALUE("cutoff singular value is {0}, should be at most {1}"),
     TOO_LARGE_TOURNAMENT_ARITY("tournament arity ({0}) cannot be bigger than population size ({1})"),
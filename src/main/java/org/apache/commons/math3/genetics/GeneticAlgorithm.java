@@ -33,10 +33,12 @@ public class GeneticAlgorithm {
     /**
      * Static random number generator shared by GA implementation classes. Set the randomGenerator seed to get
      * reproducible results. Use {@link #setRandomGenerator(RandomGenerator)} to supply an alternative to the default
-     * JDK-provided PRNG.
+     * JDK-provided PRNG. When the GA implementation classes are used from several threads, a
+     * {@link org.apache.commons.math3.random.ThreadLocalRandomGenerator ThreadLocalRandomGenerator}
+     * avoids contention on a single generator.
+     * The field is volatile so that it can be read without locking.
      */
-    //@GuardedBy("this")
-    private static RandomGenerator randomGenerator = new JDKRandomGenerator();
+    private static volatile RandomGenerator randomGenerator = new JDKRandomGenerator();
 
     /** the crossover policy used by the algorithm. */
     private final CrossoverPolicy crossoverPolicy;
@@ -91,7 +93,7 @@ public class GeneticAlgorithm {
      *
      * @param random random generator
      */
-    public static synchronized void setRandomGenerator(final RandomGenerator random) {
+    public static void setRandomGenerator(final RandomGenerator random) {
         randomGenerator = random;
     }
 
@@ -100,7 +102,7 @@ public class GeneticAlgorithm {
      *
      * @return the static random generator shared by GA implementation classes
      */
-    public static synchronized RandomGenerator getRandomGenerator() {
+    public static RandomGenerator getRandomGenerator() {
         return randomGenerator;
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+
+/**
+ * Base class for preconditioners M of the form M<sup>-1</sup> = (LU)<sup>-1</sup>,
+ * where the action of M on a vector is computed by solving triangular
+ * systems in place.
+ * <p>
+ * This class keeps track of the time spent building the preconditioner and
+ * applying it, which the {@link ConjugateGradient} and {@link SymmLQ} solvers
+ * report in their {@link IterativeLinearSolverEvent events}. These
+ * statistics are not synchronized: a preconditioner shared between
+ * threads returns correct results, but possibly inaccurate timings.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public abstract class AbstractPreconditioner extends RealLinearOperator {
+
+    /** Dimension of the preconditioner. */
+    private final int dimension;
+
+    /** Time spent building the preconditioner, in nanoseconds. */
+    private long setupTime;
+
+    /** Number of applications of the preconditioner. */
+    private int applyCount;
+
+    /** Total time spent applying the preconditioner, in nanoseconds. */
+    private long applyTime;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param dimension Dimension of the (square) preconditioner.
+     */
+    protected AbstractPreconditioner(final int dimension) {
+        this.dimension = dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x)
+        throws DimensionMismatchException {
+        if (x.getDimension() != dimension) {
+            throw new DimensionMismatchException(x.getDimension(), dimension);
+        }
+        final long start = System.nanoTime();
+        final double[] y = x.toArray();
+        solveInPlace(y);
+        applyTime += System.nanoTime() - start;
+        ++applyCount;
+        return new ArrayRealVector(y, false);
+    }
+
+    /**
+     * Replaces {@code b} with M<sup>-1</sup>b.
+     *
+     * @param b Vector to transform, of the dimension of the preconditioner.
+     */
+    protected abstract void solveInPlace(double[] b);
+
+    /**
+     * Sets the time spent building the preconditioner.
+     * Subclasses should call this method at the end of their constructor.
+     *
+     * @param nanos Setup time, in nanoseconds.
+     */
+    protected void setSetupTime(final long nanos) {
+        setupTime = nanos;
+    }
+
+    /**
+     * Returns the time spent building the preconditioner.
+     *
+     * @return the setup time, in nanoseconds
+     */
+    public long getSetupTime() {
+        return setupTime;
+    }
+
+    /**
+     * Returns the number of times the preconditioner has been applied
+     * through {@link #operate(RealVector)}.
+     *
+     * @return the number of applications
+     */
+    public int getApplyCount() {
+        return applyCount;
+    }
+
+    /**
+     * Returns the total time spent applying the preconditioner through
+     * {@link #operate(RealVector)}.
+     *
+     * @return the cumulated application time, in nanoseconds
+     */
+    public long getApplyTime() {
+        return applyTime;
+    }
+
+    /**
+     * Returns the compressed row storage of a matrix, converting it if needed.
+     *
+     * @param a Matrix to convert.
+     * @return {@code a} itself if it is a {@link CompressedRowRealMatrix},
+     * a compressed copy otherwise.
+     * @throws NonSquareMatrixException if {@code a} is not square.
+     */
+    static CompressedRowRealMatrix toCompressedRow(final RealMatrix a)
+        throws NonSquareMatrixException {
+        if (!a.isSquare()) {
+            throw new NonSquareMatrixException(a.getRowDimension(), a.getColumnDimension());
+        }
+        if (a instanceof CompressedRowRealMatrix) {
+            return (CompressedRowRealMatrix) a;
+        }
+        return new CompressedRowRealMatrix(a);
+    }
+
+    /**
+     * Finds the position of the diagonal entry in each row of a compressed
+     * row matrix.
+     *
+     * @param a Matrix to analyze.
+     * @return an array containing, for each row, the index of the diagonal
+     * entry in the storage arrays of {@code a}.
+     * @throws SingularMatrixException if a diagonal entry is zero.
+     */
+    static int[] findDiagonal(final CompressedRowRealMatrix a)
+        throws SingularMatrixException {
+        final int[] rowStarts = a.getRowStarts();
+        final int[] columns   = a.getColumnIndices();
+        final int n = a.getRowDimension();
+        final int[] diagonal = new int[n];
+        for (int i = 0; i < n; ++i) {
+            diagonal[i] = -1;
+            for (int p = rowStarts[i]; p < rowStarts[i + 1] && columns[p] <= i; ++p) {
+                if (columns[p] == i) {
+                    diagonal[i] = p;
+                }
+            }
+            if (diagonal[i] < 0) {
+                throw new SingularMatrixException();
+            }
+        }
+        return diagonal;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.util.IterationManager;
+
+/**
+ * An implementation of the restarted Arnoldi method for the computation of
+ * a few eigenpairs of a general (non-symmetric) linear operator. Eigenvalues
+ * may be complex, see {@link PartialEigenDecomposition} for the
+ * representation of complex eigenpairs.
+ * <p>
+ * The Arnoldi vectors are fully reorthogonalized. On restart, the basis is
+ * compressed to an orthonormal basis of the real invariant subspace spanned
+ * by the kept Ritz vectors, in the spirit of the Krylov-Schur method. See
+ * {@link IterativeEigenSolver} for a description of the restart scheme and
+ * of the stopping criterion. For symmetric operators, {@link LanczosEigenSolver}
+ * should be preferred.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ArnoldiEigenSolver extends IterativeEigenSolver {
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and a {@link org.apache.commons.math3.random.Well19937c Well19937c}
+     * random generator.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     */
+    public ArnoldiEigenSolver(final int maxIterations, final double delta) {
+        super(maxIterations, delta);
+    }
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and custom random generator.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code random} is {@code null}
+     */
+    public ArnoldiEigenSolver(final int maxIterations, final double delta,
+                              final RandomGenerator random)
+        throws NullArgumentException {
+        super(maxIterations, delta, random);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and a {@link org.apache.commons.math3.random.Well19937c Well19937c}
+     * random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public ArnoldiEigenSolver(final IterationManager manager, final double delta)
+        throws NullArgumentException {
+        super(manager, delta);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and custom random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code manager} or {@code random} is
+     * {@code null}
+     */
+    public ArnoldiEigenSolver(final IterationManager manager, final double delta,
+                              final RandomGenerator random)
+        throws NullArgumentException {
+        super(manager, delta, random);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isSymmetric() {
+        return false;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.OpenIntToDoubleHashMap;
 
 /**
  * This class implements the {@link RealVector} interface with a double array.
@@ -303,6 +304,15 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 resultData[i] = data[i] + vData[i];
             }
             return result;
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final double[] out = data.clone();
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(v).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                out[it.key()] += it.value();
+            }
+            return new ArrayRealVector(out, false);
         } else {
             checkVectorDimensions(v);
             double[] out = data.clone();
@@ -315,6 +325,32 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ArrayRealVector addToSelf(RealVector v)
+        throws DimensionMismatchException {
+        if (v instanceof ArrayRealVector) {
+            final double[] vData = ((ArrayRealVector) v).data;
+            checkVectorDimensions(vData.length);
+            for (int i = 0; i < data.length; i++) {
+                data[i] += vData[i];
+            }
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(v).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                data[it.key()] += it.value();
+            }
+        } else {
+            checkVectorDimensions(v);
+            for (int i = 0; i < data.length; i++) {
+                data[i] += v.getEntry(i);
+            }
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector subtract(RealVector v)
@@ -329,6 +365,15 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 resultData[i] = data[i] - vData[i];
             }
             return result;
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final double[] out = data.clone();
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(v).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                out[it.key()] -= it.value();
+            }
+            return new ArrayRealVector(out, false);
         } else {
             checkVectorDimensions(v);
             double[] out = data.clone();
@@ -341,6 +386,32 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ArrayRealVector subtractToSelf(RealVector v)
+        throws DimensionMismatchException {
+        if (v instanceof ArrayRealVector) {
+            final double[] vData = ((ArrayRealVector) v).data;
+            checkVectorDimensions(vData.length);
+            for (int i = 0; i < data.length; i++) {
+                data[i] -= vData[i];
+            }
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(v).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                data[it.key()] -= it.value();
+            }
+        } else {
+            checkVectorDimensions(v);
+            for (int i = 0; i < data.length; i++) {
+                data[i] -= v.getEntry(i);
+            }
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector map(UnivariateFunction function) {
@@ -440,6 +511,51 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /**
+     * Get the stored entries of a sparse vector.
+     *
+     * @param v Vector.
+     * @return the stored entries of {@code v}, or {@code null} if {@code v}
+     * does not have a sparse storage.
+     */
+    // OpenMapRealVector is deprecated, but its storage is still worth
+    // exploiting until it is removed; all fast paths go through this method
+    @SuppressWarnings("deprecation")
+    private static OpenIntToDoubleHashMap sparseEntries(final RealVector v) {
+        return (v instanceof OpenMapRealVector) ? ((OpenMapRealVector) v).getEntries() : null;
+    }
+
+    /**
+     * Get the keys of sparse entries in increasing order.
+     *
+     * @param entries Sparse entries.
+     * @return the sorted keys.
+     */
+    private static int[] sortedKeys(final OpenIntToDoubleHashMap entries) {
+        final int[] keys = new int[entries.size()];
+        int k = 0;
+        for (final OpenIntToDoubleHashMap.Iterator it = entries.iterator(); it.hasNext();) {
+            it.advance();
+            keys[k++] = it.key();
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Check whether all the entries of this vector are finite.
+     *
+     * @return {@code true} if no entry is {@code NaN} or infinite.
+     */
+    private boolean isFinite() {
+        for (double v : data) {
+            if (Double.isNaN(v) || Double.isInfinite(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Get a reference to the underlying data array.
      * This method does not make a fresh copy of the underlying data.
@@ -461,6 +577,17 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 dot += data[i] * vData[i];
             }
             return dot;
+        } else if (sparseEntries(v) != null && isFinite()) {
+            // the entries of v which are not stored are zero, and so are
+            // their products with the (finite) entries of this vector
+            checkVectorDimensions(v);
+            double dot = 0;
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(v).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                dot += data[it.key()] * it.value();
+            }
+            return dot;
         }
         return super.dotProduct(v);
     }
@@ -507,6 +634,20 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 sum += delta * delta;
             }
             return FastMath.sqrt(sum);
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final OpenIntToDoubleHashMap entries = sparseEntries(v);
+            final int[] keys = sortedKeys(entries);
+            double sum = 0;
+            int k = 0;
+            for (int i = 0; i < data.length; ++i) {
+                double delta = data[i];
+                if (k < keys.length && keys[k] == i) {
+                    delta -= entries.get(keys[k++]);
+                }
+                sum += delta * delta;
+            }
+            return FastMath.sqrt(sum);
         } else {
             checkVectorDimensions(v);
             double sum = 0;
@@ -531,6 +672,20 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 sum += FastMath.abs(delta);
             }
             return sum;
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final OpenIntToDoubleHashMap entries = sparseEntries(v);
+            final int[] keys = sortedKeys(entries);
+            double sum = 0;
+            int k = 0;
+            for (int i = 0; i < data.length; ++i) {
+                double delta = data[i];
+                if (k < keys.length && keys[k] == i) {
+                    delta -= entries.get(keys[k++]);
+                }
+                sum += FastMath.abs(delta);
+            }
+            return sum;
         } else {
             checkVectorDimensions(v);
             double sum = 0;
@@ -555,6 +710,20 @@ public class ArrayRealVector extends RealVector implements Serializable {
                 max = FastMath.max(max, FastMath.abs(delta));
             }
             return max;
+        } else if (sparseEntries(v) != null) {
+            checkVectorDimensions(v);
+            final OpenIntToDoubleHashMap entries = sparseEntries(v);
+            final int[] keys = sortedKeys(entries);
+            double max = 0;
+            int k = 0;
+            for (int i = 0; i < data.length; ++i) {
+                double delta = data[i];
+                if (k < keys.length && keys[k] == i) {
+                    delta -= entries.get(keys[k++]);
+                }
+                max = FastMath.max(max, FastMath.abs(delta));
+            }
+            return max;
         } else {
             checkVectorDimensions(v);
             double max = 0;
@@ -854,6 +1023,16 @@ public class ArrayRealVector extends RealVector implements Serializable {
             for (int i = 0; i < this.data.length; i++) {
                 data[i] = a * data[i] + b * yData[i];
             }
+        } else if (sparseEntries(y) != null && !Double.isNaN(b * 0.0)) {
+            checkVectorDimensions(y);
+            for (int i = 0; i < this.data.length; i++) {
+                data[i] *= a;
+            }
+            final OpenIntToDoubleHashMap.Iterator it = sparseEntries(y).iterator();
+            while (it.hasNext()) {
+                it.advance();
+                data[it.key()] += b * it.value();
+            }
         } else {
             checkVectorDimensions(y);
             for (int i = 0; i < this.data.length; i++) {
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.ConvergenceException;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.IterationManager;
+
+/**
+ * <p>
+ * This is an implementation of the BiConjugate Gradient STABilized method,
+ * BiCGSTAB, for {@link RealLinearOperator}. Unlike {@link ConjugateGradient}
+ * and {@link SymmLQ}, it does not require the linear operator to be
+ * self-adjoint. It follows closely the template by <a
+ * href="#BARR1994">Barrett et al. (1994)</a> (figure 2.10), which is due to <a
+ * href="#VORS1992">Van der Vorst (1992)</a>. The linear system at hand is
+ * A &middot; x = b, and the residual is r = b - A &middot; x.
+ * </p>
+ * <h3>Preconditioning</h3>
+ * <p>
+ * The preconditioner M (an approximation of A<sup>-1</sup>) is applied on the
+ * right, so that the residual r is the residual of the original system.
+ * </p>
+ * <h3><a id="stopcrit">Default stopping criterion</a></h3>
+ * <p>
+ * A default stopping criterion is implemented. The iterations stop when || r ||
+ * &le; &delta; || b ||, where b is the right-hand side vector, r the current
+ * estimate of the residual, and &delta; a user-specified tolerance. It should
+ * be noted that r is the so-called <em>updated</em> residual, which might
+ * differ from the true residual due to rounding-off errors.
+ * </p>
+ * <h3>Iteration count</h3>
+ * <p>
+ * In the present context, an iteration should be understood as one step of
+ * the method, which requires two evaluations of the matrix-vector product
+ * A &middot; x (and two applications of the preconditioner). The
+ * initialization phase counts as one iteration.
+ * </p>
+ * <h3>Memory requirements</h3>
+ * <p>
+ * Besides the vectors x and b, this implementation stores 7 vectors of size
+ * n (the dimension of the system). All of them are allocated once, at the
+ * beginning of {@link #solveInPlace(RealLinearOperator, RealLinearOperator,
+ * RealVector, RealVector) solveInPlace}: apart from the vectors returned by
+ * the linear operator and the preconditioner, the iterations do not allocate
+ * any memory.
+ * </p>
+ * <h3>Breakdown</h3>
+ * <p>
+ * Like all methods based on the bi-orthogonalization of Lanczos, BiCGSTAB may
+ * break down, in which case a {@link ConvergenceException} is thrown. Such
+ * breakdowns are rare in practice, and can usually be cured by changing the
+ * initial guess.
+ * </p>
+ * <h3>References</h3>
+ * <dl>
+ * <dt><a id="BARR1994">Barret et al. (1994)</a></dt>
+ * <dd>R. Barrett, M. Berry, T. F. Chan, J. Demmel, J. M. Donato, J. Dongarra,
+ * V. Eijkhout, R. Pozo, C. Romine and H. Van der Vorst,
+ * <a href="http://www.netlib.org/linalg/html_templates/Templates.html"><em>
+ * Templates for the Solution of Linear Systems: Building Blocks for Iterative
+ * Methods</em></a>, SIAM</dd>
+ * <dt><a id="VORS1992">Van der Vorst (1992)</a></dt>
+ * <dd>H. A. Van der Vorst, <em>Bi-CGSTAB: A Fast and Smoothly Converging
+ * Variant of Bi-CG for the Solution of Nonsymmetric Linear Systems</em>, SIAM
+ * Journal on Scientific and Statistical Computing 13(2): 631-644, 1992</dd>
+ * </dl>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class BiCGSTAB
+    extends PreconditionedIterativeLinearSolver {
+
+    /** The value of &delta;, for the default stopping criterion. */
+    private final double delta;
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a>.
+     *
+     * @param maxIterations the maximum number of iterations
+     * @param delta the &delta; parameter for the default stopping criterion
+     */
+    public BiCGSTAB(final int maxIterations, final double delta) {
+        super(maxIterations);
+        this.delta = delta;
+    }
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a> and custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public BiCGSTAB(final IterationManager manager, final double delta)
+        throws NullArgumentException {
+        super(manager);
+        this.delta = delta;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ConvergenceException if the method breaks down
+     */
+    @Override
+    public RealVector solveInPlace(final RealLinearOperator a,
+                                   final RealLinearOperator m,
+                                   final RealVector b,
+                                   final RealVector x0)
+        throws NullArgumentException, NonSquareOperatorException,
+        DimensionMismatchException, MaxCountExceededException,
+        ConvergenceException {
+        checkParameters(a, m, b, x0);
+        final IterationManager manager = getIterationManager();
+        // Initialization of default stopping criterion
+        manager.resetIterationCount();
+        final double rmax = delta * b.getNorm();
+        final RealVector bro = RealVector.unmodifiableRealVector(b);
+        final RealVector x = x0;
+        final RealVector xro = RealVector.unmodifiableRealVector(x);
+        final int n = b.getDimension();
+
+        // Work arrays, allocated once for all.
+        final double[] r = new double[n];
+        final ArrayRealVector rWrapper = new ArrayRealVector(r, false);
+        final RealVector rro = RealVector.unmodifiableRealVector(rWrapper);
+        final double[] rTilde = new double[n];
+        final double[] p = new double[n];
+        final ArrayRealVector pWrapper = new ArrayRealVector(p, false);
+        final double[] v = new double[n];
+        final double[] pHat = new double[n];
+        final ArrayRealVector pHatWrapper = new ArrayRealVector(pHat, false);
+        final double[] sHat = new double[n];
+        final ArrayRealVector sHatWrapper = new ArrayRealVector(sHat, false);
+        final double[] t = new double[n];
+
+        // Initialization phase counts as one iteration.
+        manager.incrementIterationCount();
+        final RealVector ax = a.operate(x);
+        for (int i = 0; i < n; ++i) {
+            r[i] = b.getEntry(i) - ax.getEntry(i);
+        }
+        System.arraycopy(r, 0, rTilde, 0, n);
+        double rnorm = FastMath.sqrt(dot(r, r));
+        IterativeLinearSolverEvent evt;
+        evt = new DefaultIterativeLinearSolverEvent(this,
+            manager.getIterations(), xro, bro, rro, rnorm, m);
+        manager.fireInitializationEvent(evt);
+        if (rnorm <= rmax) {
+            manager.fireTerminationEvent(evt);
+            return x;
+        }
+
+        double rhoPrev = 0;
+        double alpha = 0;
+        double omega = 0;
+        boolean first = true;
+        while (true) {
+            manager.incrementIterationCount();
+            evt = new DefaultIterativeLinearSolverEvent(this,
+                manager.getIterations(), xro, bro, rro, rnorm, m);
+            manager.fireIterationStartedEvent(evt);
+
+            final double rho = dot(rTilde, r);
+            if (rho == 0) {
+                throw new ConvergenceException();
+            }
+            if (first) {
+                System.arraycopy(r, 0, p, 0, n);
+                first = false;
+            } else {
+                final double beta = (rho / rhoPrev) * (alpha / omega);
+                for (int i = 0; i < n; ++i) {
+                    p[i] = r[i] + beta * (p[i] - omega * v[i]);
+                }
+            }
+            operate(m, pWrapper, pHat);
+            operate(a, pHatWrapper, v);
+            final double rTildeV = dot(rTilde, v);
+            if (rTildeV == 0) {
+                throw new ConvergenceException();
+            }
+            alpha = rho / rTildeV;
+
+            // s = r - alpha v, stored in r
+            for (int i = 0; i < n; ++i) {
+                r[i] -= alpha * v[i];
+            }
+            final double snorm = FastMath.sqrt(dot(r, r));
+            if (snorm <= rmax) {
+                x.combineToSelf(1, alpha, pHatWrapper);
+                rnorm = snorm;
+                evt = new DefaultIterativeLinearSolverEvent(this,
+                    manager.getIterations(), xro, bro, rro, rnorm, m);
+                manager.fireIterationPerformedEvent(evt);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+
+            operate(m, rWrapper, sHat);
+            operate(a, sHatWrapper, t);
+            final double tt = dot(t, t);
+            omega = tt == 0 ? 0 : dot(t, r) / tt;
+            if (omega == 0) {
+                throw new ConvergenceException();
+            }
+            x.combineToSelf(1, alpha, pHatWrapper);
+            x.combineToSelf(1, omega, sHatWrapper);
+            for (int i = 0; i < n; ++i) {
+                r[i] -= omega * t[i];
+            }
+            rnorm = FastMath.sqrt(dot(r, r));
+            rhoPrev = rho;
+
+            evt = new DefaultIterativeLinearSolverEvent(this,
+                manager.getIterations(), xro, bro, rro, rnorm, m);
+            manager.fireIterationPerformedEvent(evt);
+            if (rnorm <= rmax) {
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Computes the dot product of two arrays.
+     *
+     * @param x the first array
+     * @param y the second array
+     * @return the dot product of the arrays
+     */
+    private static double dot(final double[] x, final double[] y) {
+        double sum = 0;
+        for (int i = 0; i < x.length; ++i) {
+            sum += x[i] * y[i];
+        }
+        return sum;
+    }
+}
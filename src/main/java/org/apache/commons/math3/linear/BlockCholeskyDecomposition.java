@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.ParallelUtils;
+
+/**
+ * Calculates the Cholesky decomposition of a matrix, using a blocked
+ * algorithm suited to large dense matrices.
+ * <p>
+ * This class computes the same decomposition A = L&times;L<sup>T</sup> as
+ * {@link CholeskyDecomposition}, but works on the {@link BlockRealMatrix
+ * block layout}. It uses a right-looking algorithm: for each column of
+ * blocks, the diagonal block is factorized, the blocks below it are
+ * computed by triangular solves, and the trailing sub-matrix is updated by
+ * block products. The triangular solves and the trailing update can be
+ * distributed over several threads by providing an {@link ExecutorService}.
+ * </p>
+ * <p>
+ * When the matrix to decompose is a {@link BlockRealMatrix}, it can be
+ * factorized in place, its entries being replaced by those of L. This
+ * saves a copy of the matrix.
+ * </p>
+ *
+ * @see CholeskyDecomposition
+ * @version $Id$
+ * @since 3.2
+ */
+public class BlockCholeskyDecomposition {
+    /** Block size. */
+    private static final int BLOCK_SIZE = BlockRealMatrix.BLOCK_SIZE;
+    /** Order of the matrix. */
+    private final int order;
+    /** Number of rows (and columns) of blocks. */
+    private final int nBlocks;
+    /** Entries of L, in block layout. */
+    private final double[][] blocks;
+    /** Cached value of L. */
+    private RealMatrix cachedL;
+    /** Cached value of LT. */
+    private RealMatrix cachedLT;
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #BlockCholeskyDecomposition(RealMatrix, double, double)} with the
+     * thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}.
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws NonSquareMatrixException if the matrix is not square.
+     * @throws NonSymmetricMatrixException if the matrix is not symmetric.
+     * @throws NonPositiveDefiniteMatrixException if the matrix is not
+     * strictly positive definite.
+     */
+    public BlockCholeskyDecomposition(final RealMatrix matrix) {
+        this(matrix,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, working on a
+     * copy of the matrix in the calling thread.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws NonSquareMatrixException if the matrix is not square.
+     * @throws NonSymmetricMatrixException if the matrix is not symmetric.
+     * @throws NonPositiveDefiniteMatrixException if the matrix is not
+     * strictly positive definite.
+     */
+    public BlockCholeskyDecomposition(final RealMatrix matrix,
+                                      final double relativeSymmetryThreshold,
+                                      final double absolutePositivityThreshold) {
+        this(matrix, relativeSymmetryThreshold, absolutePositivityThreshold, false, null);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @param inPlace if {@code true} and {@code matrix} is a {@link
+     * BlockRealMatrix}, its entries are overwritten by the decomposition
+     * instead of being copied
+     * @param executor executor used to distribute the triangular solves and
+     * the trailing updates over several threads (if {@code null}, all
+     * computations are performed in the calling thread)
+     * @throws NonSquareMatrixException if the matrix is not square.
+     * @throws NonSymmetricMatrixException if the matrix is not symmetric.
+     * @throws NonPositiveDefiniteMatrixException if the matrix is not
+     * strictly positive definite.
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    public BlockCholeskyDecomposition(final RealMatrix matrix,
+                                      final double relativeSymmetryThreshold,
+                                      final double absolutePositivityThreshold,
+                                      final boolean inPlace,
+                                      final ExecutorService executor) {
+        if (!matrix.isSquare()) {
+            throw new NonSquareMatrixException(matrix.getRowDimension(),
+                                               matrix.getColumnDimension());
+        }
+
+        order   = matrix.getRowDimension();
+        nBlocks = (order + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (inPlace && matrix instanceof BlockRealMatrix) {
+            blocks = ((BlockRealMatrix) matrix).getBlocksRef();
+        } else if (matrix instanceof BlockRealMatrix) {
+            blocks = ((BlockRealMatrix) matrix).copy().getBlocksRef();
+        } else {
+            blocks = BlockRealMatrix.toBlocksLayout(matrix.getData());
+        }
+
+        // check the matrix before transformation
+        checkSymmetry(relativeSymmetryThreshold);
+
+        // transform the matrix
+        for (int kBlock = 0; kBlock < nBlocks; ++kBlock) {
+
+            factorizeDiagonalBlock(kBlock, absolutePositivityThreshold);
+
+            final int first = kBlock + 1;
+            if (executor == null || nBlocks - first < 2) {
+                for (int iBlock = first; iBlock < nBlocks; ++iBlock) {
+                    solveLowerBlock(kBlock, iBlock);
+                }
+                for (int iBlock = first; iBlock < nBlocks; ++iBlock) {
+                    updateBlockRow(kBlock, iBlock);
+                }
+            } else {
+                final List<Callable<Void>> solveTasks = new ArrayList<Callable<Void>>();
+                final List<Callable<Void>> updateTasks = new ArrayList<Callable<Void>>();
+                for (int b = first; b < nBlocks; ++b) {
+                    final int k = kBlock;
+                    final int index = b;
+                    solveTasks.add(new Callable<Void>() {
+                        /** {@inheritDoc} */
+                        public Void call() {
+                            solveLowerBlock(k, index);
+                            return null;
+                        }
+                    });
+                    updateTasks.add(new Callable<Void>() {
+                        /** {@inheritDoc} */
+                        public Void call() {
+                            updateBlockRow(k, index);
+                            return null;
+                        }
+                    });
+                }
+                ParallelUtils.invokeAll(executor, solveTasks);
+                ParallelUtils.invokeAll(executor, updateTasks);
+            }
+        }
+
+        // reset the upper part to 0
+        for (int iBlock = 0; iBlock < nBlocks; ++iBlock) {
+            final double[] diagBlock = blocks[iBlock * nBlocks + iBlock];
+            final int width = blockSize(iBlock);
+            for (int r = 0; r < width; ++r) {
+                Arrays.fill(diagBlock, r * width + r + 1, (r + 1) * width, 0.0);
+            }
+            for (int jBlock = iBlock + 1; jBlock < nBlocks; ++jBlock) {
+                Arrays.fill(blocks[iBlock * nBlocks + jBlock], 0.0);
+            }
+        }
+    }
+
+    /**
+     * Checks the symmetry of the matrix.
+     *
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @throws NonSymmetricMatrixException if the matrix is not symmetric.
+     */
+    private void checkSymmetry(final double relativeSymmetryThreshold) {
+        for (int iBlock = 0; iBlock < nBlocks; ++iBlock) {
+            final int height = blockSize(iBlock);
+            for (int jBlock = iBlock; jBlock < nBlocks; ++jBlock) {
+                final double[] upper = blocks[iBlock * nBlocks + jBlock];
+                final double[] lower = blocks[jBlock * nBlocks + iBlock];
+                final int width = blockSize(jBlock);
+                for (int r = 0; r < height; ++r) {
+                    final int cStart = (iBlock == jBlock) ? r + 1 : 0;
+                    for (int c = cStart; c < width; ++c) {
+                        final double lIJ = upper[r * width + c];
+                        final double lJI = lower[c * height + r];
+                        final double maxDelta =
+                            relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
+                        if (FastMath.abs(lIJ - lJI) > maxDelta) {
+                            throw new NonSymmetricMatrixException(iBlock * BLOCK_SIZE + r,
+                                                                  jBlock * BLOCK_SIZE + c,
+                                                                  relativeSymmetryThreshold);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the Cholesky factor of a diagonal block, in place.
+     *
+     * @param kBlock index of the diagonal block
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws NonPositiveDefiniteMatrixException if the matrix is not
+     * strictly positive definite.
+     */
+    private void factorizeDiagonalBlock(final int kBlock,
+                                        final double absolutePositivityThreshold) {
+        final double[] block = blocks[kBlock * nBlocks + kBlock];
+        final int width = blockSize(kBlock);
+        for (int c = 0; c < width; ++c) {
+            final int cRow = c * width;
+
+            // check diagonal element
+            final double diag = block[cRow + c];
+            if (diag <= absolutePositivityThreshold) {
+                throw new NonPositiveDefiniteMatrixException(diag, kBlock * BLOCK_SIZE + c,
+                                                             absolutePositivityThreshold);
+            }
+
+            final double lCC = FastMath.sqrt(diag);
+            block[cRow + c] = lCC;
+            final double inverse = 1.0 / lCC;
+
+            for (int r = c + 1; r < width; ++r) {
+                final int rRow = r * width;
+                final double lRC = block[rRow + c] * inverse;
+                block[rRow + c] = lRC;
+                for (int q = c + 1; q <= r; ++q) {
+                    block[rRow + q] -= lRC * block[q * width + c];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a block of L below the diagonal, by solving
+     * L<sub>ik</sub> L<sub>kk</sub><sup>T</sup> = A<sub>ik</sub>.
+     *
+     * @param kBlock index of the column of blocks
+     * @param iBlock index of the row of the block to compute
+     */
+    private void solveLowerBlock(final int kBlock, final int iBlock) {
+        final double[] lKK = blocks[kBlock * nBlocks + kBlock];
+        final double[] block = blocks[iBlock * nBlocks + kBlock];
+        final int height = blockSize(iBlock);
+        final int width  = blockSize(kBlock);
+        for (int r = 0; r < height; ++r) {
+            final int rRow = r * width;
+            for (int c = 0; c < width; ++c) {
+                final int cRow = c * width;
+                double sum = block[rRow + c];
+                for (int q = 0; q < c; ++q) {
+                    sum -= block[rRow + q] * lKK[cRow + q];
+                }
+                block[rRow + c] = sum / lKK[cRow + c];
+            }
+        }
+    }
+
+    /**
+     * Updates a row of blocks of the lower part of the trailing matrix:
+     * A<sub>ij</sub> -= L<sub>ik</sub> L<sub>jk</sub><sup>T</sup> for k &lt; j &le; i.
+     *
+     * @param kBlock index of the current column of blocks
+     * @param iBlock index of the row of blocks to update
+     */
+    private void updateBlockRow(final int kBlock, final int iBlock) {
+        final double[] lIK = blocks[iBlock * nBlocks + kBlock];
+        final int height = blockSize(iBlock);
+        final int depth  = blockSize(kBlock);
+        for (int jBlock = kBlock + 1; jBlock <= iBlock; ++jBlock) {
+            final double[] lJK = blocks[jBlock * nBlocks + kBlock];
+            final double[] aBlock = blocks[iBlock * nBlocks + jBlock];
+            final int width = blockSize(jBlock);
+            for (int r = 0; r < height; ++r) {
+                final int lRow = r * depth;
+                final int aRow = r * width;
+                final int cEnd = (iBlock == jBlock) ? r + 1 : width;
+                for (int c = 0; c < cEnd; ++c) {
+                    final int lCol = c * depth;
+                    double sum = 0;
+                    for (int q = 0; q < depth; ++q) {
+                        sum += lIK[lRow + q] * lJK[lCol + q];
+                    }
+                    aBlock[aRow + c] -= sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the size of a block row or column.
+     *
+     * @param index block index
+     * @return number of rows (or columns) of the blocks with this index
+     */
+    private int blockSize(final int index) {
+        return (index == nBlocks - 1) ? order - index * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is an lower-triangular matrix</p>
+     * @return the L matrix
+     */
+    public RealMatrix getL() {
+        if (cachedL == null) {
+            cachedL = new BlockRealMatrix(order, order, blocks, true);
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is an upper-triangular matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public RealMatrix getLT() {
+        if (cachedLT == null) {
+            cachedLT = getL().transpose();
+        }
+        return cachedLT;
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        double determinant = 1.0;
+        for (int i = 0; i < order; ++i) {
+            final int iBlock = i / BLOCK_SIZE;
+            final int r = i % BLOCK_SIZE;
+            final double lII = blocks[iBlock * nBlocks + iBlock][r * blockSize(iBlock) + r];
+            determinant *= lII * lII;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * The returned solver is the same as the one of {@link CholeskyDecomposition},
+     * working on a row layout copy of the decomposition.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new CholeskyDecomposition.Solver(getLT().getData());
+    }
+
+}
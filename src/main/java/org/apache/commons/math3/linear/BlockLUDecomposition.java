@@ -0,0 +1,459 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.ParallelUtils;
+
+/**
+ * Calculates the LUP-decomposition of a square matrix, using a blocked
+ * algorithm suited to large dense matrices.
+ * <p>
+ * This class computes the same decomposition P&times;A = L&times;U as
+ * {@link LUDecomposition}, with the same partial pivoting strategy, but
+ * works on the {@link BlockRealMatrix block layout}. It uses a right-looking
+ * algorithm: for each column of blocks, the panel below the diagonal is
+ * factorized, the corresponding row of blocks of U is computed, and the
+ * trailing sub-matrix is updated by block products. Almost all operations
+ * are performed in this last step, on blocks that fit in cache. The trailing
+ * update can be distributed over several threads by providing an {@link
+ * ExecutorService}.
+ * </p>
+ * <p>
+ * When the matrix to decompose is a {@link BlockRealMatrix}, it can be
+ * factorized in place, its entries being replaced by those of L and U. This
+ * saves a copy of the matrix.
+ * </p>
+ *
+ * @see LUDecomposition
+ * @version $Id$
+ * @since 3.2
+ */
+public class BlockLUDecomposition {
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+    /** Block size. */
+    private static final int BLOCK_SIZE = BlockRealMatrix.BLOCK_SIZE;
+    /** Order of the matrix. */
+    private final int order;
+    /** Number of rows (and columns) of blocks. */
+    private final int nBlocks;
+    /** Entries of LU decomposition, in block layout. */
+    private final double[][] blocks;
+    /** Pivot permutation associated with LU decomposition. */
+    private final int[] pivot;
+    /** Executor for the trailing updates (may be null). */
+    private final ExecutorService executor;
+    /** Parity of the permutation associated with the LU decomposition. */
+    private boolean even;
+    /** Singularity indicator. */
+    private boolean singular;
+    /** Cached entries of LU decomposition, in row layout. */
+    private double[][] cachedLU;
+    /** Cached value of L. */
+    private RealMatrix cachedL;
+    /** Cached value of U. */
+    private RealMatrix cachedU;
+    /** Cached value of P. */
+    private RealMatrix cachedP;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold, and works on a copy of the matrix in the calling thread.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws NonSquareMatrixException if matrix is not square.
+     */
+    public BlockLUDecomposition(final RealMatrix matrix)
+        throws NonSquareMatrixException {
+        this(matrix, DEFAULT_TOO_SMALL, false, null);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor works on a copy of the matrix in the calling thread.
+     *
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @throws NonSquareMatrixException if matrix is not square
+     */
+    public BlockLUDecomposition(final RealMatrix matrix, final double singularityThreshold)
+        throws NonSquareMatrixException {
+        this(matrix, singularityThreshold, false, null);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param inPlace if {@code true} and {@code matrix} is a {@link
+     * BlockRealMatrix}, its entries are overwritten by the decomposition
+     * instead of being copied
+     * @param executor executor used to distribute the trailing updates over
+     * several threads (if {@code null}, all computations are performed in the
+     * calling thread)
+     * @throws NonSquareMatrixException if matrix is not square
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    public BlockLUDecomposition(final RealMatrix matrix, final double singularityThreshold,
+                                final boolean inPlace, final ExecutorService executor)
+        throws NonSquareMatrixException, MathIllegalStateException {
+        if (!matrix.isSquare()) {
+            throw new NonSquareMatrixException(matrix.getRowDimension(),
+                                               matrix.getColumnDimension());
+        }
+
+        order    = matrix.getRowDimension();
+        nBlocks  = (order + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (inPlace && matrix instanceof BlockRealMatrix) {
+            blocks = ((BlockRealMatrix) matrix).getBlocksRef();
+        } else if (matrix instanceof BlockRealMatrix) {
+            blocks = ((BlockRealMatrix) matrix).copy().getBlocksRef();
+        } else {
+            blocks = BlockRealMatrix.toBlocksLayout(matrix.getData());
+        }
+        this.executor = executor;
+        pivot = new int[order];
+        for (int row = 0; row < order; row++) {
+            pivot[row] = row;
+        }
+        even     = true;
+        singular = false;
+
+        for (int kBlock = 0; kBlock < nBlocks; ++kBlock) {
+
+            // factorize the panel below the diagonal block
+            if (!factorizePanel(kBlock, singularityThreshold)) {
+                singular = true;
+                return;
+            }
+
+            // compute the row of blocks of U, then update the trailing matrix
+            final int first = kBlock + 1;
+            if (executor == null || nBlocks - first < 2) {
+                for (int jBlock = first; jBlock < nBlocks; ++jBlock) {
+                    solveUpperBlock(kBlock, jBlock);
+                }
+                for (int iBlock = first; iBlock < nBlocks; ++iBlock) {
+                    updateBlockRow(kBlock, iBlock);
+                }
+            } else {
+                final List<Callable<Void>> uTasks = new ArrayList<Callable<Void>>();
+                final List<Callable<Void>> updateTasks = new ArrayList<Callable<Void>>();
+                for (int b = first; b < nBlocks; ++b) {
+                    final int k = kBlock;
+                    final int index = b;
+                    uTasks.add(new Callable<Void>() {
+                        /** {@inheritDoc} */
+                        public Void call() {
+                            solveUpperBlock(k, index);
+                            return null;
+                        }
+                    });
+                    updateTasks.add(new Callable<Void>() {
+                        /** {@inheritDoc} */
+                        public Void call() {
+                            updateBlockRow(k, index);
+                            return null;
+                        }
+                    });
+                }
+                ParallelUtils.invokeAll(executor, uTasks);
+                ParallelUtils.invokeAll(executor, updateTasks);
+            }
+        }
+    }
+
+    /**
+     * Factorizes the panel made of the blocks of a column, from the diagonal
+     * block downwards, with partial pivoting.
+     * <p>
+     * Row exchanges are applied to the whole rows of the matrix.
+     * </p>
+     *
+     * @param kBlock index of the column of blocks
+     * @param singularityThreshold singularity threshold
+     * @return {@code false} if the matrix was found to be singular
+     */
+    private boolean factorizePanel(final int kBlock, final double singularityThreshold) {
+        final int width = blockSize(kBlock);
+        final int cStart = kBlock * BLOCK_SIZE;
+
+        for (int cl = 0; cl < width; ++cl) {
+            final int col = cStart + cl;
+
+            // search for the pivot
+            int max = col;
+            double largest = Double.NEGATIVE_INFINITY;
+            for (int row = col; row < order; ++row) {
+                final double[] block = blocks[(row / BLOCK_SIZE) * nBlocks + kBlock];
+                final double value = FastMath.abs(block[(row % BLOCK_SIZE) * width + cl]);
+                if (value > largest) {
+                    largest = value;
+                    max = row;
+                }
+            }
+
+            // singularity check
+            if (largest < singularityThreshold) {
+                return false;
+            }
+
+            // pivot if necessary
+            if (max != col) {
+                swapRows(max, col);
+                final int temp = pivot[max];
+                pivot[max] = pivot[col];
+                pivot[col] = temp;
+                even = !even;
+            }
+
+            // divide the lower elements by the pivot, and update the rest of the panel
+            final double[] diagBlock = blocks[kBlock * nBlocks + kBlock];
+            final int pivotRow = cl * width;
+            final double luDiag = diagBlock[pivotRow + cl];
+            for (int iBlock = kBlock; iBlock < nBlocks; ++iBlock) {
+                final double[] block = blocks[iBlock * nBlocks + kBlock];
+                final int height = blockSize(iBlock);
+                final int rStart = (iBlock == kBlock) ? cl + 1 : 0;
+                for (int r = rStart; r < height; ++r) {
+                    final int rowStart = r * width;
+                    final double lRC = block[rowStart + cl] / luDiag;
+                    block[rowStart + cl] = lRC;
+                    for (int c = cl + 1; c < width; ++c) {
+                        block[rowStart + c] -= lRC * diagBlock[pivotRow + c];
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a block of U, by solving L<sub>kk</sub> U<sub>kj</sub> = A<sub>kj</sub>,
+     * where L<sub>kk</sub> is the unit lower triangular part of the diagonal block.
+     *
+     * @param kBlock index of the row (and column) of the diagonal block
+     * @param jBlock index of the column of the block to compute
+     */
+    private void solveUpperBlock(final int kBlock, final int jBlock) {
+        final double[] lBlock = blocks[kBlock * nBlocks + kBlock];
+        final double[] uBlock = blocks[kBlock * nBlocks + jBlock];
+        final int height = blockSize(kBlock);
+        final int width  = blockSize(jBlock);
+        for (int r = 1; r < height; ++r) {
+            final int uRow = r * width;
+            for (int q = 0; q < r; ++q) {
+                final double lRQ = lBlock[r * height + q];
+                if (lRQ != 0) {
+                    final int uQ = q * width;
+                    for (int c = 0; c < width; ++c) {
+                        uBlock[uRow + c] -= lRQ * uBlock[uQ + c];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates a row of blocks of the trailing matrix: A<sub>ij</sub> -= L<sub>ik</sub> U<sub>kj</sub>
+     * for all j &gt; k.
+     *
+     * @param kBlock index of the current panel
+     * @param iBlock index of the row of blocks to update
+     */
+    private void updateBlockRow(final int kBlock, final int iBlock) {
+        final double[] lBlock = blocks[iBlock * nBlocks + kBlock];
+        final int height = blockSize(iBlock);
+        final int depth  = blockSize(kBlock);
+        for (int jBlock = kBlock + 1; jBlock < nBlocks; ++jBlock) {
+            final double[] uBlock = blocks[kBlock * nBlocks + jBlock];
+            final double[] aBlock = blocks[iBlock * nBlocks + jBlock];
+            final int width = blockSize(jBlock);
+            for (int r = 0; r < height; ++r) {
+                final int aRow = r * width;
+                final int lRow = r * depth;
+                for (int q = 0; q < depth; ++q) {
+                    final double lRQ = lBlock[lRow + q];
+                    if (lRQ != 0) {
+                        final int uRow = q * width;
+                        for (int c = 0; c < width; ++c) {
+                            aBlock[aRow + c] -= lRQ * uBlock[uRow + c];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Exchanges two rows of the matrix.
+     *
+     * @param row1 index of the first row
+     * @param row2 index of the second row
+     */
+    private void swapRows(final int row1, final int row2) {
+        final int base1 = (row1 / BLOCK_SIZE) * nBlocks;
+        final int base2 = (row2 / BLOCK_SIZE) * nBlocks;
+        final int r1 = row1 % BLOCK_SIZE;
+        final int r2 = row2 % BLOCK_SIZE;
+        for (int jBlock = 0; jBlock < nBlocks; ++jBlock) {
+            final int width = blockSize(jBlock);
+            final double[] block1 = blocks[base1 + jBlock];
+            final double[] block2 = blocks[base2 + jBlock];
+            final int start1 = r1 * width;
+            final int start2 = r2 * width;
+            for (int c = 0; c < width; ++c) {
+                final double tmp = block1[start1 + c];
+                block1[start1 + c] = block2[start2 + c];
+                block2[start2 + c] = tmp;
+            }
+        }
+    }
+
+    /**
+     * Get the size of a block row or column.
+     *
+     * @param index block index
+     * @return number of rows (or columns) of the blocks with this index
+     */
+    private int blockSize(final int index) {
+        return (index == nBlocks - 1) ? order - index * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+    /**
+     * Get the entries of the decomposition in row layout.
+     *
+     * @return the entries of L and U, in row layout
+     */
+    private double[][] getLUData() {
+        if (cachedLU == null) {
+            cachedLU = new BlockRealMatrix(order, order, blocks, false).getData();
+        }
+        return cachedLU;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public RealMatrix getL() {
+        if ((cachedL == null) && !singular) {
+            final double[][] lu = getLUData();
+            cachedL = MatrixUtils.createRealMatrix(order, order);
+            for (int i = 0; i < order; ++i) {
+                final double[] luI = lu[i];
+                for (int j = 0; j < i; ++j) {
+                    cachedL.setEntry(i, j, luI[j]);
+                }
+                cachedL.setEntry(i, i, 1.0);
+            }
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public RealMatrix getU() {
+        if ((cachedU == null) && !singular) {
+            final double[][] lu = getLUData();
+            cachedU = MatrixUtils.createRealMatrix(order, order);
+            for (int i = 0; i < order; ++i) {
+                final double[] luI = lu[i];
+                for (int j = i; j < order; ++j) {
+                    cachedU.setEntry(i, j, luI[j]);
+                }
+            }
+        }
+        return cachedU;
+    }
+
+    /**
+     * Returns the P rows permutation matrix.
+     * <p>P is a sparse matrix with exactly one element set to 1.0 in
+     * each row and each column, all other elements being set to 0.0.</p>
+     * <p>The positions of the 1 elements are given by the {@link #getPivot()
+     * pivot permutation vector}.</p>
+     * @return the P rows permutation matrix (or null if decomposed matrix is singular)
+     * @see #getPivot()
+     */
+    public RealMatrix getP() {
+        if ((cachedP == null) && !singular) {
+            cachedP = MatrixUtils.createRealMatrix(order, order);
+            for (int i = 0; i < order; ++i) {
+                cachedP.setEntry(i, pivot[i], 1.0);
+            }
+        }
+        return cachedP;
+    }
+
+    /**
+     * Returns the pivot permutation vector.
+     * @return the pivot permutation vector
+     * @see #getP()
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        }
+        double determinant = even ? 1 : -1;
+        for (int i = 0; i < order; i++) {
+            final int iBlock = i / BLOCK_SIZE;
+            final int r = i % BLOCK_SIZE;
+            determinant *= blocks[iBlock * nBlocks + iBlock][r * blockSize(iBlock) + r];
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * <p>
+     * The returned solver is the same as the one of {@link LUDecomposition},
+     * working on a row layout copy of the decomposition.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new LUDecomposition.Solver(singular ? null : getLUData(), pivot, singular);
+    }
+
+}
@@ -18,10 +18,16 @@
 package org.apache.commons.math3.linear;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NoDataException;
+import org.apache.commons.math3.exception.NotPositiveException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
@@ -29,6 +35,7 @@ import org.apache.commons.math3.exception.OutOfRangeException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.ParallelUtils;
 
 /**
  * Cache-friendly implementation of RealMatrix using a flat arrays to store
@@ -480,46 +487,7 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
             MatrixUtils.checkMultiplicationCompatible(this, m);
 
             final BlockRealMatrix out = new BlockRealMatrix(rows, m.getColumnDimension());
-
-            // perform multiplication block-wise, to ensure good cache behavior
-            int blockIndex = 0;
-            for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
-                final int pStart = iBlock * BLOCK_SIZE;
-                final int pEnd = FastMath.min(pStart + BLOCK_SIZE, rows);
-
-                for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                    final int qStart = jBlock * BLOCK_SIZE;
-                    final int qEnd = FastMath.min(qStart + BLOCK_SIZE, m.getColumnDimension());
-
-                    // select current block
-                    final double[] outBlock = out.blocks[blockIndex];
-
-                    // perform multiplication on current block
-                    for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
-                        final int kWidth = blockWidth(kBlock);
-                        final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
-                        final int rStart = kBlock * BLOCK_SIZE;
-                        int k = 0;
-                        for (int p = pStart; p < pEnd; ++p) {
-                            final int lStart = (p - pStart) * kWidth;
-                            final int lEnd = lStart + kWidth;
-                            for (int q = qStart; q < qEnd; ++q) {
-                                double sum = 0;
-                                int r = rStart;
-                                for (int l = lStart; l < lEnd; ++l) {
-                                    sum += tBlock[l] * m.getEntry(r, q);
-                                    ++r;
-                                }
-                                outBlock[k] += sum;
-                                ++k;
-                            }
-                        }
-                    }
-                    // go to next block
-                    ++blockIndex;
-                }
-            }
-
+            multiplyBlockRows(m, out, 0, out.blockRows);
             return out;
         }
     }
@@ -537,10 +505,235 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         MatrixUtils.checkMultiplicationCompatible(this, m);
 
         final BlockRealMatrix out = new BlockRealMatrix(rows, m.columns);
+        multiplyBlockRows(m, out, 0, out.blockRows);
+        return out;
+    }
 
-        // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
+    /**
+     * Returns the result of postmultiplying this by {@code m}, using several
+     * threads.
+     * <p>
+     * The rows of blocks of the product are distributed among tasks submitted
+     * to {@code executor}. Each block of the product is computed exactly as
+     * in {@link #multiply(RealMatrix)}, so both methods return identical
+     * results. Products having a single row of blocks (i.e. at most {@link
+     * #BLOCK_SIZE} rows) are computed in the calling thread.
+     * </p>
+     *
+     * @param m Matrix to postmultiply by.
+     * @param executor Executor used to run the tasks.
+     * @return {@code this} * m.
+     * @throws DimensionMismatchException if the matrices are not compatible.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     * @since 3.2
+     */
+    public BlockRealMatrix multiply(final RealMatrix m, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MathUtils.checkNotNull(executor);
+
+        final BlockRealMatrix out = new BlockRealMatrix(rows, m.getColumnDimension());
+        if (out.blockRows < 2) {
+            multiplyBlockRows(m, out, 0, out.blockRows);
+            return out;
+        }
+
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(out.blockRows);
         for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+            final int start = iBlock;
+            tasks.add(new Callable<Void>() {
+                /** {@inheritDoc} */
+                public Void call() {
+                    multiplyBlockRows(m, out, start, start + 1);
+                    return null;
+                }
+            });
+        }
+        ParallelUtils.invokeAll(executor, tasks);
+
+        return out;
+    }
+
+    /**
+     * Returns the result of postmultiplying the transpose of this by
+     * {@code m}, i.e. computes {@code this}<sup>T</sup> * m.
+     * <p>
+     * The transpose is built once (this costs only a copy of the entries),
+     * then the product is computed block-wise.
+     * </p>
+     *
+     * @param m Matrix to postmultiply by.
+     * @return {@code this}<sup>T</sup> * m.
+     * @throws DimensionMismatchException if the row dimensions of
+     * {@code this} and {@code m} differ.
+     * @since 3.2
+     */
+    public BlockRealMatrix transposeMultiply(final RealMatrix m)
+        throws DimensionMismatchException {
+        if (m.getRowDimension() != rows) {
+            throw new DimensionMismatchException(m.getRowDimension(), rows);
+        }
+        return transpose().multiply(m);
+    }
+
+    /**
+     * Returns the result of postmultiplying the transpose of this by
+     * {@code m}, using several threads.
+     * <p>
+     * This method gives the same result as {@link #transposeMultiply(RealMatrix)},
+     * the product being computed by {@link #multiply(RealMatrix, ExecutorService)}.
+     * </p>
+     *
+     * @param m Matrix to postmultiply by.
+     * @param executor Executor used to run the tasks.
+     * @return {@code this}<sup>T</sup> * m.
+     * @throws DimensionMismatchException if the row dimensions of
+     * {@code this} and {@code m} differ.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     * @since 3.2
+     */
+    public BlockRealMatrix transposeMultiply(final RealMatrix m, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        if (m.getRowDimension() != rows) {
+            throw new DimensionMismatchException(m.getRowDimension(), rows);
+        }
+        return transpose().multiply(m, executor);
+    }
+
+    /**
+     * Returns the result of multiplying {@code this} with itself {@code p}
+     * times, using several threads.
+     * <p>
+     * The sequence of products is the same as the one used by {@link
+     * #power(int)}, each product being computed by {@link
+     * #multiply(RealMatrix, ExecutorService)}, so both methods return
+     * identical results.
+     * </p>
+     *
+     * @param p raise {@code this} to power {@code p}
+     * @param executor Executor used to run the tasks.
+     * @return {@code this^p}
+     * @throws NotPositiveException if {@code p < 0}
+     * @throws NonSquareMatrixException if the matrix is not square
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     * @since 3.2
+     */
+    public RealMatrix power(final int p, final ExecutorService executor)
+        throws NotPositiveException, NonSquareMatrixException,
+               NullArgumentException, MathIllegalStateException {
+        if (p < 0) {
+            throw new NotPositiveException(LocalizedFormats.NOT_POSITIVE_EXPONENT, p);
+        }
+
+        if (!isSquare()) {
+            throw new NonSquareMatrixException(getRowDimension(), getColumnDimension());
+        }
+
+        MathUtils.checkNotNull(executor);
+
+        if (p == 0) {
+            return MatrixUtils.createRealIdentityMatrix(this.getRowDimension());
+        }
+
+        if (p == 1) {
+            return this.copy();
+        }
+
+        // same scheme as AbstractRealMatrix.power: square repeatedly,
+        // then multiply the copy of this by the squares selected by the
+        // binary representation of p - 1
+        final int power = p - 1;
+        final int maxI = 31 - Integer.numberOfLeadingZeros(power);
+
+        final BlockRealMatrix[] results = new BlockRealMatrix[maxI + 1];
+        results[0] = this.copy();
+        for (int i = 1; i <= maxI; ++i) {
+            results[i] = results[i - 1].multiply(results[i - 1], executor);
+        }
+
+        BlockRealMatrix result = this.copy();
+        for (int i = maxI; i >= 0; --i) {
+            if ((power & (1 << i)) != 0) {
+                result = result.multiply(results[i], executor);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes some rows of blocks of the product {@code this} * {@code m}.
+     *
+     * @param m Matrix to postmultiply by.
+     * @param out Matrix where to store the product. Its blocks in the
+     * selected rows must be initially filled with zeros.
+     * @param startBlockRow Index of the first row of blocks to compute.
+     * @param endBlockRow Index after the last row of blocks to compute.
+     */
+    private void multiplyBlockRows(final RealMatrix m, final BlockRealMatrix out,
+                                   final int startBlockRow, final int endBlockRow) {
+        if (m instanceof BlockRealMatrix) {
+            multiplyBlockRows((BlockRealMatrix) m, out, startBlockRow, endBlockRow);
+            return;
+        }
+
+        // perform multiplication block-wise, to ensure good cache behavior
+        int blockIndex = startBlockRow * out.blockColumns;
+        for (int iBlock = startBlockRow; iBlock < endBlockRow; ++iBlock) {
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd = FastMath.min(pStart + BLOCK_SIZE, rows);
+
+            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd = FastMath.min(qStart + BLOCK_SIZE, m.getColumnDimension());
+
+                // select current block
+                final double[] outBlock = out.blocks[blockIndex];
+
+                // perform multiplication on current block
+                for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+                    final int kWidth = blockWidth(kBlock);
+                    final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
+                    final int rStart = kBlock * BLOCK_SIZE;
+                    int k = 0;
+                    for (int p = pStart; p < pEnd; ++p) {
+                        final int lStart = (p - pStart) * kWidth;
+                        final int lEnd = lStart + kWidth;
+                        for (int q = qStart; q < qEnd; ++q) {
+                            double sum = 0;
+                            int r = rStart;
+                            for (int l = lStart; l < lEnd; ++l) {
+                                sum += tBlock[l] * m.getEntry(r, q);
+                                ++r;
+                            }
+                            outBlock[k] += sum;
+                            ++k;
+                        }
+                    }
+                }
+                // go to next block
+                ++blockIndex;
+            }
+        }
+    }
+
+    /**
+     * Computes some rows of blocks of the product {@code this} * {@code m}.
+     *
+     * @param m Matrix to postmultiply by.
+     * @param out Matrix where to store the product. Its blocks in the
+     * selected rows must be initially filled with zeros.
+     * @param startBlockRow Index of the first row of blocks to compute.
+     * @param endBlockRow Index after the last row of blocks to compute.
+     */
+    private void multiplyBlockRows(final BlockRealMatrix m, final BlockRealMatrix out,
+                                   final int startBlockRow, final int endBlockRow) {
+        // perform multiplication block-wise, to ensure good cache behavior
+        int blockIndex = startBlockRow * out.blockColumns;
+        for (int iBlock = startBlockRow; iBlock < endBlockRow; ++iBlock) {
 
             final int pStart = iBlock * BLOCK_SIZE;
             final int pEnd = FastMath.min(pStart + BLOCK_SIZE, rows);
@@ -588,8 +781,6 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
                 ++blockIndex;
             }
         }
-
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -1562,6 +1753,19 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         return visitor.end();
     }
 
+    /**
+     * Get a reference to the blocks of the matrix.
+     * <p>
+     * The blocks are in the layout described in the class documentation,
+     * so that the decompositions working on block layout can update them
+     * in place.
+     * </p>
+     * @return the internal blocks array (not a copy)
+     */
+    double[][] getBlocksRef() {
+        return blocks;
+    }
+
     /**
      * Get the height of a block.
      * @param blockRow row index (in block sense) of the block
@@ -18,6 +18,7 @@
 package org.apache.commons.math3.linear;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.util.FastMath;
 
 
@@ -62,6 +63,8 @@ public class CholeskyDecomposition {
     private RealMatrix cachedL;
     /** Cached value of LT. */
     private RealMatrix cachedLT;
+    /** Cached solver for the allocation-free solve methods. */
+    private Solver cachedSolver;
 
     /**
      * Calculates the Cholesky decomposition of the given matrix.
@@ -203,8 +206,64 @@ public class CholeskyDecomposition {
         return new Solver(lTData);
     }
 
+    /**
+     * Solves the linear equation A &times; x = b, writing the solution in a
+     * caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(b)}, but it does
+     * not allocate any memory, so it is suited to solving many systems
+     * sharing the same decomposition.
+     * </p>
+     *
+     * @param b right-hand side of the equation A &times; x = b (not modified)
+     * @param out array where to store the solution (must be different from
+     * {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimension
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}
+     * @since 3.2
+     */
+    public void solveInto(final double[] b, final double[] out)
+        throws DimensionMismatchException, MathIllegalArgumentException {
+        getCachedSolver().solveInto(b, out);
+    }
+
+    /**
+     * Solves the linear equations A &times; X = B for several right-hand
+     * sides, writing the solutions in a caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(B)}, but it does
+     * not allocate any memory. Both arrays are in row layout, with one
+     * column per right-hand side.
+     * </p>
+     *
+     * @param b right-hand sides of the equation A &times; X = B (not modified)
+     * @param out array where to store the solutions (must not share rows
+     * with {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimension or each other
+     * @throws MathIllegalArgumentException if {@code out} shares a row
+     * with {@code b}
+     * @since 3.2
+     */
+    public void solveInto(final double[][] b, final double[][] out)
+        throws DimensionMismatchException, MathIllegalArgumentException {
+        getCachedSolver().solveInto(b, out);
+    }
+
+    /**
+     * Get the solver used by the allocation-free solve methods.
+     * @return cached solver
+     */
+    private Solver getCachedSolver() {
+        if (cachedSolver == null) {
+            cachedSolver = new Solver(lTData);
+        }
+        return cachedSolver;
+    }
+
     /** Specialized solver. */
-    private static class Solver implements DecompositionSolver {
+    static class Solver implements DecompositionSolver {
         /** Row-oriented storage for L<sup>T</sup> matrix data. */
         private final double[][] lTData;
 
@@ -212,7 +271,7 @@ public class CholeskyDecomposition {
          * Build a solver from decomposed matrix.
          * @param lTData row-oriented storage for L<sup>T</sup> matrix data
          */
-        private Solver(final double[][] lTData) {
+        Solver(final double[][] lTData) {
             this.lTData = lTData;
         }
 
@@ -230,6 +289,38 @@ public class CholeskyDecomposition {
             }
 
             final double[] x = b.toArray();
+            solveInPlace(x);
+            return new ArrayRealVector(x, false);
+        }
+
+        /**
+         * Solves the linear equation A &times; x = b into a caller-provided array.
+         * @param b right-hand side of the equation
+         * @param out array where to store the solution
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimension
+         * @throws MathIllegalArgumentException if {@code out} is {@code b}
+         */
+        void solveInto(final double[] b, final double[] out) {
+            final int m = lTData.length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != m) {
+                throw new DimensionMismatchException(out.length, m);
+            }
+            MatrixUtils.checkNotAliased(b, out);
+
+            System.arraycopy(b, 0, out, 0, m);
+            solveInPlace(out);
+        }
+
+        /**
+         * Solves the linear equation L &times; L<sup>T</sup> &times; x = b in place.
+         * @param x right-hand side, replaced by the solution on return
+         */
+        private void solveInPlace(final double[] x) {
+            final int m = lTData.length;
 
             // Solve LY = b
             for (int j = 0; j < m; j++) {
@@ -249,8 +340,6 @@ public class CholeskyDecomposition {
                     x[i] -= xJ * lTData[i][j];
                 }
             }
-
-            return new ArrayRealVector(x, false);
         }
 
         /** {@inheritDoc} */
@@ -260,8 +349,53 @@ public class CholeskyDecomposition {
                 throw new DimensionMismatchException(b.getRowDimension(), m);
             }
 
-            final int nColB = b.getColumnDimension();
             final double[][] x = b.getData();
+            solveInPlace(x, b.getColumnDimension());
+            return new Array2DRowRealMatrix(x);
+        }
+
+        /**
+         * Solves the linear equations A &times; X = B into a caller-provided array.
+         * @param b right-hand sides of the equation, in row layout
+         * @param out array where to store the solutions, in row layout
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimension or each other
+         * @throws MathIllegalArgumentException if {@code out} shares a row
+         * with {@code b}
+         */
+        void solveInto(final double[][] b, final double[][] out) {
+            final int m = lTData.length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != m) {
+                throw new DimensionMismatchException(out.length, m);
+            }
+            MatrixUtils.checkNoSharedRows(b, out);
+
+            final int nColB = b[0].length;
+            for (int row = 0; row < m; row++) {
+                final double[] bRow = b[row];
+                final double[] outRow = out[row];
+                if (bRow.length != nColB) {
+                    throw new DimensionMismatchException(bRow.length, nColB);
+                }
+                if (outRow.length != nColB) {
+                    throw new DimensionMismatchException(outRow.length, nColB);
+                }
+                System.arraycopy(bRow, 0, outRow, 0, nColB);
+            }
+
+            solveInPlace(out, nColB);
+        }
+
+        /**
+         * Solves the linear equations L &times; L<sup>T</sup> &times; X = B in place.
+         * @param x right-hand sides, replaced by the solutions on return
+         * @param nColB number of right-hand sides
+         */
+        private void solveInPlace(final double[][] x, final int nColB) {
+            final int m = lTData.length;
 
             // Solve LY = b
             for (int j = 0; j < m; j++) {
@@ -295,8 +429,6 @@ public class CholeskyDecomposition {
                     }
                 }
             }
-
-            return new Array2DRowRealMatrix(x);
         }
 
         /** {@inheritDoc} */
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+
+/**
+ * Immutable sparse matrix in compressed sparse column (CSC) format.
+ * <p>
+ * The non-zero entries are stored column after column, rows being sorted in
+ * increasing order within each column. The storage of a CSC matrix is
+ * exactly the storage of its transpose in {@link CompressedRowRealMatrix
+ * CSR} format, so this class simply wraps its transpose. In particular,
+ * {@link #preMultiply(double[])} is a sequential gather over the columns
+ * and {@link #operate(double[])} a sequential scatter.
+ * </p>
+ * <p>
+ * As for {@link CompressedRowRealMatrix}, instances cannot be modified once
+ * built, all the methods that would change an entry throwing a {@link
+ * MathUnsupportedOperationException}.
+ * </p>
+ *
+ * @see CompressedRowRealMatrix
+ * @version $Id$
+ * @since 3.2
+ */
+public class CompressedColumnRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20130412L;
+
+    /** Transpose of the matrix, in compressed row format. */
+    private final CompressedRowRealMatrix transposed;
+
+    /**
+     * Build a matrix from triplets.
+     * <p>
+     * Entry {@code k} of the input arrays represents a value {@code
+     * values[k]} at row {@code rowIndices[k]} and column {@code
+     * columnIndices[k]}. Triplets may be given in any order. Values given
+     * several times for the same position are summed, and positions whose
+     * value is zero are not stored.
+     * </p>
+     *
+     * @param rowDimension Number of rows of the matrix.
+     * @param columnDimension Number of columns of the matrix.
+     * @param rowIndices Row indices of the entries.
+     * @param columnIndices Column indices of the entries.
+     * @param values Values of the entries.
+     * @throws NotStrictlyPositiveException if row or column dimension is not
+     * positive.
+     * @throws NullArgumentException if one of the arrays is {@code null}.
+     * @throws DimensionMismatchException if the arrays do not have the same
+     * length.
+     * @throws OutOfRangeException if one of the indices is out of range.
+     */
+    public CompressedColumnRealMatrix(final int rowDimension, final int columnDimension,
+                                      final int[] rowIndices, final int[] columnIndices,
+                                      final double[] values)
+        throws NotStrictlyPositiveException, NullArgumentException,
+               DimensionMismatchException, OutOfRangeException {
+        this(new CompressedRowRealMatrix(columnDimension, rowDimension,
+                                         columnIndices, rowIndices, values));
+    }
+
+    /**
+     * Build a matrix by copying the non-zero entries of another matrix.
+     * <p>
+     * When {@code m} is a {@link CompressedRowRealMatrix}, a {@link
+     * CompressedColumnRealMatrix} or an {@link OpenMapRealMatrix}, only its
+     * stored entries are visited. Otherwise, all entries of {@code m} are
+     * visited.
+     * </p>
+     *
+     * @param m Matrix to copy.
+     * @throws NullArgumentException if {@code m} is {@code null}.
+     */
+    public CompressedColumnRealMatrix(final RealMatrix m)
+        throws NullArgumentException {
+        this(CompressedRowRealMatrix.createTransposed(m));
+    }
+
+    /**
+     * Build a matrix as the transpose of a compressed row matrix.
+     * <p>
+     * The storage of {@code transposed} is shared, not copied.
+     * </p>
+     *
+     * @param transposed Transpose of the matrix to build.
+     */
+    private CompressedColumnRealMatrix(final CompressedRowRealMatrix transposed) {
+        super(transposed.getColumnDimension(), transposed.getRowDimension());
+        this.transposed = transposed;
+    }
+
+    /**
+     * Build the transpose of a compressed row matrix.
+     * <p>
+     * The storage of {@code m} is shared, not copied. This is not a
+     * constructor, as it would hide the public copy constructor for
+     * compressed row arguments.
+     * </p>
+     *
+     * @param m Matrix to transpose.
+     * @return m<sup>T</sup>, in compressed column format.
+     */
+    static CompressedColumnRealMatrix createTransposed(final CompressedRowRealMatrix m) {
+        return new CompressedColumnRealMatrix(m);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return transposed.getColumnDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return transposed.getRowDimension();
+    }
+
+    /**
+     * Get the number of stored (i.e. non-zero) entries.
+     *
+     * @return the number of stored entries.
+     */
+    public int getNonZeroCount() {
+        return transposed.getNonZeroCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix is dense.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws NotStrictlyPositiveException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As instances are immutable, this method returns the instance itself.
+     * </p>
+     */
+    @Override
+    public CompressedColumnRealMatrix copy() {
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws OutOfRangeException {
+        MatrixUtils.checkRowIndex(this, row);
+        MatrixUtils.checkColumnIndex(this, column);
+        return transposed.getEntry(column, row);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix shares the storage of this instance, so this
+     * method takes constant time.
+     * </p>
+     */
+    @Override
+    public CompressedRowRealMatrix transpose() {
+        return transposed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws DimensionMismatchException {
+        return transposed.preMultiply(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v)
+        throws DimensionMismatchException {
+        return transposed.preMultiply(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws DimensionMismatchException {
+        return transposed.operate(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v)
+        throws DimensionMismatchException {
+        return transposed.operate(v);
+    }
+
+    /**
+     * Returns the result of premultiplying this by the vector {@code v},
+     * using several threads.
+     * <p>
+     * The columns of the matrix are split into contiguous ranges, each range
+     * being handled by one task submitted to {@code executor}. The result is
+     * identical to the one of {@link #preMultiply(double[])}.
+     * </p>
+     *
+     * @param v Row vector to premultiply by.
+     * @param executor Executor used to run the tasks.
+     * @return v * {@code this}.
+     * @throws DimensionMismatchException if the length of {@code v} does
+     * not match the row dimension of {@code this}.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     * @see CompressedRowRealMatrix#operate(double[], ExecutorService)
+     */
+    public double[] preMultiply(final double[] v, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        return transposed.operate(v, executor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operateTranspose(final RealVector x)
+        throws DimensionMismatchException {
+        return transposed.operate(x);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+}
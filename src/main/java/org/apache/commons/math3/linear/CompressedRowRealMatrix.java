@@ -0,0 +1,664 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.OpenIntToDoubleHashMap;
+import org.apache.commons.math3.util.ParallelUtils;
+
+/**
+ * Immutable sparse matrix in compressed sparse row (CSR) format.
+ * <p>
+ * The non-zero entries are stored row after row in two flat arrays holding
+ * their column indices and values, columns being sorted in increasing order
+ * within each row. A third array holds the index of the first entry of each
+ * row. Matrix-vector products therefore traverse memory sequentially, which
+ * makes this class well suited as the operator of the iterative linear
+ * solvers (e.g. {@link ConjugateGradient} or {@link SymmLQ}), where these
+ * products dominate the computation time.
+ * </p>
+ * <p>
+ * Instances are built once, either from triplets (row, column, value) or
+ * from an existing matrix, and cannot be modified afterwards: all the
+ * methods that would change an entry throw a {@link
+ * MathUnsupportedOperationException}. Operations that produce new matrices
+ * (e.g. {@link #add(RealMatrix)}) return dense matrices, with the exception
+ * of {@link #transpose()} which returns a {@link CompressedColumnRealMatrix}
+ * sharing the storage of this instance.
+ * </p>
+ *
+ * @see CompressedColumnRealMatrix
+ * @version $Id$
+ * @since 3.2
+ */
+public class CompressedRowRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20130412L;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Index of the first entry of each row (plus one final sentinel). */
+    private final int[] rowStarts;
+
+    /** Column indices of the entries. */
+    private final int[] columnIndices;
+
+    /** Values of the entries. */
+    private final double[] values;
+
+    /**
+     * Build a matrix from triplets.
+     * <p>
+     * Entry {@code k} of the input arrays represents a value {@code
+     * values[k]} at row {@code rowIndices[k]} and column {@code
+     * columnIndices[k]}. Triplets may be given in any order. Values given
+     * several times for the same position are summed, and positions whose
+     * value is zero are not stored.
+     * </p>
+     *
+     * @param rowDimension Number of rows of the matrix.
+     * @param columnDimension Number of columns of the matrix.
+     * @param rowIndices Row indices of the entries.
+     * @param columnIndices Column indices of the entries.
+     * @param values Values of the entries.
+     * @throws NotStrictlyPositiveException if row or column dimension is not
+     * positive.
+     * @throws NullArgumentException if one of the arrays is {@code null}.
+     * @throws DimensionMismatchException if the arrays do not have the same
+     * length.
+     * @throws OutOfRangeException if one of the indices is out of range.
+     */
+    public CompressedRowRealMatrix(final int rowDimension, final int columnDimension,
+                                   final int[] rowIndices, final int[] columnIndices,
+                                   final double[] values)
+        throws NotStrictlyPositiveException, NullArgumentException,
+               DimensionMismatchException, OutOfRangeException {
+        super(rowDimension, columnDimension);
+        MathUtils.checkNotNull(rowIndices);
+        MathUtils.checkNotNull(columnIndices);
+        MathUtils.checkNotNull(values);
+        if (columnIndices.length != rowIndices.length) {
+            throw new DimensionMismatchException(columnIndices.length, rowIndices.length);
+        }
+        if (values.length != rowIndices.length) {
+            throw new DimensionMismatchException(values.length, rowIndices.length);
+        }
+        this.rows    = rowDimension;
+        this.columns = columnDimension;
+
+        final int n = values.length;
+
+        // bucket the triplets by column, then (stably) by row,
+        // so that column indices end up sorted within each row
+        final int[] columnStarts = new int[columnDimension + 1];
+        for (int k = 0; k < n; ++k) {
+            MatrixUtils.checkRowIndex(this, rowIndices[k]);
+            MatrixUtils.checkColumnIndex(this, columnIndices[k]);
+            ++columnStarts[columnIndices[k] + 1];
+        }
+        for (int j = 0; j < columnDimension; ++j) {
+            columnStarts[j + 1] += columnStarts[j];
+        }
+        final int[] byColumn = new int[n];
+        for (int k = 0; k < n; ++k) {
+            byColumn[columnStarts[columnIndices[k]]++] = k;
+        }
+
+        final int[] starts = new int[rowDimension + 1];
+        for (int k = 0; k < n; ++k) {
+            ++starts[rowIndices[k] + 1];
+        }
+        for (int i = 0; i < rowDimension; ++i) {
+            starts[i + 1] += starts[i];
+        }
+        final int[] next = starts.clone();
+        final int[] byRow = new int[n];
+        for (int k = 0; k < n; ++k) {
+            final int t = byColumn[k];
+            byRow[next[rowIndices[t]]++] = t;
+        }
+
+        // merge duplicates and drop zeros
+        final int[]    compactColumns = new int[n];
+        final double[] compactValues  = new double[n];
+        rowStarts = new int[rowDimension + 1];
+        int size = 0;
+        for (int i = 0; i < rowDimension; ++i) {
+            rowStarts[i] = size;
+            int k = starts[i];
+            while (k < starts[i + 1]) {
+                final int column = columnIndices[byRow[k]];
+                double sum = 0;
+                while (k < starts[i + 1] && columnIndices[byRow[k]] == column) {
+                    sum += values[byRow[k++]];
+                }
+                if (sum != 0) {
+                    compactColumns[size] = column;
+                    compactValues[size]  = sum;
+                    ++size;
+                }
+            }
+        }
+        rowStarts[rowDimension] = size;
+
+        if (size == n) {
+            this.columnIndices = compactColumns;
+            this.values        = compactValues;
+        } else {
+            this.columnIndices = new int[size];
+            this.values        = new double[size];
+            System.arraycopy(compactColumns, 0, this.columnIndices, 0, size);
+            System.arraycopy(compactValues,  0, this.values,        0, size);
+        }
+    }
+
+    /**
+     * Build a matrix by copying the non-zero entries of another matrix.
+     * <p>
+     * When {@code m} is a {@link CompressedRowRealMatrix}, a {@link
+     * CompressedColumnRealMatrix} or an {@link OpenMapRealMatrix}, only its
+     * stored entries are visited. Otherwise, all entries of {@code m} are
+     * visited.
+     * </p>
+     *
+     * @param m Matrix to copy.
+     * @throws NullArgumentException if {@code m} is {@code null}.
+     */
+    public CompressedRowRealMatrix(final RealMatrix m)
+        throws NullArgumentException {
+        this(new Triplets(m));
+    }
+
+    /**
+     * Build a matrix from extracted triplets.
+     *
+     * @param triplets Triplets representing the non-zero entries.
+     */
+    private CompressedRowRealMatrix(final Triplets triplets) {
+        this(triplets.rows, triplets.columns,
+             triplets.rowIndices, triplets.columnIndices, triplets.values);
+    }
+
+    /**
+     * Build the transpose of a matrix, in compressed row format.
+     *
+     * @param m Matrix to transpose.
+     * @return m<sup>T</sup>, in compressed row format.
+     * @throws NullArgumentException if {@code m} is {@code null}.
+     */
+    static CompressedRowRealMatrix createTransposed(final RealMatrix m)
+        throws NullArgumentException {
+        final Triplets t = new Triplets(m);
+        return new CompressedRowRealMatrix(t.columns, t.rows,
+                                           t.columnIndices, t.rowIndices, t.values);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /**
+     * Get the number of stored (i.e. non-zero) entries.
+     *
+     * @return the number of stored entries.
+     */
+    public int getNonZeroCount() {
+        return values.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix is dense.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws NotStrictlyPositiveException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As instances are immutable, this method returns the instance itself.
+     * </p>
+     */
+    @Override
+    public CompressedRowRealMatrix copy() {
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws OutOfRangeException {
+        MatrixUtils.checkRowIndex(this, row);
+        MatrixUtils.checkColumnIndex(this, column);
+        final int k = find(row, column);
+        return (k < 0) ? 0.0 : values[k];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathUnsupportedOperationException always, as instances
+     * are immutable.
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathUnsupportedOperationException {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned matrix shares the storage of this instance, so this
+     * method takes constant time.
+     * </p>
+     */
+    @Override
+    public CompressedColumnRealMatrix transpose() {
+        return CompressedColumnRealMatrix.createTransposed(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws DimensionMismatchException {
+        if (v.length != columns) {
+            throw new DimensionMismatchException(v.length, columns);
+        }
+        final double[] out = new double[rows];
+        operateRows(v, out, 0, rows);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v)
+        throws DimensionMismatchException {
+        if (v instanceof ArrayRealVector) {
+            return new ArrayRealVector(operate(((ArrayRealVector) v).getDataRef()), false);
+        }
+        if (v.getDimension() != columns) {
+            throw new DimensionMismatchException(v.getDimension(), columns);
+        }
+        return new ArrayRealVector(operate(v.toArray()), false);
+    }
+
+    /**
+     * Returns the result of multiplying this by the vector {@code v}, using
+     * several threads.
+     * <p>
+     * The rows of the matrix are split into contiguous ranges holding
+     * roughly the same number of entries, each range being handled by one
+     * task submitted to {@code executor}. Each component of the result is
+     * computed exactly as in {@link #operate(double[])}, so both methods
+     * return identical results.
+     * </p>
+     *
+     * @param v Vector to operate on.
+     * @param executor Executor used to run the tasks.
+     * @return {@code this} * v.
+     * @throws DimensionMismatchException if the length of {@code v} does
+     * not match the column dimension of {@code this}.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     */
+    public double[] operate(final double[] v, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        if (v.length != columns) {
+            throw new DimensionMismatchException(v.length, columns);
+        }
+        MathUtils.checkNotNull(executor);
+
+        final double[] out = new double[rows];
+        final int nTasks = 4 * Runtime.getRuntime().availableProcessors();
+        final int[] bounds = ParallelUtils.partition(values.length, nTasks);
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(bounds.length - 1);
+        int start = 0;
+        for (int t = 1; t < bounds.length && start < rows; ++t) {
+            // first row whose entries all lie before the chunk boundary
+            final int end = (t == bounds.length - 1) ? rows : firstRowStartingAfter(bounds[t], start);
+            if (end > start) {
+                final int rStart = start;
+                final int rEnd   = end;
+                tasks.add(new Callable<Void>() {
+                    /** {@inheritDoc} */
+                    public Void call() {
+                        operateRows(v, out, rStart, rEnd);
+                        return null;
+                    }
+                });
+                start = end;
+            }
+        }
+        ParallelUtils.invokeAll(executor, tasks);
+
+        return out;
+    }
+
+    /**
+     * Returns the result of multiplying this by the vector {@code v}, using
+     * several threads.
+     *
+     * @param v Vector to operate on.
+     * @param executor Executor used to run the tasks.
+     * @return {@code this} * v.
+     * @throws DimensionMismatchException if the dimension of {@code v} does
+     * not match the column dimension of {@code this}.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the computation is interrupted.
+     * @see #operate(double[], ExecutorService)
+     */
+    public RealVector operate(final RealVector v, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        final double[] data = (v instanceof ArrayRealVector) ?
+                              ((ArrayRealVector) v).getDataRef() : v.toArray();
+        return new ArrayRealVector(operate(data, executor), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws DimensionMismatchException {
+        if (v.length != rows) {
+            throw new DimensionMismatchException(v.length, rows);
+        }
+        final double[] out = new double[columns];
+        for (int i = 0; i < rows; ++i) {
+            final double vI = v[i];
+            if (vI != 0) {
+                for (int k = rowStarts[i]; k < rowStarts[i + 1]; ++k) {
+                    out[columnIndices[k]] += values[k] * vI;
+                }
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v)
+        throws DimensionMismatchException {
+        if (v instanceof ArrayRealVector) {
+            return new ArrayRealVector(preMultiply(((ArrayRealVector) v).getDataRef()), false);
+        }
+        if (v.getDimension() != rows) {
+            throw new DimensionMismatchException(v.getDimension(), rows);
+        }
+        return new ArrayRealVector(preMultiply(v.toArray()), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operateTranspose(final RealVector x)
+        throws DimensionMismatchException {
+        return preMultiply(x);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+    /**
+     * Compute some components of the product {@code this} * v.
+     *
+     * @param v Vector to operate on.
+     * @param out Array where to store the product.
+     * @param start Index of the first row to compute.
+     * @param end Index after the last row to compute.
+     */
+    private void operateRows(final double[] v, final double[] out,
+                             final int start, final int end) {
+        for (int i = start; i < end; ++i) {
+            double sum = 0;
+            for (int k = rowStarts[i]; k < rowStarts[i + 1]; ++k) {
+                sum += values[k] * v[columnIndices[k]];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /**
+     * Find the first row whose first entry index is at least {@code index}.
+     *
+     * @param index Entry index.
+     * @param from First row to consider.
+     * @return the first row {@code i >= from} such that {@code
+     * rowStarts[i] >= index}, or the row dimension if there are none.
+     */
+    private int firstRowStartingAfter(final int index, final int from) {
+        int low  = from;
+        int high = rows;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (rowStarts[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the storage index of an entry.
+     *
+     * @param row Row index of the entry.
+     * @param column Column index of the entry.
+     * @return the index of the entry in the storage arrays, or a negative
+     * number if the entry is not stored.
+     */
+    private int find(final int row, final int column) {
+        int low  = rowStarts[row];
+        int high = rowStarts[row + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int c = columnIndices[mid];
+            if (c < column) {
+                low = mid + 1;
+            } else if (c > column) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of the first entry of each row.
+     *
+     * @return a reference to the internal array.
+     */
+    int[] getRowStarts() {
+        return rowStarts;
+    }
+
+    /**
+     * Get the column indices of the entries.
+     *
+     * @return a reference to the internal array.
+     */
+    int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    /**
+     * Get the values of the entries.
+     *
+     * @return a reference to the internal array.
+     */
+    double[] getValues() {
+        return values;
+    }
+
+    /** Non-zero entries of a matrix, as (row, column, value) triplets. */
+    private static class Triplets {
+
+        /** Number of rows of the matrix. */
+        private final int rows;
+
+        /** Number of columns of the matrix. */
+        private final int columns;
+
+        /** Row indices of the entries. */
+        private final int[] rowIndices;
+
+        /** Column indices of the entries. */
+        private final int[] columnIndices;
+
+        /** Values of the entries. */
+        private final double[] values;
+
+        /**
+         * Extract the non-zero entries of a matrix.
+         * <p>
+         * When {@code m} is a {@link CompressedRowRealMatrix}, a {@link
+         * CompressedColumnRealMatrix} or an {@link OpenMapRealMatrix}, only
+         * its stored entries are visited.
+         * </p>
+         *
+         * @param m Matrix to extract entries from.
+         * @throws NullArgumentException if {@code m} is {@code null}.
+         */
+        // OpenMapRealMatrix is deprecated, but remains a supported source until it is removed
+        @SuppressWarnings("deprecation")
+        Triplets(final RealMatrix m) throws NullArgumentException {
+            MathUtils.checkNotNull(m);
+            rows    = m.getRowDimension();
+            columns = m.getColumnDimension();
+
+            if (m instanceof CompressedRowRealMatrix || m instanceof CompressedColumnRealMatrix) {
+                // the compressed column format stores the transpose in compressed row format
+                final boolean byColumn = m instanceof CompressedColumnRealMatrix;
+                final CompressedRowRealMatrix compressed = byColumn ?
+                                                           ((CompressedColumnRealMatrix) m).transpose() :
+                                                           (CompressedRowRealMatrix) m;
+                final int[] starts = compressed.getRowStarts();
+                final int[] major  = new int[compressed.getNonZeroCount()];
+                for (int i = 0; i < starts.length - 1; ++i) {
+                    for (int k = starts[i]; k < starts[i + 1]; ++k) {
+                        major[k] = i;
+                    }
+                }
+                // the arrays are only read by the triplets constructor, so they can be shared
+                rowIndices    = byColumn ? compressed.getColumnIndices() : major;
+                columnIndices = byColumn ? major : compressed.getColumnIndices();
+                values        = compressed.getValues();
+            } else if (m instanceof OpenMapRealMatrix) {
+                final OpenIntToDoubleHashMap entries = ((OpenMapRealMatrix) m).getEntries();
+                rowIndices    = new int[entries.size()];
+                columnIndices = new int[entries.size()];
+                values        = new double[entries.size()];
+                int k = 0;
+                for (OpenIntToDoubleHashMap.Iterator iterator = entries.iterator(); iterator.hasNext();) {
+                    iterator.advance();
+                    rowIndices[k]    = iterator.key() / columns;
+                    columnIndices[k] = iterator.key() - rowIndices[k] * columns;
+                    values[k]        = iterator.value();
+                    ++k;
+                }
+            } else {
+                int count = 0;
+                for (int i = 0; i < rows; ++i) {
+                    for (int j = 0; j < columns; ++j) {
+                        if (m.getEntry(i, j) != 0) {
+                            ++count;
+                        }
+                    }
+                }
+                rowIndices    = new int[count];
+                columnIndices = new int[count];
+                values        = new double[count];
+                int k = 0;
+                for (int i = 0; i < rows; ++i) {
+                    for (int j = 0; j < columns; ++j) {
+                        final double value = m.getEntry(i, j);
+                        if (value != 0) {
+                            rowIndices[k]    = i;
+                            columnIndices[k] = j;
+                            values[k]        = value;
+                            ++k;
+                        }
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -180,7 +180,7 @@ public class ConjugateGradient
         }
         IterativeLinearSolverEvent evt;
         evt = new DefaultIterativeLinearSolverEvent(this,
-            manager.getIterations(), xro, bro, rro, rnorm);
+            manager.getIterations(), xro, bro, rro, rnorm, m);
         manager.fireInitializationEvent(evt);
         if (rnorm <= rmax) {
             manager.fireTerminationEvent(evt);
@@ -190,7 +190,7 @@ public class ConjugateGradient
         while (true) {
             manager.incrementIterationCount();
             evt = new DefaultIterativeLinearSolverEvent(this,
-                manager.getIterations(), xro, bro, rro, rnorm);
+                manager.getIterations(), xro, bro, rro, rnorm, m);
             manager.fireIterationStartedEvent(evt);
             if (m != null) {
                 z = m.operate(r);
@@ -225,7 +225,7 @@ public class ConjugateGradient
             rhoPrev = rhoNext;
             rnorm = r.getNorm();
             evt = new DefaultIterativeLinearSolverEvent(this,
-                manager.getIterations(), xro, bro, rro, rnorm);
+                manager.getIterations(), xro, bro, rro, rnorm, m);
             manager.fireIterationPerformedEvent(evt);
             if (rnorm <= rmax) {
                 manager.fireTerminationEvent(evt);
@@ -41,6 +41,15 @@ public class DefaultIterativeLinearSolverEvent extends IterativeLinearSolverEven
     /** The current estimate of the solution. */
     private final RealVector x;
 
+    /** The preconditioner whose timings are reported (can be {@code null}). */
+    private final AbstractPreconditioner preconditioner;
+
+    /** The number of applications of the preconditioner. */
+    private final int preconditionerApplyCount;
+
+    /** The time spent applying the preconditioner, in nanoseconds. */
+    private final long preconditionerApplyTime;
+
     /**
      * Creates a new instance of this class. This implementation does
      * <em>not</em> deep copy the specified vectors {@code x}, {@code b},
@@ -63,11 +72,44 @@ public class DefaultIterativeLinearSolverEvent extends IterativeLinearSolverEven
     public DefaultIterativeLinearSolverEvent(final Object source, final int iterations,
         final RealVector x, final RealVector b, final RealVector r,
         final double rnorm) {
+        this(source, iterations, x, b, r, rnorm, null);
+    }
+
+    /**
+     * Creates a new instance of this class, reporting the timings of the
+     * preconditioner. This constructor is similar to
+     * {@link #DefaultIterativeLinearSolverEvent(Object, int, RealVector, RealVector, RealVector, double)},
+     * except that if {@code m} is an {@link AbstractPreconditioner}, its
+     * current timings are recorded, and
+     * {@link #providesPreconditionerTiming()} returns {@code true}.
+     *
+     * @param source the iterative solver which fired this event
+     * @param iterations the number of iterations performed at the time
+     * {@code this} event is created
+     * @param x the current estimate of the solution
+     * @param b the right-hand side vector
+     * @param r the current estimate of the residual (can be {@code null})
+     * @param rnorm the norm of the current estimate of the residual
+     * @param m the preconditioner (can be {@code null})
+     * @since 3.2
+     */
+    public DefaultIterativeLinearSolverEvent(final Object source, final int iterations,
+        final RealVector x, final RealVector b, final RealVector r,
+        final double rnorm, final RealLinearOperator m) {
         super(source, iterations);
         this.x = x;
         this.b = b;
         this.r = r;
         this.rnorm = rnorm;
+        if (m instanceof AbstractPreconditioner) {
+            this.preconditioner = (AbstractPreconditioner) m;
+            this.preconditionerApplyCount = preconditioner.getApplyCount();
+            this.preconditionerApplyTime = preconditioner.getApplyTime();
+        } else {
+            this.preconditioner = null;
+            this.preconditionerApplyCount = 0;
+            this.preconditionerApplyTime = 0;
+        }
     }
 
     /**
@@ -90,11 +132,30 @@ public class DefaultIterativeLinearSolverEvent extends IterativeLinearSolverEven
      */
     public DefaultIterativeLinearSolverEvent(final Object source, final int iterations,
         final RealVector x, final RealVector b, final double rnorm) {
-        super(source, iterations);
-        this.x = x;
-        this.b = b;
-        this.r = null;
-        this.rnorm = rnorm;
+        this(source, iterations, x, b, null, rnorm, null);
+    }
+
+    /**
+     * Creates a new instance of this class, reporting the timings of the
+     * preconditioner. This constructor is similar to
+     * {@link #DefaultIterativeLinearSolverEvent(Object, int, RealVector, RealVector, double)},
+     * except that if {@code m} is an {@link AbstractPreconditioner}, its
+     * current timings are recorded, and
+     * {@link #providesPreconditionerTiming()} returns {@code true}.
+     *
+     * @param source the iterative solver which fired this event
+     * @param iterations the number of iterations performed at the time
+     * {@code this} event is created
+     * @param x the current estimate of the solution
+     * @param b the right-hand side vector
+     * @param rnorm the norm of the current estimate of the residual
+     * @param m the preconditioner (can be {@code null})
+     * @since 3.2
+     */
+    public DefaultIterativeLinearSolverEvent(final Object source, final int iterations,
+        final RealVector x, final RealVector b, final double rnorm,
+        final RealLinearOperator m) {
+        this(source, iterations, x, b, null, rnorm, m);
     }
 
     /** {@inheritDoc} */
@@ -141,4 +202,59 @@ public class DefaultIterativeLinearSolverEvent extends IterativeLinearSolverEven
     public boolean providesResidual() {
         return r != null;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation throws an {@link MathUnsupportedOperationException}
+     * if no {@link AbstractPreconditioner} was provided at construction time.
+     */
+    @Override
+    public long getPreconditionerSetupTime() {
+        if (preconditioner != null) {
+            return preconditioner.getSetupTime();
+        }
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation throws an {@link MathUnsupportedOperationException}
+     * if no {@link AbstractPreconditioner} was provided at construction time.
+     */
+    @Override
+    public int getPreconditionerApplyCount() {
+        if (preconditioner != null) {
+            return preconditionerApplyCount;
+        }
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation throws an {@link MathUnsupportedOperationException}
+     * if no {@link AbstractPreconditioner} was provided at construction time.
+     */
+    @Override
+    public long getPreconditionerApplyTime() {
+        if (preconditioner != null) {
+            return preconditionerApplyTime;
+        }
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This implementation returns {@code true} if an
+     * {@link AbstractPreconditioner} was specified at construction time.
+     *
+     * @return {@code true} if the preconditioner timings are available
+     */
+    @Override
+    public boolean providesPreconditionerTiming() {
+        return preconditioner != null;
+    }
 }
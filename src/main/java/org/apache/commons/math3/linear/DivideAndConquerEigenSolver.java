@@ -0,0 +1,591 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.ParallelUtils;
+import org.apache.commons.math3.util.Precision;
+
+/**
+ * Divide-and-conquer eigen solver for symmetric tridiagonal matrices.
+ * <p>This class implements Cuppen's algorithm: the tridiagonal matrix is
+ * torn into two smaller tridiagonal matrices by a rank-one modification,
+ * the two halves are solved recursively, and their eigen decompositions are
+ * merged by solving a secular equation. Small sub-problems are solved using
+ * the implicit QL algorithm of {@link EigenDecomposition}.</p>
+ * <p>Deflation follows LAPACK's {@code dlaed2} routine, and eigenvectors are
+ * computed from the L&ouml;wner-corrected update vector as proposed by Gu and
+ * Eisenstat, which ensures their numerical orthogonality.</p>
+ * <p>All the sub-problems at the same depth of the recursion are independent.
+ * If an {@link ExecutorService} is provided, they are solved in parallel, and
+ * the last merges (for which there are not enough independent sub-problems)
+ * distribute their secular equations and eigenvectors updates instead.</p>
+ * <p>This class is intended for internal use by the library and is not public.
+ * As a consequence of this explicitly limited scope, its methods directly
+ * return references to internal arrays, not copies.</p>
+ *
+ * @see <a href="http://dx.doi.org/10.1137/S0895479892241287">M. Gu and
+ * S. C. Eisenstat, A Divide-and-Conquer Algorithm for the Symmetric
+ * Tridiagonal Eigenproblem, SIAM J. Matrix Anal. Appl., 16(1), 1995</a>
+ * @version $Id$
+ * @since 3.2
+ */
+class DivideAndConquerEigenSolver {
+
+    /** Size under which sub-problems are solved by implicit QL iterations. */
+    private static final int LEAF_SIZE = 32;
+
+    /** Maximal number of iterations for one root of the secular equation. */
+    private static final int MAX_SECULAR_ITERATIONS = 100;
+
+    /** Support marker for basis vectors with non-zero rows in the first half only. */
+    private static final int SUPPORT_TOP = 1;
+
+    /** Support marker for basis vectors with non-zero rows in both halves. */
+    private static final int SUPPORT_FULL = 2;
+
+    /** Support marker for basis vectors with non-zero rows in the second half only. */
+    private static final int SUPPORT_BOTTOM = 3;
+
+    /** Eigenvalues (not sorted). */
+    private final double[] eigenvalues;
+
+    /** Eigenvectors, stored as columns. */
+    private final double[][] eigenvectors;
+
+    /**
+     * Computes the eigen decomposition of a symmetric tridiagonal matrix.
+     *
+     * @param main Main diagonal of the symmetric tridiagonal matrix.
+     * @param secondary Secondary diagonal of the symmetric tridiagonal matrix.
+     * @param executor Executor used to solve independent sub-problems in
+     * parallel (if {@code null}, all computations are performed in the calling
+     * thread).
+     */
+    DivideAndConquerEigenSolver(final double[] main, final double[] secondary,
+                                final ExecutorService executor) {
+
+        // tear the matrix into leaves, applying all rank-one modifications
+        final double[] d = main.clone();
+        final List<List<Node>> levels = new ArrayList<List<Node>>();
+        final Node root = new Node(0, main.length);
+        root.split(d, secondary, levels, 0);
+
+        // solve the tree bottom-up, one level at a time
+        for (int depth = levels.size() - 1; depth >= 0; --depth) {
+            final List<Node> level = levels.get(depth);
+            if (executor == null || level.size() < 2) {
+                for (final Node node : level) {
+                    node.solve(d, secondary, executor);
+                }
+            } else {
+                final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(level.size());
+                for (final Node node : level) {
+                    tasks.add(new Callable<Void>() {
+                        /** {@inheritDoc} */
+                        public Void call() {
+                            node.solve(d, secondary, null);
+                            return null;
+                        }
+                    });
+                }
+                ParallelUtils.invokeAll(executor, tasks);
+            }
+        }
+
+        eigenvalues  = root.lambda;
+        eigenvectors = root.q;
+
+    }
+
+    /**
+     * Get the eigenvalues.
+     * <p>The eigenvalues are not sorted.</p>
+     * @return eigenvalues (reference to the internal array)
+     */
+    double[] getEigenvaluesRef() {
+        return eigenvalues;
+    }
+
+    /**
+     * Get the eigenvectors.
+     * <p>The i<sup>th</sup> column is the eigenvector associated with the
+     * i<sup>th</sup> eigenvalue.</p>
+     * @return eigenvectors, in row layout (reference to the internal array)
+     */
+    double[][] getEigenvectorsRef() {
+        return eigenvectors;
+    }
+
+    /**
+     * Merges the eigen decompositions of the two halves of a node.
+     *
+     * @param node Node to solve, whose children are already solved.
+     * @param beta Off-diagonal element coupling the two halves.
+     * @param executor Executor used to distribute the computation (may be
+     * {@code null}).
+     */
+    private static void merge(final Node node, final double beta, final ExecutorService executor) {
+
+        final int n1 = node.left.size;
+        final int n  = node.size;
+
+        // build the rank-one modified problem: diag(d) + rho z z^T, in the basis q
+        final double[] d = new double[n];
+        final double[] z = new double[n];
+        final double[][] q = new double[n][n];
+        final int[] support = new int[n];
+        final double scale = FastMath.sqrt(0.5);
+        final double sign  = (beta < 0) ? -1 : 1;
+        final double[] lastRow = node.left.q[n1 - 1];
+        final double[] firstRow = node.right.q[0];
+        for (int i = 0; i < n1; ++i) {
+            d[i] = node.left.lambda[i];
+            z[i] = scale * lastRow[i];
+            support[i] = SUPPORT_TOP;
+            System.arraycopy(node.left.q[i], 0, q[i], 0, n1);
+        }
+        for (int i = n1; i < n; ++i) {
+            d[i] = node.right.lambda[i - n1];
+            z[i] = sign * scale * firstRow[i - n1];
+            support[i] = SUPPORT_BOTTOM;
+            System.arraycopy(node.right.q[i - n1], 0, q[i], n1, n - n1);
+        }
+        final double rho = 2 * FastMath.abs(beta);
+        node.left  = null;
+        node.right = null;
+
+        // sort the poles
+        final Integer[] order = new Integer[n];
+        for (int i = 0; i < n; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            /** {@inheritDoc} */
+            public int compare(final Integer i1, final Integer i2) {
+                return Double.compare(d[i1], d[i2]);
+            }
+        });
+
+        // deflation
+        double dMax = 0;
+        double zMax = 0;
+        for (int i = 0; i < n; ++i) {
+            dMax = FastMath.max(dMax, FastMath.abs(d[i]));
+            zMax = FastMath.max(zMax, FastMath.abs(z[i]));
+        }
+        final double tol = 8 * Precision.EPSILON * FastMath.max(dMax, zMax);
+        final int[] kept     = new int[n];
+        final int[] deflated = new int[n];
+        int k  = 0;
+        int nd = 0;
+        int pj = -1;
+        for (int jj = 0; jj < n; ++jj) {
+            final int j = order[jj];
+            if (rho * FastMath.abs(z[j]) <= tol) {
+                // negligible component, the pole is an eigenvalue
+                deflated[nd++] = j;
+                continue;
+            }
+            if (pj >= 0) {
+                final double tau = FastMath.hypot(z[pj], z[j]);
+                final double c   = z[j] / tau;
+                final double s   = -z[pj] / tau;
+                if (FastMath.abs((d[j] - d[pj]) * c * s) <= tol) {
+                    // close poles, a rotation cancels one component
+                    z[j]  = tau;
+                    z[pj] = 0;
+                    for (int r = 0; r < n; ++r) {
+                        final double[] qR = q[r];
+                        final double x = qR[pj];
+                        final double y = qR[j];
+                        qR[pj] = c * x + s * y;
+                        qR[j]  = c * y - s * x;
+                    }
+                    if (support[pj] != support[j]) {
+                        support[pj] = SUPPORT_FULL;
+                        support[j]  = SUPPORT_FULL;
+                    }
+                    final double t = d[pj] * c * c + d[j] * s * s;
+                    d[j]  = d[pj] * s * s + d[j] * c * c;
+                    d[pj] = t;
+                    deflated[nd++] = pj;
+                    pj = j;
+                    continue;
+                }
+                kept[k++] = pj;
+            }
+            pj = j;
+        }
+        if (pj >= 0) {
+            kept[k++] = pj;
+        }
+
+        // solve the secular equation for the non-deflated poles
+        final int nKept = k;
+        final int nDeflated = nd;
+        final double[] dl = new double[nKept];
+        final double[] w  = new double[nKept];
+        for (int i = 0; i < nKept; ++i) {
+            dl[i] = d[kept[i]];
+            w[i]  = z[kept[i]];
+        }
+        final int[] origin = new int[nKept];
+        final double[] mu  = new double[nKept];
+        runInRanges(executor, nKept, new RangeTask() {
+            /** {@inheritDoc} */
+            public void run(final int from, final int to) {
+                for (int j = from; j < to; ++j) {
+                    solveSecular(dl, w, rho, j, origin, mu);
+                }
+            }
+        });
+
+        // recompute the update vector from the roots (Gu and Eisenstat)
+        final double[] wHat = new double[nKept];
+        for (int i = 0; i < nKept; ++i) {
+            double prod = ((dl[origin[i]] - dl[i]) + mu[i]) / rho;
+            for (int j = 0; j < nKept; ++j) {
+                if (j != i) {
+                    prod *= ((dl[origin[j]] - dl[i]) + mu[j]) / (dl[j] - dl[i]);
+                }
+            }
+            wHat[i] = FastMath.copySign(FastMath.sqrt(FastMath.abs(prod)), w[i]);
+        }
+
+        // eigenvectors of the rank-one modified diagonal matrix
+        final double[][] u = new double[nKept][nKept];
+        runInRanges(executor, nKept, new RangeTask() {
+            /** {@inheritDoc} */
+            public void run(final int from, final int to) {
+                for (int j = from; j < to; ++j) {
+                    final double shift = dl[origin[j]];
+                    double norm2 = 0;
+                    for (int i = 0; i < nKept; ++i) {
+                        final double ui = wHat[i] / ((dl[i] - shift) - mu[j]);
+                        u[i][j] = ui;
+                        norm2  += ui * ui;
+                    }
+                    final double inv = 1.0 / FastMath.sqrt(norm2);
+                    for (int i = 0; i < nKept; ++i) {
+                        u[i][j] *= inv;
+                    }
+                }
+            }
+        });
+
+        // assemble the eigen decomposition of the node
+        final double[] lambda = new double[n];
+        for (int j = 0; j < nKept; ++j) {
+            lambda[j] = dl[origin[j]] + mu[j];
+        }
+        for (int j = 0; j < nDeflated; ++j) {
+            lambda[nKept + j] = d[deflated[j]];
+        }
+        final double[][] v = new double[n][n];
+        runInRanges(executor, n, new RangeTask() {
+            /** {@inheritDoc} */
+            public void run(final int from, final int to) {
+                for (int r = from; r < to; ++r) {
+                    final double[] qR = q[r];
+                    final double[] vR = v[r];
+                    final int skipped = (r < n1) ? SUPPORT_BOTTOM : SUPPORT_TOP;
+                    for (int i = 0; i < nKept; ++i) {
+                        final int col = kept[i];
+                        final double qRI = qR[col];
+                        if (support[col] != skipped && qRI != 0) {
+                            final double[] uI = u[i];
+                            for (int j = 0; j < nKept; ++j) {
+                                vR[j] += qRI * uI[j];
+                            }
+                        }
+                    }
+                    for (int j = 0; j < nDeflated; ++j) {
+                        vR[nKept + j] = qR[deflated[j]];
+                    }
+                }
+            }
+        });
+
+        node.lambda = lambda;
+        node.q      = v;
+
+    }
+
+    /**
+     * Finds one root of the secular equation
+     * 1 + &rho; &sum; w<sub>i</sub><sup>2</sup> / (d<sub>i</sub> - &lambda;) = 0.
+     * <p>The root is stored as an offset from its closest pole, which allows
+     * accurate computation of the differences between poles and roots.</p>
+     *
+     * @param dl Poles, in strictly increasing order.
+     * @param w Update vector.
+     * @param rho Rank-one modification factor (must be positive).
+     * @param j Index of the root to compute (between pole j and pole j + 1).
+     * @param origin Array where to store the index of the pole closest to the root.
+     * @param mu Array where to store the offset of the root from its closest pole.
+     */
+    private static void solveSecular(final double[] dl, final double[] w, final double rho,
+                                     final int j, final int[] origin, final double[] mu) {
+
+        final int k = dl.length;
+        final boolean last = j == k - 1;
+
+        // find the closest pole and bracket the root
+        int o;
+        double lower;
+        double upper;
+        if (last) {
+            double norm2 = 0;
+            for (int i = 0; i < k; ++i) {
+                norm2 += w[i] * w[i];
+            }
+            o     = j;
+            lower = 0;
+            upper = rho * norm2;
+        } else {
+            final double mid = 0.5 * (dl[j + 1] - dl[j]);
+            double g = 1;
+            for (int i = 0; i < k; ++i) {
+                g += rho * w[i] * w[i] / ((dl[i] - dl[j]) - mid);
+            }
+            if (g > 0) {
+                o     = j;
+                lower = 0;
+                upper = mid;
+            } else {
+                o     = j + 1;
+                lower = -mid;
+                upper = 0;
+            }
+        }
+        final double shift = dl[o];
+        final double a = dl[j] - shift;
+        final double b = last ? Double.NaN : dl[j + 1] - shift;
+
+        double x = 0.5 * (lower + upper);
+        for (int iter = 0; iter < MAX_SECULAR_ITERATIONS; ++iter) {
+
+            // evaluate the secular function, split at the root interval
+            double psi  = 0;
+            double dPsi = 0;
+            for (int i = 0; i <= j; ++i) {
+                final double t = w[i] / ((dl[i] - shift) - x);
+                psi  += w[i] * t;
+                dPsi += t * t;
+            }
+            double phi  = 0;
+            double dPhi = 0;
+            for (int i = j + 1; i < k; ++i) {
+                final double t = w[i] / ((dl[i] - shift) - x);
+                phi  += w[i] * t;
+                dPhi += t * t;
+            }
+            final double g = 1 + rho * (psi + phi);
+            if (g < 0) {
+                lower = x;
+            } else {
+                upper = x;
+            }
+            if (FastMath.abs(g) <= 8 * Precision.EPSILON * (1 + rho * (FastMath.abs(psi) + phi))) {
+                break;
+            }
+
+            // rational model matching the function near the two closest poles
+            final double aX = a - x;
+            final double s1 = rho * dPsi * aX * aX;
+            double h;
+            if (last) {
+                final double c = g - s1 / aX;
+                h = (c > 0) ? aX + s1 / c : Double.NaN;
+            } else {
+                final double bX = b - x;
+                final double s2 = rho * dPhi * bX * bX;
+                final double c  = g - s1 / aX - s2 / bX;
+                h = quadraticStep(c, c * (aX + bX) + s1 + s2, aX * bX * g, lower - x, upper - x);
+            }
+
+            double xNew = x + h;
+            if (!(xNew > lower && xNew < upper)) {
+                // fall back to bisection
+                xNew = 0.5 * (lower + upper);
+            }
+            if (xNew == x) {
+                break;
+            }
+            x = xNew;
+            if (upper - lower <= 2 * Precision.EPSILON * FastMath.max(FastMath.abs(lower), FastMath.abs(upper))) {
+                break;
+            }
+
+        }
+
+        origin[j] = o;
+        mu[j]     = x;
+
+    }
+
+    /**
+     * Finds the root of c h<sup>2</sup> - &alpha; h + &gamma; = 0 lying in a given interval.
+     *
+     * @param c Quadratic coefficient.
+     * @param alpha Opposite of the linear coefficient.
+     * @param gamma Constant coefficient.
+     * @param min Lower bound of the interval.
+     * @param max Upper bound of the interval.
+     * @return root in the interval, or NaN if none was found.
+     */
+    private static double quadraticStep(final double c, final double alpha, final double gamma,
+                                        final double min, final double max) {
+        if (c == 0) {
+            return gamma / alpha;
+        }
+        final double disc = alpha * alpha - 4 * c * gamma;
+        if (disc < 0) {
+            return Double.NaN;
+        }
+        final double r1 = (alpha + FastMath.copySign(FastMath.sqrt(disc), alpha)) / (2 * c);
+        final double r2 = (r1 == 0) ? 0 : gamma / (c * r1);
+        return (r1 > min && r1 < max) ? r1 : r2;
+    }
+
+    /**
+     * Runs a task over the range [0, n[, split in chunks on an executor if available.
+     *
+     * @param executor Executor (may be null).
+     * @param n Size of the range.
+     * @param task Task to run.
+     */
+    private static void runInRanges(final ExecutorService executor, final int n,
+                                    final RangeTask task) {
+        if (executor == null || n < 2 * LEAF_SIZE) {
+            task.run(0, n);
+        } else {
+            final int[] bounds = ParallelUtils.partition(n, 4 * Runtime.getRuntime().availableProcessors());
+            final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(bounds.length - 1);
+            for (int c = 0; c < bounds.length - 1; ++c) {
+                final int from = bounds[c];
+                final int to   = bounds[c + 1];
+                tasks.add(new Callable<Void>() {
+                    /** {@inheritDoc} */
+                    public Void call() {
+                        task.run(from, to);
+                        return null;
+                    }
+                });
+            }
+            ParallelUtils.invokeAll(executor, tasks);
+        }
+    }
+
+    /** Computation over a range of indices. */
+    private interface RangeTask {
+        /**
+         * Run the computation.
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         */
+        void run(int from, int to);
+    }
+
+    /** Node of the divide-and-conquer tree. */
+    private static class Node {
+
+        /** Index of the first row of the sub-problem. */
+        private final int start;
+
+        /** Size of the sub-problem. */
+        private final int size;
+
+        /** First half (null for leaves or once merged). */
+        private Node left;
+
+        /** Second half (null for leaves or once merged). */
+        private Node right;
+
+        /** Eigenvalues of the sub-problem. */
+        private double[] lambda;
+
+        /** Eigenvectors of the sub-problem, stored as columns. */
+        private double[][] q;
+
+        /**
+         * Simple constructor.
+         * @param start Index of the first row of the sub-problem.
+         * @param size Size of the sub-problem.
+         */
+        Node(final int start, final int size) {
+            this.start = start;
+            this.size  = size;
+        }
+
+        /**
+         * Recursively splits the sub-problem.
+         * @param d Main diagonal, updated with the rank-one tearing.
+         * @param secondary Secondary diagonal.
+         * @param levels Nodes sorted by depth, to which this node is added.
+         * @param depth Depth of this node.
+         */
+        void split(final double[] d, final double[] secondary,
+                   final List<List<Node>> levels, final int depth) {
+            if (levels.size() == depth) {
+                levels.add(new ArrayList<Node>());
+            }
+            levels.get(depth).add(this);
+            if (size > LEAF_SIZE) {
+                final int m = size / 2;
+                final double beta = FastMath.abs(secondary[start + m - 1]);
+                d[start + m - 1] -= beta;
+                d[start + m]     -= beta;
+                left  = new Node(start, m);
+                right = new Node(start + m, size - m);
+                left.split(d, secondary, levels, depth + 1);
+                right.split(d, secondary, levels, depth + 1);
+            }
+        }
+
+        /**
+         * Solves the sub-problem, assuming its children are already solved.
+         * @param d Main diagonal, with the rank-one tearing applied.
+         * @param secondary Secondary diagonal.
+         * @param executor Executor used to distribute a merge (may be null).
+         */
+        void solve(final double[] d, final double[] secondary, final ExecutorService executor) {
+            if (left == null) {
+                final double[] main = new double[size];
+                System.arraycopy(d, start, main, 0, size);
+                final double[] sub = new double[size - 1];
+                System.arraycopy(secondary, start, sub, 0, size - 1);
+                final EigenDecomposition leaf = new EigenDecomposition(main, sub);
+                lambda = leaf.getRealEigenvalues();
+                q      = leaf.getV().getData();
+            } else {
+                merge(this, secondary[start + left.size - 1], executor);
+            }
+        }
+
+    }
+
+}
@@ -17,6 +17,8 @@
 
 package org.apache.commons.math3.linear;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.MathUnsupportedOperationException;
@@ -127,6 +129,79 @@ public class EigenDecomposition {
         }
     }
 
+    /**
+     * Calculates the eigenvalues, and optionally the eigenvectors, of the
+     * given real matrix.
+     * <p>
+     * For symmetric matrices, skipping the eigenvectors avoids accumulating
+     * the implicit QL rotations, which reduces the cost of the iterations from
+     * O(n<sup>3</sup>) to O(n<sup>2</sup>). For general matrices, the
+     * eigenvectors are always computed.
+     * </p>
+     * <p>
+     * If eigenvectors are not computed, the methods that depend on them
+     * ({@link #getV()}, {@link #getVT()}, {@link #getEigenvector(int)},
+     * {@link #getSquareRoot()} and {@link #getSolver()}) throw a {@link
+     * MathUnsupportedOperationException}.
+     * </p>
+     *
+     * @param matrix Matrix to decompose.
+     * @param computeEigenvectors If {@code false}, only the eigenvalues of
+     * symmetric matrices are computed.
+     * @throws MaxCountExceededException if the algorithm fails to converge.
+     * @throws MathArithmeticException if the decomposition of a general matrix
+     * results in a matrix with zero norm
+     * @since 3.2
+     */
+    public EigenDecomposition(final RealMatrix matrix, final boolean computeEigenvectors)
+        throws MathArithmeticException {
+        final double symTol = 10 * matrix.getRowDimension() * matrix.getColumnDimension() * Precision.EPSILON;
+        isSymmetric = MatrixUtils.isSymmetric(matrix, symTol);
+        if (isSymmetric) {
+            transformToTridiagonal(matrix);
+            findEigenVectors(computeEigenvectors ? transformer.getQ().getData() : null);
+        } else {
+            final SchurTransformer t = transformToSchur(matrix);
+            findEigenVectorsFromSchur(t);
+        }
+    }
+
+    /**
+     * Calculates the eigen decomposition of the given real matrix, using the
+     * divide-and-conquer algorithm for symmetric matrices.
+     * <p>
+     * Once reduced to tridiagonal form, symmetric matrices are decomposed
+     * using Cuppen's divide-and-conquer algorithm rather than implicit QL
+     * iterations, which is much faster for large matrices. The independent
+     * sub-problems, and the final change of basis, can be distributed over
+     * several threads by providing an {@link ExecutorService}. General
+     * matrices are decomposed as by {@link #EigenDecomposition(RealMatrix)}.
+     * </p>
+     *
+     * @param matrix Matrix to decompose.
+     * @param executor Executor used to distribute the computation over
+     * several threads (if {@code null}, all computations are performed in the
+     * calling thread).
+     * @throws MaxCountExceededException if the algorithm fails to converge.
+     * @throws MathArithmeticException if the decomposition of a general matrix
+     * results in a matrix with zero norm
+     * @throws org.apache.commons.math3.exception.MathIllegalStateException
+     * if the computation is interrupted
+     * @since 3.2
+     */
+    public EigenDecomposition(final RealMatrix matrix, final ExecutorService executor)
+        throws MathArithmeticException {
+        final double symTol = 10 * matrix.getRowDimension() * matrix.getColumnDimension() * Precision.EPSILON;
+        isSymmetric = MatrixUtils.isSymmetric(matrix, symTol);
+        if (isSymmetric) {
+            transformToTridiagonal(matrix);
+            findEigenVectorsDivideAndConquer(executor);
+        } else {
+            final SchurTransformer t = transformToSchur(matrix);
+            findEigenVectorsFromSchur(t);
+        }
+    }
+
     /**
      * Calculates the eigen decomposition of the given real matrix.
      *
@@ -193,9 +268,13 @@ public class EigenDecomposition {
      * or right-handed system).
      *
      * @return the V matrix.
+     * @throws MathUnsupportedOperationException if the eigenvectors were not
+     * computed.
      */
     public RealMatrix getV() {
 
+        checkEigenvectors();
+
         if (cachedV == null) {
             final int m = eigenvectors.length;
             cachedV = MatrixUtils.createRealMatrix(m, m);
@@ -244,9 +323,13 @@ public class EigenDecomposition {
      * or right-handed system).
      *
      * @return the transpose of the V matrix.
+     * @throws MathUnsupportedOperationException if the eigenvectors were not
+     * computed.
      */
     public RealMatrix getVT() {
 
+        checkEigenvectors();
+
         if (cachedVt == null) {
             final int m = eigenvectors.length;
             cachedVt = MatrixUtils.createRealMatrix(m, m);
@@ -342,9 +425,12 @@ public class EigenDecomposition {
      *
      * @param i Index of the eigenvector (counting from 0).
      * @return a copy of the i<sup>th</sup> eigenvector of the original matrix.
+     * @throws MathUnsupportedOperationException if the eigenvectors were not
+     * computed.
      * @see #getD()
      */
     public RealVector getEigenvector(final int i) {
+        checkEigenvectors();
         return eigenvectors[i].copy();
     }
 
@@ -368,13 +454,15 @@ public class EigenDecomposition {
      *
      * @return the square-root of the matrix.
      * @throws MathUnsupportedOperationException if the matrix is not
-     * symmetric or not positive definite.
+     * symmetric or not positive definite, or if the eigenvectors were not
+     * computed.
      * @since 3.1
      */
     public RealMatrix getSquareRoot() {
         if (!isSymmetric) {
             throw new MathUnsupportedOperationException();
         }
+        checkEigenvectors();
 
         final double[] sqrtEigenValues = new double[realEigenvalues.length];
         for (int i = 0; i < realEigenvalues.length; i++) {
@@ -400,9 +488,10 @@ public class EigenDecomposition {
      *
      * @return a solver
      * @throws MathUnsupportedOperationException if the decomposition resulted in
-     * complex eigenvalues
+     * complex eigenvalues, or if the eigenvectors were not computed
      */
     public DecompositionSolver getSolver() {
+        checkEigenvectors();
         if (hasComplexEigenvalues()) {
             throw new MathUnsupportedOperationException();
         }
@@ -551,6 +640,17 @@ public class EigenDecomposition {
         }
     }
 
+    /**
+     * Check that the eigenvectors have been computed.
+     *
+     * @throws MathUnsupportedOperationException if they were not.
+     */
+    private void checkEigenvectors() {
+        if (eigenvectors == null) {
+            throw new MathUnsupportedOperationException();
+        }
+    }
+
     /**
      * Transforms the matrix to tridiagonal form.
      *
@@ -567,10 +667,10 @@ public class EigenDecomposition {
      * Find eigenvalues and eigenvectors (Dubrulle et al., 1971)
      *
      * @param householderMatrix Householder matrix of the transformation
-     * to tridiagonal form.
+     * to tridiagonal form (null if only eigenvalues are needed).
      */
     private void findEigenVectors(final double[][] householderMatrix) {
-        final double[][]z = householderMatrix.clone();
+        final double[][]z = (householderMatrix == null) ? null : householderMatrix.clone();
         final int n = main.length;
         realEigenvalues = new double[n];
         imagEigenvalues = new double[n];
@@ -658,10 +758,12 @@ public class EigenDecomposition {
                         u = s * t;
                         realEigenvalues[i + 1] = q + u;
                         q = c * t - h;
-                        for (int ia = 0; ia < n; ia++) {
-                            p = z[ia][i + 1];
-                            z[ia][i + 1] = s * z[ia][i] + c * p;
-                            z[ia][i] = c * z[ia][i] - s * p;
+                        if (z != null) {
+                            for (int ia = 0; ia < n; ia++) {
+                                p = z[ia][i + 1];
+                                z[ia][i + 1] = s * z[ia][i] + c * p;
+                                z[ia][i] = c * z[ia][i] - s * p;
+                            }
                         }
                     }
                     if (t == 0.0 && i >= j) {
@@ -674,6 +776,42 @@ public class EigenDecomposition {
             } while (m != j);
         }
 
+        storeSortedEigenVectors(z);
+    }
+
+    /**
+     * Find eigenvalues and eigenvectors using the divide-and-conquer algorithm.
+     *
+     * @param executor Executor used to distribute the computation (may be null).
+     */
+    private void findEigenVectorsDivideAndConquer(final ExecutorService executor) {
+        final DivideAndConquerEigenSolver solver =
+            new DivideAndConquerEigenSolver(main, secondary, executor);
+        final int n = main.length;
+        realEigenvalues = solver.getEigenvaluesRef();
+        imagEigenvalues = new double[n];
+
+        // change basis from the tridiagonal matrix to the original matrix
+        final double[][] z;
+        if (executor == null) {
+            z = transformer.getQ().multiply(new Array2DRowRealMatrix(solver.getEigenvectorsRef(), false)).getData();
+        } else {
+            z = new BlockRealMatrix(transformer.getQ().getData()).
+                multiply(new BlockRealMatrix(solver.getEigenvectorsRef()), executor).getData();
+        }
+
+        storeSortedEigenVectors(z);
+    }
+
+    /**
+     * Sort the eigenvalues in decreasing order and store the eigenvectors.
+     *
+     * @param z Eigenvectors, stored as columns in the same order as the
+     * eigenvalues (null if only eigenvalues are needed).
+     */
+    private void storeSortedEigenVectors(final double[][] z) {
+        final int n = realEigenvalues.length;
+
         //Sort the eigen values (and vectors) in increase order
         for (int i = 0; i < n; i++) {
             int k = i;
@@ -687,16 +825,18 @@ public class EigenDecomposition {
             if (k != i) {
                 realEigenvalues[k] = realEigenvalues[i];
                 realEigenvalues[i] = p;
-                for (int j = 0; j < n; j++) {
-                    p = z[j][i];
-                    z[j][i] = z[j][k];
-                    z[j][k] = p;
+                if (z != null) {
+                    for (int j = 0; j < n; j++) {
+                        p = z[j][i];
+                        z[j][i] = z[j][k];
+                        z[j][k] = p;
+                    }
                 }
             }
         }
 
         // Determine the largest eigen value in absolute term.
-        maxAbsoluteValue = 0;
+        double maxAbsoluteValue = 0;
         for (int i = 0; i < n; i++) {
             if (FastMath.abs(realEigenvalues[i]) > maxAbsoluteValue) {
                 maxAbsoluteValue=FastMath.abs(realEigenvalues[i]);
@@ -710,6 +850,10 @@ public class EigenDecomposition {
                 }
             }
         }
+        if (z == null) {
+            eigenvectors = null;
+            return;
+        }
         eigenvectors = new ArrayRealVector[n];
         final double[] tmp = new double[n];
         for (int i = 0; i < n; i++) {
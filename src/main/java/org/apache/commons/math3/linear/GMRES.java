@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.IterationManager;
+
+/**
+ * <p>
+ * This is an implementation of the restarted Generalized Minimal RESidual
+ * method, GMRES(m), for {@link RealLinearOperator}. Unlike
+ * {@link ConjugateGradient} and {@link SymmLQ}, it does not require the
+ * linear operator to be self-adjoint. It follows the template by <a
+ * href="#BARR1994">Barrett et al. (1994)</a> (figure 2.6), with modified
+ * Gram-Schmidt orthogonalization and Givens rotations, as described by <a
+ * href="#SAAD1986">Saad and Schultz (1986)</a>. The linear system at hand is
+ * A &middot; x = b, and the residual is r = b - A &middot; x.
+ * </p>
+ * <h3>Preconditioning</h3>
+ * <p>
+ * The preconditioner M (an approximation of A<sup>-1</sup>) is applied on the
+ * right, i.e. GMRES is applied to the system A &middot; M &middot; u = b, and
+ * x = M &middot; u. As a consequence, the residual minimized by the method
+ * is the residual of the original system, and the stopping criterion does
+ * not depend on the preconditioner.
+ * </p>
+ * <h3><a id="stopcrit">Default stopping criterion</a></h3>
+ * <p>
+ * A default stopping criterion is implemented. The iterations stop when || r ||
+ * &le; &delta; || b ||, where b is the right-hand side vector, r the current
+ * estimate of the residual, and &delta; a user-specified tolerance. Within a
+ * cycle of m iterations, the norm of r is obtained at no cost from the least
+ * squares problem solved by GMRES, but the current estimate of the solution is
+ * only updated at the end of each cycle, after which the true residual is
+ * computed. The events fired during a cycle therefore report the norm of the
+ * updated residual, together with the estimate of the solution at the
+ * beginning of the cycle.
+ * </p>
+ * <h3>Iteration count</h3>
+ * <p>
+ * In the present context, an iteration should be understood as one evaluation
+ * of the matrix-vector product A &middot; x. The initialization phase, as well
+ * as the computation of the true residual at each restart, therefore count as
+ * one iteration.
+ * </p>
+ * <h3>Breakdown</h3>
+ * <p>
+ * If the Krylov subspace becomes invariant before the end of a cycle, the
+ * cycle ends early. For a singular operator, the least squares problem
+ * is then singular as well, and a {@link SingularOperatorException} is
+ * thrown rather than returning a wrong solution.
+ * </p>
+ * <h3>Memory requirements</h3>
+ * <p>
+ * Besides the vectors x and b, this implementation stores m + 3 vectors of
+ * size n (the dimension of the system). All of them are allocated once, at the
+ * beginning of {@link #solveInPlace(RealLinearOperator, RealLinearOperator,
+ * RealVector, RealVector) solveInPlace}: apart from the vectors returned by
+ * the linear operator and the preconditioner, the iterations do not allocate
+ * any memory.
+ * </p>
+ * <h3>References</h3>
+ * <dl>
+ * <dt><a id="BARR1994">Barret et al. (1994)</a></dt>
+ * <dd>R. Barrett, M. Berry, T. F. Chan, J. Demmel, J. M. Donato, J. Dongarra,
+ * V. Eijkhout, R. Pozo, C. Romine and H. Van der Vorst,
+ * <a href="http://www.netlib.org/linalg/html_templates/Templates.html"><em>
+ * Templates for the Solution of Linear Systems: Building Blocks for Iterative
+ * Methods</em></a>, SIAM</dd>
+ * <dt><a id="SAAD1986">Saad and Schultz (1986)</a></dt>
+ * <dd>Y. Saad and M. H. Schultz, <em>GMRES: A Generalized Minimal Residual
+ * Algorithm for Solving Nonsymmetric Linear Systems</em>, SIAM Journal on
+ * Scientific and Statistical Computing 7(3): 856-869, 1986</dd>
+ * </dl>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class GMRES
+    extends PreconditionedIterativeLinearSolver {
+
+    /** The value of &delta;, for the default stopping criterion. */
+    private final double delta;
+
+    /** The number of iterations between two restarts, m. */
+    private final int restart;
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a>.
+     *
+     * @param maxIterations the maximum number of iterations
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @param restart the number of iterations between two restarts, m
+     * @throws NotStrictlyPositiveException if {@code restart} is not positive
+     */
+    public GMRES(final int maxIterations, final double delta, final int restart)
+        throws NotStrictlyPositiveException {
+        super(maxIterations);
+        if (restart <= 0) {
+            throw new NotStrictlyPositiveException(restart);
+        }
+        this.delta = delta;
+        this.restart = restart;
+    }
+
+    /**
+     * Creates a new instance of this class, with <a href="#stopcrit">default
+     * stopping criterion</a> and custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @param restart the number of iterations between two restarts, m
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     * @throws NotStrictlyPositiveException if {@code restart} is not positive
+     */
+    public GMRES(final IterationManager manager, final double delta,
+                 final int restart)
+        throws NullArgumentException, NotStrictlyPositiveException {
+        super(manager);
+        if (restart <= 0) {
+            throw new NotStrictlyPositiveException(restart);
+        }
+        this.delta = delta;
+        this.restart = restart;
+    }
+
+    /**
+     * Returns the number of iterations between two restarts.
+     *
+     * @return the restart parameter, m
+     */
+    public final int getRestart() {
+        return restart;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector solveInPlace(final RealLinearOperator a,
+                                   final RealLinearOperator m,
+                                   final RealVector b,
+                                   final RealVector x0)
+        throws NullArgumentException, NonSquareOperatorException,
+        DimensionMismatchException, MaxCountExceededException {
+        checkParameters(a, m, b, x0);
+        final IterationManager manager = getIterationManager();
+        // Initialization of default stopping criterion
+        manager.resetIterationCount();
+        final double rmax = delta * b.getNorm();
+        final RealVector bro = RealVector.unmodifiableRealVector(b);
+        final RealVector x = x0;
+        final RealVector xro = RealVector.unmodifiableRealVector(x);
+        final int n = b.getDimension();
+        final int dim = FastMath.min(restart, n);
+
+        // Work arrays, allocated once for all.
+        final double[][] v = new double[dim + 1][n];
+        final ArrayRealVector[] vWrapper = new ArrayRealVector[dim + 1];
+        for (int i = 0; i <= dim; ++i) {
+            vWrapper[i] = new ArrayRealVector(v[i], false);
+        }
+        final double[] z = new double[n];
+        final ArrayRealVector zWrapper = new ArrayRealVector(z, false);
+        final double[] w = new double[n];
+        final ArrayRealVector wWrapper = new ArrayRealVector(w, false);
+        final double[][] h = new double[dim + 1][dim];
+        final double[] cs = new double[dim];
+        final double[] sn = new double[dim];
+        final double[] g = new double[dim + 1];
+        final double[] y = new double[dim];
+
+        // Initialization phase counts as one iteration.
+        manager.incrementIterationCount();
+        double rnorm = residual(a, b, x, v[0]);
+        IterativeLinearSolverEvent evt;
+        evt = new DefaultIterativeLinearSolverEvent(this,
+            manager.getIterations(), xro, bro, rnorm, m);
+        manager.fireInitializationEvent(evt);
+        if (rnorm <= rmax) {
+            manager.fireTerminationEvent(evt);
+            return x;
+        }
+
+        while (true) {
+            // Start a new cycle, with v[0] = r / ||r||.
+            scale(1.0 / rnorm, v[0]);
+            g[0] = rnorm;
+            for (int i = 1; i <= dim; ++i) {
+                g[i] = 0;
+            }
+            int k = 0;
+            boolean converged = false;
+            boolean breakdown = false;
+            while (k < dim && !converged && !breakdown) {
+                manager.incrementIterationCount();
+                evt = new DefaultIterativeLinearSolverEvent(this,
+                    manager.getIterations(), xro, bro, rnorm, m);
+                manager.fireIterationStartedEvent(evt);
+
+                // w = A M v[k], orthogonalized against v[0], ..., v[k]
+                operate(m, vWrapper[k], z);
+                operate(a, zWrapper, w);
+                for (int i = 0; i <= k; ++i) {
+                    final double[] vI = v[i];
+                    double hik = 0;
+                    for (int l = 0; l < n; ++l) {
+                        hik += w[l] * vI[l];
+                    }
+                    for (int l = 0; l < n; ++l) {
+                        w[l] -= hik * vI[l];
+                    }
+                    h[i][k] = hik;
+                }
+                final double wNorm = norm(w);
+                h[k + 1][k] = wNorm;
+                if (wNorm > 0) {
+                    final double[] vNext = v[k + 1];
+                    final double inv = 1.0 / wNorm;
+                    for (int l = 0; l < n; ++l) {
+                        vNext[l] = inv * w[l];
+                    }
+                }
+
+                // Apply previous Givens rotations to the new column of H.
+                for (int i = 0; i < k; ++i) {
+                    final double hi  = h[i][k];
+                    final double hi1 = h[i + 1][k];
+                    h[i][k]     =  cs[i] * hi + sn[i] * hi1;
+                    h[i + 1][k] = -sn[i] * hi + cs[i] * hi1;
+                }
+                // Compute and apply the new rotation, eliminating h[k + 1][k].
+                final double hkk  = h[k][k];
+                final double hk1k = h[k + 1][k];
+                final double rho  = FastMath.hypot(hkk, hk1k);
+                if (rho == 0) {
+                    cs[k] = 1;
+                    sn[k] = 0;
+                } else {
+                    cs[k] = hkk / rho;
+                    sn[k] = hk1k / rho;
+                }
+                h[k][k]     = rho;
+                h[k + 1][k] = 0;
+                g[k + 1] = -sn[k] * g[k];
+                g[k]     =  cs[k] * g[k];
+                rnorm = FastMath.abs(g[k + 1]);
+                ++k;
+                converged = rnorm <= rmax;
+                // A zero norm for w means the Krylov subspace is invariant:
+                // it cannot be extended, and the least squares solution is
+                // exact unless H is singular.
+                breakdown = wNorm == 0;
+
+                evt = new DefaultIterativeLinearSolverEvent(this,
+                    manager.getIterations(), xro, bro, rnorm, m);
+                manager.fireIterationPerformedEvent(evt);
+            }
+
+            // Solve the upper triangular system H y = g, then x = x + M V y.
+            for (int i = k - 1; i >= 0; --i) {
+                double sum = g[i];
+                for (int j = i + 1; j < k; ++j) {
+                    sum -= h[i][j] * y[j];
+                }
+                if (h[i][i] == 0) {
+                    // only possible after a breakdown
+                    throw new SingularOperatorException();
+                }
+                y[i] = sum / h[i][i];
+            }
+            for (int l = 0; l < n; ++l) {
+                w[l] = 0;
+            }
+            for (int i = 0; i < k; ++i) {
+                final double[] vI = v[i];
+                final double yI = y[i];
+                for (int l = 0; l < n; ++l) {
+                    w[l] += yI * vI[l];
+                }
+            }
+            if (m == null) {
+                x.combineToSelf(1, 1, wWrapper);
+            } else {
+                x.combineToSelf(1, 1, m.operate(wWrapper));
+            }
+
+            if (converged) {
+                evt = new DefaultIterativeLinearSolverEvent(this,
+                    manager.getIterations(), xro, bro, rnorm, m);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+
+            // Restart with the true residual, which counts as one iteration.
+            manager.incrementIterationCount();
+            rnorm = residual(a, b, x, v[0]);
+            if (rnorm <= rmax) {
+                evt = new DefaultIterativeLinearSolverEvent(this,
+                    manager.getIterations(), xro, bro, rnorm, m);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Computes the residual r = b - A &middot; x.
+     *
+     * @param a the linear operator A of the system
+     * @param b the right-hand side vector
+     * @param x the current estimate of the solution
+     * @param r the array where the residual is stored
+     * @return the norm of the residual
+     */
+    private static double residual(final RealLinearOperator a, final RealVector b,
+                                   final RealVector x, final double[] r) {
+        final RealVector ax = a.operate(x);
+        for (int i = 0; i < r.length; ++i) {
+            r[i] = b.getEntry(i) - ax.getEntry(i);
+        }
+        return norm(r);
+    }
+
+    /**
+     * Computes the euclidean norm of an array.
+     *
+     * @param x the array
+     * @return the norm of the array
+     */
+    private static double norm(final double[] x) {
+        double sum = 0;
+        for (int i = 0; i < x.length; ++i) {
+            sum += x[i] * x[i];
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /**
+     * Scales an array in place.
+     *
+     * @param factor the scaling factor
+     * @param x the array
+     */
+    private static void scale(final double factor, final double[] x) {
+        for (int i = 0; i < x.length; ++i) {
+            x[i] *= factor;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.Arrays;
+
+/**
+ * Incomplete LU factorization preconditioner with no fill-in, ILU(0).
+ * <p>
+ * The matrix A is approximated by M = LU, where L is unit lower triangular,
+ * U is upper triangular, and both factors have the sparsity pattern of the
+ * corresponding part of A. The factorization is computed on the {@link
+ * CompressedRowRealMatrix compressed row} storage of A (IKJ variant, see
+ * Y. Saad, <em>Iterative Methods for Sparse Linear Systems</em>, 2nd ed.,
+ * algorithm 10.4), so that the memory and time requirements are
+ * proportional to the number of non-zero entries of A.
+ * </p>
+ * <p>
+ * The resulting preconditioner is not symmetric in general, and is meant
+ * for non-symmetric systems. For symmetric positive definite systems, see
+ * {@link IncompleteCholeskyPreconditioner}.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ILU0Preconditioner extends AbstractPreconditioner {
+
+    /** Index of the first entry of each row. */
+    private final int[] rowStarts;
+
+    /** Column indices of the entries. */
+    private final int[] columns;
+
+    /** Index of the diagonal entry of each row. */
+    private final int[] diagonal;
+
+    /** Entries of L (strict lower part, unit diagonal omitted) and U. */
+    private final double[] lu;
+
+    /**
+     * Computes the incomplete factorization of the specified matrix.
+     * <p>
+     * If {@code a} is not a {@link CompressedRowRealMatrix}, it is first
+     * converted to this format.
+     * </p>
+     *
+     * @param a Matrix to factorize.
+     * @throws NonSquareMatrixException if {@code a} is not square.
+     * @throws SingularMatrixException if a zero pivot is encountered.
+     */
+    public ILU0Preconditioner(final RealMatrix a)
+        throws NonSquareMatrixException, SingularMatrixException {
+        super(a.getRowDimension());
+        final long start = System.nanoTime();
+
+        final CompressedRowRealMatrix csr = toCompressedRow(a);
+        final int n = csr.getRowDimension();
+        rowStarts = csr.getRowStarts();
+        columns   = csr.getColumnIndices();
+        diagonal  = findDiagonal(csr);
+        lu        = csr.getValues().clone();
+
+        // position of the entries of the current row, indexed by column
+        final int[] position = new int[n];
+        Arrays.fill(position, -1);
+
+        for (int i = 0; i < n; ++i) {
+            final int rowStart = rowStarts[i];
+            final int rowEnd   = rowStarts[i + 1];
+            for (int p = rowStart; p < rowEnd; ++p) {
+                position[columns[p]] = p;
+            }
+
+            for (int p = rowStart; p < diagonal[i]; ++p) {
+                final int k = columns[p];
+                lu[p] /= lu[diagonal[k]];
+                final double lik = lu[p];
+                for (int q = diagonal[k] + 1; q < rowStarts[k + 1]; ++q) {
+                    final int pos = position[columns[q]];
+                    if (pos >= 0) {
+                        lu[pos] -= lik * lu[q];
+                    }
+                }
+            }
+
+            if (lu[diagonal[i]] == 0) {
+                throw new SingularMatrixException();
+            }
+
+            for (int p = rowStart; p < rowEnd; ++p) {
+                position[columns[p]] = -1;
+            }
+        }
+
+        setSetupTime(System.nanoTime() - start);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void solveInPlace(final double[] b) {
+        final int n = b.length;
+
+        // forward substitution, L y = b (unit diagonal)
+        for (int i = 0; i < n; ++i) {
+            double sum = b[i];
+            for (int p = rowStarts[i]; p < diagonal[i]; ++p) {
+                sum -= lu[p] * b[columns[p]];
+            }
+            b[i] = sum;
+        }
+
+        // backward substitution, U x = y
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = b[i];
+            for (int p = diagonal[i] + 1; p < rowStarts[i + 1]; ++p) {
+                sum -= lu[p] * b[columns[p]];
+            }
+            b[i] = sum / lu[diagonal[i]];
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Incomplete Cholesky factorization preconditioner with no fill-in, IC(0).
+ * <p>
+ * The symmetric positive definite matrix A is approximated by
+ * M = LL<sup>T</sup>, where L is lower triangular and has the sparsity
+ * pattern of the lower triangular part of A. Only the lower triangular part
+ * of A is read. The factorization is computed row by row on the {@link
+ * CompressedRowRealMatrix compressed row} storage of A, so that the memory
+ * and time requirements are proportional to the number of non-zero entries
+ * of A.
+ * </p>
+ * <p>
+ * The resulting preconditioner is symmetric positive definite and can
+ * therefore be used with {@link ConjugateGradient} and {@link SymmLQ}.
+ * The incomplete factorization of some positive definite matrices breaks
+ * down (a non-positive pivot appears). This cannot happen for symmetric
+ * M-matrices, such as discretized Laplacians.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class IncompleteCholeskyPreconditioner extends AbstractPreconditioner {
+
+    /** Index of the first entry of each row of L. */
+    private final int[] rowStarts;
+
+    /** Column indices of the entries of L. */
+    private final int[] columns;
+
+    /** Entries of L, the diagonal entry being the last one of each row. */
+    private final double[] l;
+
+    /**
+     * Computes the incomplete factorization of the specified matrix.
+     * <p>
+     * If {@code a} is not a {@link CompressedRowRealMatrix}, it is first
+     * converted to this format.
+     * </p>
+     *
+     * @param a Matrix to factorize.
+     * @throws NonSquareMatrixException if {@code a} is not square.
+     * @throws NonPositiveDefiniteMatrixException if a non-positive pivot
+     * is encountered.
+     */
+    public IncompleteCholeskyPreconditioner(final RealMatrix a)
+        throws NonSquareMatrixException, NonPositiveDefiniteMatrixException {
+        super(a.getRowDimension());
+        final long start = System.nanoTime();
+
+        final CompressedRowRealMatrix csr = toCompressedRow(a);
+        final int n = csr.getRowDimension();
+        final int[]    aStarts  = csr.getRowStarts();
+        final int[]    aColumns = csr.getColumnIndices();
+        final double[] aValues  = csr.getValues();
+
+        // extract the lower triangular part of A
+        rowStarts = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            int count = 0;
+            for (int p = aStarts[i]; p < aStarts[i + 1] && aColumns[p] <= i; ++p) {
+                ++count;
+            }
+            rowStarts[i + 1] = rowStarts[i] + count;
+        }
+        columns = new int[rowStarts[n]];
+        l       = new double[rowStarts[n]];
+        for (int i = 0; i < n; ++i) {
+            final int length = rowStarts[i + 1] - rowStarts[i];
+            System.arraycopy(aColumns, aStarts[i], columns, rowStarts[i], length);
+            System.arraycopy(aValues,  aStarts[i], l,       rowStarts[i], length);
+        }
+
+        // entries of the current row of L, indexed by column
+        final double[] work = new double[n];
+
+        for (int i = 0; i < n; ++i) {
+            final int rowStart = rowStarts[i];
+            final int diag     = rowStarts[i + 1] - 1;
+            if (diag < rowStart || columns[diag] != i) {
+                throw new NonPositiveDefiniteMatrixException(0, i, 0);
+            }
+
+            // off-diagonal entries: l_ik = (a_ik - sum_{j<k} l_ij l_kj) / l_kk
+            for (int p = rowStart; p < diag; ++p) {
+                final int k = columns[p];
+                double sum = l[p];
+                final int kDiag = rowStarts[k + 1] - 1;
+                for (int q = rowStarts[k]; q < kDiag; ++q) {
+                    sum -= work[columns[q]] * l[q];
+                }
+                l[p] = sum / l[kDiag];
+                work[k] = l[p];
+            }
+
+            // diagonal entry: l_ii = sqrt(a_ii - sum_{j<i} l_ij^2)
+            double pivot = l[diag];
+            for (int p = rowStart; p < diag; ++p) {
+                pivot -= l[p] * l[p];
+                work[columns[p]] = 0;
+            }
+            if (pivot <= 0) {
+                throw new NonPositiveDefiniteMatrixException(pivot, i, 0);
+            }
+            l[diag] = FastMath.sqrt(pivot);
+        }
+
+        setSetupTime(System.nanoTime() - start);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void solveInPlace(final double[] b) {
+        final int n = b.length;
+
+        // forward substitution, L y = b
+        for (int i = 0; i < n; ++i) {
+            final int diag = rowStarts[i + 1] - 1;
+            double sum = b[i];
+            for (int p = rowStarts[i]; p < diag; ++p) {
+                sum -= l[p] * b[columns[p]];
+            }
+            b[i] = sum / l[diag];
+        }
+
+        // backward substitution, L^T x = y, traversing L by rows
+        for (int i = n - 1; i >= 0; --i) {
+            final int diag = rowStarts[i + 1] - 1;
+            final double xi = b[i] / l[diag];
+            b[i] = xi;
+            for (int p = rowStarts[i]; p < diag; ++p) {
+                b[columns[p]] -= l[p] * xi;
+            }
+        }
+    }
+
+}
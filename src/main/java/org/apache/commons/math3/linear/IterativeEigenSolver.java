@@ -0,0 +1,745 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathArithmeticException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.IterationManager;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.Precision;
+
+/**
+ * This abstract class defines an iterative solver for the partial eigenvalue
+ * problem A &middot; x = &lambda; x, where only a few eigenvalues located at
+ * one end of the spectrum of A are sought.
+ * <p>
+ * The linear operator A is only accessed through
+ * {@link RealLinearOperator#operate(RealVector) matrix-vector products}, so
+ * it may be sparse, or not even stored at all. The solver builds an
+ * orthonormal basis V of a Krylov subspace of dimension m, together with the
+ * projection H = V<sup>T</sup> &middot; A &middot; V, and uses the
+ * eigenpairs (&theta;, y) of the small matrix H as approximations
+ * (&theta;, V &middot; y) of the eigenpairs of A (the so-called <em>Ritz
+ * pairs</em>). When the basis reaches its maximal dimension without all the
+ * sought Ritz pairs having converged, the solver is <em>restarted</em>: the
+ * basis is compressed to the subspace spanned by the most promising Ritz
+ * vectors, and is then expanded again. This is the thick-restart scheme of
+ * Wu and Simon for the symmetric case, and its Krylov-Schur generalization by
+ * Stewart for the general case. Memory requirements are therefore O(n m),
+ * n being the dimension of the operator.
+ * </p>
+ * <p>
+ * In what follows, one <em>iteration</em> is one expansion of the basis up
+ * to its maximal dimension, followed by the extraction of the Ritz pairs.
+ * Each iteration therefore requires at most m products of the operator with
+ * a vector. A Ritz pair (&theta;, x) is considered as converged when the norm
+ * of its residual ||A &middot; x - &theta; x|| (which is computed at no
+ * cost) is smaller than &delta; &middot; ||H||, where &delta; is the
+ * tolerance specified at construction of the solver, and ||H|| is estimated
+ * by the largest magnitude of the Ritz values.
+ * </p>
+ * <p>
+ * The following events are fired by the
+ * {@link IterationManager} attached to the solver: one
+ * {@link IterationManager#fireInitializationEvent(org.apache.commons.math3.util.IterationEvent)
+ * initialization event} once the starting vector is set,
+ * {@link IterationManager#fireIterationStartedEvent(org.apache.commons.math3.util.IterationEvent)
+ * iteration started} and
+ * {@link IterationManager#fireIterationPerformedEvent(org.apache.commons.math3.util.IterationEvent)
+ * iteration performed} events around each iteration, and one
+ * {@link IterationManager#fireTerminationEvent(org.apache.commons.math3.util.IterationEvent)
+ * termination event} once all sought eigenpairs have converged. These events
+ * are instances of {@link IterativeEigenSolverEvent}.
+ * </p>
+ *
+ * @see LanczosEigenSolver
+ * @see ArnoldiEigenSolver
+ * @see <a href="http://dx.doi.org/10.1137/S0895479898334605">K. Wu and
+ * H. Simon, Thick-Restart Lanczos Method for Large Symmetric Eigenvalue
+ * Problems, SIAM J. Matrix Anal. Appl., 22(2), 2000</a>
+ * @see <a href="http://dx.doi.org/10.1137/S0895479800371529">G. W. Stewart,
+ * A Krylov-Schur Algorithm for Large Eigenproblems, SIAM J. Matrix Anal.
+ * Appl., 23(3), 2001</a>
+ * @version $Id$
+ * @since 3.2
+ */
+public abstract class IterativeEigenSolver {
+
+    /** Part of the spectrum sought by the solver. */
+    public static enum Target {
+
+        /** Eigenvalues with largest magnitude. */
+        LARGEST_MAGNITUDE,
+
+        /** Eigenvalues with largest real part. */
+        LARGEST_REAL,
+
+        /** Eigenvalues with smallest real part. */
+        SMALLEST_REAL
+
+    }
+
+    /** Minimal default dimension of the Krylov subspace. */
+    private static final int MIN_SUBSPACE_DIMENSION = 20;
+
+    /** The object in charge of managing the iterations. */
+    private final IterationManager manager;
+
+    /** Tolerance on the norm of the residuals of the Ritz pairs. */
+    private final double delta;
+
+    /**
+     * Random generator used for the starting vector and to leave invariant
+     * subspaces.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and a {@link Well19937c} random generator.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     */
+    public IterativeEigenSolver(final int maxIterations, final double delta) {
+        this(maxIterations, delta, new Well19937c());
+    }
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and custom random generator. Using a generator built with a fixed seed
+     * makes the results of the solver reproducible.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code random} is {@code null}
+     */
+    public IterativeEigenSolver(final int maxIterations, final double delta,
+                                final RandomGenerator random)
+        throws NullArgumentException {
+        this(new IterationManager(maxIterations), delta, random);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and a {@link Well19937c} random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public IterativeEigenSolver(final IterationManager manager, final double delta)
+        throws NullArgumentException {
+        this(manager, delta, new Well19937c());
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and custom random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code manager} or {@code random} is
+     * {@code null}
+     */
+    public IterativeEigenSolver(final IterationManager manager, final double delta,
+                                final RandomGenerator random)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(manager);
+        MathUtils.checkNotNull(random);
+        this.manager = manager;
+        this.delta = delta;
+        this.random = random;
+    }
+
+    /**
+     * Returns the iteration manager attached to this solver.
+     *
+     * @return the manager
+     */
+    public IterationManager getIterationManager() {
+        return manager;
+    }
+
+    /**
+     * Returns the tolerance on the norm of the residuals of the Ritz pairs.
+     *
+     * @return the tolerance, relative to the norm of the operator
+     */
+    public final double getTolerance() {
+        return delta;
+    }
+
+    /**
+     * Returns {@code true} if the solver assumes the operator is symmetric.
+     *
+     * @return {@code true} if the operator is assumed symmetric
+     */
+    protected abstract boolean isSymmetric();
+
+    /**
+     * Computes a few eigenpairs of the linear operator A, using the default
+     * dimension of the Krylov subspace and a starting vector drawn from the
+     * random generator of the solver. The
+     * default dimension is the largest of 20 and 2 &middot; nev + 1 (but no
+     * larger than the dimension of A).
+     *
+     * @param a the linear operator A
+     * @param nev the number of eigenpairs to compute
+     * @param target the part of the spectrum sought
+     * @return the computed eigenpairs
+     * @throws NullArgumentException if one of the parameters is {@code null}
+     * @throws NonSquareOperatorException if {@code a} is not square
+     * @throws NotStrictlyPositiveException if {@code nev} is not positive
+     * @throws NumberIsTooLargeException if {@code nev} is too large with
+     * respect to the dimension of {@code a}
+     * @throws MaxCountExceededException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.apache.commons.math3.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public PartialEigenDecomposition solve(final RealLinearOperator a, final int nev,
+                                           final Target target)
+        throws NullArgumentException, NonSquareOperatorException,
+        NotStrictlyPositiveException, NumberIsTooLargeException,
+        MaxCountExceededException {
+        MathUtils.checkNotNull(a);
+        final int n = a.getColumnDimension();
+        final int ncv = FastMath.min(n, FastMath.max(MIN_SUBSPACE_DIMENSION, 2 * nev + 1));
+        return solve(a, nev, target, ncv, null);
+    }
+
+    /**
+     * Computes a few eigenpairs of the linear operator A.
+     * <p>
+     * The dimension m of the Krylov subspace must be larger than the number
+     * of sought eigenpairs: by at least 1 for symmetric solvers, and at least
+     * 2 for general solvers (as complex conjugate eigenvalues must be kept
+     * together). Larger subspaces usually reduce the number of restarts, at
+     * the expense of memory and of the work per iteration.
+     * </p>
+     *
+     * @param a the linear operator A
+     * @param nev the number of eigenpairs to compute
+     * @param target the part of the spectrum sought
+     * @param ncv the maximal dimension m of the Krylov subspace
+     * @param v0 the starting vector (if {@code null}, a vector drawn from the
+     * random generator of the solver is used)
+     * @return the computed eigenpairs
+     * @throws NullArgumentException if {@code a} or {@code target} is
+     * {@code null}
+     * @throws NonSquareOperatorException if {@code a} is not square
+     * @throws DimensionMismatchException if {@code v0} has a dimension
+     * inconsistent with {@code a}
+     * @throws NotStrictlyPositiveException if {@code nev} is not positive
+     * @throws NumberIsTooSmallException if {@code ncv} is too small with
+     * respect to {@code nev}
+     * @throws NumberIsTooLargeException if {@code ncv} is larger than the
+     * dimension of {@code a}
+     * @throws MathArithmeticException if {@code v0} is the null vector
+     * @throws MaxCountExceededException at exhaustion of the iteration count,
+     * unless a custom
+     * {@link org.apache.commons.math3.util.Incrementor.MaxCountExceededCallback callback}
+     * has been set at construction of the {@link IterationManager}
+     */
+    public PartialEigenDecomposition solve(final RealLinearOperator a, final int nev,
+                                           final Target target, final int ncv,
+                                           final RealVector v0)
+        throws NullArgumentException, NonSquareOperatorException,
+        DimensionMismatchException, NotStrictlyPositiveException,
+        NumberIsTooSmallException, NumberIsTooLargeException,
+        MathArithmeticException, MaxCountExceededException {
+
+        MathUtils.checkNotNull(a);
+        MathUtils.checkNotNull(target);
+        final int n = a.getColumnDimension();
+        if (a.getRowDimension() != n) {
+            throw new NonSquareOperatorException(a.getRowDimension(), n);
+        }
+        if (nev <= 0) {
+            throw new NotStrictlyPositiveException(nev);
+        }
+        final boolean symmetric = isSymmetric();
+        final int minNcv = nev + (symmetric ? 1 : 2);
+        if (ncv < minNcv) {
+            throw new NumberIsTooSmallException(ncv, minNcv, true);
+        }
+        if (ncv > n) {
+            throw new NumberIsTooLargeException(ncv, n, true);
+        }
+        if (v0 != null && v0.getDimension() != n) {
+            throw new DimensionMismatchException(v0.getDimension(), n);
+        }
+
+        final double[][] v = new double[ncv + 1][];
+        final double[][] h = new double[ncv + 1][ncv];
+        if (v0 == null) {
+            v[0] = randomVector(random, n);
+        } else {
+            v[0] = v0.toArray();
+        }
+        final double v0Norm = norm(v[0]);
+        if (v0Norm == 0) {
+            throw new MathArithmeticException();
+        }
+        scale(1 / v0Norm, v[0]);
+
+        manager.resetIterationCount();
+        IterativeEigenSolverEvent evt =
+            new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                          new double[0], new double[0], new double[0], 0);
+        manager.fireInitializationEvent(evt);
+
+        int k = 0;
+        while (true) {
+            manager.incrementIterationCount();
+            evt = new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                evt.getRealRitzValues(),
+                                                evt.getImagRitzValues(),
+                                                evt.getResidualNorms(),
+                                                evt.getConvergedCount());
+            manager.fireIterationStartedEvent(evt);
+
+            // expand the Krylov decomposition A V = V H + f e^T up to ncv vectors
+            for (int j = k; j < ncv; ++j) {
+                expand(a, v, h, j, random);
+            }
+
+            // extract the Ritz pairs
+            final double[][] projected = new double[ncv][ncv];
+            for (int i = 0; i < ncv; ++i) {
+                System.arraycopy(h[i], 0, projected[i], 0, ncv);
+            }
+            if (symmetric) {
+                for (int i = 0; i < ncv; ++i) {
+                    for (int j = 0; j < i; ++j) {
+                        final double mean = 0.5 * (projected[i][j] + projected[j][i]);
+                        projected[i][j] = mean;
+                        projected[j][i] = mean;
+                    }
+                }
+            }
+            final EigenDecomposition ed =
+                new EigenDecomposition(new Array2DRowRealMatrix(projected, false));
+            final double[] re = ed.getRealEigenvalues();
+            final double[] im = ed.getImagEigenvalues();
+            final double[][] y = ed.getVT().getData();
+            final double beta = h[ncv][ncv - 1];
+
+            // sort the Ritz values, keeping complex conjugate pairs together
+            final List<int[]> groups = sortedGroups(re, im, target);
+            double hNorm = 0;
+            for (int i = 0; i < ncv; ++i) {
+                hNorm = FastMath.max(hNorm, FastMath.hypot(re[i], im[i]));
+            }
+            final double threshold = delta * hNorm;
+
+            final List<int[]> wanted = new ArrayList<int[]>();
+            int count = 0;
+            int converged = 0;
+            int convergedWanted = 0;
+            final double[] residuals = new double[ncv];
+            for (final int[] group : groups) {
+                final double r = residual(y, group, beta);
+                for (final int index : group) {
+                    residuals[index] = r;
+                }
+                final boolean isConverged = r <= threshold;
+                if (isConverged) {
+                    converged += group.length;
+                }
+                if (count < nev) {
+                    wanted.add(group);
+                    count += group.length;
+                    if (isConverged) {
+                        convergedWanted += group.length;
+                    }
+                }
+            }
+
+            final double[] wantedRe = new double[count];
+            final double[] wantedIm = new double[count];
+            final double[] wantedResiduals = new double[count];
+            int index = 0;
+            for (final int[] group : wanted) {
+                for (final int i : group) {
+                    wantedRe[index] = re[i];
+                    wantedIm[index] = im[i];
+                    wantedResiduals[index] = residuals[i];
+                    ++index;
+                }
+            }
+            evt = new IterativeEigenSolverEvent(this, manager.getIterations(),
+                                                wantedRe, wantedIm, wantedResiduals,
+                                                convergedWanted);
+            manager.fireIterationPerformedEvent(evt);
+
+            if (convergedWanted == count) {
+                // all sought eigenpairs have converged, build the Ritz vectors
+                final RealVector[] vectors = new RealVector[count];
+                index = 0;
+                for (final int[] group : wanted) {
+                    double yNorm2 = 0;
+                    for (final int i : group) {
+                        final double yINorm = norm(y[i]);
+                        yNorm2 += yINorm * yINorm;
+                    }
+                    final double inv = 1 / FastMath.sqrt(yNorm2);
+                    for (final int i : group) {
+                        final double[] x = combine(v, y[i], ncv);
+                        scale(inv, x);
+                        vectors[index++] = new ArrayRealVector(x, false);
+                    }
+                }
+                manager.fireTerminationEvent(evt);
+                return new PartialEigenDecomposition(wantedRe, wantedIm, vectors, wantedResiduals);
+            }
+
+            // restart, keeping more vectors than sought to speed up convergence
+            final int keepTarget = count + FastMath.min(converged, (ncv - count) / 2);
+            final List<double[]> kept = new ArrayList<double[]>();
+            for (final int[] group : groups) {
+                if (kept.size() >= keepTarget) {
+                    break;
+                }
+                if (kept.size() + group.length > ncv - 1) {
+                    break;
+                }
+                for (final int i : group) {
+                    kept.add(y[i].clone());
+                }
+            }
+            k = restart(v, h, orthonormalize(kept), projected, beta);
+        }
+    }
+
+    /**
+     * Expands the Krylov decomposition by one vector.
+     *
+     * @param a the linear operator
+     * @param v the basis vectors (vector {@code j} is the last one already set)
+     * @param h the projected matrix
+     * @param j the index of the vector to which the operator is applied
+     * @param random random generator used to handle invariant subspaces
+     */
+    private static void expand(final RealLinearOperator a, final double[][] v,
+                               final double[][] h, final int j,
+                               final RandomGenerator random) {
+        final double[] w = a.operate(new ArrayRealVector(v[j], false)).toArray();
+        final double wNorm = norm(w);
+        orthogonalize(w, v, j + 1, h, j);
+        double beta = norm(w);
+        if (beta <= Precision.EPSILON * wNorm || beta == 0) {
+            // the subspace is invariant, continue with an arbitrary new direction
+            beta = 0;
+            final double[] r = randomVector(random, w.length);
+            final double rNorm = norm(r);
+            orthogonalize(r, v, j + 1, null, j);
+            final double norm = norm(r);
+            if (norm <= Precision.EPSILON * rNorm) {
+                // the basis already spans the whole space
+                Arrays.fill(r, 0.0);
+            } else {
+                scale(1 / norm, r);
+            }
+            v[j + 1] = r;
+        } else {
+            scale(1 / beta, w);
+            v[j + 1] = w;
+        }
+        h[j + 1][j] = beta;
+    }
+
+    /**
+     * Orthogonalizes a vector against the first vectors of a basis, using
+     * classical Gram-Schmidt with one step of reorthogonalization.
+     *
+     * @param w the vector to orthogonalize (modified in place)
+     * @param v the orthonormal basis
+     * @param count the number of basis vectors to use
+     * @param h the matrix where the coefficients are accumulated (may be
+     * {@code null})
+     * @param column the column of {@code h} where the coefficients are accumulated
+     */
+    private static void orthogonalize(final double[] w, final double[][] v, final int count,
+                                      final double[][] h, final int column) {
+        final double[] c = new double[count];
+        for (int pass = 0; pass < 2; ++pass) {
+            for (int i = 0; i < count; ++i) {
+                final double[] vI = v[i];
+                double dot = 0;
+                for (int l = 0; l < w.length; ++l) {
+                    dot += vI[l] * w[l];
+                }
+                c[i] = dot;
+            }
+            for (int i = 0; i < count; ++i) {
+                final double[] vI = v[i];
+                final double cI = c[i];
+                for (int l = 0; l < w.length; ++l) {
+                    w[l] -= cI * vI[l];
+                }
+                if (h != null) {
+                    h[i][column] += cI;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compresses the Krylov decomposition to a subspace.
+     *
+     * @param v the basis vectors (modified in place)
+     * @param h the projected matrix (modified in place)
+     * @param y the orthonormal vectors spanning the kept subspace, in the
+     * coordinates of the current basis
+     * @param projected the current projected matrix
+     * @param beta the norm of the current residual
+     * @return the dimension of the compressed decomposition
+     */
+    private static int restart(final double[][] v, final double[][] h, final double[][] y,
+                               final double[][] projected, final double beta) {
+        final int ncv = h[0].length;
+        final int k = y.length;
+
+        // new basis vectors
+        final double[][] newV = new double[k][];
+        for (int i = 0; i < k; ++i) {
+            newV[i] = combine(v, y[i], ncv);
+        }
+        System.arraycopy(newV, 0, v, 0, k);
+        v[k] = v[ncv];
+        for (int i = k + 1; i <= ncv; ++i) {
+            v[i] = null;
+        }
+
+        // new projected matrix Y^T H Y, and residual coupling
+        final double[][] hy = new double[k][ncv];
+        for (int j = 0; j < k; ++j) {
+            final double[] yJ = y[j];
+            for (int i = 0; i < ncv; ++i) {
+                final double[] pI = projected[i];
+                double sum = 0;
+                for (int l = 0; l < ncv; ++l) {
+                    sum += pI[l] * yJ[l];
+                }
+                hy[j][i] = sum;
+            }
+        }
+        for (final double[] row : h) {
+            Arrays.fill(row, 0.0);
+        }
+        for (int i = 0; i < k; ++i) {
+            final double[] yI = y[i];
+            for (int j = 0; j < k; ++j) {
+                final double[] hyJ = hy[j];
+                double sum = 0;
+                for (int l = 0; l < ncv; ++l) {
+                    sum += yI[l] * hyJ[l];
+                }
+                h[i][j] = sum;
+            }
+        }
+        for (int j = 0; j < k; ++j) {
+            h[k][j] = beta * y[j][ncv - 1];
+        }
+        return k;
+    }
+
+    /**
+     * Orthonormalizes a set of vectors, using modified Gram-Schmidt with
+     * one step of reorthogonalization. Vectors which are numerically
+     * dependent on the previous ones are dropped.
+     *
+     * @param vectors the vectors to orthonormalize
+     * @return the orthonormalized vectors
+     */
+    private static double[][] orthonormalize(final List<double[]> vectors) {
+        final List<double[]> basis = new ArrayList<double[]>();
+        for (final double[] w : vectors) {
+            final double wNorm = norm(w);
+            for (int pass = 0; pass < 2; ++pass) {
+                for (final double[] q : basis) {
+                    double dot = 0;
+                    for (int l = 0; l < w.length; ++l) {
+                        dot += q[l] * w[l];
+                    }
+                    for (int l = 0; l < w.length; ++l) {
+                        w[l] -= dot * q[l];
+                    }
+                }
+            }
+            final double norm = norm(w);
+            if (norm > FastMath.sqrt(Precision.EPSILON) * wNorm) {
+                scale(1 / norm, w);
+                basis.add(w);
+            }
+        }
+        return basis.toArray(new double[basis.size()][]);
+    }
+
+    /**
+     * Sorts the Ritz values according to the target, keeping complex
+     * conjugate pairs together.
+     *
+     * @param re the real parts of the Ritz values
+     * @param im the imaginary parts of the Ritz values
+     * @param target the part of the spectrum sought
+     * @return the sorted groups of indices (singletons for real Ritz values,
+     * pairs for complex conjugate Ritz values)
+     */
+    private static List<int[]> sortedGroups(final double[] re, final double[] im,
+                                            final Target target) {
+        final List<int[]> groups = new ArrayList<int[]>();
+        for (int i = 0; i < re.length; ++i) {
+            if (im[i] != 0 && i + 1 < re.length) {
+                groups.add(new int[] { i, i + 1 });
+                ++i;
+            } else {
+                groups.add(new int[] { i });
+            }
+        }
+        Collections.sort(groups, new Comparator<int[]>() {
+            /** {@inheritDoc} */
+            public int compare(final int[] g1, final int[] g2) {
+                final int i1 = g1[0];
+                final int i2 = g2[0];
+                switch (target) {
+                case LARGEST_MAGNITUDE :
+                    return Double.compare(FastMath.hypot(re[i2], im[i2]),
+                                          FastMath.hypot(re[i1], im[i1]));
+                case LARGEST_REAL :
+                    return Double.compare(re[i2], re[i1]);
+                default :
+                    return Double.compare(re[i1], re[i2]);
+                }
+            }
+        });
+        return groups;
+    }
+
+    /**
+     * Computes the norm of the residual of a Ritz pair. If (&theta;, y) is
+     * an eigenpair of H, the residual of (&theta;, V y) is &beta; e<sup>T</sup> y.
+     *
+     * @param y the eigenvectors of the projected matrix, one per row
+     * @param group the indices of the rows holding the eigenvector (two rows,
+     * holding the real and imaginary parts, for complex eigenvectors)
+     * @param beta the norm of the residual of the Krylov decomposition
+     * @return the norm of the residual of the normalized Ritz vector
+     */
+    private static double residual(final double[][] y, final int[] group, final double beta) {
+        double last2 = 0;
+        double norm2 = 0;
+        for (final int i : group) {
+            final double[] yI = y[i];
+            final double last = yI[yI.length - 1];
+            final double yINorm = norm(yI);
+            last2 += last * last;
+            norm2 += yINorm * yINorm;
+        }
+        return FastMath.abs(beta) * FastMath.sqrt(last2 / norm2);
+    }
+
+    /**
+     * Computes a linear combination of basis vectors.
+     *
+     * @param v the basis vectors
+     * @param coefficients the coefficients of the combination
+     * @param count the number of basis vectors to combine
+     * @return the linear combination
+     */
+    private static double[] combine(final double[][] v, final double[] coefficients,
+                                    final int count) {
+        final double[] x = new double[v[0].length];
+        for (int i = 0; i < count; ++i) {
+            final double c = coefficients[i];
+            if (c != 0) {
+                final double[] vI = v[i];
+                for (int l = 0; l < x.length; ++l) {
+                    x[l] += c * vI[l];
+                }
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Draws a random vector with independent Gaussian components.
+     *
+     * @param random the random generator
+     * @param n the dimension of the vector
+     * @return a new random vector
+     */
+    private static double[] randomVector(final RandomGenerator random, final int n) {
+        final double[] r = new double[n];
+        for (int i = 0; i < n; ++i) {
+            r[i] = random.nextGaussian();
+        }
+        return r;
+    }
+
+    /**
+     * Computes the euclidean norm of a vector.
+     *
+     * @param x the vector
+     * @return the norm of the vector
+     */
+    private static double norm(final double[] x) {
+        double sum = 0;
+        for (final double xI : x) {
+            sum += xI * xI;
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /**
+     * Scales a vector in place.
+     *
+     * @param factor the scaling factor
+     * @param x the vector
+     */
+    private static void scale(final double factor, final double[] x) {
+        for (int i = 0; i < x.length; ++i) {
+            x[i] *= factor;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.util.IterationEvent;
+
+/**
+ * The class of all events occurring during the iterations of an
+ * {@link IterativeEigenSolver}. The events hold the current approximations
+ * (Ritz values) of the sought eigenvalues, sorted according to the
+ * {@link IterativeEigenSolver.Target target} of the solver, together with
+ * the norms of the residuals of the corresponding Ritz pairs. For events
+ * fired before the first iteration, these arrays are empty.
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class IterativeEigenSolverEvent extends IterationEvent {
+    /** Serialization identifier. */
+    private static final long serialVersionUID = 20130612L;
+
+    /** Real parts of the Ritz values. */
+    private final double[] realRitzValues;
+
+    /** Imaginary parts of the Ritz values. */
+    private final double[] imagRitzValues;
+
+    /** Norms of the residuals of the Ritz pairs. */
+    private final double[] residualNorms;
+
+    /** Number of converged Ritz pairs. */
+    private final int converged;
+
+    /**
+     * Creates a new instance of this class. The arrays are not copied.
+     *
+     * @param source the iterative algorithm on which the event initially
+     * occurred
+     * @param iterations the number of iterations performed at the time
+     * {@code this} event is created
+     * @param realRitzValues the real parts of the current Ritz values
+     * @param imagRitzValues the imaginary parts of the current Ritz values
+     * @param residualNorms the norms of the residuals of the Ritz pairs
+     * @param converged the number of converged Ritz pairs
+     */
+    public IterativeEigenSolverEvent(final Object source, final int iterations,
+                                     final double[] realRitzValues,
+                                     final double[] imagRitzValues,
+                                     final double[] residualNorms,
+                                     final int converged) {
+        super(source, iterations);
+        this.realRitzValues = realRitzValues;
+        this.imagRitzValues = imagRitzValues;
+        this.residualNorms  = residualNorms;
+        this.converged      = converged;
+    }
+
+    /**
+     * Returns a copy of the real parts of the current Ritz values.
+     *
+     * @return the real parts of the Ritz values
+     */
+    public double[] getRealRitzValues() {
+        return realRitzValues.clone();
+    }
+
+    /**
+     * Returns a copy of the imaginary parts of the current Ritz values.
+     *
+     * @return the imaginary parts of the Ritz values
+     */
+    public double[] getImagRitzValues() {
+        return imagRitzValues.clone();
+    }
+
+    /**
+     * Returns a copy of the norms of the residuals of the current Ritz pairs.
+     *
+     * @return the norms of the residuals
+     */
+    public double[] getResidualNorms() {
+        return residualNorms.clone();
+    }
+
+    /**
+     * Returns the number of current Ritz pairs which have converged.
+     *
+     * @return the number of converged Ritz pairs
+     */
+    public int getConvergedCount() {
+        return converged;
+    }
+}
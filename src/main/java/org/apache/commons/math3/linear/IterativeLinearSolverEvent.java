@@ -113,4 +113,59 @@ public abstract class IterativeLinearSolverEvent
     public boolean providesResidual() {
         return false;
     }
+
+    /**
+     * Returns the time spent building the preconditioner. This is an
+     * optional operation: if {@link #providesPreconditionerTiming()} returns
+     * {@code false}, this method throws a
+     * {@link MathUnsupportedOperationException}, which is what the default
+     * implementation does.
+     *
+     * @return the setup time of the preconditioner, in nanoseconds
+     * @see AbstractPreconditioner#getSetupTime()
+     * @since 3.2
+     */
+    public long getPreconditionerSetupTime() {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * Returns the number of applications of the preconditioner at the time
+     * {@code this} event was created. This is an optional operation, see
+     * {@link #getPreconditionerSetupTime()}.
+     *
+     * @return the number of applications of the preconditioner
+     * @see AbstractPreconditioner#getApplyCount()
+     * @since 3.2
+     */
+    public int getPreconditionerApplyCount() {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * Returns the total time spent applying the preconditioner at the time
+     * {@code this} event was created. This is an optional operation, see
+     * {@link #getPreconditionerSetupTime()}.
+     *
+     * @return the cumulated application time of the preconditioner, in
+     * nanoseconds
+     * @see AbstractPreconditioner#getApplyTime()
+     * @since 3.2
+     */
+    public long getPreconditionerApplyTime() {
+        throw new MathUnsupportedOperationException();
+    }
+
+    /**
+     * Returns {@code true} if {@link #getPreconditionerSetupTime()},
+     * {@link #getPreconditionerApplyCount()} and
+     * {@link #getPreconditionerApplyTime()} are supported. The default
+     * implementation returns {@code false}.
+     *
+     * @return {@code false} if the preconditioner timings are not available
+     * @since 3.2
+     */
+    public boolean providesPreconditionerTiming() {
+        return false;
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.commons.math3.linear;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.util.FastMath;
 
 /**
@@ -63,6 +64,8 @@ public class LUDecomposition {
     private RealMatrix cachedU;
     /** Cached value of P. */
     private RealMatrix cachedP;
+    /** Cached solver for the allocation-free solve methods. */
+    private Solver cachedSolver;
 
     /**
      * Calculates the LU-decomposition of the given matrix.
@@ -258,8 +261,68 @@ public class LUDecomposition {
         return new Solver(lu, pivot, singular);
     }
 
+    /**
+     * Solves the linear equation A &times; x = b, writing the solution in a
+     * caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(b)}, but it does
+     * not allocate any memory, so it is suited to solving many systems
+     * sharing the same decomposition.
+     * </p>
+     *
+     * @param b right-hand side of the equation A &times; x = b (not modified)
+     * @param out array where to store the solution (must be different from
+     * {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimension
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[] b, final double[] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        getCachedSolver().solveInto(b, out);
+    }
+
+    /**
+     * Solves the linear equations A &times; X = B for several right-hand
+     * sides, writing the solutions in a caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(B)}, but it does
+     * not allocate any memory. Both arrays are in row layout, with one
+     * column per right-hand side.
+     * </p>
+     *
+     * @param b right-hand sides of the equation A &times; X = B (not modified)
+     * @param out array where to store the solutions (must not share rows
+     * with {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimension or each other
+     * @throws MathIllegalArgumentException if {@code out} shares a row
+     * with {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[][] b, final double[][] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        getCachedSolver().solveInto(b, out);
+    }
+
+    /**
+     * Get the solver used by the allocation-free solve methods.
+     * @return cached solver
+     */
+    private Solver getCachedSolver() {
+        if (cachedSolver == null) {
+            cachedSolver = new Solver(lu, pivot, singular);
+        }
+        return cachedSolver;
+    }
+
     /** Specialized solver. */
-    private static class Solver implements DecompositionSolver {
+    static class Solver implements DecompositionSolver {
 
         /** Entries of LU decomposition. */
         private final double[][] lu;
@@ -276,7 +339,7 @@ public class LUDecomposition {
          * @param pivot pivot permutation associated with LU decomposition
          * @param singular singularity indicator
          */
-        private Solver(final double[][] lu, final int[] pivot, final boolean singular) {
+        Solver(final double[][] lu, final int[] pivot, final boolean singular) {
             this.lu       = lu;
             this.pivot    = pivot;
             this.singular = singular;
@@ -304,6 +367,47 @@ public class LUDecomposition {
                 bp[row] = b.getEntry(pivot[row]);
             }
 
+            solvePermuted(bp);
+            return new ArrayRealVector(bp, false);
+        }
+
+        /**
+         * Solves the linear equation A &times; x = b into a caller-provided array.
+         * @param b right-hand side of the equation
+         * @param out array where to store the solution
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimension
+         * @throws MathIllegalArgumentException if {@code out} is {@code b}
+         * @throws SingularMatrixException if the decomposed matrix is singular
+         */
+        void solveInto(final double[] b, final double[] out) {
+            final int m = pivot.length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != m) {
+                throw new DimensionMismatchException(out.length, m);
+            }
+            MatrixUtils.checkNotAliased(b, out);
+            if (singular) {
+                throw new SingularMatrixException();
+            }
+
+            // Apply permutations to b
+            for (int row = 0; row < m; row++) {
+                out[row] = b[pivot[row]];
+            }
+
+            solvePermuted(out);
+        }
+
+        /**
+         * Solves the linear equation L &times; U &times; x = bp in place.
+         * @param bp permuted right-hand side, replaced by the solution on return
+         */
+        private void solvePermuted(final double[] bp) {
+            final int m = bp.length;
+
             // Solve LY = b
             for (int col = 0; col < m; col++) {
                 final double bpCol = bp[col];
@@ -320,8 +424,6 @@ public class LUDecomposition {
                     bp[i] -= bpCol * lu[i][col];
                 }
             }
-
-            return new ArrayRealVector(bp, false);
         }
 
         /** {@inheritDoc} */
@@ -347,6 +449,58 @@ public class LUDecomposition {
                 }
             }
 
+            solvePermuted(bp, nColB);
+            return new Array2DRowRealMatrix(bp, false);
+        }
+
+        /**
+         * Solves the linear equations A &times; X = B into a caller-provided array.
+         * @param b right-hand sides of the equation, in row layout
+         * @param out array where to store the solutions, in row layout
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimension or each other
+         * @throws MathIllegalArgumentException if {@code out} shares a row
+         * with {@code b}
+         * @throws SingularMatrixException if the decomposed matrix is singular
+         */
+        void solveInto(final double[][] b, final double[][] out) {
+            final int m = pivot.length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != m) {
+                throw new DimensionMismatchException(out.length, m);
+            }
+            MatrixUtils.checkNoSharedRows(b, out);
+            if (singular) {
+                throw new SingularMatrixException();
+            }
+
+            final int nColB = b[0].length;
+
+            // Apply permutations to b
+            for (int row = 0; row < m; row++) {
+                final double[] bRow = b[pivot[row]];
+                if (bRow.length != nColB) {
+                    throw new DimensionMismatchException(bRow.length, nColB);
+                }
+                if (out[row].length != nColB) {
+                    throw new DimensionMismatchException(out[row].length, nColB);
+                }
+                System.arraycopy(bRow, 0, out[row], 0, nColB);
+            }
+
+            solvePermuted(out, nColB);
+        }
+
+        /**
+         * Solves the linear equations L &times; U &times; X = BP in place.
+         * @param bp permuted right-hand sides, replaced by the solutions on return
+         * @param nColB number of right-hand sides
+         */
+        private void solvePermuted(final double[][] bp, final int nColB) {
+            final int m = bp.length;
+
             // Solve LY = b
             for (int col = 0; col < m; col++) {
                 final double[] bpCol = bp[col];
@@ -374,8 +528,6 @@ public class LUDecomposition {
                     }
                 }
             }
-
-            return new Array2DRowRealMatrix(bp, false);
         }
 
         /** {@inheritDoc} */
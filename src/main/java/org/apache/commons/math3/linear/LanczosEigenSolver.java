@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.util.IterationManager;
+
+/**
+ * An implementation of the thick-restart Lanczos method for the computation
+ * of a few eigenpairs of a symmetric linear operator. The operator is
+ * assumed to be symmetric, which is not checked. All the computed
+ * eigenvalues are real, and the eigenvectors are orthonormal.
+ * <p>
+ * The basis is not built with the three-term Lanczos recurrence: each new
+ * vector is orthogonalized against all the previous ones, exactly as in
+ * the Arnoldi process used by {@link ArnoldiEigenSolver}. For a symmetric
+ * operator, this is Lanczos with full reorthogonalization: the projected
+ * matrix is tridiagonal up to rounding errors, and it is explicitly
+ * symmetrized before its eigenpairs are computed, so that the Ritz values
+ * are real and the Ritz vectors orthonormal. Each step therefore costs
+ * O(n j) operations for the j-th basis vector, as Arnoldi does, rather
+ * than the O(n) of the plain recurrence; in exchange, the loss of
+ * orthogonality of the plain recurrence (and the resulting spurious copies
+ * of eigenvalues) cannot occur. See {@link IterativeEigenSolver} for a
+ * description of the restart scheme and of the stopping criterion.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class LanczosEigenSolver extends IterativeEigenSolver {
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and a {@link org.apache.commons.math3.random.Well19937c Well19937c}
+     * random generator.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     */
+    public LanczosEigenSolver(final int maxIterations, final double delta) {
+        super(maxIterations, delta);
+    }
+
+    /**
+     * Creates a new instance of this class, with default iteration manager
+     * and custom random generator.
+     *
+     * @param maxIterations the maximum number of iterations (restarts)
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code random} is {@code null}
+     */
+    public LanczosEigenSolver(final int maxIterations, final double delta,
+                              final RandomGenerator random)
+        throws NullArgumentException {
+        super(maxIterations, delta, random);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and a {@link org.apache.commons.math3.random.Well19937c Well19937c}
+     * random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public LanczosEigenSolver(final IterationManager manager, final double delta)
+        throws NullArgumentException {
+        super(manager, delta);
+    }
+
+    /**
+     * Creates a new instance of this class, with custom iteration manager
+     * and custom random generator.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the tolerance on the norm of the residuals, relative to
+     * the norm of the operator
+     * @param random the random generator used to draw the starting vector
+     * (when none is provided) and new directions when an invariant subspace
+     * is found
+     * @throws NullArgumentException if {@code manager} or {@code random} is
+     * {@code null}
+     */
+    public LanczosEigenSolver(final IterationManager manager, final double delta,
+                              final RandomGenerator random)
+        throws NullArgumentException {
+        super(manager, delta, random);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isSymmetric() {
+        return true;
+    }
+}
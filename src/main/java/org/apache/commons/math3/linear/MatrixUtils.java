@@ -26,6 +26,7 @@ import org.apache.commons.math3.Field;
 import org.apache.commons.math3.FieldElement;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathArithmeticException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.NoDataException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
@@ -609,6 +610,42 @@ public class MatrixUtils {
         }
     }
 
+    /**
+     * Check that a solution array does not share storage with a right-hand side.
+     *
+     * @param b Right-hand side.
+     * @param out Array where the solution is to be stored.
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}.
+     */
+    static void checkNotAliased(final double[] b, final double[] out)
+        throws MathIllegalArgumentException {
+        if (out == b) {
+            throw new MathIllegalArgumentException(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE);
+        }
+    }
+
+    /**
+     * Check that a solutions array does not share any row with a right-hand side.
+     * <p>Row references are compared pairwise, so that the check does not
+     * allocate any memory; its cost is negligible with respect to the
+     * solve itself.</p>
+     *
+     * @param b Right-hand sides, in row layout.
+     * @param out Array where the solutions are to be stored, in row layout.
+     * @throws MathIllegalArgumentException if a row of {@code out} is also
+     * a row of {@code b}.
+     */
+    static void checkNoSharedRows(final double[][] b, final double[][] out)
+        throws MathIllegalArgumentException {
+        for (final double[] outRow : out) {
+            for (final double[] bRow : b) {
+                if (outRow == bRow) {
+                    throw new MathIllegalArgumentException(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE);
+                }
+            }
+        }
+    }
+
     /**
      * Convert a {@link FieldMatrix}/{@link Fraction} matrix to a {@link RealMatrix}.
      * @param m Matrix to convert.
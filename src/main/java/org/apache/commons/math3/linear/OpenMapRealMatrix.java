@@ -306,5 +306,16 @@ public class OpenMapRealMatrix extends AbstractRealMatrix
         return row * columns + column;
     }
 
+    /**
+     * Get a reference to the map storing the non-zero entries.
+     * <p>
+     * Keys are computed as {@code row * columnDimension + column}.
+     * </p>
+     * @return the internal map (not a copy)
+     */
+    OpenIntToDoubleHashMap getEntries() {
+        return entries;
+    }
+
 
 }
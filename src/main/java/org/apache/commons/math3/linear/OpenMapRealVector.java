@@ -211,7 +211,7 @@ public class OpenMapRealVector extends SparseRealVector
      *
      * @return the entries of this instance.
      */
-    private OpenIntToDoubleHashMap getEntries() {
+    OpenIntToDoubleHashMap getEntries() {
         return entries;
     }
 
@@ -234,11 +234,38 @@ public class OpenMapRealVector extends SparseRealVector
         checkVectorDimensions(v.getDimension());
         if (v instanceof OpenMapRealVector) {
             return add((OpenMapRealVector) v);
+        } else if (v instanceof ArrayRealVector) {
+            return ((ArrayRealVector) v).add(this);
         } else {
             return super.add(v);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If {@code v} is also sparse (and is not {@code this}), only its
+     * non-zero entries are visited, and no new storage is allocated unless
+     * the sum has new non-zero entries.</p>
+     *
+     * @since 3.2
+     */
+    @Override
+    public OpenMapRealVector addToSelf(RealVector v)
+        throws DimensionMismatchException {
+        checkVectorDimensions(v.getDimension());
+        if (v instanceof OpenMapRealVector && v != this) {
+            final Iterator iter = ((OpenMapRealVector) v).entries.iterator();
+            while (iter.hasNext()) {
+                iter.advance();
+                final int key = iter.key();
+                setEntry(key, entries.get(key) + iter.value());
+            }
+        } else {
+            super.addToSelf(v);
+        }
+        return this;
+    }
+
     /**
      * Optimized method to add two OpenMapRealVectors.
      * It copies the larger vector, then iterates over the smaller.
@@ -335,6 +362,36 @@ public class OpenMapRealVector extends SparseRealVector
         return dotProduct((RealVector) v);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If {@code v} is an {@link ArrayRealVector} or an
+     * {@link OpenMapRealVector}, only the non-zero entries of the sparse
+     * vectors are visited, unless one of the vectors has {@code NaN} or
+     * infinite entries.</p>
+     *
+     * @since 3.2
+     */
+    @Override
+    public double dotProduct(RealVector v) throws DimensionMismatchException {
+        if (v instanceof ArrayRealVector) {
+            return v.dotProduct(this);
+        } else if (v instanceof OpenMapRealVector &&
+                   !isNaN() && !isInfinite() && !v.isNaN() && !v.isInfinite()) {
+            checkVectorDimensions(v.getDimension());
+            final OpenMapRealVector w = (OpenMapRealVector) v;
+            final boolean iterateThis = entries.size() <= w.entries.size();
+            final Iterator iter = iterateThis ? entries.iterator() : w.entries.iterator();
+            final OpenIntToDoubleHashMap other = iterateThis ? w.entries : entries;
+            double dot = 0;
+            while (iter.hasNext()) {
+                iter.advance();
+                dot += iter.value() * other.get(iter.key());
+            }
+            return dot;
+        }
+        return super.dotProduct(v);
+    }
+
     /** {@inheritDoc} */
     @Override
     public OpenMapRealVector ebeDivide(RealVector v)
@@ -451,6 +508,8 @@ public class OpenMapRealVector extends SparseRealVector
         checkVectorDimensions(v.getDimension());
         if (v instanceof OpenMapRealVector) {
             return getDistance((OpenMapRealVector) v);
+        } else if (v instanceof ArrayRealVector) {
+            return v.getDistance(this);
         } else {
             return super.getDistance(v);
         }
@@ -502,6 +561,8 @@ public class OpenMapRealVector extends SparseRealVector
         checkVectorDimensions(v.getDimension());
         if (v instanceof OpenMapRealVector) {
             return getL1Distance((OpenMapRealVector) v);
+        } else if (v instanceof ArrayRealVector) {
+            return v.getL1Distance(this);
         } else {
             return super.getL1Distance(v);
         }
@@ -546,6 +607,8 @@ public class OpenMapRealVector extends SparseRealVector
         checkVectorDimensions(v.getDimension());
         if (v instanceof OpenMapRealVector) {
             return getLInfDistance((OpenMapRealVector) v);
+        } else if (v instanceof ArrayRealVector) {
+            return v.getLInfDistance(this);
         } else {
             return super.getLInfDistance(v);
         }
@@ -659,11 +722,96 @@ public class OpenMapRealVector extends SparseRealVector
         checkVectorDimensions(v.getDimension());
         if (v instanceof OpenMapRealVector) {
             return subtract((OpenMapRealVector) v);
+        } else if (v instanceof ArrayRealVector) {
+            final double[] vData = ((ArrayRealVector) v).getDataRef();
+            final double[] out = new double[virtualSize];
+            for (int i = 0; i < virtualSize; i++) {
+                // 0 - v rather than -v, so that implicit zeros stay +0.0
+                out[i] = 0.0 - vData[i];
+            }
+            final Iterator iter = entries.iterator();
+            while (iter.hasNext()) {
+                iter.advance();
+                final int key = iter.key();
+                out[key] = iter.value() - vData[key];
+            }
+            return new ArrayRealVector(out, false);
         } else {
             return super.subtract(v);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If {@code v} is also sparse (and is not {@code this}), only its
+     * non-zero entries are visited, and no new storage is allocated unless
+     * the difference has new non-zero entries.</p>
+     *
+     * @since 3.2
+     */
+    @Override
+    public OpenMapRealVector subtractToSelf(RealVector v)
+        throws DimensionMismatchException {
+        checkVectorDimensions(v.getDimension());
+        if (v instanceof OpenMapRealVector && v != this) {
+            final Iterator iter = ((OpenMapRealVector) v).entries.iterator();
+            while (iter.hasNext()) {
+                iter.advance();
+                final int key = iter.key();
+                setEntry(key, entries.get(key) - iter.value());
+            }
+        } else {
+            super.subtractToSelf(v);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If {@code y} is also sparse (and is not {@code this}) and both
+     * weights are finite, only the non-zero entries of both vectors are
+     * visited.</p>
+     *
+     * @since 3.2
+     */
+    @Override
+    public OpenMapRealVector combineToSelf(double a, double b, RealVector y)
+        throws DimensionMismatchException {
+        checkVectorDimensions(y.getDimension());
+        if (y instanceof OpenMapRealVector && y != this &&
+            !Double.isNaN(a * 0.0) && !Double.isNaN(b * 0.0)) {
+            // scale the entries of this, values are updated in place but
+            // entries which vanish are only removed after the iteration
+            int[] vanishing = null;
+            int nVanishing = 0;
+            final Iterator iter = entries.iterator();
+            while (iter.hasNext()) {
+                iter.advance();
+                final double value = a * iter.value();
+                if (isDefaultValue(value)) {
+                    if (vanishing == null) {
+                        vanishing = new int[entries.size()];
+                    }
+                    vanishing[nVanishing++] = iter.key();
+                } else {
+                    entries.put(iter.key(), value);
+                }
+            }
+            for (int i = 0; i < nVanishing; i++) {
+                entries.remove(vanishing[i]);
+            }
+            final Iterator yIter = ((OpenMapRealVector) y).entries.iterator();
+            while (yIter.hasNext()) {
+                yIter.advance();
+                final int key = yIter.key();
+                setEntry(key, entries.get(key) + b * yIter.value());
+            }
+        } else {
+            super.combineToSelf(a, b, y);
+        }
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public OpenMapRealVector unitVector() throws MathArithmeticException {
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+/**
+ * A few eigenpairs of a linear operator, as computed by an
+ * {@link IterativeEigenSolver}.
+ * <p>
+ * The eigenpairs are sorted according to the
+ * {@link IterativeEigenSolver.Target target} of the solver. Complex
+ * eigenvalues come in conjugate pairs, which are always kept together. As a
+ * consequence, the number of eigenpairs may exceed the requested number by
+ * one. As in {@link EigenDecomposition}, if eigenvalues i and i + 1 form a
+ * complex conjugate pair, eigenvectors i and i + 1 hold the real and
+ * imaginary parts of the complex eigenvectors.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class PartialEigenDecomposition {
+
+    /** Real parts of the eigenvalues. */
+    private final double[] realEigenvalues;
+
+    /** Imaginary parts of the eigenvalues. */
+    private final double[] imagEigenvalues;
+
+    /** Eigenvectors. */
+    private final RealVector[] eigenvectors;
+
+    /** Norms of the residuals of the eigenpairs. */
+    private final double[] residualNorms;
+
+    /**
+     * Builds a new instance. The arrays are not copied.
+     *
+     * @param realEigenvalues real parts of the eigenvalues
+     * @param imagEigenvalues imaginary parts of the eigenvalues
+     * @param eigenvectors eigenvectors
+     * @param residualNorms norms of the residuals of the eigenpairs
+     */
+    PartialEigenDecomposition(final double[] realEigenvalues,
+                              final double[] imagEigenvalues,
+                              final RealVector[] eigenvectors,
+                              final double[] residualNorms) {
+        this.realEigenvalues = realEigenvalues;
+        this.imagEigenvalues = imagEigenvalues;
+        this.eigenvectors    = eigenvectors;
+        this.residualNorms   = residualNorms;
+    }
+
+    /**
+     * Returns the number of computed eigenpairs.
+     *
+     * @return the number of eigenpairs
+     */
+    public int getCount() {
+        return realEigenvalues.length;
+    }
+
+    /**
+     * Gets a copy of the real parts of the eigenvalues.
+     *
+     * @return a copy of the real parts of the eigenvalues
+     * @see #getRealEigenvalue(int)
+     * @see #getImagEigenvalues()
+     */
+    public double[] getRealEigenvalues() {
+        return realEigenvalues.clone();
+    }
+
+    /**
+     * Returns the real part of the i<sup>th</sup> eigenvalue.
+     *
+     * @param i index of the eigenvalue
+     * @return the real part of the i<sup>th</sup> eigenvalue
+     * @see #getRealEigenvalues()
+     */
+    public double getRealEigenvalue(final int i) {
+        return realEigenvalues[i];
+    }
+
+    /**
+     * Gets a copy of the imaginary parts of the eigenvalues.
+     *
+     * @return a copy of the imaginary parts of the eigenvalues
+     * @see #getImagEigenvalue(int)
+     * @see #getRealEigenvalues()
+     */
+    public double[] getImagEigenvalues() {
+        return imagEigenvalues.clone();
+    }
+
+    /**
+     * Gets the imaginary part of the i<sup>th</sup> eigenvalue.
+     *
+     * @param i index of the eigenvalue
+     * @return the imaginary part of the i<sup>th</sup> eigenvalue
+     * @see #getImagEigenvalues()
+     */
+    public double getImagEigenvalue(final int i) {
+        return imagEigenvalues[i];
+    }
+
+    /**
+     * Gets a copy of the i<sup>th</sup> eigenvector.
+     *
+     * @param i index of the eigenvector
+     * @return a copy of the i<sup>th</sup> eigenvector
+     */
+    public RealVector getEigenvector(final int i) {
+        return eigenvectors[i].copy();
+    }
+
+    /**
+     * Gets the norm of the residual ||A &middot; x - &lambda; x|| of the
+     * i<sup>th</sup> eigenpair, as estimated by the solver.
+     *
+     * @param i index of the eigenpair
+     * @return the norm of the residual of the i<sup>th</sup> eigenpair
+     */
+    public double getResidualNorm(final int i) {
+        return residualNorms[i];
+    }
+}
@@ -212,4 +212,30 @@ public abstract class PreconditionedIterativeLinearSolver
         DimensionMismatchException, MaxCountExceededException {
         return solveInPlace(a, null, b, x0);
     }
+
+    /**
+     * Applies a linear operator to a vector, storing the result in a
+     * preallocated array. If the operator returns an {@link ArrayRealVector},
+     * its entries are copied without any intermediate allocation.
+     *
+     * @param op the linear operator (if {@code null}, the identity is used)
+     * @param x the vector to which the operator is applied
+     * @param y the array where the result is stored
+     * @since 3.2
+     */
+    static void operate(final RealLinearOperator op, final ArrayRealVector x,
+                        final double[] y) {
+        if (op == null) {
+            System.arraycopy(x.getDataRef(), 0, y, 0, y.length);
+            return;
+        }
+        final RealVector result = op.operate(x);
+        if (result instanceof ArrayRealVector) {
+            System.arraycopy(((ArrayRealVector) result).getDataRef(), 0, y, 0, y.length);
+        } else {
+            for (int i = 0; i < y.length; ++i) {
+                y[i] = result.getEntry(i);
+            }
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.commons.math3.linear;
 import java.util.Arrays;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.util.FastMath;
 
 
@@ -68,6 +69,8 @@ public class QRDecomposition {
     private RealMatrix cachedH;
     /** Singularity threshold. */
     private final double threshold;
+    /** Cached solver for the allocation-free solve methods. */
+    private Solver cachedSolver;
 
     /**
      * Calculates the QR-decomposition of the given matrix.
@@ -297,6 +300,103 @@ public class QRDecomposition {
         return new Solver(qrt, rDiag, threshold);
     }
 
+    /**
+     * Solves the linear equation A &times; x = b in least square sense,
+     * writing the solution in a caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(b)}, but it does
+     * not allocate any memory, so it is suited to solving many systems
+     * sharing the same decomposition. In order to avoid allocating a work
+     * array, the right-hand side is used as work space: its content is
+     * destroyed.
+     * </p>
+     *
+     * @param b right-hand side of the equation A &times; x = b, of dimension
+     * m (destroyed)
+     * @param out array where to store the solution, of dimension n (must be
+     * different from {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[] b, final double[] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        solveInto(b, out, null);
+    }
+
+    /**
+     * Solves the linear equations A &times; X = B in least square sense for
+     * several right-hand sides, writing the solutions in a caller-provided
+     * array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(B)}, but it does
+     * not allocate any memory. Both arrays are in row layout, with one
+     * column per right-hand side. In order to avoid allocating a work
+     * array, the right-hand sides are used as work space: their content is
+     * destroyed.
+     * </p>
+     *
+     * @param b right-hand sides of the equation A &times; X = B, with m rows
+     * (destroyed)
+     * @param out array where to store the solutions, with n rows (must not
+     * share rows with {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions or each other
+     * @throws MathIllegalArgumentException if {@code out} shares a row
+     * with {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[][] b, final double[][] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        solveInto(b, out, null);
+    }
+
+    /**
+     * Solves the linear equation A &times; x = b in least square sense,
+     * applying a rows permutation to the solution.
+     * @param b right-hand side of the equation (destroyed)
+     * @param out array where to store the solution
+     * @param permutation permutation such that the i<sup>th</sup> component
+     * of the solution of R &times; x = Q<sup>T</sup> &times; b is stored at
+     * index {@code permutation[i]} (null for identity)
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     */
+    void solveInto(final double[] b, final double[] out, final int[] permutation) {
+        if (cachedSolver == null) {
+            cachedSolver = new Solver(qrt, rDiag, threshold);
+        }
+        cachedSolver.solveInto(b, out, permutation);
+    }
+
+    /**
+     * Solves the linear equations A &times; X = B in least square sense,
+     * applying a rows permutation to the solutions.
+     * @param b right-hand sides of the equation (destroyed)
+     * @param out array where to store the solutions
+     * @param permutation permutation such that the i<sup>th</sup> row
+     * of the solution of R &times; X = Q<sup>T</sup> &times; B is stored at
+     * index {@code permutation[i]} (null for identity)
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions or each other
+     * @throws MathIllegalArgumentException if {@code out} shares a row
+     * with {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     */
+    void solveInto(final double[][] b, final double[][] out, final int[] permutation) {
+        if (cachedSolver == null) {
+            cachedSolver = new Solver(qrt, rDiag, threshold);
+        }
+        cachedSolver.solveInto(b, out, permutation);
+    }
+
     /** Specialized solver. */
     private static class Solver implements DecompositionSolver {
         /**
@@ -349,6 +449,50 @@ public class QRDecomposition {
 
             final double[] x = new double[n];
             final double[] y = b.toArray();
+            solveInPlace(y);
+            System.arraycopy(y, 0, x, 0, rDiag.length);
+
+            return new ArrayRealVector(x, false);
+        }
+
+        /**
+         * Solves the linear equation A &times; x = b into a caller-provided array.
+         * @param b right-hand side of the equation (destroyed)
+         * @param out array where to store the solution
+         * @param permutation rows permutation to apply to the solution (null for identity)
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimensions
+         * @throws MathIllegalArgumentException if {@code out} is {@code b}
+         * @throws SingularMatrixException if the decomposed matrix is singular
+         */
+        void solveInto(final double[] b, final double[] out, final int[] permutation) {
+            final int n = qrt.length;
+            final int m = qrt[0].length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != n) {
+                throw new DimensionMismatchException(out.length, n);
+            }
+            MatrixUtils.checkNotAliased(b, out);
+            if (!isNonSingular()) {
+                throw new SingularMatrixException();
+            }
+
+            solveInPlace(b);
+            for (int i = 0; i < n; ++i) {
+                out[(permutation == null) ? i : permutation[i]] = (i < rDiag.length) ? b[i] : 0;
+            }
+        }
+
+        /**
+         * Solves Q &times; R &times; x = y, leaving x in the first elements of y.
+         * @param y right-hand side, overwritten by the solution (in its
+         * first {@code rDiag.length} elements)
+         */
+        private void solveInPlace(final double[] y) {
+            final int n = qrt.length;
+            final int m = qrt[0].length;
 
             // apply Householder transforms to solve Q.y = b
             for (int minor = 0; minor < FastMath.min(m, n); minor++) {
@@ -370,13 +514,10 @@ public class QRDecomposition {
                 y[row] /= rDiag[row];
                 final double yRow = y[row];
                 final double[] qrtRow = qrt[row];
-                x[row] = yRow;
                 for (int i = 0; i < row; i++) {
                     y[i] -= yRow * qrtRow[i];
                 }
             }
-
-            return new ArrayRealVector(x, false);
         }
 
         /** {@inheritDoc} */
@@ -458,6 +599,102 @@ public class QRDecomposition {
             return new BlockRealMatrix(n, columns, xBlocks, false);
         }
 
+        /**
+         * Solves the linear equations A &times; X = B into a caller-provided array.
+         * <p>
+         * The first row of {@code out} is used as work space for the
+         * Householder transforms before receiving its part of the solution.
+         * </p>
+         * @param b right-hand sides of the equation, in row layout (destroyed)
+         * @param out array where to store the solutions, in row layout
+         * @param permutation rows permutation to apply to the solution (null for identity)
+         * @throws DimensionMismatchException if the arrays dimensions do not match
+         * the matrix dimensions or each other
+         * @throws MathIllegalArgumentException if {@code out} shares a row
+         * with {@code b}
+         * @throws SingularMatrixException if the decomposed matrix is singular
+         */
+        void solveInto(final double[][] b, final double[][] out, final int[] permutation) {
+            final int n = qrt.length;
+            final int m = qrt[0].length;
+            if (b.length != m) {
+                throw new DimensionMismatchException(b.length, m);
+            }
+            if (out.length != n) {
+                throw new DimensionMismatchException(out.length, n);
+            }
+            final int columns = b[0].length;
+            for (int row = 0; row < m; ++row) {
+                if (b[row].length != columns) {
+                    throw new DimensionMismatchException(b[row].length, columns);
+                }
+            }
+            for (int row = 0; row < n; ++row) {
+                if (out[row].length != columns) {
+                    throw new DimensionMismatchException(out[row].length, columns);
+                }
+            }
+            MatrixUtils.checkNoSharedRows(b, out);
+            if (!isNonSingular()) {
+                throw new SingularMatrixException();
+            }
+
+            // apply Householder transforms to solve Q.y = b
+            final double[] alpha = out[0];
+            for (int minor = 0; minor < FastMath.min(m, n); minor++) {
+                final double[] qrtMinor = qrt[minor];
+                final double factor     = 1.0 / (rDiag[minor] * qrtMinor[minor]);
+
+                Arrays.fill(alpha, 0.0);
+                for (int row = minor; row < m; ++row) {
+                    final double   d    = qrtMinor[row];
+                    final double[] yRow = b[row];
+                    for (int k = 0; k < columns; ++k) {
+                        alpha[k] += d * yRow[k];
+                    }
+                }
+                for (int k = 0; k < columns; ++k) {
+                    alpha[k] *= factor;
+                }
+
+                for (int row = minor; row < m; ++row) {
+                    final double   d    = qrtMinor[row];
+                    final double[] yRow = b[row];
+                    for (int k = 0; k < columns; ++k) {
+                        yRow[k] += alpha[k] * d;
+                    }
+                }
+            }
+
+            // solve triangular system R.x = y
+            for (int j = rDiag.length - 1; j >= 0; --j) {
+                final double   factor = 1.0 / rDiag[j];
+                final double[] yJ     = b[j];
+                for (int k = 0; k < columns; ++k) {
+                    yJ[k] *= factor;
+                }
+
+                final double[] qrtJ = qrt[j];
+                for (int i = 0; i < j; ++i) {
+                    final double rIJ  = qrtJ[i];
+                    final double[] yI = b[i];
+                    for (int k = 0; k < columns; ++k) {
+                        yI[k] -= yJ[k] * rIJ;
+                    }
+                }
+            }
+
+            // copy the solution
+            for (int i = 0; i < n; ++i) {
+                final double[] outRow = out[(permutation == null) ? i : permutation[i]];
+                if (i < rDiag.length) {
+                    System.arraycopy(b[i], 0, outRow, 0, columns);
+                } else {
+                    Arrays.fill(outRow, 0.0);
+                }
+            }
+        }
+
         /** {@inheritDoc} */
         public RealMatrix getInverse() {
             return solve(MatrixUtils.createRealIdentityMatrix(rDiag.length));
@@ -17,6 +17,8 @@
 
 package org.apache.commons.math3.linear;
 
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.util.FastMath;
 
 
@@ -188,6 +190,58 @@ public class RRQRDecomposition extends QRDecomposition {
         return new Solver(super.getSolver(), this.getP());
     }
 
+    /**
+     * Solves the linear equation A &times; x = b in least square sense,
+     * writing the solution in a caller-provided array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(b)}, but it does
+     * not allocate any memory. The right-hand side is used as work space: its
+     * content is destroyed.
+     * </p>
+     *
+     * @param b right-hand side of the equation A &times; x = b, of dimension
+     * m (destroyed)
+     * @param out array where to store the solution, of dimension n (must be
+     * different from {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions
+     * @throws MathIllegalArgumentException if {@code out} is {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[] b, final double[] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        solveInto(b, out, p);
+    }
+
+    /**
+     * Solves the linear equations A &times; X = B in least square sense for
+     * several right-hand sides, writing the solutions in a caller-provided
+     * array.
+     * <p>
+     * This method is equivalent to {@code getSolver().solve(B)}, but it does
+     * not allocate any memory. The right-hand sides are used as work space:
+     * their content is destroyed.
+     * </p>
+     *
+     * @param b right-hand sides of the equation A &times; X = B, with m rows
+     * (destroyed)
+     * @param out array where to store the solutions, with n rows (must not
+     * share rows with {@code b})
+     * @throws DimensionMismatchException if the arrays dimensions do not match
+     * the matrix dimensions or each other
+     * @throws MathIllegalArgumentException if {@code out} shares a row
+     * with {@code b}
+     * @throws SingularMatrixException if the decomposed matrix is singular
+     * @since 3.2
+     */
+    public void solveInto(final double[][] b, final double[][] out)
+        throws DimensionMismatchException, MathIllegalArgumentException,
+               SingularMatrixException {
+        solveInto(b, out, p);
+    }
+
     /** Specialized solver. */
     private static class Solver implements DecompositionSolver {
 
@@ -263,6 +263,46 @@ public abstract class RealVector {
         return result;
     }
 
+    /**
+     * Add {@code v} to this vector.
+     * The instance is changed in-place.
+     *
+     * @param v Vector to be added.
+     * @return {@code this}, with components equal to
+     * {@code this[i] + v[i]} for all {@code i}.
+     * @throws DimensionMismatchException if {@code v} is not the same size as
+     * {@code this} vector.
+     * @since 3.2
+     */
+    public RealVector addToSelf(RealVector v) throws DimensionMismatchException {
+        checkVectorDimensions(v);
+        final int n = getDimension();
+        for (int i = 0; i < n; i++) {
+            setEntry(i, getEntry(i) + v.getEntry(i));
+        }
+        return this;
+    }
+
+    /**
+     * Subtract {@code v} from this vector.
+     * The instance is changed in-place.
+     *
+     * @param v Vector to be subtracted.
+     * @return {@code this}, with components equal to
+     * {@code this[i] - v[i]} for all {@code i}.
+     * @throws DimensionMismatchException if {@code v} is not the same size as
+     * {@code this} vector.
+     * @since 3.2
+     */
+    public RealVector subtractToSelf(RealVector v) throws DimensionMismatchException {
+        checkVectorDimensions(v);
+        final int n = getDimension();
+        for (int i = 0; i < n; i++) {
+            setEntry(i, getEntry(i) - v.getEntry(i));
+        }
+        return this;
+    }
+
     /**
      * Add a value to each entry.
      * Returns a new vector. Does not change instance data.
@@ -1626,6 +1666,30 @@ public abstract class RealVector {
                 throw new MathUnsupportedOperationException();
             }
 
+            /**
+             * {@inheritDoc}
+             *
+             * @throws MathUnsupportedOperationException in all
+             * circumstances.
+             */
+            @Override
+            public RealVector addToSelf(RealVector w)
+                throws MathUnsupportedOperationException {
+                throw new MathUnsupportedOperationException();
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * @throws MathUnsupportedOperationException in all
+             * circumstances.
+             */
+            @Override
+            public RealVector subtractToSelf(RealVector w)
+                throws MathUnsupportedOperationException {
+                throw new MathUnsupportedOperationException();
+            }
+
             /** An entry in the vector. */
             class UnmodifiableEntry extends Entry {
                 /** {@inheritDoc} */
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+
+/**
+ * Symmetric successive over-relaxation (SSOR) preconditioner.
+ * <p>
+ * Writing A = L + D + U, where D is the diagonal of A, and L (resp. U) its
+ * strict lower (resp. upper) triangular part, the preconditioner is
+ * M = (D + &omega;L) D<sup>-1</sup> (D + &omega;U) / (&omega; (2 - &omega;)),
+ * where 0 &lt; &omega; &lt; 2 is the relaxation parameter. For
+ * &omega; = 1, this is the symmetric Gauss-Seidel preconditioner.
+ * </p>
+ * <p>
+ * No factorization is needed: the preconditioner directly uses the {@link
+ * CompressedRowRealMatrix compressed row} storage of A, so building it is
+ * cheap. If A is symmetric positive definite, so is M, and this
+ * preconditioner can be used with {@link ConjugateGradient} and {@link
+ * SymmLQ}.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class SSORPreconditioner extends AbstractPreconditioner {
+
+    /** Index of the first entry of each row. */
+    private final int[] rowStarts;
+
+    /** Column indices of the entries. */
+    private final int[] columns;
+
+    /** Values of the entries. */
+    private final double[] values;
+
+    /** Index of the diagonal entry of each row. */
+    private final int[] diagonal;
+
+    /** Relaxation parameter. */
+    private final double omega;
+
+    /**
+     * Builds the preconditioner for the specified matrix.
+     * <p>
+     * If {@code a} is not a {@link CompressedRowRealMatrix}, it is first
+     * converted to this format. Otherwise, its storage is shared.
+     * </p>
+     *
+     * @param a Matrix to precondition.
+     * @param omega Relaxation parameter.
+     * @throws NonSquareMatrixException if {@code a} is not square.
+     * @throws SingularMatrixException if a diagonal entry of {@code a} is zero.
+     * @throws NumberIsTooSmallException if {@code omega <= 0}.
+     * @throws NumberIsTooLargeException if {@code omega >= 2}.
+     */
+    public SSORPreconditioner(final RealMatrix a, final double omega)
+        throws NonSquareMatrixException, SingularMatrixException,
+               NumberIsTooSmallException, NumberIsTooLargeException {
+        super(a.getRowDimension());
+        final long start = System.nanoTime();
+
+        if (omega <= 0) {
+            throw new NumberIsTooSmallException(omega, 0, false);
+        }
+        if (omega >= 2) {
+            throw new NumberIsTooLargeException(omega, 2, false);
+        }
+        this.omega = omega;
+
+        final CompressedRowRealMatrix csr = toCompressedRow(a);
+        rowStarts = csr.getRowStarts();
+        columns   = csr.getColumnIndices();
+        values    = csr.getValues();
+        diagonal  = findDiagonal(csr);
+
+        setSetupTime(System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the relaxation parameter.
+     *
+     * @return the relaxation parameter &omega;
+     */
+    public double getOmega() {
+        return omega;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void solveInPlace(final double[] b) {
+        final int n = b.length;
+
+        // forward sweep, (D + omega L) y = b, followed by z = D y
+        for (int i = 0; i < n; ++i) {
+            double sum = 0;
+            for (int p = rowStarts[i]; p < diagonal[i]; ++p) {
+                sum += values[p] * b[columns[p]];
+            }
+            b[i] = (b[i] - omega * sum) / values[diagonal[i]];
+        }
+        for (int i = 0; i < n; ++i) {
+            b[i] *= values[diagonal[i]];
+        }
+
+        // backward sweep, (D + omega U) x = z, followed by scaling
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = 0;
+            for (int p = diagonal[i] + 1; p < rowStarts[i + 1]; ++p) {
+                sum += values[p] * b[columns[p]];
+            }
+            b[i] = (b[i] - omega * sum) / values[diagonal[i]];
+        }
+        final double scale = omega * (2 - omega);
+        for (int i = 0; i < n; ++i) {
+            b[i] *= scale;
+        }
+    }
+
+}
@@ -1164,7 +1164,8 @@ public class SymmLQ
                                                       manager.getIterations(),
                                                       x,
                                                       b,
-                                                      state.getNormOfResidual());
+                                                      state.getNormOfResidual(),
+                                                      m);
         if (state.bEqualsNullVector()) {
             /* If b = 0 exactly, stop with x = 0. */
             manager.fireTerminationEvent(event);
@@ -1181,7 +1182,8 @@ public class SymmLQ
                                                               manager.getIterations(),
                                                               x,
                                                               b,
-                                                              state.getNormOfResidual());
+                                                              state.getNormOfResidual(),
+                                                              m);
                 manager.fireIterationStartedEvent(event);
                 state.update();
                 state.refineSolution(x);
@@ -1189,7 +1191,8 @@ public class SymmLQ
                                                               manager.getIterations(),
                                                               x,
                                                               b,
-                                                              state.getNormOfResidual());
+                                                              state.getNormOfResidual(),
+                                                              m);
                 manager.fireIterationPerformedEvent(event);
             } while (!state.hasConverged());
         }
@@ -1197,7 +1200,8 @@ public class SymmLQ
                                                       manager.getIterations(),
                                                       x,
                                                       b,
-                                                      state.getNormOfResidual());
+                                                      state.getNormOfResidual(),
+                                                      m);
         manager.fireTerminationEvent(event);
         return x;
     }
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Calculates the leading singular values and vectors of a linear operator.
+ * <p>
+ * This class computes a rank-k approximation A &asymp; U &times; &Sigma;
+ * &times; V<sup>T</sup> of an m &times; n linear operator, where U is
+ * m &times; k, &Sigma; is k &times; k and V is n &times; k, using the
+ * randomized range finder of Halko, Martinsson and Tropp. The operator is
+ * only accessed through products with vectors (and with its transpose), so
+ * it may be sparse or implicit, and the memory used is O((m + n) k) instead
+ * of the O(m n) needed by {@link SingularValueDecomposition}.
+ * </p>
+ * <p>
+ * The algorithm multiplies the operator by k + p random vectors (p being the
+ * oversampling), optionally refines the resulting basis with power
+ * iterations, and computes an exact decomposition of the operator restricted
+ * to this basis. Each power iteration costs 2 (k + p) additional products
+ * but greatly improves accuracy when the singular values decay slowly.
+ * </p>
+ * <p>
+ * The operator must support products by its transpose: it must either be
+ * a {@link RealMatrix} or be {@link RealLinearOperator#isTransposable()
+ * transposable}.
+ * </p>
+ *
+ * @see SingularValueDecomposition
+ * @see <a href="http://dx.doi.org/10.1137/090771806">N. Halko, P. G. Martinsson
+ * and J. A. Tropp, Finding Structure with Randomness: Probabilistic Algorithms
+ * for Constructing Approximate Matrix Decompositions, SIAM Review, 53(2), 2011</a>
+ * @version $Id$
+ * @since 3.2
+ */
+public class TruncatedSingularValueDecomposition {
+    /** Default oversampling. */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+    /** Default number of power iterations. */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+    /** Relative norm under which a basis vector is considered linearly dependent. */
+    private static final double DEPENDENCY_THRESHOLD = 1.0e-10;
+    /** Computed singular values. */
+    private final double[] singularValues;
+    /** Cached value of U matrix. */
+    private final RealMatrix cachedU;
+    /** Cached value of transposed U matrix. */
+    private RealMatrix cachedUt;
+    /** Cached value of S (diagonal) matrix. */
+    private RealMatrix cachedS;
+    /** Cached value of V matrix. */
+    private final RealMatrix cachedV;
+    /** Cached value of transposed V matrix. */
+    private RealMatrix cachedVt;
+
+    /**
+     * Calculates the leading singular values and vectors of the given operator.
+     * <p>
+     * This constructor uses {@link #DEFAULT_OVERSAMPLING default oversampling},
+     * {@link #DEFAULT_POWER_ITERATIONS default number of power iterations},
+     * and a {@link Well19937c} random generator.
+     * </p>
+     *
+     * @param operator Operator to decompose.
+     * @param rank Number of singular values and vectors to compute.
+     * @throws NotStrictlyPositiveException if {@code rank} is not positive.
+     * @throws NumberIsTooLargeException if {@code rank} is larger than
+     * the smallest dimension of the operator.
+     * @throws MathUnsupportedOperationException if the transpose of the
+     * operator cannot be applied.
+     */
+    public TruncatedSingularValueDecomposition(final RealLinearOperator operator, final int rank) {
+        this(operator, rank, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, new Well19937c());
+    }
+
+    /**
+     * Calculates the leading singular values and vectors of the given operator.
+     *
+     * @param operator Operator to decompose.
+     * @param rank Number of singular values and vectors to compute.
+     * @param oversampling Number of additional random vectors used to
+     * capture the range of the operator.
+     * @param powerIterations Number of power iterations.
+     * @param random Random generator used to draw the initial vectors.
+     * @throws NotStrictlyPositiveException if {@code rank} is not positive.
+     * @throws NumberIsTooLargeException if {@code rank} is larger than
+     * the smallest dimension of the operator.
+     * @throws NotPositiveException if {@code oversampling} or
+     * {@code powerIterations} is negative.
+     * @throws MathUnsupportedOperationException if the transpose of the
+     * operator cannot be applied.
+     */
+    public TruncatedSingularValueDecomposition(final RealLinearOperator operator, final int rank,
+                                               final int oversampling, final int powerIterations,
+                                               final RandomGenerator random) {
+        final int m = operator.getRowDimension();
+        final int n = operator.getColumnDimension();
+        if (rank <= 0) {
+            throw new NotStrictlyPositiveException(rank);
+        }
+        if (rank > FastMath.min(m, n)) {
+            throw new NumberIsTooLargeException(rank, FastMath.min(m, n), true);
+        }
+        if (oversampling < 0) {
+            throw new NotPositiveException(oversampling);
+        }
+        if (powerIterations < 0) {
+            throw new NotPositiveException(powerIterations);
+        }
+        if (!(operator instanceof RealMatrix || operator.isTransposable())) {
+            throw new MathUnsupportedOperationException();
+        }
+        final int l = FastMath.min(rank + oversampling, FastMath.min(m, n));
+
+        // sample the range of the operator
+        final double[][] omega = new double[l][n];
+        for (int j = 0; j < l; ++j) {
+            for (int i = 0; i < n; ++i) {
+                omega[j][i] = random.nextGaussian();
+            }
+        }
+        final double[][] q = operate(operator, omega);
+        orthonormalize(q, random);
+
+        // refine the basis with power iterations
+        for (int iteration = 0; iteration < powerIterations; ++iteration) {
+            final double[][] z = operateTranspose(operator, q);
+            orthonormalize(z, random);
+            final double[][] y = operate(operator, z);
+            System.arraycopy(y, 0, q, 0, l);
+            orthonormalize(q, random);
+        }
+
+        // B = Q^T A, decomposed as B^T = Q2 R
+        final double[][] q2 = operateTranspose(operator, q);
+        final double[][] r  = orthonormalize(q2, random);
+
+        // R = Ur S Vr^T, hence A ~ Q B = (Q Vr) S (Q2 Ur)^T
+        final SingularValueDecomposition svd =
+            new SingularValueDecomposition(new Array2DRowRealMatrix(r, false));
+        final double[] s = svd.getSingularValues();
+        singularValues = new double[rank];
+        System.arraycopy(s, 0, singularValues, 0, rank);
+        cachedU = new Array2DRowRealMatrix(combine(q, svd.getV(), rank), false);
+        cachedV = new Array2DRowRealMatrix(combine(q2, svd.getU(), rank), false);
+    }
+
+    /**
+     * Applies an operator to a set of vectors.
+     *
+     * @param operator Operator to apply.
+     * @param x Vectors to which the operator is applied.
+     * @return images of the vectors.
+     */
+    private static double[][] operate(final RealLinearOperator operator, final double[][] x) {
+        final double[][] y = new double[x.length][];
+        for (int j = 0; j < x.length; ++j) {
+            y[j] = operator.operate(new ArrayRealVector(x[j], false)).toArray();
+        }
+        return y;
+    }
+
+    /**
+     * Applies the transpose of an operator to a set of vectors.
+     *
+     * @param operator Operator whose transpose is applied.
+     * @param x Vectors to which the transposed operator is applied.
+     * @return images of the vectors.
+     */
+    private static double[][] operateTranspose(final RealLinearOperator operator,
+                                               final double[][] x) {
+        final double[][] y = new double[x.length][];
+        for (int j = 0; j < x.length; ++j) {
+            final RealVector v = new ArrayRealVector(x[j], false);
+            if (operator instanceof RealMatrix) {
+                y[j] = ((RealMatrix) operator).preMultiply(v).toArray();
+            } else {
+                y[j] = operator.operateTranspose(v).toArray();
+            }
+        }
+        return y;
+    }
+
+    /**
+     * Orthonormalizes a set of vectors in place.
+     * <p>
+     * This method uses the modified Gram-Schmidt process, with one step of
+     * reorthogonalization. Vectors that are found to be linearly dependent on
+     * the previous ones are replaced by random vectors, so that the resulting
+     * set is always an orthonormal basis.
+     * </p>
+     *
+     * @param vectors Vectors to orthonormalize.
+     * @param random Random generator used to replace dependent vectors.
+     * @return the upper triangular matrix R such that the original vectors
+     * are the columns of Q &times; R, Q being the orthonormalized vectors.
+     */
+    private static double[][] orthonormalize(final double[][] vectors,
+                                             final RandomGenerator random) {
+        final int l = vectors.length;
+        final double[][] r = new double[l][l];
+        for (int j = 0; j < l; ++j) {
+            final double[] v = vectors[j];
+            final double initialNorm = norm(v);
+            boolean replaced = false;
+            double vNorm = 0;
+            while (true) {
+                for (int pass = 0; pass < 2; ++pass) {
+                    for (int i = 0; i < j; ++i) {
+                        final double[] qI = vectors[i];
+                        double dot = 0;
+                        for (int k = 0; k < v.length; ++k) {
+                            dot += qI[k] * v[k];
+                        }
+                        for (int k = 0; k < v.length; ++k) {
+                            v[k] -= dot * qI[k];
+                        }
+                        if (!replaced) {
+                            r[i][j] += dot;
+                        }
+                    }
+                }
+                vNorm = norm(v);
+                if (vNorm > DEPENDENCY_THRESHOLD * initialNorm && vNorm > 0) {
+                    break;
+                }
+
+                // the vector is in the span of the previous ones, replace it
+                replaced = true;
+                for (int k = 0; k < v.length; ++k) {
+                    v[k] = random.nextGaussian();
+                }
+            }
+            r[j][j] = replaced ? 0 : vNorm;
+            final double inv = 1.0 / vNorm;
+            for (int k = 0; k < v.length; ++k) {
+                v[k] *= inv;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Computes the euclidean norm of a vector.
+     *
+     * @param v Vector.
+     * @return the norm of the vector.
+     */
+    private static double norm(final double[] v) {
+        double sum = 0;
+        for (final double vI : v) {
+            sum += vI * vI;
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /**
+     * Computes linear combinations of a basis.
+     *
+     * @param basis Basis vectors.
+     * @param coefficients Coefficients of the combinations, one combination per column.
+     * @param count Number of combinations to compute.
+     * @return the combinations, in row layout (one combination per column).
+     */
+    private static double[][] combine(final double[][] basis, final RealMatrix coefficients,
+                                      final int count) {
+        final int dim = basis[0].length;
+        final double[][] result = new double[dim][count];
+        for (int j = 0; j < basis.length; ++j) {
+            final double[] bJ = basis[j];
+            for (int c = 0; c < count; ++c) {
+                final double coeff = coefficients.getEntry(j, c);
+                if (coeff != 0) {
+                    for (int k = 0; k < dim; ++k) {
+                        result[k][c] += coeff * bJ[k];
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an m &times; k matrix with orthonormal columns: the left
+     * singular vectors associated with the leading singular values.</p>
+     * @return the U matrix
+     * @see #getUT()
+     */
+    public RealMatrix getU() {
+        return cachedU;
+    }
+
+    /**
+     * Returns the transpose of the matrix U of the decomposition.
+     * @return the U<sup>T</sup> matrix
+     * @see #getU()
+     */
+    public RealMatrix getUT() {
+        if (cachedUt == null) {
+            cachedUt = getU().transpose();
+        }
+        return cachedUt;
+    }
+
+    /**
+     * Returns the diagonal matrix &Sigma; of the decomposition.
+     * <p>&Sigma; is a k &times; k diagonal matrix. The singular values are
+     * provided in non-increasing order.</p>
+     * @return the &Sigma; matrix
+     */
+    public RealMatrix getS() {
+        if (cachedS == null) {
+            cachedS = MatrixUtils.createRealDiagonalMatrix(singularValues);
+        }
+        return cachedS;
+    }
+
+    /**
+     * Returns the leading singular values of the operator.
+     * <p>The singular values are provided in non-increasing order.</p>
+     * @return the diagonal elements of the &Sigma; matrix
+     */
+    public double[] getSingularValues() {
+        return singularValues.clone();
+    }
+
+    /**
+     * Returns the matrix V of the decomposition.
+     * <p>V is an n &times; k matrix with orthonormal columns: the right
+     * singular vectors associated with the leading singular values.</p>
+     * @return the V matrix
+     * @see #getVT()
+     */
+    public RealMatrix getV() {
+        return cachedV;
+    }
+
+    /**
+     * Returns the transpose of the matrix V of the decomposition.
+     * @return the V<sup>T</sup> matrix
+     * @see #getV()
+     */
+    public RealMatrix getVT() {
+        if (cachedVt == null) {
+            cachedVt = getV().transpose();
+        }
+        return cachedVt;
+    }
+
+    /**
+     * Returns an estimate of the L<sub>2</sub> norm of the operator.
+     * @return the largest computed singular value
+     */
+    public double getNorm() {
+        return singularValues[0];
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.apache.commons.math3.random;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /** This abstract class implements the WELL class of pseudo-random number generator
@@ -39,6 +41,13 @@ public abstract class AbstractWell extends BitsStreamGenerator implements Serial
     /** Serializable version identifier. */
     private static final long serialVersionUID = -817701723016583596L;
 
+    /** Logarithm in base 2 of the jump length. */
+    private static final int LOG2_JUMP = 128;
+
+    /** Jump polynomials of the various generators, computed on first use. */
+    private static final Map<Class<?>, long[]> JUMP_POLYNOMIALS =
+        new ConcurrentHashMap<Class<?>, long[]>();
+
     /** Current index in the bytes pool. */
     protected int index;
 
@@ -132,6 +141,22 @@ public abstract class AbstractWell extends BitsStreamGenerator implements Serial
         this(k, m1, m2, m3, new int[] { (int) (seed >>> 32), (int) (seed & 0xffffffffl) });
     }
 
+    /** Creates a copy of a random number generator.
+     * <p>The copy generates the same sequence as the source generator,
+     * except for any cached gaussian deviate which is not copied.</p>
+     * @param source generator to copy
+     * @since 3.2
+     */
+    protected AbstractWell(final AbstractWell source) {
+        this.v     = source.v.clone();
+        this.index = source.index;
+        this.iRm1  = source.iRm1;
+        this.iRm2  = source.iRm2;
+        this.i1    = source.i1;
+        this.i2    = source.i2;
+        this.i3    = source.i3;
+    }
+
     /** Reinitialize the generator as if just built with the given int seed.
      * <p>The state of the generator is exactly the same as a new
      * generator built with the same seed.</p>
@@ -179,6 +204,56 @@ public abstract class AbstractWell extends BitsStreamGenerator implements Serial
         setSeed(new int[] { (int) (seed >>> 32), (int) (seed & 0xffffffffl) });
     }
 
+    /** Jump 2<sup>128</sup> calls to {@link #next(int)} ahead.
+     * <p>The jump polynomial of each generator class is computed on
+     * first use, which takes up to a few seconds for the largest pools.
+     * Any cached gaussian deviate is discarded.</p>
+     * @since 3.2
+     */
+    protected void jumpAhead() {
+        long[] polynomial = JUMP_POLYNOMIALS.get(getClass());
+        if (polynomial == null) {
+            // identify the transition from the sequence of this generator,
+            // then rewind it to its current state
+            final int[] savedV     = v.clone();
+            final int   savedIndex = index;
+            polynomial = GF2Polynomials.jumpPolynomial(this, 32 * v.length, LOG2_JUMP);
+            System.arraycopy(savedV, 0, v, 0, v.length);
+            index = savedIndex;
+            JUMP_POLYNOMIALS.put(getClass(), polynomial);
+        }
+        jump(polynomial);
+    }
+
+    /** Jump ahead by evaluating a jump polynomial on the transition.
+     * @param polynomial jump polynomial x<sup>J</sup> mod P(x), for a
+     * jump of J calls to {@link #next(int)}
+     */
+    void jump(final long[] polynomial) {
+
+        // the transition only depends on positions relative to the current
+        // index, so states are summed in pools rotated to start at index
+        final int r = v.length;
+        final int[] sum = new int[r];
+        final int degree = GF2Polynomials.degree(polynomial);
+        for (int i = 0; i <= degree; ++i) {
+            if (GF2Polynomials.coefficient(polynomial, i)) {
+                for (int j = index; j < r; ++j) {
+                    sum[j - index] ^= v[j];
+                }
+                for (int j = 0; j < index; ++j) {
+                    sum[r - index + j] ^= v[j];
+                }
+            }
+            next(32);
+        }
+
+        System.arraycopy(sum, 0, v, 0, r);
+        index = 0;
+        clear();
+
+    }
+
     /** {@inheritDoc} */
     @Override
     protected abstract int next(final int bits);
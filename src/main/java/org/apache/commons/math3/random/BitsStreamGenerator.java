@@ -18,7 +18,11 @@ package org.apache.commons.math3.random;
 
 import java.io.Serializable;
 
+import org.apache.commons.math3.exception.NotPositiveException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.util.FastMath;
 
 /** Base class for random number generators that generates bits streams.
@@ -187,6 +191,105 @@ public abstract class BitsStreamGenerator
         throw new NotStrictlyPositiveException(n);
     }
 
+    /**
+     * Fills part of an array with pseudorandom, uniformly distributed
+     * <code>int</code> values.
+     * <p>The values are the same as those that would be returned by
+     * {@code length} successive calls to {@link #nextInt()}. This default
+     * implementation simply loops over {@link #next(int)}; generators that
+     * produce their output in blocks may override it to avoid the per-value
+     * overhead.</p>
+     *
+     * @param values array to fill
+     * @param offset index of the first element to set
+     * @param length number of elements to set
+     * @throws NullArgumentException if {@code values} is null
+     * @throws NotPositiveException if {@code offset} or {@code length} is negative
+     * @throws NumberIsTooLargeException if {@code offset + length} exceeds
+     * the array length
+     * @since 3.2
+     */
+    public void nextInts(final int[] values, final int offset, final int length)
+        throws NullArgumentException, NotPositiveException, NumberIsTooLargeException {
+        checkRange(values == null ? -1 : values.length, offset, length);
+        for (int i = offset; i < offset + length; ++i) {
+            values[i] = next(32);
+        }
+    }
+
+    /**
+     * Fills part of an array with pseudorandom, uniformly distributed
+     * <code>long</code> values.
+     * <p>The values are the same as those that would be returned by
+     * {@code length} successive calls to {@link #nextLong()}.</p>
+     *
+     * @param values array to fill
+     * @param offset index of the first element to set
+     * @param length number of elements to set
+     * @throws NullArgumentException if {@code values} is null
+     * @throws NotPositiveException if {@code offset} or {@code length} is negative
+     * @throws NumberIsTooLargeException if {@code offset + length} exceeds
+     * the array length
+     * @since 3.2
+     */
+    public void nextLongs(final long[] values, final int offset, final int length)
+        throws NullArgumentException, NotPositiveException, NumberIsTooLargeException {
+        checkRange(values == null ? -1 : values.length, offset, length);
+        for (int i = offset; i < offset + length; ++i) {
+            values[i] = nextLong();
+        }
+    }
+
+    /**
+     * Fills part of an array with pseudorandom, uniformly distributed
+     * <code>double</code> values between <code>0.0</code> and <code>1.0</code>.
+     * <p>The values are the same as those that would be returned by
+     * {@code length} successive calls to {@link #nextDouble()}.</p>
+     *
+     * @param values array to fill
+     * @param offset index of the first element to set
+     * @param length number of elements to set
+     * @throws NullArgumentException if {@code values} is null
+     * @throws NotPositiveException if {@code offset} or {@code length} is negative
+     * @throws NumberIsTooLargeException if {@code offset + length} exceeds
+     * the array length
+     * @since 3.2
+     */
+    public void nextDoubles(final double[] values, final int offset, final int length)
+        throws NullArgumentException, NotPositiveException, NumberIsTooLargeException {
+        checkRange(values == null ? -1 : values.length, offset, length);
+        for (int i = offset; i < offset + length; ++i) {
+            values[i] = nextDouble();
+        }
+    }
+
+    /**
+     * Check that a range designates a part of an array.
+     * @param arrayLength length of the array, or -1 if the array is null
+     * @param offset index of the first element of the range
+     * @param length number of elements in the range
+     * @throws NullArgumentException if the array is null
+     * @throws NotPositiveException if {@code offset} or {@code length} is negative
+     * @throws NumberIsTooLargeException if {@code offset + length} exceeds
+     * the array length
+     */
+    static void checkRange(final int arrayLength, final int offset, final int length)
+        throws NullArgumentException, NotPositiveException, NumberIsTooLargeException {
+        if (arrayLength < 0) {
+            throw new NullArgumentException(LocalizedFormats.INPUT_ARRAY);
+        }
+        if (offset < 0) {
+            throw new NotPositiveException(LocalizedFormats.START_POSITION, offset);
+        }
+        if (length < 0) {
+            throw new NotPositiveException(LocalizedFormats.LENGTH, length);
+        }
+        if (length > arrayLength - offset) {
+            throw new NumberIsTooLargeException(LocalizedFormats.SUBARRAY_ENDS_AFTER_ARRAY_END,
+                                                (long) offset + length, arrayLength, true);
+        }
+    }
+
     /**
      * Clears the cache used by the default implementation of
      * {@link #nextGaussian}.
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.apache.commons.math3.util.FastMath;
+
+/** Utility methods for polynomials over GF(2), used to jump ahead in
+ * F<sub>2</sub>-linear generators.
+ * <p>
+ * A generator whose transition function is linear over GF(2) (Mersenne
+ * Twister, WELL, xorshift families) can be moved forward J steps by
+ * evaluating the polynomial x<sup>J</sup> mod P(x), where P is the
+ * characteristic polynomial of the transition, on the transition itself:
+ * if x<sup>J</sup> mod P(x) = &sum; q<sub>i</sub> x<sup>i</sup> then the
+ * state after J steps is &sum; q<sub>i</sub> s<sub>i</sub>, where
+ * s<sub>i</sub> is the state after i steps. This is described in
+ * <a href="http://www.iro.umontreal.ca/~lecuyer/myftp/papers/jumpf2.pdf">Efficient
+ * Jump Ahead for F<sub>2</sub>-Linear Random Number Generators</a> by Haramoto,
+ * Matsumoto, Nishimura, Panneton and L'Ecuyer.
+ * </p>
+ * <p>
+ * Polynomials are stored as packed arrays of coefficients: bit {@code i & 63}
+ * of element {@code i >> 6} is the coefficient of x<sup>i</sup>.
+ * </p>
+ * @version $Id$
+ * @since 3.2
+ */
+final class GF2Polynomials {
+
+    /** Table spreading the 8 bits of a byte over the even bits of a 16 bits value. */
+    private static final int[] SPREAD = new int[256];
+
+    static {
+        for (int b = 0; b < SPREAD.length; ++b) {
+            int s = 0;
+            for (int i = 0; i < 8; ++i) {
+                s |= ((b >>> i) & 0x1) << (2 * i);
+            }
+            SPREAD[b] = s;
+        }
+    }
+
+    /** Private constructor for utility class. */
+    private GF2Polynomials() {
+    }
+
+    /** Get the degree of a polynomial.
+     * @param p polynomial
+     * @return degree of the polynomial, or -1 for the null polynomial
+     */
+    static int degree(final long[] p) {
+        for (int w = p.length - 1; w >= 0; --w) {
+            if (p[w] != 0) {
+                return 64 * w + 63 - Long.numberOfLeadingZeros(p[w]);
+            }
+        }
+        return -1;
+    }
+
+    /** Get one coefficient of a polynomial.
+     * @param p polynomial
+     * @param i index of the coefficient
+     * @return true if the coefficient of x<sup>i</sup> is 1
+     */
+    static boolean coefficient(final long[] p, final int i) {
+        return (p[i >> 6] & (1l << (i & 63))) != 0;
+    }
+
+    /** Compute the characteristic polynomial of a linear recurring bit sequence.
+     * <p>
+     * The Berlekamp-Massey algorithm is used, so the sequence must hold at
+     * least twice as many bits as the degree of the polynomial. If the
+     * polynomial is irreducible, which is the case for all maximal period
+     * F<sub>2</sub>-linear generators, any non-null output bit of the
+     * generator can be used.
+     * </p>
+     * @param sequence packed bits of the sequence, s<sub>0</sub> being the
+     * least significant bit of the first element
+     * @param n number of bits in the sequence
+     * @return polynomial P such that &sum; p<sub>i</sub> s<sub>k+i</sub> = 0 for all k
+     */
+    static long[] characteristicPolynomial(final long[] sequence, final int n) {
+
+        final int words = (n >> 6) + 2;
+
+        // reversed sequence, so that the bits involved in a discrepancy are contiguous
+        final long[] reversed = new long[words + 1];
+        for (int i = 0; i < n; ++i) {
+            if (coefficient(sequence, i)) {
+                final int j = n - 1 - i;
+                reversed[j >> 6] |= 1l << (j & 63);
+            }
+        }
+
+        long[] c = new long[words];
+        long[] b = new long[words];
+        long[] t = new long[words];
+        c[0] = 1l;
+        b[0] = 1l;
+        int l = 0;
+        int m = 1;
+        for (int k = 0; k < n; ++k) {
+
+            // discrepancy: s_k + sum c_i s_{k-i}, with s_{k-i} at reversed index n-1-k+i
+            final int base = n - 1 - k;
+            long d = 0;
+            for (int w = 0; w <= (l >> 6); ++w) {
+                d ^= c[w] & bits(reversed, base + 64 * w);
+            }
+            if (Long.bitCount(d) % 2 == 0) {
+                ++m;
+            } else if (2 * l <= k) {
+                System.arraycopy(c, 0, t, 0, words);
+                xorShifted(c, b, m);
+                final long[] tmp = b;
+                b = t;
+                t = tmp;
+                l = k + 1 - l;
+                m = 1;
+            } else {
+                xorShifted(c, b, m);
+                ++m;
+            }
+
+        }
+
+        // the characteristic polynomial is the reciprocal of the connection polynomial
+        final long[] p = new long[(l >> 6) + 1];
+        for (int i = 0; i <= l; ++i) {
+            if ((i >> 6) < c.length && coefficient(c, i)) {
+                final int j = l - i;
+                p[j >> 6] |= 1l << (j & 63);
+            }
+        }
+        return p;
+
+    }
+
+    /** Compute x<sup>2<sup>e</sup></sup> mod P(x).
+     * @param p modulus polynomial, of degree at least 1
+     * @param e logarithm in base 2 of the exponent
+     * @return x<sup>2<sup>e</sup></sup> mod P(x)
+     */
+    static long[] xPowerOfTwoMod(final long[] p, final int e) {
+
+        final int degree = degree(p);
+        final int words  = (degree >> 6) + 1;
+
+        // shifted copies of the modulus, for reduction at arbitrary bit offsets
+        final long[][] shifted = new long[64][words + 1];
+        for (int s = 0; s < 64; ++s) {
+            xorShifted(shifted[s], p, s);
+        }
+
+        // start with x mod P
+        long[] r = new long[words];
+        long[] square = new long[2 * words];
+        r[0] = 2l;
+        reduce(r, 1, degree, shifted);
+
+        for (int j = 0; j < e; ++j) {
+
+            // squaring a polynomial over GF(2) spreads its coefficients
+            for (int w = 0; w < words; ++w) {
+                square[2 * w]     = spread((int) r[w]);
+                square[2 * w + 1] = spread((int) (r[w] >>> 32));
+            }
+
+            reduce(square, 2 * degree - 2, degree, shifted);
+            System.arraycopy(square, 0, r, 0, words);
+
+        }
+
+        return r;
+
+    }
+
+    /** Compute the polynomial for jumping 2<sup>e</sup> steps ahead in a generator.
+     * <p>
+     * The characteristic polynomial is identified from the least significant
+     * bit of the generator output, one step being one call to
+     * {@link RandomGenerator#nextInt()}.
+     * </p>
+     * @param generator generator to analyze (it is advanced by the analysis)
+     * @param k upper bound of the number of bits in the generator state
+     * @param e logarithm in base 2 of the jump length
+     * @return x<sup>2<sup>e</sup></sup> mod P(x), where P is the
+     * characteristic polynomial of the generator transition
+     */
+    static long[] jumpPolynomial(final RandomGenerator generator, final int k, final int e) {
+        final int n = 2 * k;
+        final long[] sequence = new long[(n + 63) >> 6];
+        for (int i = 0; i < n; ++i) {
+            if ((generator.nextInt() & 0x1) != 0) {
+                sequence[i >> 6] |= 1l << (i & 63);
+            }
+        }
+        return xPowerOfTwoMod(characteristicPolynomial(sequence, n), e);
+    }
+
+    /** Reduce a polynomial in place modulo P.
+     * @param a polynomial to reduce, of degree at most {@code top}
+     * @param top upper bound of the degree of the polynomial to reduce
+     * @param degree degree of P
+     * @param shifted shifted copies of P
+     */
+    private static void reduce(final long[] a, final int top, final int degree,
+                               final long[][] shifted) {
+        for (int i = top; i >= degree; --i) {
+            if (coefficient(a, i)) {
+                final int offset = i - degree;
+                final long[] s   = shifted[offset & 63];
+                final int shift  = offset >> 6;
+                final int n      = FastMath.min(s.length, a.length - shift);
+                for (int w = 0; w < n; ++w) {
+                    a[shift + w] ^= s[w];
+                }
+            }
+        }
+    }
+
+    /** Spread the 32 bits of an int over the even bits of a long.
+     * @param x int to spread
+     * @return spread value
+     */
+    private static long spread(final int x) {
+        return  ((long) SPREAD[x & 0xff])                |
+               (((long) SPREAD[(x >>>  8) & 0xff]) << 16) |
+               (((long) SPREAD[(x >>> 16) & 0xff]) << 32) |
+               (((long) SPREAD[x >>> 24])          << 48);
+    }
+
+    /** Extract 64 bits from a packed bits array.
+     * @param a packed bits array
+     * @param pos index of the first bit to extract
+     * @return extracted bits (bits beyond the array end are set to 0)
+     */
+    private static long bits(final long[] a, final int pos) {
+        final int w = pos >> 6;
+        if (w >= a.length) {
+            return 0l;
+        }
+        final int s = pos & 63;
+        if (s == 0) {
+            return a[w];
+        }
+        final long high = (w + 1 < a.length) ? a[w + 1] << (64 - s) : 0l;
+        return (a[w] >>> s) | high;
+    }
+
+    /** Add a shifted polynomial to another one.
+     * @param a polynomial to update (x<sup>s</sup> b is added to it, higher
+     * terms not fitting in the array are ignored)
+     * @param b polynomial to shift
+     * @param s shift
+     */
+    private static void xorShifted(final long[] a, final long[] b, final int s) {
+        final int ws = s >> 6;
+        final int bs = s & 63;
+        for (int w = 0; w < b.length && w + ws < a.length; ++w) {
+            if (b[w] != 0) {
+                a[w + ws] ^= b[w] << bs;
+                if (bs != 0 && w + ws + 1 < a.length) {
+                    a[w + ws + 1] ^= b[w] >>> (64 - bs);
+                }
+            }
+        }
+    }
+
+}
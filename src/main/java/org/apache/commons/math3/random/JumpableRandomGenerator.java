@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+/**
+ * Interface for generators able to jump ahead in their sequence.
+ * <p>
+ * Jumping splits the sequence of a single generator into non-overlapping
+ * subsequences. This is the safe way to give each task of a parallel
+ * computation its own stream while keeping the whole computation
+ * reproducible, as seeding several generators independently gives no
+ * guarantee the sequences do not overlap:
+ * </p>
+ * <pre>
+ *   JumpableRandomGenerator source = new XoShiRo256StarStar(seed);
+ *   RandomGenerator[] streams = new RandomGenerator[n];
+ *   for (int i = 0; i < n; ++i) {
+ *       streams[i] = source.jump();
+ *   }
+ * </pre>
+ * <p>
+ * Each stream is then guaranteed not to overlap with the others as long as
+ * it does not draw more values than the jump length, which is documented
+ * by each implementation.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public interface JumpableRandomGenerator extends RandomGenerator {
+
+    /**
+     * Create a copy of this generator, then jump ahead.
+     * <p>
+     * The returned copy is positioned at the current state of this
+     * generator, i.e. it generates the same sequence this generator would
+     * have generated. This generator is then advanced by the jump length.
+     * </p>
+     * @return a copy of this generator, positioned before the jump
+     */
+    JumpableRandomGenerator jump();
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.io.Serializable;
+
+/** This class implements the PCG32 (XSH-RR variant) pseudo-random number generator.
+ * <p>This generator, from Melissa E. O'Neill, combines a 64 bits linear
+ * congruential generator with a permutation output function (xorshift high
+ * bits, then random rotation) producing 32 bits per step. See <a
+ * href="http://www.pcg-random.org/">PCG, A Family of Better Random Number
+ * Generators</a>. The period is 2<sup>64</sup>.</p>
+ * <p>The increment of the underlying congruential generator selects one
+ * of 2<sup>63</sup> distinct streams, which can be chosen at construction.
+ * As the state transition is affine, the generator can also be advanced by
+ * any number of steps in logarithmic time, see {@link #advance(long)}.</p>
+ * <p>The generator {@link #jump() jumps} 2<sup>48</sup> steps ahead, giving
+ * 2<sup>16</sup> non-overlapping streams of length 2<sup>48</sup> from a single
+ * seed; more streams can be obtained by also selecting distinct increments.</p>
+ * @version $Id$
+ * @since 3.2
+ */
+public class PcgXshRr32 extends BitsStreamGenerator
+    implements JumpableRandomGenerator, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Multiplier of the congruential generator. */
+    private static final long MULTIPLIER = 6364136223846793005l;
+
+    /** Default increment of the congruential generator. */
+    private static final long DEFAULT_INCREMENT = 1442695040888963407l;
+
+    /** Jump length. */
+    private static final long JUMP = 1l << 48;
+
+    /** State of the congruential generator. */
+    private long state;
+
+    /** Increment of the congruential generator (always odd). */
+    private final long increment;
+
+    /** Creates a new random number generator.
+     * <p>The instance is initialized using the current time plus the
+     * system identity hash code of this instance as the seed.</p>
+     */
+    public PcgXshRr32() {
+        increment = DEFAULT_INCREMENT;
+        setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+    }
+
+    /** Creates a new random number generator using a single int seed.
+     * @param seed the initial seed (32 bits integer)
+     */
+    public PcgXshRr32(int seed) {
+        increment = DEFAULT_INCREMENT;
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using an int array seed.
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be related to the current time
+     */
+    public PcgXshRr32(int[] seed) {
+        increment = DEFAULT_INCREMENT;
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using a single long seed.
+     * @param seed the initial seed (64 bits integer)
+     */
+    public PcgXshRr32(long seed) {
+        increment = DEFAULT_INCREMENT;
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using a long seed and a stream selector.
+     * <p>Generators built with different streams generate different
+     * sequences, even when built with the same seed.</p>
+     * @param seed the initial seed (64 bits integer)
+     * @param stream stream selector (only the 63 least significant bits are used)
+     */
+    public PcgXshRr32(long seed, long stream) {
+        increment = (stream << 1) | 1l;
+        setSeed(seed);
+    }
+
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private PcgXshRr32(final PcgXshRr32 source) {
+        state     = source.state;
+        increment = source.increment;
+    }
+
+    /** Reinitialize the generator as if just built with the given int seed.
+     * <p>The stream selected at construction is preserved.</p>
+     * @param seed the initial seed (32 bits integer)
+     */
+    @Override
+    public void setSeed(final int seed) {
+        setSeed(new int[] { seed });
+    }
+
+    /** Reinitialize the generator as if just built with the given int array seed.
+     * <p>The stream selected at construction is preserved.</p>
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be the current system time plus the
+     * system identity hash code of this instance
+     */
+    @Override
+    public void setSeed(final int[] seed) {
+        if (seed == null) {
+            setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+            return;
+        }
+        setSeed(SplitMix64.combine(seed));
+    }
+
+    /** Reinitialize the generator as if just built with the given long seed.
+     * <p>The stream selected at construction is preserved.</p>
+     * @param seed the initial seed (64 bits integer)
+     */
+    @Override
+    public void setSeed(final long seed) {
+        state = 0;
+        step();
+        state += seed;
+        step();
+        clear(); // Clear normal deviate cache
+    }
+
+    /** Advance the generator.
+     * <p>This is equivalent to {@code steps} calls to {@link #next(int)},
+     * but takes only O(log(steps)) operations. As the period is
+     * 2<sup>64</sup>, negative values move the generator backwards.</p>
+     * <p>The algorithm is from Forrest B. Brown, <em>Random Number Generation
+     * with Arbitrary Strides</em>, Transactions of the American Nuclear
+     * Society, 1994.</p>
+     * @param steps number of steps
+     */
+    public void advance(final long steps) {
+        long curMult = MULTIPLIER;
+        long curPlus = increment;
+        long accMult = 1;
+        long accPlus = 0;
+        for (long delta = steps; delta != 0; delta >>>= 1) {
+            if ((delta & 0x1l) != 0) {
+                accMult *= curMult;
+                accPlus  = accPlus * curMult + curPlus;
+            }
+            curPlus = (curMult + 1) * curPlus;
+            curMult *= curMult;
+        }
+        state = accMult * state + accPlus;
+        clear();
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>48</sup> calls to {@link #next(int)}
+     * (i.e. 2<sup>48</sup> ints or floats, 2<sup>47</sup> longs or doubles).
+     * Any cached gaussian deviate is discarded.</p>
+     */
+    public PcgXshRr32 jump() {
+        clear();
+        final PcgXshRr32 copy = new PcgXshRr32(this);
+        advance(JUMP);
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int next(final int bits) {
+        final long old = step();
+        final int xorShifted = (int) (((old >>> 18) ^ old) >>> 27);
+        final int rot        = (int) (old >>> 59);
+        return Integer.rotateRight(xorShifted, rot) >>> (32 - bits);
+    }
+
+    /** Advance the congruential generator by one step.
+     * @return state before the step
+     */
+    private long step() {
+        final long old = state;
+        state = old * MULTIPLIER + increment;
+        return old;
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.io.Serializable;
+
+/** This class implements the SplitMix64 pseudo-random number generator.
+ * <p>This generator is the one underlying {@code java.util.SplittableRandom},
+ * described by Guy L. Steele, Doug Lea and Christine H. Flood in <a
+ * href="http://dx.doi.org/10.1145/2714064.2660195">Fast Splittable
+ * Pseudorandom Number Generators</a>, OOPSLA 2014. Its state is a single
+ * 64 bits Weyl sequence, and each output is a bijective mix of the current
+ * state, so the generator is very fast and has a period of 2<sup>64</sup>.</p>
+ * <p>The generator can be {@link #split() split}, which creates a new
+ * generator whose sequence is statistically independent from the sequence of
+ * the original one. Splitting is the natural way of feeding recursive or
+ * fork/join style parallel computations with random numbers.</p>
+ * <p>The {@link #nextLong()} sequence of a generator built with a long seed
+ * is the same as the one of {@code new SplittableRandom(seed)}.</p>
+ * @version $Id$
+ * @since 3.2
+ */
+public class SplitMix64 extends BitsStreamGenerator implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Default increment of the Weyl sequence (odd integer closest to 2<sup>64</sup>/&phi;). */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /** Current state of the Weyl sequence. */
+    private long state;
+
+    /** Increment of the Weyl sequence (always odd). */
+    private long gamma;
+
+    /** Creates a new random number generator.
+     * <p>The instance is initialized using the current time plus the
+     * system identity hash code of this instance as the seed.</p>
+     */
+    public SplitMix64() {
+        setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+    }
+
+    /** Creates a new random number generator using a single int seed.
+     * @param seed the initial seed (32 bits integer)
+     */
+    public SplitMix64(int seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using an int array seed.
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be related to the current time
+     */
+    public SplitMix64(int[] seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using a single long seed.
+     * @param seed the initial seed (64 bits integer)
+     */
+    public SplitMix64(long seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator with a specific increment.
+     * @param seed initial state
+     * @param gamma increment of the Weyl sequence (must be odd)
+     */
+    private SplitMix64(final long seed, final long gamma) {
+        this.state = seed;
+        this.gamma = gamma;
+    }
+
+    /** Reinitialize the generator as if just built with the given int seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integer)
+     */
+    @Override
+    public void setSeed(final int seed) {
+        setSeed(new int[] { seed });
+    }
+
+    /** Reinitialize the generator as if just built with the given int array seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be the current system time plus the
+     * system identity hash code of this instance
+     */
+    @Override
+    public void setSeed(final int[] seed) {
+        if (seed == null) {
+            setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+            return;
+        }
+        setSeed(combine(seed));
+    }
+
+    /** Reinitialize the generator as if just built with the given long seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (64 bits integer)
+     */
+    @Override
+    public void setSeed(final long seed) {
+        state = seed;
+        gamma = GOLDEN_GAMMA;
+        clear(); // Clear normal deviate cache
+    }
+
+    /** Split the generator.
+     * <p>This generator is advanced and a new generator, with its own
+     * state and increment, is created. The sequences of the two generators
+     * are statistically independent.</p>
+     * @return a new generator
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /** {@inheritDoc}
+     * <p>This implementation uses the 53 most significant bits of
+     * {@link #nextLong()}.</p>
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53d;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /** Advance the Weyl sequence.
+     * @return new state
+     */
+    private long nextSeed() {
+        state += gamma;
+        return state;
+    }
+
+    /** Mix the bits of a 64 bits value (Stafford variant 13 of the MurmurHash3 finalizer).
+     * <p>The mix is a bijection and maps 0 to 0.</p>
+     * @param z value to mix
+     * @return mixed value
+     */
+    static long mix64(final long z) {
+        long x = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /** Compute a Weyl sequence increment from a 64 bits value.
+     * @param z value to mix
+     * @return an odd increment with enough bit transitions
+     */
+    private static long mixGamma(final long z) {
+        long x = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        x = (x ^ (x >>> 33)) | 1l;
+        return (Long.bitCount(x ^ (x >>> 1)) < 24) ? x ^ 0xaaaaaaaaaaaaaaaaL : x;
+    }
+
+    /** Combine an int array seed into a single long.
+     * <p>A single int is used as is, two ints form the high and low halves
+     * of the long, and further ints are folded in.</p>
+     * @param seed seed to combine
+     * @return combined seed
+     */
+    static long combine(final int[] seed) {
+        long z = 0;
+        for (int i = 0; i < seed.length; ++i) {
+            z = ((z << 32) | (z >>> 32)) ^ (seed[i] & 0xffffffffl);
+        }
+        return z;
+    }
+
+    /** Fill a multi-words generator state from an int array seed.
+     * <p>The seed ints are paired into longs (cycling over the state if the
+     * seed is longer), then the words are diffused forward and backward so
+     * that each word of the state depends on all the seed bits. As each
+     * diffusion step is invertible, seeds no longer than the state give
+     * distinct states. The resulting state is never all zeros.</p>
+     * @param state state to fill
+     * @param seed seed to use
+     */
+    static void fillState(final long[] state, final int[] seed) {
+        for (int i = 0; i < state.length; ++i) {
+            state[i] = 0;
+        }
+        for (int i = 0; i < seed.length; ++i) {
+            final int w = (i >> 1) % state.length;
+            state[w] ^= (seed[i] & 0xffffffffl) << (((i + 1) & 0x1) << 5);
+        }
+        long z = 0;
+        for (int i = 0; i < state.length; ++i) {
+            state[i] ^= mix64(z + GOLDEN_GAMMA);
+            z = state[i];
+        }
+        z = 0;
+        boolean zero = true;
+        for (int i = state.length - 1; i >= 0; --i) {
+            state[i] ^= mix64(z + GOLDEN_GAMMA);
+            z = state[i];
+            zero &= z == 0;
+        }
+        if (zero) {
+            state[0] = GOLDEN_GAMMA;
+        }
+    }
+
+}
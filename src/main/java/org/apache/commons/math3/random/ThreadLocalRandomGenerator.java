@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * A {@link RandomGenerator} giving each thread its own generator.
+ * <p>
+ * Where {@link SynchronizedRandomGenerator} serializes all calls on a single
+ * lock, this class delegates each call to a generator private to the calling
+ * thread, so concurrent calls never block. It can be shared between threads
+ * everywhere a single generator is expected, for example as the generator of
+ * a distribution or as the {@link
+ * org.apache.commons.math3.genetics.GeneticAlgorithm#setRandomGenerator(RandomGenerator)
+ * genetic algorithm generator}.
+ * </p>
+ * <p>
+ * The per-thread generators are non-overlapping substreams of a single master
+ * generator: the first time a thread uses this instance, it gets the next
+ * {@link JumpableRandomGenerator#jump() jump} of the master. The sequence
+ * seen by each thread is therefore reproducible from the master seed, provided
+ * the threads make their first call in a deterministic order. When work is
+ * dispatched to a thread pool, the mapping of tasks to threads is usually not
+ * deterministic; reproducibility then requires giving each task its own
+ * substream, by calling {@link JumpableRandomGenerator#jump()} on a master
+ * generator before submitting the tasks.
+ * </p>
+ * <p>
+ * Reseeding this instance reseeds the master generator, and all threads switch
+ * to new substreams of the reseeded master on their next call.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ThreadLocalRandomGenerator implements RandomGenerator {
+
+    /** Master generator, also used as the lock for deriving substreams. */
+    private final JumpableRandomGenerator master;
+
+    /** Substreams of the calling threads. */
+    private final ThreadLocal<Substream> substreams;
+
+    /** Number of times the master generator has been reseeded. */
+    private volatile int generation;
+
+    /**
+     * Creates a generator whose substreams are derived from a
+     * {@link XoShiRo256StarStar} master generator.
+     *
+     * @param seed seed of the master generator
+     */
+    public ThreadLocalRandomGenerator(final long seed) {
+        this(new XoShiRo256StarStar(seed));
+    }
+
+    /**
+     * Creates a generator whose substreams are derived from the given master.
+     *
+     * @param master generator from which the per-thread substreams are derived.
+     * To ensure reproducibility, the master <em>must</em> not be used directly.
+     * @throws NullArgumentException if {@code master} is null
+     */
+    public ThreadLocalRandomGenerator(final JumpableRandomGenerator master)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(master);
+        this.master     = master;
+        this.substreams = new ThreadLocal<Substream>();
+        this.generation = 0;
+    }
+
+    /**
+     * Get the generator of the calling thread.
+     * <p>
+     * Retrieving the generator once and using it directly in a tight loop
+     * avoids the thread-local lookup performed by each call to this instance.
+     * The returned generator must not be shared with other threads.
+     * </p>
+     *
+     * @return the generator of the calling thread
+     */
+    public RandomGenerator getThreadGenerator() {
+        Substream substream = substreams.get();
+        if (substream == null || substream.generation != generation) {
+            synchronized (master) {
+                substream = new Substream(master.jump(), generation);
+            }
+            substreams.set(substream);
+        }
+        return substream.generator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setSeed(int seed) {
+        synchronized (master) {
+            master.setSeed(seed);
+            ++generation;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setSeed(int[] seed) {
+        synchronized (master) {
+            master.setSeed(seed);
+            ++generation;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void setSeed(long seed) {
+        synchronized (master) {
+            master.setSeed(seed);
+            ++generation;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void nextBytes(byte[] bytes) {
+        getThreadGenerator().nextBytes(bytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int nextInt() {
+        return getThreadGenerator().nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int nextInt(int n) {
+        return getThreadGenerator().nextInt(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long nextLong() {
+        return getThreadGenerator().nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean nextBoolean() {
+        return getThreadGenerator().nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public float nextFloat() {
+        return getThreadGenerator().nextFloat();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double nextDouble() {
+        return getThreadGenerator().nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double nextGaussian() {
+        return getThreadGenerator().nextGaussian();
+    }
+
+    /** Substream of one thread. */
+    private static class Substream {
+
+        /** Generator of the thread. */
+        private final RandomGenerator generator;
+
+        /** Generation of the master generator the substream was derived from. */
+        private final int generation;
+
+        /** Simple constructor.
+         * @param generator generator of the thread
+         * @param generation generation of the master generator
+         */
+        Substream(final RandomGenerator generator, final int generation) {
+            this.generator  = generator;
+            this.generation = generation;
+        }
+
+    }
+
+}
@@ -32,7 +32,7 @@ package org.apache.commons.math3.random;
  * @since 2.2
 
  */
-public class Well19937a extends AbstractWell {
+public class Well19937a extends AbstractWell implements JumpableRandomGenerator {
 
     /** Serializable version identifier. */
     private static final long serialVersionUID = -7462102162223815419L;
@@ -79,6 +79,24 @@ public class Well19937a extends AbstractWell {
         super(K, M1, M2, M3, seed);
     }
 
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private Well19937a(final Well19937a source) {
+        super(source);
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>128</sup> calls to {@link #next(int)}
+     * (i.e. 2<sup>128</sup> ints or floats, 2<sup>127</sup> longs or doubles).</p>
+     * @since 3.2
+     */
+    public Well19937a jump() {
+        final Well19937a copy = new Well19937a(this);
+        jumpAhead();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int next(final int bits) {
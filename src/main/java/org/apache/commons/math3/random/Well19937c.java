@@ -32,7 +32,7 @@ package org.apache.commons.math3.random;
  * @since 2.2
 
  */
-public class Well19937c extends AbstractWell {
+public class Well19937c extends AbstractWell implements JumpableRandomGenerator {
 
     /** Serializable version identifier. */
     private static final long serialVersionUID = -7203498180754925124L;
@@ -79,6 +79,24 @@ public class Well19937c extends AbstractWell {
         super(K, M1, M2, M3, seed);
     }
 
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private Well19937c(final Well19937c source) {
+        super(source);
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>128</sup> calls to {@link #next(int)}
+     * (i.e. 2<sup>128</sup> ints or floats, 2<sup>127</sup> longs or doubles).</p>
+     * @since 3.2
+     */
+    public Well19937c jump() {
+        final Well19937c copy = new Well19937c(this);
+        jumpAhead();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int next(final int bits) {
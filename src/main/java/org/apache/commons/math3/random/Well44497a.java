@@ -32,7 +32,7 @@ package org.apache.commons.math3.random;
  * @since 2.2
 
  */
-public class Well44497a extends AbstractWell {
+public class Well44497a extends AbstractWell implements JumpableRandomGenerator {
 
     /** Serializable version identifier. */
     private static final long serialVersionUID = -3859207588353972099L;
@@ -79,6 +79,24 @@ public class Well44497a extends AbstractWell {
         super(K, M1, M2, M3, seed);
     }
 
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private Well44497a(final Well44497a source) {
+        super(source);
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>128</sup> calls to {@link #next(int)}
+     * (i.e. 2<sup>128</sup> ints or floats, 2<sup>127</sup> longs or doubles).</p>
+     * @since 3.2
+     */
+    public Well44497a jump() {
+        final Well44497a copy = new Well44497a(this);
+        jumpAhead();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int next(final int bits) {
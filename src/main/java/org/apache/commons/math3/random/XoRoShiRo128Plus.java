@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.io.Serializable;
+
+/** This class implements the xoroshiro128+ pseudo-random number generator.
+ * <p>This generator, from David Blackman and Sebastiano Vigna, is a 128 bits
+ * F<sub>2</sub>-linear generator (xor, shift, rotate) with a sum as output
+ * function. It has a period of 2<sup>128</sup>-1, is very fast and passes
+ * the BigCrush test suite, except for the linearity tests on its lowest
+ * bits. See <a href="http://xoroshiro.di.unimi.it/">xoshiro / xoroshiro
+ * generators and the PRNG shootout</a>. This implementation uses the 2018
+ * parameters (a = 24, b = 16, c = 37).</p>
+ * <p>As the low bits of the output are slightly weaker, the int, float and
+ * double values are built from the most significant bits.</p>
+ * <p>The generator {@link #jump() jumps} 2<sup>64</sup> longs ahead, giving
+ * 2<sup>64</sup> non-overlapping streams of length 2<sup>64</sup>.</p>
+ * @see XoShiRo256StarStar
+ * @version $Id$
+ * @since 3.2
+ */
+public class XoRoShiRo128Plus extends BitsStreamGenerator
+    implements JumpableRandomGenerator, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Jump polynomial, x<sup>2<sup>64</sup></sup> mod P(x). */
+    private static final long[] JUMP = {
+        0xdf900294d8f554a5L, 0x170865df4b3201fcL
+    };
+
+    /** First word of the state. */
+    private long s0;
+
+    /** Second word of the state. */
+    private long s1;
+
+    /** Creates a new random number generator.
+     * <p>The instance is initialized using the current time plus the
+     * system identity hash code of this instance as the seed.</p>
+     */
+    public XoRoShiRo128Plus() {
+        setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+    }
+
+    /** Creates a new random number generator using a single int seed.
+     * @param seed the initial seed (32 bits integer)
+     */
+    public XoRoShiRo128Plus(int seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using an int array seed.
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be related to the current time
+     */
+    public XoRoShiRo128Plus(int[] seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using a single long seed.
+     * @param seed the initial seed (64 bits integer)
+     */
+    public XoRoShiRo128Plus(long seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private XoRoShiRo128Plus(final XoRoShiRo128Plus source) {
+        s0 = source.s0;
+        s1 = source.s1;
+    }
+
+    /** Reinitialize the generator as if just built with the given int seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integer)
+     */
+    @Override
+    public void setSeed(final int seed) {
+        setSeed(new int[] { seed });
+    }
+
+    /** Reinitialize the generator as if just built with the given int array seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be the current system time plus the
+     * system identity hash code of this instance
+     */
+    @Override
+    public void setSeed(final int[] seed) {
+        if (seed == null) {
+            setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+            return;
+        }
+        final long[] state = new long[2];
+        SplitMix64.fillState(state, seed);
+        s0 = state[0];
+        s1 = state[1];
+        clear(); // Clear normal deviate cache
+    }
+
+    /** Reinitialize the generator as if just built with the given long seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (64 bits integer)
+     */
+    @Override
+    public void setSeed(final long seed) {
+        setSeed(new int[] { (int) (seed >>> 32), (int) (seed & 0xffffffffl) });
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>64</sup> calls to {@link #nextLong()},
+     * which is also the number of calls to {@link #next(int)}. Any cached
+     * gaussian deviate is discarded.</p>
+     */
+    public XoRoShiRo128Plus jump() {
+        clear();
+        final XoRoShiRo128Plus copy = new XoRoShiRo128Plus(this);
+        long j0 = 0;
+        long j1 = 0;
+        for (final long word : JUMP) {
+            for (int b = 0; b < 64; ++b) {
+                if ((word & (1l << b)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nextLong() {
+        final long a = s0;
+        long b = s1;
+        final long result = a + b;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 24) ^ b ^ (b << 16);
+        s1 = Long.rotateLeft(b, 37);
+        return result;
+    }
+
+    /** {@inheritDoc}
+     * <p>This implementation uses the 53 most significant bits of
+     * {@link #nextLong()}.</p>
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53d;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.io.Serializable;
+
+/** This class implements the xoshiro256** pseudo-random number generator.
+ * <p>This generator, from David Blackman and Sebastiano Vigna, is a 256 bits
+ * F<sub>2</sub>-linear generator (xor, shift, rotate) with a multiplicative
+ * scrambler as output function. It has a period of 2<sup>256</sup>-1, is
+ * 4-dimensionally equidistributed and passes all the BigCrush tests, so it
+ * is a good general purpose choice when speed matters. See <a
+ * href="http://xoroshiro.di.unimi.it/">xoshiro / xoroshiro generators and
+ * the PRNG shootout</a>.</p>
+ * <p>The generator {@link #jump() jumps} 2<sup>128</sup> longs ahead, giving
+ * 2<sup>128</sup> non-overlapping streams of length 2<sup>128</sup>.</p>
+ * @see XoRoShiRo128Plus
+ * @version $Id$
+ * @since 3.2
+ */
+public class XoShiRo256StarStar extends BitsStreamGenerator
+    implements JumpableRandomGenerator, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Jump polynomial, x<sup>2<sup>128</sup></sup> mod P(x). */
+    private static final long[] JUMP = {
+        0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+
+    /** First word of the state. */
+    private long s0;
+
+    /** Second word of the state. */
+    private long s1;
+
+    /** Third word of the state. */
+    private long s2;
+
+    /** Fourth word of the state. */
+    private long s3;
+
+    /** Creates a new random number generator.
+     * <p>The instance is initialized using the current time plus the
+     * system identity hash code of this instance as the seed.</p>
+     */
+    public XoShiRo256StarStar() {
+        setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+    }
+
+    /** Creates a new random number generator using a single int seed.
+     * @param seed the initial seed (32 bits integer)
+     */
+    public XoShiRo256StarStar(int seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using an int array seed.
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be related to the current time
+     */
+    public XoShiRo256StarStar(int[] seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a new random number generator using a single long seed.
+     * @param seed the initial seed (64 bits integer)
+     */
+    public XoShiRo256StarStar(long seed) {
+        setSeed(seed);
+    }
+
+    /** Creates a copy of a random number generator.
+     * @param source generator to copy
+     */
+    private XoShiRo256StarStar(final XoShiRo256StarStar source) {
+        s0 = source.s0;
+        s1 = source.s1;
+        s2 = source.s2;
+        s3 = source.s3;
+    }
+
+    /** Reinitialize the generator as if just built with the given int seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integer)
+     */
+    @Override
+    public void setSeed(final int seed) {
+        setSeed(new int[] { seed });
+    }
+
+    /** Reinitialize the generator as if just built with the given int array seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (32 bits integers array), if null
+     * the seed of the generator will be the current system time plus the
+     * system identity hash code of this instance
+     */
+    @Override
+    public void setSeed(final int[] seed) {
+        if (seed == null) {
+            setSeed(System.currentTimeMillis() + System.identityHashCode(this));
+            return;
+        }
+        final long[] state = new long[4];
+        SplitMix64.fillState(state, seed);
+        s0 = state[0];
+        s1 = state[1];
+        s2 = state[2];
+        s3 = state[3];
+        clear(); // Clear normal deviate cache
+    }
+
+    /** Reinitialize the generator as if just built with the given long seed.
+     * <p>The state of the generator is exactly the same as a new
+     * generator built with the same seed.</p>
+     * @param seed the initial seed (64 bits integer)
+     */
+    @Override
+    public void setSeed(final long seed) {
+        setSeed(new int[] { (int) (seed >>> 32), (int) (seed & 0xffffffffl) });
+    }
+
+    /** {@inheritDoc}
+     * <p>The jump length is 2<sup>128</sup> calls to {@link #nextLong()},
+     * which is also the number of calls to {@link #next(int)}. Any cached
+     * gaussian deviate is discarded.</p>
+     */
+    public XoShiRo256StarStar jump() {
+        clear();
+        final XoShiRo256StarStar copy = new XoShiRo256StarStar(this);
+        long j0 = 0;
+        long j1 = 0;
+        long j2 = 0;
+        long j3 = 0;
+        for (final long word : JUMP) {
+            for (int b = 0; b < 64; ++b) {
+                if ((word & (1l << b)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                    j2 ^= s2;
+                    j3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+        s2 = j2;
+        s3 = j3;
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nextLong() {
+        final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        final long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    /** {@inheritDoc}
+     * <p>This implementation uses the 53 most significant bits of
+     * {@link #nextLong()}.</p>
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53d;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int next(final int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.random;
+
+import java.io.Serializable;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * This class generates exponentially distributed random scalars with unit
+ * mean, based on the ziggurat method.
+ * <p>The algorithm is described in: <pre>
+ * George Marsaglia and Wai Wan Tsang
+ * The Ziggurat Method for Generating Random Variables
+ * Journal of Statistical Software, Vol. 5, Issue 8 (2000)</pre></p>
+ * <p>As in {@link ZigguratNormalizedRandomGenerator}, 256 layers are used
+ * and each deviate consumes one {@link RandomGenerator#nextLong() long}
+ * value, whose 8 lowest bits select the layer. Most deviates are computed
+ * without calling {@code log} or {@code exp}.</p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ZigguratExponentialRandomGenerator implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Number of random bits used to select the layer. */
+    private static final int LAYER_BITS = 8;
+
+    /** Mask extracting the layer index. */
+    private static final int LAYER_MASK = (1 << LAYER_BITS) - 1;
+
+    /** Scale of the unsigned 56 bits random integers (2<sup>56</sup>). */
+    private static final double SCALE = 0x1.0p56;
+
+    /** Start of the tail. */
+    private static final double R = 7.697117470131487;
+
+    /** Area of each layer. */
+    private static final double V = 3.949659822581572e-3;
+
+    /** Scaled ratios of the widths of consecutive layers. */
+    private static final long[] K = new long[LAYER_MASK + 1];
+
+    /** Factors converting the random integers into abscissas. */
+    private static final double[] W = new double[LAYER_MASK + 1];
+
+    /** Density at the layers boundaries. */
+    private static final double[] F = new double[LAYER_MASK + 1];
+
+    static {
+        double d  = R;
+        double t  = d;
+        double fd = FastMath.exp(-d);
+        final double q = V / fd;
+
+        K[0] = (long) ((d / q) * SCALE);
+        K[1] = 0;
+        W[0] = q / SCALE;
+        W[LAYER_MASK] = d / SCALE;
+        F[0] = 1;
+        F[LAYER_MASK] = fd;
+
+        for (int i = LAYER_MASK - 1; i >= 1; --i) {
+            d  = -FastMath.log(V / d + fd);
+            fd = FastMath.exp(-d);
+            K[i + 1] = (long) ((d / t) * SCALE);
+            t = d;
+            F[i] = fd;
+            W[i] = d / SCALE;
+        }
+    }
+
+    /** Underlying generator. */
+    private final RandomGenerator generator;
+
+    /** Create a new generator.
+     * @param generator underlying random generator to use
+     */
+    public ZigguratExponentialRandomGenerator(final RandomGenerator generator) {
+        this.generator = generator;
+    }
+
+    /** Generate an exponentially distributed random scalar with unit mean.
+     * @return a random scalar following an exponential distribution with unit mean
+     */
+    public double nextExponential() {
+        for (;;) {
+            final long bits = generator.nextLong();
+            final int i     = (int) (bits & LAYER_MASK);
+            final long j    = bits >>> LAYER_BITS;
+
+            if (j < K[i]) {
+                // the point lies in the rectangular part of the layer
+                return j * W[i];
+            }
+
+            if (i == 0) {
+                // base layer, the tail is itself exponential
+                return R - FastMath.log(1 - generator.nextDouble());
+            }
+
+            // wedge between the layer and the density curve
+            final double x = j * W[i];
+            if (F[i] + generator.nextDouble() * (F[i - 1] - F[i]) < FastMath.exp(-x)) {
+                return x;
+            }
+        }
+    }
+
+    /** Fill an array with exponentially distributed random scalars with unit mean.
+     * @param values array to fill (its previous content is overwritten)
+     */
+    public void nextExponentials(final double[] values) {
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = nextExponential();
+        }
+    }
+
+}
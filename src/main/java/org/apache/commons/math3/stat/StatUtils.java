@@ -16,7 +16,10 @@
  */
 package org.apache.commons.math3.stat;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.NoDataException;
@@ -33,35 +36,47 @@ import org.apache.commons.math3.stat.descriptive.summary.Product;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfLogs;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * StatUtils provides static methods for computing statistics based on data
  * stored in double[] arrays.
+ * <p>
+ * Since 3.2, the sums, products, extrema and first two moments can also be
+ * computed in parallel on huge arrays, by the methods taking an
+ * {@link ExecutorService} argument. These methods delegate to the
+ * corresponding statistics, for example
+ * {@link Variance#evaluate(double[], int, int, ExecutorService)}, which
+ * split the array into contiguous chunks, process each chunk in one task
+ * using the serial algorithm, and combine the partial results pairwise
+ * (see {@link org.apache.commons.math3.stat.descriptive.ChunkedEvaluation}).
+ * Arrays too small to benefit from parallelism are processed in the calling
+ * thread.</p>
  *
  * @version $Id$
  */
 public final class StatUtils {
 
     /** sum */
-    private static final UnivariateStatistic SUM = new Sum();
+    private static final Sum SUM = new Sum();
 
     /** sumSq */
-    private static final UnivariateStatistic SUM_OF_SQUARES = new SumOfSquares();
+    private static final SumOfSquares SUM_OF_SQUARES = new SumOfSquares();
 
     /** prod */
-    private static final UnivariateStatistic PRODUCT = new Product();
+    private static final Product PRODUCT = new Product();
 
     /** sumLog */
-    private static final UnivariateStatistic SUM_OF_LOGS = new SumOfLogs();
+    private static final SumOfLogs SUM_OF_LOGS = new SumOfLogs();
 
     /** min */
-    private static final UnivariateStatistic MIN = new Min();
+    private static final Min MIN = new Min();
 
     /** max */
-    private static final UnivariateStatistic MAX = new Max();
+    private static final Max MAX = new Max();
 
     /** mean */
-    private static final UnivariateStatistic MEAN = new Mean();
+    private static final Mean MEAN = new Mean();
 
     /** variance */
     private static final Variance VARIANCE = new Variance();
@@ -686,6 +701,360 @@ public final class StatUtils {
         return PERCENTILE.evaluate(values, begin, length, p);
     }
 
+    /**
+     * Returns the sum of the values in the input array, computed in parallel.
+     *
+     * @param values  array of values to sum
+     * @param executor executor used to run the tasks
+     * @return the sum of the values or <code>Double.NaN</code> if the array
+     * is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sum(double[])
+     * @since 3.2
+     */
+    public static double sum(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return sum(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the sum of the entries in the specified portion of the input
+     * array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the sum of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sum(double[], int, int)
+     * @since 3.2
+     */
+    public static double sum(final double[] values, final int begin, final int length,
+                             final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return SUM.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the sum of the squares of the entries in the input array,
+     * computed in parallel.
+     *
+     * @param values  input array
+     * @param executor executor used to run the tasks
+     * @return the sum of the squared values or <code>Double.NaN</code> if the
+     * array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sumSq(double[])
+     * @since 3.2
+     */
+    public static double sumSq(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return sumSq(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the sum of the squares of the entries in the specified portion of
+     * the input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the sum of the squares of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sumSq(double[], int, int)
+     * @since 3.2
+     */
+    public static double sumSq(final double[] values, final int begin, final int length,
+                               final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return SUM_OF_SQUARES.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the product of the entries in the input array, computed in
+     * parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the product of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #product(double[])
+     * @since 3.2
+     */
+    public static double product(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return product(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the product of the entries in the specified portion of the
+     * input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the product of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #product(double[], int, int)
+     * @since 3.2
+     */
+    public static double product(final double[] values, final int begin, final int length,
+                                 final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return PRODUCT.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the sum of the natural logs of the entries in the input array,
+     * computed in parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the sum of the natural logs of the values or Double.NaN if
+     * the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sumLog(double[])
+     * @since 3.2
+     */
+    public static double sumLog(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return sumLog(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the sum of the natural logs of the entries in the specified
+     * portion of the input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the sum of the natural logs of the values or Double.NaN if
+     * length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #sumLog(double[], int, int)
+     * @since 3.2
+     */
+    public static double sumLog(final double[] values, final int begin, final int length,
+                                final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return SUM_OF_LOGS.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the arithmetic mean of the entries in the input array, computed
+     * in parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the mean of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #mean(double[])
+     * @since 3.2
+     */
+    public static double mean(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return mean(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the arithmetic mean of the entries in the specified portion of
+     * the input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the mean of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #mean(double[], int, int)
+     * @since 3.2
+     */
+    public static double mean(final double[] values, final int begin, final int length,
+                              final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return MEAN.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the (bias-corrected sample) variance of the entries in the input
+     * array, computed in parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the variance of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #variance(double[])
+     * @since 3.2
+     */
+    public static double variance(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return variance(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the (bias-corrected sample) variance of the entries in the
+     * specified portion of the input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the variance of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #variance(double[], int, int)
+     * @since 3.2
+     */
+    public static double variance(final double[] values, final int begin, final int length,
+                                  final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return VARIANCE.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the population variance of the entries in the input array,
+     * computed in parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the population variance of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #populationVariance(double[])
+     * @since 3.2
+     */
+    public static double populationVariance(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return populationVariance(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the population variance of the entries in the specified portion
+     * of the input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the population variance of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #populationVariance(double[], int, int)
+     * @since 3.2
+     */
+    public static double populationVariance(final double[] values, final int begin, final int length,
+                                            final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return new Variance(false).evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the maximum of the entries in the input array, computed in
+     * parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the maximum of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #max(double[])
+     * @since 3.2
+     */
+    public static double max(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return max(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the maximum of the entries in the specified portion of the
+     * input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the maximum of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #max(double[], int, int)
+     * @since 3.2
+     */
+    public static double max(final double[] values, final int begin, final int length,
+                             final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return MAX.evaluate(values, begin, length, executor);
+    }
+
+    /**
+     * Returns the minimum of the entries in the input array, computed in
+     * parallel.
+     *
+     * @param values the input array
+     * @param executor executor used to run the tasks
+     * @return the minimum of the values or Double.NaN if the array is empty
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #min(double[])
+     * @since 3.2
+     */
+    public static double min(final double[] values, final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(values, LocalizedFormats.INPUT_ARRAY);
+        return min(values, 0, values.length, executor);
+    }
+
+    /**
+     * Returns the minimum of the entries in the specified portion of the
+     * input array, computed in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the minimum of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #min(double[], int, int)
+     * @since 3.2
+     */
+    public static double min(final double[] values, final int begin, final int length,
+                             final ExecutorService executor)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        return MIN.evaluate(values, begin, length, executor);
+    }
+
     /**
      * Returns the sum of the (signed) differences between corresponding elements of the
      * input arrays -- i.e., sum(sample1[i] - sample2[i]).
@@ -16,13 +16,23 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.linear.DefaultRealMatrixChangingVisitor;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.ParallelUtils;
 
 /**
  * Computes covariances for pairs of arrays or columns of a matrix.
@@ -41,6 +51,13 @@ import org.apache.commons.math3.stat.descriptive.moment.Variance;
  *
  * <p>Non-bias-corrected estimates use <code>n</code> in place of <code>n - 1</code>
  *
+ * <p>The constructor taking an <code>ExecutorService</code> computes the
+ * whole covariance matrix at once, as the product of the transposed
+ * column-centred data by itself, using the parallel block multiplication of
+ * {@link BlockRealMatrix}. This is much faster on wide matrices than the
+ * column pair by column pair computation of the other constructors, the
+ * results differing only by rounding errors.</p>
+ *
  * @version $Id$
  * @since 2.0
  */
@@ -139,6 +156,31 @@ public class Covariance {
         this(matrix, true);
     }
 
+    /**
+     * Create a covariance matrix from a matrix whose columns
+     * represent covariates, using several threads.
+     *
+     * <p>The <code>biasCorrected</code> parameter determines whether or not
+     * covariance estimates are bias-corrected.</p>
+     *
+     * <p>The matrix must have at least one column and two rows</p>
+     *
+     * @param matrix matrix with columns representing covariates
+     * @param biasCorrected true means covariances are bias-corrected
+     * @param executor executor used to run the tasks
+     * @throws MathIllegalArgumentException if the input matrix does not have
+     * at least two rows and one column
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public Covariance(RealMatrix matrix, boolean biasCorrected, ExecutorService executor)
+    throws MathIllegalArgumentException, NullArgumentException, MathIllegalStateException {
+       checkSufficientData(matrix);
+       n = matrix.getRowDimension();
+       covarianceMatrix = computeCovarianceMatrix(matrix, biasCorrected, executor);
+    }
+
     /**
      * Returns the covariance matrix
      *
@@ -181,6 +223,41 @@ public class Covariance {
         return outMatrix;
     }
 
+    /**
+     * Compute a covariance matrix from a matrix whose columns represent
+     * covariates, using several threads.
+     *
+     * <p>The columns are centred in parallel, then the matrix of the sums of
+     * the products of the deviations from the means is computed by a parallel
+     * block multiplication.</p>
+     *
+     * @param matrix input matrix (must have at least one column and two rows)
+     * @param biasCorrected determines whether or not covariance estimates are bias-corrected
+     * @param executor executor used to run the tasks
+     * @return covariance matrix
+     * @throws MathIllegalArgumentException if the matrix does not contain sufficient data
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    protected RealMatrix computeCovarianceMatrix(RealMatrix matrix, boolean biasCorrected,
+                                                 ExecutorService executor)
+    throws MathIllegalArgumentException, NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+        checkSufficientData(matrix);
+        final int nRows = matrix.getRowDimension();
+        final double denominator = biasCorrected ? nRows - 1 : nRows;
+        final BlockRealMatrix outMatrix = computeCoMoments(matrix, null, executor);
+        outMatrix.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+            /** {@inheritDoc} */
+            @Override
+            public double visit(int row, int column, double value) {
+                return value / denominator;
+            }
+        });
+        return outMatrix;
+    }
+
     /**
      * Create a covariance matrix from a matrix whose columns represent
      * covariates. Covariances are computed using the bias-corrected formula.
@@ -277,6 +354,73 @@ public class Covariance {
         return covariance(xArray, yArray, true);
     }
 
+    /**
+     * Computes the sums of the products of the deviations from the means for
+     * all pairs of columns of a matrix.
+     *
+     * <p>The result is X<sub>c</sub><sup>T</sup>X<sub>c</sub> where
+     * X<sub>c</sub> is the matrix with centred columns, computed block-wise.</p>
+     *
+     * @param matrix input matrix
+     * @param means array where to store the means of the columns (may be null)
+     * @param executor executor used to run the tasks (null for a computation
+     * in the calling thread)
+     * @return the co-moments matrix
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    static BlockRealMatrix computeCoMoments(final RealMatrix matrix, final double[] means,
+                                            final ExecutorService executor)
+        throws MathIllegalStateException {
+        final int nCols = matrix.getColumnDimension();
+        final BlockRealMatrix centred = new BlockRealMatrix(matrix.getRowDimension(), nCols);
+        if (executor == null) {
+            centreColumns(matrix, centred, means, 0, nCols);
+            return centred.transposeMultiply(centred);
+        }
+
+        final int[] bounds =
+            ParallelUtils.partition(nCols, 4 * Runtime.getRuntime().availableProcessors());
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(bounds.length - 1);
+        for (int k = 0; k < bounds.length - 1; ++k) {
+            final int from = bounds[k];
+            final int to   = bounds[k + 1];
+            tasks.add(new Callable<Void>() {
+                /** {@inheritDoc} */
+                public Void call() {
+                    centreColumns(matrix, centred, means, from, to);
+                    return null;
+                }
+            });
+        }
+        ParallelUtils.invokeAll(executor, tasks);
+        return centred.transposeMultiply(centred, executor);
+    }
+
+    /**
+     * Copies a range of columns of a matrix, subtracting their means.
+     *
+     * @param matrix input matrix
+     * @param centred matrix where to store the centred columns
+     * @param means array where to store the means of the columns (may be null)
+     * @param from index of the first column to centre
+     * @param to index after the last column to centre
+     */
+    private static void centreColumns(final RealMatrix matrix, final BlockRealMatrix centred,
+                                      final double[] means, final int from, final int to) {
+        final Mean mean = new Mean();
+        for (int j = from; j < to; ++j) {
+            final double[] column = matrix.getColumn(j);
+            final double m = mean.evaluate(column);
+            for (int i = 0; i < column.length; ++i) {
+                column[i] -= m;
+            }
+            centred.setColumn(j, column);
+            if (means != null) {
+                means[j] = m;
+            }
+        }
+    }
+
     /**
      * Throws MathIllegalArgumentException if the matrix does not have at least
      * one column and two rows.
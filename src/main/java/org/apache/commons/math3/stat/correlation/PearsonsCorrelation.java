@@ -16,9 +16,12 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.linear.RealMatrix;
@@ -82,6 +85,25 @@ public class PearsonsCorrelation {
         correlationMatrix = computeCorrelationMatrix(matrix);
     }
 
+    /**
+     * Create a PearsonsCorrelation from a RealMatrix whose columns
+     * represent variables to be correlated, using several threads.
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor used to run the tasks
+     * @throws MathIllegalArgumentException if the matrix does not have at least
+     * two rows and two columns
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see #computeCorrelationMatrix(RealMatrix, ExecutorService)
+     * @since 3.2
+     */
+    public PearsonsCorrelation(RealMatrix matrix, ExecutorService executor) {
+        checkSufficientData(matrix);
+        nObs = matrix.getRowDimension();
+        correlationMatrix = computeCorrelationMatrix(matrix, executor);
+    }
+
     /**
      * Create a PearsonsCorrelation from a {@link Covariance}.  The correlation
      * matrix is computed by scaling the Covariance's covariance matrix.
@@ -99,6 +121,22 @@ public class PearsonsCorrelation {
         correlationMatrix = covarianceToCorrelation(covarianceMatrix);
     }
 
+    /**
+     * Create a PearsonsCorrelation from a {@link StorelessCovariance}.  The
+     * correlation matrix is computed by scaling the covariance matrix, so
+     * large datasets can be correlated by feeding them to the storeless
+     * covariance by batches of rows.
+     *
+     * @param covariance StorelessCovariance instance
+     * @throws org.apache.commons.math3.exception.NumberIsTooSmallException
+     * if less than two rows have been added to the covariance
+     * @since 3.2
+     */
+    public PearsonsCorrelation(StorelessCovariance covariance) {
+        nObs = covariance.getRowCount();
+        correlationMatrix = covarianceToCorrelation(covariance.getCovarianceMatrix());
+    }
+
     /**
      * Create a PearsonsCorrelation from a covariance matrix.  The correlation
      * matrix is computed by scaling the covariance matrix.
@@ -200,6 +238,28 @@ public class PearsonsCorrelation {
         return outMatrix;
     }
 
+    /**
+     * Computes the correlation matrix for the columns of the
+     * input matrix, using several threads.
+     * <p>
+     * The covariance matrix is first computed by {@link
+     * Covariance#Covariance(RealMatrix, boolean, ExecutorService)} and then
+     * scaled to correlations. The results differ from the ones of {@link
+     * #computeCorrelationMatrix(RealMatrix)} only by rounding errors.
+     * </p>
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor used to run the tasks
+     * @return correlation matrix
+     * @throws MathIllegalArgumentException if the matrix has less than two rows
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public RealMatrix computeCorrelationMatrix(RealMatrix matrix, ExecutorService executor) {
+        return covarianceToCorrelation(new Covariance(matrix, true, executor).getCovarianceMatrix());
+    }
+
     /**
      * Computes the correlation matrix for the columns of the
      * input rectangular array.  The colums of the array represent values
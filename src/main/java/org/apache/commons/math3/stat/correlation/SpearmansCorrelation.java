@@ -21,15 +21,22 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.stat.ranking.NaNStrategy;
 import org.apache.commons.math3.stat.ranking.NaturalRanking;
 import org.apache.commons.math3.stat.ranking.RankingAlgorithm;
+import org.apache.commons.math3.stat.ranking.TiesStrategy;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.ParallelUtils;
 
 /**
  * Spearman's rank correlation. This implementation performs a rank
@@ -39,6 +46,16 @@ import org.apache.commons.math3.stat.ranking.RankingAlgorithm;
  * By default, ranks are computed using {@link NaturalRanking} with default
  * strategies for handling NaNs and ties in the data (NaNs maximal, ties averaged).
  * The ranking algorithm can be set using a constructor argument.
+ * <p>
+ * The methods taking an {@link ExecutorService} rank the columns in parallel
+ * and then compute the correlations with
+ * {@link PearsonsCorrelation#computeCorrelationMatrix(RealMatrix, ExecutorService)}.
+ * In this case the ranking algorithm is called concurrently from several
+ * threads, so it must not hold mutable state. The one known exception is
+ * {@link NaturalRanking} with the {@link TiesStrategy#RANDOM RANDOM} ties
+ * strategy, which shares a random generator: the columns are then ranked
+ * in a single task, in the same order as the serial methods, so results
+ * stay reproducible.
  *
  * @since 2.0
  * @version $Id$
@@ -103,6 +120,26 @@ public class SpearmansCorrelation {
         rankCorrelation = new PearsonsCorrelation(data);
     }
 
+    /**
+     * Create a SpearmansCorrelation with the given input data matrix
+     * and ranking algorithm, using several threads.
+     *
+     * @param dataMatrix matrix of data with columns representing
+     * variables to correlate
+     * @param rankingAlgorithm ranking algorithm
+     * @param executor executor used to run the tasks
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public SpearmansCorrelation(final RealMatrix dataMatrix, final RankingAlgorithm rankingAlgorithm,
+                                final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+        this.rankingAlgorithm = rankingAlgorithm;
+        this.data = rankTransform(dataMatrix, executor);
+        rankCorrelation = new PearsonsCorrelation(data, executor);
+    }
+
     /**
      * Calculate the Spearman Rank Correlation Matrix.
      *
@@ -140,6 +177,23 @@ public class SpearmansCorrelation {
         return new PearsonsCorrelation().computeCorrelationMatrix(matrixCopy);
     }
 
+    /**
+     * Computes the Spearman's rank correlation matrix for the columns of the
+     * input matrix, using several threads.
+     *
+     * @param matrix matrix with columns representing variables to correlate
+     * @param executor executor used to run the tasks
+     * @return correlation matrix
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public RealMatrix computeCorrelationMatrix(final RealMatrix matrix, final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+        final RealMatrix ranked = rankTransform(matrix, executor);
+        return new PearsonsCorrelation().computeCorrelationMatrix(ranked, executor);
+    }
+
     /**
      * Computes the Spearman's rank correlation matrix for the columns of the
      * input rectangular array.  The columns of the array represent values
@@ -194,20 +248,14 @@ public class SpearmansCorrelation {
     private RealMatrix rankTransform(final RealMatrix matrix) {
         RealMatrix transformed = null;
 
-        if (rankingAlgorithm instanceof NaturalRanking &&
-                ((NaturalRanking) rankingAlgorithm).getNanStrategy() == NaNStrategy.REMOVED) {
-            final Set<Integer> nanPositions = new HashSet<Integer>();
-            for (int i = 0; i < matrix.getColumnDimension(); i++) {
-                nanPositions.addAll(getNaNPositions(matrix.getColumn(i)));
-            }
+        final Set<Integer> nanPositions = getRemovedPositions(matrix);
 
-            // if we have found NaN values, we have to update the matrix size
-            if (!nanPositions.isEmpty()) {
-                transformed = new BlockRealMatrix(matrix.getRowDimension() - nanPositions.size(),
-                                                  matrix.getColumnDimension());
-                for (int i = 0; i < transformed.getColumnDimension(); i++) {
-                    transformed.setColumn(i, removeValues(matrix.getColumn(i), nanPositions));
-                }
+        // if we have found NaN values, we have to update the matrix size
+        if (!nanPositions.isEmpty()) {
+            transformed = new BlockRealMatrix(matrix.getRowDimension() - nanPositions.size(),
+                                              matrix.getColumnDimension());
+            for (int i = 0; i < transformed.getColumnDimension(); i++) {
+                transformed.setColumn(i, removeValues(matrix.getColumn(i), nanPositions));
             }
         }
 
@@ -222,6 +270,80 @@ public class SpearmansCorrelation {
         return transformed;
     }
 
+    /**
+     * Applies rank transform to each of the columns of <code>matrix</code>
+     * using the current <code>rankingAlgorithm</code>, using several threads.
+     * <p>
+     * Each task ranks a range of columns directly into the returned matrix,
+     * which is therefore always a {@link BlockRealMatrix}.
+     *
+     * @param matrix matrix to transform
+     * @param executor executor used to run the tasks
+     * @return a rank-transformed matrix
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    private RealMatrix rankTransform(final RealMatrix matrix, final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+
+        final Set<Integer> nanPositions = getRemovedPositions(matrix);
+        final BlockRealMatrix transformed =
+                new BlockRealMatrix(matrix.getRowDimension() - nanPositions.size(),
+                                    matrix.getColumnDimension());
+
+        final int nTasks = hasSharedRandomState() ? 1 : 4 * Runtime.getRuntime().availableProcessors();
+        final int[] bounds = ParallelUtils.partition(transformed.getColumnDimension(), nTasks);
+        final List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(bounds.length - 1);
+        for (int k = 0; k < bounds.length - 1; ++k) {
+            final int from = bounds[k];
+            final int to   = bounds[k + 1];
+            tasks.add(new Callable<Void>() {
+                /** {@inheritDoc} */
+                public Void call() {
+                    for (int i = from; i < to; i++) {
+                        final double[] column = removeValues(matrix.getColumn(i), nanPositions);
+                        transformed.setColumn(i, rankingAlgorithm.rank(column));
+                    }
+                    return null;
+                }
+            });
+        }
+        ParallelUtils.invokeAll(executor, tasks);
+
+        return transformed;
+    }
+
+    /**
+     * Checks whether the ranking algorithm draws from a random generator,
+     * which cannot be used concurrently.
+     *
+     * @return true if the ranking algorithm breaks ties randomly
+     */
+    private boolean hasSharedRandomState() {
+        return rankingAlgorithm instanceof NaturalRanking &&
+               ((NaturalRanking) rankingAlgorithm).getTiesStrategy() == TiesStrategy.RANDOM;
+    }
+
+    /**
+     * Returns the indices of the rows that must be removed before ranking,
+     * i.e. the rows containing a NaN value when the ranking algorithm
+     * is a {@link NaturalRanking} with a {@link NaNStrategy#REMOVED} strategy.
+     *
+     * @param matrix matrix to check
+     * @return a set of the rows to remove (empty if no rows must be removed)
+     */
+    private Set<Integer> getRemovedPositions(final RealMatrix matrix) {
+        final Set<Integer> nanPositions = new HashSet<Integer>();
+        if (rankingAlgorithm instanceof NaturalRanking &&
+                ((NaturalRanking) rankingAlgorithm).getNanStrategy() == NaNStrategy.REMOVED) {
+            for (int i = 0; i < matrix.getColumnDimension(); i++) {
+                nanPositions.addAll(getNaNPositions(matrix.getColumn(i)));
+            }
+        }
+        return nanPositions;
+    }
+
     /**
      * Returns a list containing the indices of NaN values in the input array.
      *
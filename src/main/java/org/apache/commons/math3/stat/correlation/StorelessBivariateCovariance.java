@@ -75,6 +75,27 @@ class StorelessBivariateCovariance {
         biasCorrected = biasCorrection;
     }
 
+    /**
+     * Create a {@link StorelessBivariateCovariance} instance with a given state.
+     *
+     * @param n number of observations
+     * @param meanX the mean of variable x
+     * @param meanY the mean of variable y
+     * @param covarianceNumerator sum of the products of the deviations from the means
+     * @param biasCorrection if <code>true</code> the covariance estimate is corrected
+     * for bias, i.e. n-1 in the denominator, otherwise there is no bias correction,
+     * i.e. n in the denominator.
+     * @since 3.2
+     */
+    StorelessBivariateCovariance(final double n, final double meanX, final double meanY,
+                                 final double covarianceNumerator, final boolean biasCorrection) {
+        this.n                   = n;
+        this.meanX               = meanX;
+        this.meanY               = meanY;
+        this.covarianceNumerator = covarianceNumerator;
+        this.biasCorrected       = biasCorrection;
+    }
+
     /**
      * Update the covariance estimation with a pair of variables (x, y).
      *
@@ -90,6 +111,68 @@ class StorelessBivariateCovariance {
         covarianceNumerator += ((n - 1.0) / n) * deltaX * deltaY;
     }
 
+    /**
+     * Aggregates another bivariate covariance calculation into this.
+     * After this operation, statistics returned should be close to what would
+     * have been obtained by performing all of the {@link #increment(double, double)}
+     * operations in {@code cov} directly on this.
+     *
+     * @param cov StorelessBivariateCovariance instance to aggregate.
+     * @since 3.2
+     */
+    public void aggregate(StorelessBivariateCovariance cov) {
+        if (cov.n == 0) {
+            return;
+        }
+        final double oldN = n;
+        n += cov.n;
+        final double deltaX = cov.meanX - meanX;
+        final double deltaY = cov.meanY - meanY;
+        meanX += deltaX * cov.n / n;
+        meanY += deltaY * cov.n / n;
+        covarianceNumerator += cov.covarianceNumerator + oldN * cov.n / n * deltaX * deltaY;
+    }
+
+    /**
+     * Returns the mean of variable x.
+     *
+     * @return mean of variable x
+     * @since 3.2
+     */
+    double getMeanX() {
+        return meanX;
+    }
+
+    /**
+     * Returns the mean of variable y.
+     *
+     * @return mean of variable y
+     * @since 3.2
+     */
+    double getMeanY() {
+        return meanY;
+    }
+
+    /**
+     * Returns the sum of the products of the deviations from the means.
+     *
+     * @return the covariance numerator
+     * @since 3.2
+     */
+    double getCovarianceNumerator() {
+        return covarianceNumerator;
+    }
+
+    /**
+     * Returns the bias correction flag.
+     *
+     * @return true if the covariance estimate is corrected for bias
+     * @since 3.2
+     */
+    boolean isBiasCorrected() {
+        return biasCorrected;
+    }
+
     /**
      * Returns the number of observations.
      *
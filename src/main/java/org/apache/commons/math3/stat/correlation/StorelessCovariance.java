@@ -16,11 +16,23 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Covariance implementation that does not require input data to be
@@ -37,13 +49,28 @@ import org.apache.commons.math3.linear.RealMatrix;
  * <p>Note: the underlying covariance matrix is symmetric, thus only the
  * upper triangular part of the matrix is stored and updated each increment.</p>
  *
+ * <p>Instances built over separate partitions of a dataset can be merged
+ * using {@link #aggregate(StorelessCovariance)}, with the pairwise co-moments
+ * update formulas from the same paper. Since 3.2, this class is also
+ * serializable, and its serialized form only holds the number of rows, the
+ * means and the co-moments, so partial results can be shipped between
+ * processes before being aggregated.</p>
+ *
+ * <p>Large datasets are best added by batches of rows with
+ * {@link #increment(RealMatrix)}: the co-moments of each batch are computed
+ * block-wise (and optionally in parallel) and then aggregated, which is
+ * much faster than adding the rows one at a time.</p>
+ *
  * @version $Id$
  * @since 3.0
  */
-public class StorelessCovariance extends Covariance {
+public class StorelessCovariance extends Covariance implements Serializable {
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20131017L;
 
     /** the square covariance matrix (upper triangular part) */
-    private StorelessBivariateCovariance[] covMatrix;
+    private transient StorelessBivariateCovariance[] covMatrix;
 
     /** dimension of the square covariance matrix */
     private int dimension;
@@ -162,6 +189,146 @@ public class StorelessCovariance extends Covariance {
 
     }
 
+    /**
+     * Increment the covariance matrix with a batch of rows of data.
+     * <p>
+     * The result is the same, up to rounding errors, as the one obtained by
+     * calling {@link #increment(double[])} for each row of the batch.</p>
+     *
+     * @param batch matrix whose rows are the rows of data
+     * @throws DimensionMismatchException if the column dimension of
+     * <code>batch</code> does not match with the covariance matrix
+     * @since 3.2
+     */
+    public void increment(final RealMatrix batch)
+        throws DimensionMismatchException {
+        incrementBatch(batch, null);
+    }
+
+    /**
+     * Increment the covariance matrix with a batch of rows of data,
+     * using several threads.
+     * <p>
+     * The result is the same, up to rounding errors, as the one obtained by
+     * calling {@link #increment(double[])} for each row of the batch.</p>
+     *
+     * @param batch matrix whose rows are the rows of data
+     * @param executor executor used to run the tasks
+     * @throws DimensionMismatchException if the column dimension of
+     * <code>batch</code> does not match with the covariance matrix
+     * @throws NullArgumentException if <code>executor</code> is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public void increment(final RealMatrix batch, final ExecutorService executor)
+        throws DimensionMismatchException, NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+        incrementBatch(batch, executor);
+    }
+
+    /**
+     * Increment the covariance matrix with a batch of rows of data.
+     *
+     * @param batch matrix whose rows are the rows of data
+     * @param executor executor used to run the tasks (null for a computation
+     * in the calling thread)
+     * @throws DimensionMismatchException if the column dimension of
+     * <code>batch</code> does not match with the covariance matrix
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    private void incrementBatch(final RealMatrix batch, final ExecutorService executor)
+        throws DimensionMismatchException, MathIllegalStateException {
+
+        if (batch.getColumnDimension() != dimension) {
+            throw new DimensionMismatchException(batch.getColumnDimension(), dimension);
+        }
+
+        final double[] means = new double[dimension];
+        final BlockRealMatrix coMoments = Covariance.computeCoMoments(batch, means, executor);
+        final int nRows = batch.getRowDimension();
+        for (int j = 0; j < dimension; ++j) {
+            for (int i = 0; i <= j; ++i) {
+                // cells are incremented with data[i], data[j] for i <= j
+                getElement(i, j).aggregate(new StorelessBivariateCovariance(nRows, means[i], means[j],
+                                                                            coMoments.getEntry(i, j),
+                                                                            true));
+            }
+        }
+
+    }
+
+    /**
+     * Aggregates the rows accumulated by another instance into this one, as
+     * if they had been added to this instance using {@link #increment(double[])}.
+     * <p>
+     * The other instance is not modified. The bias correction setting of this
+     * instance is kept.</p>
+     *
+     * @param other covariance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @throws DimensionMismatchException if the dimensions of the two
+     * covariance matrices do not match
+     * @since 3.2
+     */
+    public void aggregate(final StorelessCovariance other)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(other);
+        if (other.dimension != dimension) {
+            throw new DimensionMismatchException(other.dimension, dimension);
+        }
+        // taking a snapshot allows aggregating an instance with itself
+        final StorelessBivariateCovariance[] snapshot = other.copyCells();
+        for (int k = 0; k < covMatrix.length; ++k) {
+            covMatrix[k].aggregate(snapshot[k]);
+        }
+    }
+
+    /**
+     * Computes the aggregate covariance of a collection of instances.
+     * <p>
+     * The instances in the collection are not modified.</p>
+     *
+     * @param covariances instances to aggregate, all of the same dimension
+     * @return a new instance aggregating all the rows of the collection,
+     * or null if the collection is empty; its bias correction setting is
+     * the one of the first instance
+     * @throws NullArgumentException if the collection or one of its elements is null
+     * @throws DimensionMismatchException if the dimensions do not match
+     * @since 3.2
+     */
+    public static StorelessCovariance aggregate(final Collection<StorelessCovariance> covariances)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(covariances);
+        final Iterator<StorelessCovariance> iterator = covariances.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        final StorelessCovariance first = iterator.next();
+        MathUtils.checkNotNull(first);
+        final StorelessCovariance result = new StorelessCovariance(first.dimension);
+        result.covMatrix = first.copyCells();
+        while (iterator.hasNext()) {
+            result.aggregate(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Copy the cells of the covariance matrix.
+     *
+     * @return deep copy of the cells
+     */
+    private StorelessBivariateCovariance[] copyCells() {
+        final StorelessBivariateCovariance[] copy = new StorelessBivariateCovariance[covMatrix.length];
+        for (int k = 0; k < copy.length; ++k) {
+            final StorelessBivariateCovariance cell = covMatrix[k];
+            copy[k] = new StorelessBivariateCovariance(cell.getN(), cell.getMeanX(), cell.getMeanY(),
+                                                       cell.getCovarianceNumerator(),
+                                                       cell.isBiasCorrected());
+        }
+        return copy;
+    }
+
     /**
      * {@inheritDoc}
      * @throws NumberIsTooSmallException if the number of observations
@@ -203,4 +370,66 @@ public class StorelessCovariance extends Covariance {
         throws MathUnsupportedOperationException {
         throw new MathUnsupportedOperationException();
     }
+
+    /**
+     * Returns the number of rows added to this instance.
+     * <p>
+     * As rows are always added or aggregated as a whole, all the cells share
+     * the same number of observations.</p>
+     *
+     * @return number of rows
+     */
+    int getRowCount() {
+        return dimension > 0 ? (int) covMatrix[0].getN() : 0;
+    }
+
+    /**
+     * Serialize the instance in compact form.
+     * <p>
+     * As rows are always added or aggregated as a whole, all cells share the
+     * same number of observations and the means of the variables, so only the
+     * co-moments are written for each cell.</p>
+     * @param oos stream where object should be written
+     * @throws IOException if object cannot be written to stream
+     */
+    private void writeObject(final ObjectOutputStream oos)
+        throws IOException {
+        oos.defaultWriteObject();
+        final boolean hasCells = dimension > 0;
+        oos.writeBoolean(hasCells ? covMatrix[0].isBiasCorrected() : true);
+        oos.writeDouble(hasCells ? covMatrix[0].getN() : 0);
+        for (int i = 0; i < dimension; ++i) {
+            oos.writeDouble(getElement(i, i).getMeanX());
+        }
+        for (int k = 0; k < covMatrix.length; ++k) {
+            oos.writeDouble(covMatrix[k].getCovarianceNumerator());
+        }
+    }
+
+    /**
+     * Deserialize the instance.
+     * @param ois stream from which the object should be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     * @throws IOException if object cannot be read from the stream
+     */
+    private void readObject(final ObjectInputStream ois)
+      throws ClassNotFoundException, IOException {
+        ois.defaultReadObject();
+        final boolean biasCorrected = ois.readBoolean();
+        final double n = ois.readDouble();
+        final double[] means = new double[dimension];
+        for (int i = 0; i < dimension; ++i) {
+            means[i] = ois.readDouble();
+        }
+        covMatrix = new StorelessBivariateCovariance[dimension * (dimension + 1) / 2];
+        for (int j = 0; j < dimension; ++j) {
+            for (int i = 0; i <= j; ++i) {
+                // cells are incremented with data[i], data[j] for i <= j
+                setElement(i, j, new StorelessBivariateCovariance(n, means[i], means[j],
+                                                                  ois.readDouble(),
+                                                                  biasCorrected));
+            }
+        }
+    }
+
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.stat.descriptive.rank.TDigestPercentile;
 
 /**
  * <p>
@@ -39,6 +40,9 @@ import org.apache.commons.math3.exception.NullArgumentException;
  * </p><p>
  * A static {@link #aggregate(Collection)} method is also included that computes
  * aggregate statistics directly from a Collection of SummaryStatistics instances.
+ * As {@code SummaryStatistics} holds no quantiles, a companion
+ * {@link #aggregatePercentiles(Collection)} method combines the
+ * {@link TDigestPercentile} sketches maintained alongside each partition.
  * </p><p>
  * When {@link #createContributingStatistics()} is used to create SummaryStatistics
  * instances to be aggregated concurrently, the created instances'
@@ -345,6 +349,28 @@ public class AggregateSummaryStatistics implements StatisticalSummary,
         return new StatisticalSummaryValues(mean, variance, n, max, min, sum);
     }
 
+    /**
+     * Computes an aggregate percentile sketch. This method can be used to combine
+     * {@link TDigestPercentile} sketches computed over partitions or subsamples,
+     * typically one per thread, the same way {@link #aggregate(Collection)} combines
+     * the summary statistics of these partitions.
+     * <p>
+     * The compression parameter and the quantile of the result are those of the
+     * first sketch in the collection. The sketches themselves are not modified.
+     * Returns null if the collection is empty or null.
+     * </p>
+     *
+     * @param digests collection of TDigestPercentile to aggregate
+     * @return a sketch summarizing the combined dataset
+     * @since 3.2
+     */
+    public static TDigestPercentile aggregatePercentiles(Collection<TDigestPercentile> digests) {
+        if (digests == null) {
+            return null;
+        }
+        return TDigestPercentile.aggregate(digests);
+    }
+
     /**
      * A SummaryStatistics that also forwards all values added to it to a second
      * {@code SummaryStatistics} for aggregation.
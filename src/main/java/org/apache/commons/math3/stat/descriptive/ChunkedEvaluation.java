@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.ParallelUtils;
+
+/**
+ * Parallel evaluation of univariate statistics on contiguous chunks of an
+ * array.
+ * <p>
+ * This class is the building block of the {@code evaluate} methods taking an
+ * {@link ExecutorService} argument in the descriptive statistics, and hence of
+ * the parallel methods of {@link org.apache.commons.math3.stat.StatUtils}.
+ * Each chunk is processed by one task using the serial algorithm of the
+ * statistic; combining the partial results is left to the statistic. Moments
+ * are combined using the updating formulas of T. F. Chan, G. H. Golub and
+ * R. J. LeVeque (<a href="http://cpsc.yale.edu/sites/default/files/files/tr222.pdf">
+ * Updating Formulae and a Pairwise Algorithm for Computing Sample
+ * Variances</a>), which keep the computation as stable as the serial one.
+ * </p>
+ * <p>
+ * Array slices too small to benefit from parallelism are not split, and the
+ * methods return {@code null} so that the caller can use its serial
+ * algorithm in the calling thread. The array indices are not checked here,
+ * callers are expected to have validated them.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ChunkedEvaluation {
+
+    /** Minimum number of elements in a chunk. */
+    private static final int MIN_CHUNK_SIZE = 16384;
+
+    /**
+     * Class contains only static methods.
+     */
+    private ChunkedEvaluation() {}
+
+    /**
+     * Evaluate a statistic on each chunk of an array slice.
+     *
+     * @param statistic statistic to evaluate (its array evaluation must be
+     * thread-safe)
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return values of the statistic on each chunk, in array order, or null
+     * if the slice is too small to be split
+     * @throws NullArgumentException if the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    public static double[] evaluate(final UnivariateStatistic statistic,
+                                    final double[] values, final int begin, final int length,
+                                    final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+
+        final int[] bounds = split(length, executor);
+        if (bounds == null) {
+            return null;
+        }
+
+        final List<Callable<Double>> tasks = new ArrayList<Callable<Double>>(bounds.length - 1);
+        for (int c = 0; c < bounds.length - 1; ++c) {
+            final int from = begin + bounds[c];
+            final int size = bounds[c + 1] - bounds[c];
+            tasks.add(new Callable<Double>() {
+                /** {@inheritDoc} */
+                public Double call() {
+                    return statistic.evaluate(values, from, size);
+                }
+            });
+        }
+
+        final List<Double> results = ParallelUtils.invokeAll(executor, tasks);
+        final double[] partial = new double[results.size()];
+        for (int c = 0; c < partial.length; ++c) {
+            partial[c] = results.get(c);
+        }
+        return partial;
+
+    }
+
+    /**
+     * Compute the count, mean and sum of squared deviations of an array
+     * slice in parallel.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return count, mean and sum of squared deviations from the mean,
+     * or null if the slice is too small to be split
+     * @throws NullArgumentException if the executor is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     */
+    public static double[] moments(final double[] values, final int begin, final int length,
+                                   final ExecutorService executor)
+        throws NullArgumentException, MathIllegalStateException {
+
+        final int[] bounds = split(length, executor);
+        if (bounds == null) {
+            return null;
+        }
+
+        final Mean mean = new Mean();
+        final List<Callable<double[]>> tasks = new ArrayList<Callable<double[]>>(bounds.length - 1);
+        for (int c = 0; c < bounds.length - 1; ++c) {
+            final int from = begin + bounds[c];
+            final int size = bounds[c + 1] - bounds[c];
+            tasks.add(new Callable<double[]>() {
+                /** {@inheritDoc} */
+                public double[] call() {
+                    // same corrected two-pass algorithm as Variance
+                    final double m = mean.evaluate(values, from, size);
+                    double accum  = 0.0;
+                    double accum2 = 0.0;
+                    for (int i = from; i < from + size; ++i) {
+                        final double dev = values[i] - m;
+                        accum  += dev * dev;
+                        accum2 += dev;
+                    }
+                    return new double[] { size, m, accum - (accum2 * accum2 / size) };
+                }
+            });
+        }
+
+        final List<double[]> partial = ParallelUtils.invokeAll(executor, tasks);
+        return combineMoments(partial, 0, partial.size());
+
+    }
+
+    /**
+     * Sum pairwise the results of the chunks.
+     *
+     * @param partial results of the chunks
+     * @return sum of the results
+     */
+    public static double pairwiseSum(final double[] partial) {
+        return pairwiseSum(partial, 0, partial.length);
+    }
+
+    /**
+     * Split an array slice into chunks.
+     *
+     * @param length the number of elements in the slice
+     * @param executor executor used to run the tasks
+     * @return chunks boundaries, relative to the beginning of the slice,
+     * or null if the slice is too small to be split
+     * @throws NullArgumentException if the executor is null
+     */
+    private static int[] split(final int length, final ExecutorService executor)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(executor);
+        final int nTasks = FastMath.min(4 * Runtime.getRuntime().availableProcessors(),
+                                        length / MIN_CHUNK_SIZE);
+        return (nTasks < 2) ? null : ParallelUtils.partition(length, nTasks);
+    }
+
+    /**
+     * Combine pairwise the moments of consecutive chunks.
+     *
+     * @param moments count, mean and sum of squared deviations of each chunk
+     * @param from index of the first chunk to combine
+     * @param to index after the last chunk to combine
+     * @return count, mean and sum of squared deviations of the union of the chunks
+     */
+    private static double[] combineMoments(final List<double[]> moments, final int from, final int to) {
+        if (to - from == 1) {
+            return moments.get(from);
+        }
+        final int middle = (from + to) / 2;
+        final double[] left  = combineMoments(moments, from, middle);
+        final double[] right = combineMoments(moments, middle, to);
+        final double n       = left[0] + right[0];
+        final double delta   = right[1] - left[1];
+        return new double[] {
+            n,
+            left[1] + delta * right[0] / n,
+            left[2] + right[2] + delta * delta * left[0] * right[0] / n
+        };
+    }
+
+    /**
+     * Sum pairwise an array slice.
+     *
+     * @param partial array to sum
+     * @param from index of the first element to sum
+     * @param to index after the last element to sum
+     * @return sum of the elements
+     */
+    private static double pairwiseSum(final double[] partial, final int from, final int to) {
+        if (to - from == 1) {
+            return partial[from];
+        }
+        final int middle = (from + to) / 2;
+        return pairwiseSum(partial, from, middle) + pairwiseSum(partial, middle, to);
+    }
+
+}
@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.io.Serializable;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * Summary statistics that can be updated concurrently by many threads with
+ * little contention.
+ * <p>
+ * {@link SynchronizedSummaryStatistics} serializes all updates on a single
+ * monitor, which becomes a bottleneck when many threads record values at a
+ * high rate. This class instead spreads updates over several independent
+ * stripes, each one holding its own accumulators (count, sum, sum of squares,
+ * sum of logs, minimum, maximum, mean and second central moment) and guarded by
+ * its own lock. A thread always updates the same stripe, selected from its
+ * identifier, so with enough stripes most updates do not contend at all.
+ * Stripes are padded so that two of them never share a cache line.</p>
+ * <p>
+ * Read methods combine the stripes on the fly, using the same pairwise update
+ * formulas as {@link AggregateSummaryStatistics#aggregate(java.util.Collection)}
+ * (see T. F. Chan, G. H. Golub and R. J. LeVeque, <a
+ * href="http://cpsc.yale.edu/sites/default/files/files/tr222.pdf">Updating
+ * Formulae and a Pairwise Algorithm for Computing Sample Variances</a>).
+ * Reads are therefore more expensive than with {@link SummaryStatistics}, and
+ * should be done with {@link #getSummary()} when several statistics are
+ * needed at once. The results are the ones {@link SummaryStatistics} would
+ * compute on the same values, up to floating point rounding.</p>
+ * <p>
+ * Each stripe is consistent, but a read performed while other threads add
+ * values sees the stripes at slightly different times: it reflects some of the
+ * concurrent updates and not others. The same holds for {@link #clear()}.</p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ConcurrentSummaryStatistics implements StatisticalSummary, Serializable {
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20130615L;
+
+    /** Stripes, their number is a power of two. */
+    private final Stripe[] stripes;
+
+    /**
+     * Construct an instance with a number of stripes adapted to the
+     * number of available processors.
+     */
+    public ConcurrentSummaryStatistics() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construct an instance with a specified number of stripes.
+     * @param stripes minimum number of stripes (it is rounded up to a power of two)
+     * @throws NotStrictlyPositiveException if the number of stripes is not
+     * strictly positive
+     */
+    public ConcurrentSummaryStatistics(final int stripes)
+        throws NotStrictlyPositiveException {
+        if (stripes <= 0) {
+            throw new NotStrictlyPositiveException(stripes);
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; ++i) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Get the number of stripes.
+     * @return number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Add a value to the data.
+     * @param value the value to add
+     */
+    public void addValue(final double value) {
+        final Stripe stripe =
+            stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        synchronized (stripe) {
+            stripe.add(value);
+        }
+    }
+
+    /**
+     * Resets all statistics.
+     */
+    public void clear() {
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Return a {@link StatisticalSummaryValues} instance reporting current
+     * statistics.
+     * @return current values of the statistics
+     */
+    public StatisticalSummary getSummary() {
+        final Stripe s = combine();
+        return new StatisticalSummaryValues(s.getMean(), s.getVariance(), s.n,
+                                            s.max, s.min, s.sum);
+    }
+
+    /**
+     * Returns the number of available values
+     * @return The number of available values
+     */
+    public long getN() {
+        long n = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                n += stripe.n;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns the sum of the values that have been added
+     * @return The sum or <code>0</code> if no values have been added
+     */
+    public double getSum() {
+        return combine().sum;
+    }
+
+    /**
+     * Returns the sum of the squares of the values that have been added.
+     * @return The sum of squares or <code>0</code> if no values have been added
+     */
+    public double getSumsq() {
+        return combine().sumsq;
+    }
+
+    /**
+     * Returns the sum of the logs of the values that have been added.
+     * @return the sum of logs or <code>0</code> if no values have been added
+     */
+    public double getSumOfLogs() {
+        return combine().sumLog;
+    }
+
+    /**
+     * Returns the mean of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the mean
+     */
+    public double getMean() {
+        return combine().getMean();
+    }
+
+    /**
+     * Returns the geometric mean of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the geometric mean
+     */
+    public double getGeometricMean() {
+        final Stripe s = combine();
+        return (s.n > 0) ? FastMath.exp(s.sumLog / s.n) : Double.NaN;
+    }
+
+    /**
+     * Returns the (sample) variance of the available values.
+     * <p>This method returns the bias-corrected sample variance (using {@code n - 1} in
+     * the denominator).</p>
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the variance
+     */
+    public double getVariance() {
+        return combine().getVariance();
+    }
+
+    /**
+     * Returns the population variance of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the population variance
+     */
+    public double getPopulationVariance() {
+        final Stripe s = combine();
+        return (s.n > 0) ? s.m2 / s.n : Double.NaN;
+    }
+
+    /**
+     * Returns the standard deviation of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the standard deviation
+     */
+    public double getStandardDeviation() {
+        final Stripe s = combine();
+        if (s.n == 0) {
+            return Double.NaN;
+        }
+        return (s.n > 1) ? FastMath.sqrt(s.getVariance()) : 0.0;
+    }
+
+    /**
+     * Returns the sum of squared deviations from the sample mean of the
+     * values that have been added.
+     * <p>
+     * Returns <code>Double.NaN</code> if no data values have been added and
+     * returns <code>0</code> if there is just one value in the data set.</p>
+     * @return second central moment statistic
+     */
+    public double getSecondMoment() {
+        final Stripe s = combine();
+        return (s.n > 0) ? s.m2 : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the maximum
+     */
+    public double getMax() {
+        return combine().max;
+    }
+
+    /**
+     * Returns the minimum of the values that have been added.
+     * <p>
+     * Double.NaN is returned if no values have been added.
+     * </p>
+     * @return the minimum
+     */
+    public double getMin() {
+        return combine().min;
+    }
+
+    /**
+     * Generates a text report displaying summary statistics from values that
+     * have been added.
+     * @return String with line feeds displaying statistics
+     */
+    @Override
+    public String toString() {
+        final Stripe s = combine();
+        StringBuilder outBuffer = new StringBuilder();
+        String endl = "\n";
+        outBuffer.append("ConcurrentSummaryStatistics:").append(endl);
+        outBuffer.append("n: ").append(s.n).append(endl);
+        outBuffer.append("min: ").append(s.min).append(endl);
+        outBuffer.append("max: ").append(s.max).append(endl);
+        outBuffer.append("mean: ").append(s.getMean()).append(endl);
+        outBuffer.append("variance: ").append(s.getVariance()).append(endl);
+        outBuffer.append("sum of squares: ").append(s.sumsq).append(endl);
+        outBuffer.append("sum of logs: ").append(s.sumLog).append(endl);
+        return outBuffer.toString();
+    }
+
+    /**
+     * Combine all stripes.
+     * @return a new stripe holding the combined statistics
+     */
+    private Stripe combine() {
+        final Stripe combined = new Stripe();
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                combined.combine(stripe);
+            }
+        }
+        return combined;
+    }
+
+    /** Accumulators for one stripe. */
+    private static class Stripe implements Serializable {
+
+        /** Serializable version identifier */
+        private static final long serialVersionUID = 20130615L;
+
+        /** Number of values. */
+        private long n;
+
+        /** Sum of the values. */
+        private double sum;
+
+        /** Sum of the squares of the values. */
+        private double sumsq;
+
+        /** Sum of the logs of the values. */
+        private double sumLog;
+
+        /** Minimum value. */
+        private double min;
+
+        /** Maximum value. */
+        private double max;
+
+        /** Mean of the values. */
+        private double mean;
+
+        /** Sum of squared deviations from the mean. */
+        private double m2;
+
+        // Padding. The stripes are allocated one after the other and would
+        // otherwise share cache lines, so that an update of one stripe would
+        // invalidate the line holding its neighbour in the caches of the
+        // other processors (false sharing). These 64 unused bytes keep the
+        // accumulators and lock of one stripe on lines of their own.
+        /** Padding, never used. */
+        private transient long p0;
+        /** Padding, never used. */
+        private transient long p1;
+        /** Padding, never used. */
+        private transient long p2;
+        /** Padding, never used. */
+        private transient long p3;
+        /** Padding, never used. */
+        private transient long p4;
+        /** Padding, never used. */
+        private transient long p5;
+        /** Padding, never used. */
+        private transient long p6;
+        /** Padding, never used. */
+        private transient long p7;
+
+        /** Simple constructor. */
+        Stripe() {
+            clear();
+        }
+
+        /** Reset the accumulators. */
+        void clear() {
+            n      = 0;
+            sum    = 0;
+            sumsq  = 0;
+            sumLog = 0;
+            min    = Double.NaN;
+            max    = Double.NaN;
+            mean   = 0;
+            m2     = 0;
+        }
+
+        /**
+         * Add a value.
+         * @param value value to add
+         */
+        void add(final double value) {
+            sum    += value;
+            sumsq  += value * value;
+            sumLog += FastMath.log(value);
+            if (value < min || Double.isNaN(min)) {
+                min = value;
+            }
+            if (value > max || Double.isNaN(max)) {
+                max = value;
+            }
+            ++n;
+            final double dev = value - mean;
+            final double nDev = dev / n;
+            mean += nDev;
+            m2   += (n - 1) * dev * nDev;
+        }
+
+        /**
+         * Combine another stripe into this one.
+         * @param other stripe to combine
+         */
+        void combine(final Stripe other) {
+            if (other.n == 0) {
+                return;
+            }
+            if (other.min < min || Double.isNaN(min)) {
+                min = other.min;
+            }
+            if (other.max > max || Double.isNaN(max)) {
+                max = other.max;
+            }
+            sum    += other.sum;
+            sumsq  += other.sumsq;
+            sumLog += other.sumLog;
+            final double oldN  = n;
+            final double curN  = other.n;
+            n += other.n;
+            final double delta = other.mean - mean;
+            mean += delta * curN / n;
+            m2   += other.m2 + delta * delta * oldN * curN / n;
+        }
+
+        /**
+         * Get the mean.
+         * @return mean
+         */
+        double getMean() {
+            return (n > 0) ? mean : Double.NaN;
+        }
+
+        /**
+         * Get the bias-corrected variance.
+         * @return variance
+         */
+        double getVariance() {
+            if (n == 0) {
+                return Double.NaN;
+            }
+            return (n > 1) ? m2 / (n - 1) : 0.0;
+        }
+
+    }
+
+}
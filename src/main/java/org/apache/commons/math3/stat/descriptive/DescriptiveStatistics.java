@@ -36,6 +36,7 @@ import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
 import org.apache.commons.math3.util.MathUtils;
 import org.apache.commons.math3.util.ResizableDoubleArray;
+import org.apache.commons.math3.util.RollingDoubleArray;
 import org.apache.commons.math3.util.FastMath;
 
 
@@ -52,6 +53,13 @@ import org.apache.commons.math3.util.FastMath;
  * added in a "rolling" manner, with new values replacing the "oldest" values
  * in the dataset.
  *
+ * <p>The values are stored in a {@link ResizableDoubleArray} by default.
+ * Another {@link RollingDoubleArray} implementation can be selected using
+ * {@link #DescriptiveStatistics(RollingDoubleArray)}, for example a
+ * {@link org.apache.commons.math3.util.CircularDoubleArray
+ * CircularDoubleArray}, which is not synchronized and adds values to a full
+ * window in constant time.</p>
+ *
  * <p>Note: this class is not threadsafe.  Use
  * {@link SynchronizedDescriptiveStatistics} if concurrent access from multiple
  * threads is required.</p>
@@ -79,7 +87,7 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
     /**
      *  Stored data values
      */
-    private ResizableDoubleArray eDA = new ResizableDoubleArray();
+    private RollingDoubleArray eDA = new ResizableDoubleArray();
 
     /** Mean statistic implementation - can be reset by setter. */
     private UnivariateStatistic meanImpl = new Mean();
@@ -142,6 +150,23 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
         }
     }
 
+    /**
+     * Construct a DescriptiveStatistics instance with an infinite window,
+     * storing the values in the specified array.
+     * <p>
+     * The values already held by {@code storage} form the initial dataset.
+     * The array is used directly, not copied, so it should not be modified
+     * by the caller afterwards.</p>
+     *
+     * @param storage array used to store the values
+     * @throws NullArgumentException if storage is null
+     * @since 3.2
+     */
+    public DescriptiveStatistics(RollingDoubleArray storage) throws NullArgumentException {
+        MathUtils.checkNotNull(storage);
+        eDA = storage;
+    }
+
     /**
      * Copy constructor.  Construct a new DescriptiveStatistics instance that
      * is a copy of original.
@@ -446,6 +471,37 @@ public class DescriptiveStatistics implements StatisticalSummary, Serializable {
         return apply(percentileImpl);
     }
 
+    /**
+     * Returns estimates for several percentiles of the stored values.
+     * <p>
+     * The result is the same as calling {@link #getPercentile(double)} for
+     * each percentile, but when the percentile implementation is a
+     * {@link Percentile}, the stored values are copied and partitioned
+     * only once for all the requested percentiles.
+     * </p>
+     *
+     * @param ps the requested percentiles (scaled from 0 - 100)
+     * @return estimates for the percentiles of the stored data, in the same
+     * order as in {@code ps}
+     * @throws MathIllegalStateException if percentile implementation has been
+     *  overridden and the supplied implementation does not support setQuantile
+     * @throws MathIllegalArgumentException if one of the percentiles is not a
+     * valid quantile
+     * @since 3.2
+     */
+    public double[] getPercentiles(double[] ps)
+        throws MathIllegalStateException, MathIllegalArgumentException {
+        if (percentileImpl instanceof Percentile) {
+            final double[] values = getValues();
+            return ((Percentile) percentileImpl).evaluateInPlace(values, 0, values.length, ps);
+        }
+        final double[] result = new double[ps.length];
+        for (int i = 0; i < ps.length; ++i) {
+            result[i] = getPercentile(ps[i]);
+        }
+        return result;
+    }
+
     /**
      * Generates a text report displaying univariate statistics from values
      * that have been added.  Each statistic is displayed on a separate
@@ -22,6 +22,8 @@ import java.util.Arrays;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.stat.descriptive.moment.GeometricMean;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
@@ -62,6 +64,11 @@ import org.apache.commons.math3.util.FastMath;
  * <code>getSum</code> will return a three-element array with values
  * {0+3+6, 1+4+7, 2+5+8}</p>
  *
+ * <p>Instances using the default implementations can be merged using
+ * {@link #aggregate(MultivariateSummaryStatistics)}, so that partitions of
+ * a large dataset can be processed independently, possibly in parallel or
+ * in separate processes, and their statistics reduced afterwards.</p>
+ *
  * <p>Note: This class is not thread-safe. Use
  * {@link SynchronizedMultivariateSummaryStatistics} if concurrent access from multiple
  * threads is required.</p>
@@ -359,6 +366,60 @@ public class MultivariateSummaryStatistics
         covarianceImpl.clear();
     }
 
+    /**
+     * Adds the n-tuples accumulated by another instance to this one, as if
+     * they had been added to this instance using {@link #addValue(double[])}.
+     * <p>
+     * Only the default statistics implementations can be aggregated. The
+     * other instance is not modified.</p>
+     *
+     * @param other instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @throws DimensionMismatchException if the dimensions of the two
+     * instances do not match
+     * @throws MathUnsupportedOperationException if either instance uses a
+     * statistic implementation that cannot be aggregated
+     * @since 3.2
+     */
+    public void aggregate(MultivariateSummaryStatistics other)
+        throws NullArgumentException, DimensionMismatchException,
+               MathUnsupportedOperationException {
+        MathUtils.checkNotNull(other);
+        checkDimension(other.k);
+
+        // check everything before modifying anything
+        final Mean empty = new Mean();
+        for (int i = 0; i < k; ++i) {
+            if (!(sumImpl[i]     instanceof Sum           && other.sumImpl[i]     instanceof Sum           &&
+                  sumSqImpl[i]   instanceof SumOfSquares  && other.sumSqImpl[i]   instanceof SumOfSquares  &&
+                  minImpl[i]     instanceof Min           && other.minImpl[i]     instanceof Min           &&
+                  maxImpl[i]     instanceof Max           && other.maxImpl[i]     instanceof Max           &&
+                  sumLogImpl[i]  instanceof SumOfLogs     && other.sumLogImpl[i]  instanceof SumOfLogs     &&
+                  geoMeanImpl[i] instanceof GeometricMean && other.geoMeanImpl[i] instanceof GeometricMean &&
+                  ((GeometricMean) geoMeanImpl[i]).getSumLogImpl()       instanceof SumOfLogs &&
+                  ((GeometricMean) other.geoMeanImpl[i]).getSumLogImpl() instanceof SumOfLogs &&
+                  meanImpl[i]    instanceof Mean          && other.meanImpl[i]    instanceof Mean)) {
+                throw new MathUnsupportedOperationException();
+            }
+            // merging an empty mean changes nothing, but fails for a mean
+            // that does not own its moment
+            ((Mean) meanImpl[i]).aggregate(empty);
+        }
+
+        for (int i = 0; i < k; ++i) {
+            ((Sum) sumImpl[i]).aggregate((Sum) other.sumImpl[i]);
+            ((SumOfSquares) sumSqImpl[i]).aggregate((SumOfSquares) other.sumSqImpl[i]);
+            ((Min) minImpl[i]).aggregate((Min) other.minImpl[i]);
+            ((Max) maxImpl[i]).aggregate((Max) other.maxImpl[i]);
+            ((SumOfLogs) sumLogImpl[i]).aggregate((SumOfLogs) other.sumLogImpl[i]);
+            ((GeometricMean) geoMeanImpl[i]).aggregate((GeometricMean) other.geoMeanImpl[i]);
+            ((Mean) meanImpl[i]).aggregate((Mean) other.meanImpl[i]);
+        }
+        covarianceImpl.aggregate(other.covarianceImpl);
+        n += other.n;
+
+    }
+
     /**
      * Returns true iff <code>object</code> is a <code>MultivariateSummaryStatistics</code>
      * instance and all statistics have the same values as this.
@@ -123,6 +123,14 @@ public class SynchronizedDescriptiveStatistics extends DescriptiveStatistics {
         return super.getValues();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double[] getPercentiles(double[] ps) {
+        return super.getPercentiles(ps);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,7 +18,10 @@ package org.apache.commons.math3.stat.descriptive;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Implementation of
@@ -161,6 +164,22 @@ public class SynchronizedMultivariateSummaryStatistics
         super.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The other instance is locked while it is read.</p>
+     * @since 3.2
+     */
+    @Override
+    public synchronized void aggregate(MultivariateSummaryStatistics other)
+        throws NullArgumentException, DimensionMismatchException,
+               MathUnsupportedOperationException {
+        MathUtils.checkNotNull(other);
+        synchronized (other) {
+            super.aggregate(other);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
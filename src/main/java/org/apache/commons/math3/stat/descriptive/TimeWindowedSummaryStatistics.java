@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * Computes summary statistics over a sliding time window, without storing
+ * the individual values.
+ * <p>
+ * The window is divided into a fixed number of buckets of equal duration,
+ * held in a ring. Each bucket accumulates the values whose time stamps fall
+ * in its time slot using a {@link SummaryStatistics}. Adding a value is
+ * a constant time operation: a bucket is recycled when its slot has left the
+ * window and a value falling into it arrives. The summary of the window is
+ * obtained by aggregating the buckets that are still in the window, as done
+ * by {@link AggregateSummaryStatistics#aggregate(java.util.Collection)}.</p>
+ * <p>
+ * Values leave the window one whole bucket at a time, so the bucket duration
+ * is the time resolution of the window: a summary computed at time
+ * <code>t</code> covers the values added at times <code>u</code> such that
+ * the slot of <code>u</code> is one of the last <code>bucketCount</code>
+ * slots ending with the slot of <code>t</code>, where the slot of a time
+ * is its integer division by the bucket duration.</p>
+ * <p>
+ * Times are arbitrary {@code long} values, for example milliseconds as
+ * returned by {@link System#currentTimeMillis()}, which the methods without
+ * time arguments use. Values may arrive slightly out of order; those older
+ * than the window at the time they are added are ignored.</p>
+ * <p>
+ * Count-based windows are available through
+ * {@link DescriptiveStatistics#setWindowSize(int)}, and exponentially
+ * decaying statistics through
+ * {@link org.apache.commons.math3.stat.descriptive.moment.ExponentiallyWeightedMean}
+ * and
+ * {@link org.apache.commons.math3.stat.descriptive.moment.ExponentiallyWeightedVariance}.</p>
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, it must be
+ * synchronized externally.</p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class TimeWindowedSummaryStatistics implements Serializable {
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Duration of one bucket. */
+    private final long bucketDuration;
+
+    /** Statistics of the values in each bucket. */
+    private final SummaryStatistics[] buckets;
+
+    /** Time slot currently held by each bucket. */
+    private final long[] slots;
+
+    /** Most recent time slot that received a value. */
+    private long latestSlot;
+
+    /**
+     * Construct a TimeWindowedSummaryStatistics instance.
+     * <p>
+     * If {@code windowLength} is not a multiple of {@code bucketCount},
+     * the bucket duration is rounded up, so the effective window length,
+     * returned by {@link #getWindowLength()}, may be slightly larger.</p>
+     *
+     * @param windowLength length of the time window
+     * @param bucketCount number of buckets the window is divided into
+     * @throws NotStrictlyPositiveException if {@code windowLength} or
+     * {@code bucketCount} is not strictly positive
+     */
+    public TimeWindowedSummaryStatistics(final long windowLength, final int bucketCount)
+        throws NotStrictlyPositiveException {
+        if (windowLength <= 0) {
+            throw new NotStrictlyPositiveException(windowLength);
+        }
+        if (bucketCount <= 0) {
+            throw new NotStrictlyPositiveException(bucketCount);
+        }
+        bucketDuration = (windowLength - 1) / bucketCount + 1;
+        buckets        = new SummaryStatistics[bucketCount];
+        slots          = new long[bucketCount];
+        for (int i = 0; i < bucketCount; ++i) {
+            buckets[i] = new SummaryStatistics();
+        }
+        clear();
+    }
+
+    /**
+     * A copy constructor. Creates a deep-copy of the {@code original}.
+     *
+     * @param original the {@code TimeWindowedSummaryStatistics} instance to copy
+     * @throws NullArgumentException if original is null
+     */
+    public TimeWindowedSummaryStatistics(final TimeWindowedSummaryStatistics original)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(original);
+        bucketDuration = original.bucketDuration;
+        buckets        = new SummaryStatistics[original.buckets.length];
+        slots          = original.slots.clone();
+        latestSlot     = original.latestSlot;
+        for (int i = 0; i < buckets.length; ++i) {
+            buckets[i] = original.buckets[i].copy();
+        }
+    }
+
+    /**
+     * Returns a copy of this TimeWindowedSummaryStatistics instance.
+     *
+     * @return a copy of this
+     */
+    public TimeWindowedSummaryStatistics copy() {
+        return new TimeWindowedSummaryStatistics(this);
+    }
+
+    /**
+     * Get the effective length of the time window.
+     *
+     * @return the product of the bucket duration by the number of buckets
+     */
+    public long getWindowLength() {
+        return bucketDuration * buckets.length;
+    }
+
+    /**
+     * Get the duration of one bucket.
+     *
+     * @return the duration of one bucket, which is the time resolution of the window
+     */
+    public long getBucketDuration() {
+        return bucketDuration;
+    }
+
+    /**
+     * Get the number of buckets.
+     *
+     * @return number of buckets the window is divided into
+     */
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Add a value with the current time as its time stamp.
+     *
+     * @param value the value to add
+     * @see System#currentTimeMillis()
+     */
+    public void addValue(final double value) {
+        addValue(value, System.currentTimeMillis());
+    }
+
+    /**
+     * Add a value with an explicit time stamp.
+     * <p>
+     * If the value is already out of the window ending with the most
+     * recent time stamp seen so far, it is ignored.</p>
+     *
+     * @param value the value to add
+     * @param time time stamp of the value
+     */
+    public void addValue(final double value, final long time) {
+        final long slot = slot(time);
+        if (slot > latestSlot) {
+            latestSlot = slot;
+        } else if (latestSlot - slot >= buckets.length) {
+            // the value has already left the window
+            return;
+        }
+        final int index = index(slot);
+        if (slots[index] != slot) {
+            // recycle a bucket that has left the window
+            buckets[index].clear();
+            slots[index] = slot;
+        }
+        buckets[index].addValue(value);
+    }
+
+    /**
+     * Return the summary of the window ending at the current time.
+     *
+     * @return summary of the values in the window
+     * @see System#currentTimeMillis()
+     */
+    public StatisticalSummary getSummary() {
+        return getSummary(System.currentTimeMillis());
+    }
+
+    /**
+     * Return the summary of the window ending at the specified time.
+     * <p>
+     * If the window does not contain any value, the returned summary has
+     * count 0 and all other statistics set to Double.NaN, like an empty
+     * {@link SummaryStatistics}.</p>
+     *
+     * @param time end of the window
+     * @return summary of the values in the window
+     */
+    public StatisticalSummary getSummary(final long time) {
+        final long slot = slot(time);
+        final List<SummaryStatistics> live = new ArrayList<SummaryStatistics>(buckets.length);
+        for (int i = 0; i < buckets.length; ++i) {
+            if (slots[i] != Long.MIN_VALUE && slots[i] <= slot &&
+                slot - slots[i] < buckets.length) {
+                live.add(buckets[i]);
+            }
+        }
+        return live.isEmpty() ?
+               new SummaryStatistics().getSummary() :
+               AggregateSummaryStatistics.aggregate(live);
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void clear() {
+        for (int i = 0; i < buckets.length; ++i) {
+            buckets[i].clear();
+            slots[i] = Long.MIN_VALUE;
+        }
+        latestSlot = Long.MIN_VALUE;
+    }
+
+    /**
+     * Get the time slot of a time stamp.
+     *
+     * @param time time stamp
+     * @return the time slot containing the time stamp
+     */
+    private long slot(final long time) {
+        // round towards negative infinity, so slots have the same duration around 0
+        final long q = time / bucketDuration;
+        return (time < 0 && q * bucketDuration != time) ? q - 1 : q;
+    }
+
+    /**
+     * Get the index of the bucket holding a time slot.
+     *
+     * @param slot time slot
+     * @return index of the bucket in the ring
+     */
+    private int index(final long slot) {
+        final int index = (int) (slot % buckets.length);
+        return (index < 0) ? index + buckets.length : index;
+    }
+
+}
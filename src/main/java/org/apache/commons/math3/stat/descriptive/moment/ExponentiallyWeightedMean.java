@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.moment;
+
+import java.io.Serializable;
+
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * Computes the exponentially weighted moving average of a stream of values.
+ * <p>
+ * Each new value is given weight <code>&alpha;</code> and the weights of the
+ * previous values are multiplied by <code>1 - &alpha;</code>, so the statistic
+ * follows recent values without storing any of them. The recursive updating
+ * algorithm is:</p>
+ * <ol>
+ * <li>Initialize <code>m = </code> the first value</li>
+ * <li>For each additional value, update using <br>
+ *   <code>m = m + &alpha; (new value - m)</code></li>
+ * </ol>
+ * <p>
+ * A smoothing factor <code>&alpha; = 1 - exp(-ln(2) / h)</code> halves the
+ * weight of a value after <code>h</code> newer values have been added.
+ * When used to evaluate an array, the values are processed in array order.
+ * </p>
+ * <p>
+ * This statistic can be used as the mean implementation of a
+ * {@link org.apache.commons.math3.stat.descriptive.SummaryStatistics
+ * SummaryStatistics} through its {@code setMeanImpl} method.</p>
+ * <p>
+ *  Returns <code>Double.NaN</code> if the dataset is empty.
+ * </p>
+ * <strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the <code>increment()</code> or
+ * <code>clear()</code> method, it must be synchronized externally.
+ *
+ * @see ExponentiallyWeightedVariance
+ * @version $Id$
+ * @since 3.2
+ */
+public class ExponentiallyWeightedMean extends AbstractStorelessUnivariateStatistic
+    implements Serializable {
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Smoothing factor. */
+    private double alpha;
+
+    /** Number of values that have been added. */
+    private long n;
+
+    /** Current weighted mean. */
+    private double m1;
+
+    /**
+     * Constructs an ExponentiallyWeightedMean.
+     *
+     * @param alpha smoothing factor, weight of the most recent value
+     * @throws OutOfRangeException if {@code alpha} is not in the
+     * range (0, 1]
+     */
+    public ExponentiallyWeightedMean(final double alpha) throws OutOfRangeException {
+        if (alpha <= 0 || alpha > 1) {
+            throw new OutOfRangeException(alpha, 0, 1);
+        }
+        this.alpha = alpha;
+        this.n     = 0;
+        this.m1    = Double.NaN;
+    }
+
+    /**
+     * Copy constructor, creates a new {@code ExponentiallyWeightedMean} identical
+     * to the {@code original}
+     *
+     * @param original the {@code ExponentiallyWeightedMean} instance to copy
+     * @throws NullArgumentException if original is null
+     */
+    public ExponentiallyWeightedMean(ExponentiallyWeightedMean original)
+        throws NullArgumentException {
+        copy(original, this);
+    }
+
+    /**
+     * Get the smoothing factor.
+     *
+     * @return the weight of the most recent value
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increment(final double d) {
+        if (n++ == 0) {
+            m1 = d;
+        } else {
+            m1 += alpha * (d - m1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        n  = 0;
+        m1 = Double.NaN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getResult() {
+        return m1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExponentiallyWeightedMean copy() {
+        ExponentiallyWeightedMean result = new ExponentiallyWeightedMean(alpha);
+        // No try-catch or advertised exception because args are guaranteed non-null
+        copy(this, result);
+        return result;
+    }
+
+    /**
+     * Copies source to dest.
+     * <p>Neither source nor dest can be null.</p>
+     *
+     * @param source ExponentiallyWeightedMean to copy
+     * @param dest ExponentiallyWeightedMean to copy to
+     * @throws NullArgumentException if either source or dest is null
+     */
+    public static void copy(ExponentiallyWeightedMean source, ExponentiallyWeightedMean dest)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(source);
+        MathUtils.checkNotNull(dest);
+        dest.setData(source.getDataRef());
+        dest.alpha = source.alpha;
+        dest.n     = source.n;
+        dest.m1    = source.m1;
+    }
+
+}
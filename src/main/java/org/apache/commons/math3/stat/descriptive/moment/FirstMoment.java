@@ -136,6 +136,32 @@ class FirstMoment extends AbstractStorelessUnivariateStatistic
         return n;
     }
 
+    /**
+     * Adds the values accumulated by another instance to this one, as if they
+     * had been added to this instance.
+     * <p>
+     * The moments are combined using the pairwise updating formula. The
+     * deviations of the last value added are not meaningful after
+     * aggregation and are set to NaN.</p>
+     *
+     * @param other moment to aggregate with this one
+     * @since 3.2
+     */
+    void aggregate(final FirstMoment other) {
+        if (other.n == 0) {
+            return;
+        }
+        if (n == 0) {
+            m1 = other.m1;
+        } else {
+            final double n0 = n + other.n;
+            m1 += (other.m1 - m1) * (other.n / n0);
+        }
+        n   += other.n;
+        dev  = Double.NaN;
+        nDev = Double.NaN;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,9 +17,11 @@
 package org.apache.commons.math3.stat.descriptive.moment;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
@@ -150,6 +152,37 @@ public class GeometricMean extends AbstractStorelessUnivariateStatistic implemen
             sumOfLogs.evaluate(values, begin, length) / length);
     }
 
+    /**
+     * Returns the geometric mean of the entries in the specified portion
+     * of the input array, computed in parallel on chunks of the array.
+     * <p>
+     * Only the default {@link SumOfLogs} implementation is known to be
+     * additive over chunks. If a custom sum of logs implementation has been
+     * {@link #setSumLogImpl(StorelessUnivariateStatistic) set}, it is honored
+     * by evaluating serially, as {@link #evaluate(double[], int, int)} does,
+     * and the executor is not used.</p>
+     *
+     * @param values input array containing the values
+     * @param begin first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the geometric mean or Double.NaN if length = 0 or
+     * any of the values are &lt;= 0.
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        if (sumOfLogs.getClass() != SumOfLogs.class) {
+            MathUtils.checkNotNull(executor);
+            return evaluate(values, begin, length);
+        }
+        return FastMath.exp(((SumOfLogs) sumOfLogs).evaluate(values, begin, length, executor) / length);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -157,6 +190,24 @@ public class GeometricMean extends AbstractStorelessUnivariateStatistic implemen
         return sumOfLogs.getN();
     }
 
+    /**
+     * Adds the sum of logs of another instance to this one.
+     *
+     * @param other geometric mean instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @throws MathUnsupportedOperationException if either instance does not
+     * use a {@link SumOfLogs} as its sum of logs implementation
+     * @since 3.2
+     */
+    public void aggregate(final GeometricMean other)
+        throws NullArgumentException, MathUnsupportedOperationException {
+        MathUtils.checkNotNull(other);
+        if (!(sumOfLogs instanceof SumOfLogs && other.sumOfLogs instanceof SumOfLogs)) {
+            throw new MathUnsupportedOperationException();
+        }
+        ((SumOfLogs) sumOfLogs).aggregate((SumOfLogs) other.sumOfLogs);
+    }
+
     /**
      * <p>Sets the implementation for the sum of logs.</p>
      * <p>This method must be activated before any data has been added - i.e.,
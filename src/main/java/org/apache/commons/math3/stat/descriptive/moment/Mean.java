@@ -17,10 +17,14 @@
 package org.apache.commons.math3.stat.descriptive.moment;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.util.MathUtils;
@@ -141,6 +145,25 @@ public class Mean extends AbstractStorelessUnivariateStatistic
         return moment.getN();
     }
 
+    /**
+     * Merges the first moment of another instance into this one, weighting
+     * both means by their counts.
+     *
+     * @param other mean instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @throws MathUnsupportedOperationException if this instance was created
+     * with {@link #Mean(FirstMoment)}, as it does not own its moment
+     * @since 3.2
+     */
+    public void aggregate(final Mean other)
+        throws NullArgumentException, MathUnsupportedOperationException {
+        MathUtils.checkNotNull(other);
+        if (!incMoment) {
+            throw new MathUnsupportedOperationException();
+        }
+        moment.aggregate(other.moment);
+    }
+
     /**
      * Returns the arithmetic mean of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -177,6 +200,31 @@ public class Mean extends AbstractStorelessUnivariateStatistic
         return Double.NaN;
     }
 
+    /**
+     * Returns the arithmetic mean of the entries in the specified portion of
+     * the input array, computed in parallel on chunks of the array.
+     * <p>
+     * The means of the chunks are combined with the updating formulas of
+     * Chan, Golub and LeVeque, see {@link ChunkedEvaluation}.</p>
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the mean of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] moments = ChunkedEvaluation.moments(values, begin, length, executor);
+        return (moments == null) ? evaluate(values, begin, length) : moments[1];
+    }
+
     /**
      * Returns the weighted arithmetic mean of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -17,8 +17,10 @@
 package org.apache.commons.math3.stat.descriptive.moment;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
 import org.apache.commons.math3.util.FastMath;
@@ -181,6 +183,29 @@ public class StandardDeviation extends AbstractStorelessUnivariateStatistic
        return FastMath.sqrt(variance.evaluate(values, begin, length));
     }
 
+    /**
+     * Returns the Standard Deviation of the entries in the specified portion of
+     * the input array, computed in parallel on chunks of the array.
+     * <p>
+     * Does not change the internal state of the statistic.</p>
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the standard deviation of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @see Variance#evaluate(double[], int, int, ExecutorService)
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        return FastMath.sqrt(variance.evaluate(values, begin, length, executor));
+    }
+
     /**
      * Returns the Standard Deviation of the entries in the specified portion of
      * the input array, using the precomputed mean value.  Returns
@@ -17,12 +17,15 @@
 package org.apache.commons.math3.stat.descriptive.moment;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.util.MathUtils;
 
 /**
@@ -271,6 +274,37 @@ public class Variance extends AbstractStorelessUnivariateStatistic implements Se
         return var;
     }
 
+    /**
+     * Returns the variance of the entries in the specified portion of
+     * the input array, computed in parallel on chunks of the array.
+     * <p>
+     * The moments of the chunks are combined with the updating formulas of
+     * Chan, Golub and LeVeque, see {@link ChunkedEvaluation}. The
+     * {@link #isBiasCorrected() bias correction} setting is honored.</p>
+     * <p>
+     * Does not change the internal state of the statistic.</p>
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the variance of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] moments = ChunkedEvaluation.moments(values, begin, length, executor);
+        if (moments == null) {
+            return evaluate(values, begin, length);
+        }
+        return moments[2] / (isBiasCorrected ? (moments[0] - 1) : moments[0]);
+    }
+
     /**
      * <p>Returns the weighted variance of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -20,8 +20,10 @@ import java.io.Serializable;
 import java.util.Arrays;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.util.MathUtils;
 
 /**
  * Returns the covariance matrix of the available vectors.
@@ -109,6 +111,31 @@ public class VectorialCovariance implements Serializable {
         return n;
     }
 
+    /**
+     * Adds the vectors accumulated by another instance to this one, as if
+     * they had been added to this instance.
+     * <p>
+     * The bias correction setting of this instance is kept.</p>
+     * @param other covariance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @throws DimensionMismatchException if the vectors dimensions do not match
+     * @since 3.2
+     */
+    public void aggregate(VectorialCovariance other)
+        throws NullArgumentException, DimensionMismatchException {
+        MathUtils.checkNotNull(other);
+        if (other.sums.length != sums.length) {
+            throw new DimensionMismatchException(other.sums.length, sums.length);
+        }
+        for (int i = 0; i < sums.length; ++i) {
+            sums[i] += other.sums[i];
+        }
+        for (int i = 0; i < productsSums.length; ++i) {
+            productsSums[i] += other.productsSums[i];
+        }
+        n += other.n;
+    }
+
     /**
      * Clears the internal state of the Statistic
      */
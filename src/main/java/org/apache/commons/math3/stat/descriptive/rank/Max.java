@@ -17,10 +17,13 @@
 package org.apache.commons.math3.stat.descriptive.rank;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.util.MathUtils;
 
 /**
@@ -105,6 +108,22 @@ public class Max extends AbstractStorelessUnivariateStatistic implements Seriali
         return n;
     }
 
+    /**
+     * Raises the running maximum to the one of another instance if larger,
+     * and adds its count.
+     *
+     * @param other maximum instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @since 3.2
+     */
+    public void aggregate(final Max other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (other.value > value || Double.isNaN(value)) {
+            value = other.value;
+        }
+        n += other.n;
+    }
+
     /**
      * Returns the maximum of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -142,6 +161,28 @@ public class Max extends AbstractStorelessUnivariateStatistic implements Seriali
         return max;
     }
 
+    /**
+     * Returns the maximum of the entries in the specified portion of the
+     * input array, computed in parallel on chunks of the array.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the maximum of the values or Double.NaN if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] partial = ChunkedEvaluation.evaluate(this, values, begin, length, executor);
+        return (partial == null) ? evaluate(values, begin, length) : evaluate(partial, 0, partial.length);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,6 +74,15 @@ import org.apache.commons.math3.util.MathUtils;
  * with just the percentile provided.
  * </p>
  * <p>
+ * Since 3.2, several percentiles of the same data can also be computed at once
+ * using {@link #evaluate(double[], double[])}, which partitions the data only
+ * once for all the requested percentiles. When the caller does not need the
+ * input array to be preserved, {@link #evaluateInPlace(double[], int, int, double[])}
+ * avoids copying it and reorders the values directly. The percentiles are
+ * provided as an array rather than as variable arguments, so these methods
+ * cannot be mistaken for the single percentile ones with integer literals.
+ * </p>
+ * <p>
  * <strong>Note that this implementation is not synchronized.</strong> If
  * multiple threads access an instance of this class concurrently, and at least
  * one of the threads invokes the <code>increment()</code> or
@@ -304,6 +313,217 @@ public class Percentile extends AbstractUnivariateStatistic implements Serializa
         return lower + dif * (upper - lower);
     }
 
+    /**
+     * Returns estimates of several percentiles of the values in the
+     * <code>values</code> array.
+     * <p>
+     * This is equivalent to calling {@link #evaluate(double[], double)} for
+     * each percentile, but the data is copied and partitioned only once for
+     * all the requested percentiles, so it is much faster when several
+     * percentiles of a large array are needed.</p>
+     * <p>
+     * Calls to this method do not modify the internal <code>quantile</code>
+     * state of this statistic.</p>
+     *
+     * @param values input array of values
+     * @param ps the percentiles to compute
+     * @return the percentile values, in the same order as in {@code ps}
+     * (all set to Double.NaN if the array is empty)
+     * @throws MathIllegalArgumentException if <code>values</code> or
+     * <code>ps</code> is null or one of the percentiles is invalid
+     * @since 3.2
+     */
+    public double[] evaluate(final double[] values, final double[] ps)
+        throws MathIllegalArgumentException {
+        test(values, 0, 0);
+        return evaluate(values, 0, values.length, ps);
+    }
+
+    /**
+     * Returns estimates of several percentiles of the designated values in
+     * the <code>values</code> array.
+     * <p>
+     * The input array is not modified, see
+     * {@link #evaluateInPlace(double[], int, int, double[])} for details
+     * about the other parameters and the result.</p>
+     *
+     * @param values array of input values
+     * @param begin  the first (0-based) element to include in the computation
+     * @param length  the number of array elements to include
+     * @param ps the percentiles to compute
+     * @return the percentile values, in the same order as in {@code ps}
+     * @throws MathIllegalArgumentException if the parameters are not valid or the
+     * input array is null
+     * @since 3.2
+     */
+    public double[] evaluate(final double[] values, final int begin, final int length,
+                             final double[] ps)
+        throws MathIllegalArgumentException {
+        test(values, begin, length);
+        final double[] work = new double[length];
+        System.arraycopy(values, begin, work, 0, length);
+        return evaluateInPlace(work, 0, length, ps);
+    }
+
+    /**
+     * Returns estimates of several percentiles of the designated values in
+     * the <code>values</code> array, reordering the array instead of
+     * working on a copy.
+     * <p>
+     * On return, the designated values are a permutation of the original
+     * ones, partially ordered. Elements outside of the designated slice are
+     * not touched. This method is intended for callers which own a scratch
+     * copy of their data, typically large arrays for which the copy made by
+     * {@link #evaluate(double[], int, int, double[])} matters.</p>
+     * <p>
+     * Calls to this method do not modify the internal <code>quantile</code>
+     * state of this statistic.</p>
+     * <p>
+     * <ul>
+     * <li>Returns <code>Double.NaN</code> for all percentiles if
+     * <code>length = 0</code></li>
+     * <li>Returns <code>values[begin]</code> for all percentiles if
+     * <code>length = 1 </code></li>
+     * <li>Throws <code>MathIllegalArgumentException</code> if <code>values</code>
+     *  or <code>ps</code> is null, <code>begin</code> or <code>length</code> is
+     * invalid, or one of the percentiles is not a valid quantile value (they
+     * must be greater than 0 and less than or equal to 100)</li>
+     * </ul></p>
+     * <p>
+     * See {@link Percentile} for a description of the percentile estimation
+     * algorithm used.</p>
+     *
+     * @param values array of input values, will be reordered
+     * @param begin  the first (0-based) element to include in the computation
+     * @param length  the number of array elements to include
+     * @param ps the percentiles to compute
+     * @return the percentile values, in the same order as in {@code ps}
+     * @throws MathIllegalArgumentException if the parameters are not valid or the
+     * input array is null
+     * @since 3.2
+     */
+    public double[] evaluateInPlace(final double[] values, final int begin, final int length,
+                                    final double[] ps)
+        throws MathIllegalArgumentException {
+
+        test(values, begin, length);
+        MathUtils.checkNotNull(ps);
+        for (final double p : ps) {
+            if ((p > 100) || (p <= 0)) {
+                throw new OutOfRangeException(
+                        LocalizedFormats.OUT_OF_BOUNDS_QUANTILE_VALUE, p, 0, 100);
+            }
+        }
+
+        final double[] result = new double[ps.length];
+        if (length == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        if (length == 1) {
+            Arrays.fill(result, values[begin]); // always return single value for n = 1
+            return result;
+        }
+
+        // gather the indices of all the order statistics needed
+        final double n = length;
+        final int[] ks = new int[2 * ps.length];
+        int nK = 0;
+        for (final double p : ps) {
+            final double pos = p * (n + 1) / 100;
+            if (pos < 1) {
+                ks[nK++] = begin;
+            } else if (pos >= n) {
+                ks[nK++] = begin + length - 1;
+            } else {
+                final int intPos = (int) FastMath.floor(pos);
+                ks[nK++] = begin + intPos - 1;
+                ks[nK++] = begin + intPos;
+            }
+        }
+        Arrays.sort(ks, 0, nK);
+
+        // put all these order statistics at their sorted location at once
+        multiSelect(values, begin, begin + length, ks, 0, nK);
+
+        for (int i = 0; i < ps.length; ++i) {
+            final double pos = ps[i] * (n + 1) / 100;
+            if (pos < 1) {
+                result[i] = values[begin];
+            } else if (pos >= n) {
+                result[i] = values[begin + length - 1];
+            } else {
+                final double fpos  = FastMath.floor(pos);
+                final int intPos   = (int) fpos;
+                final double lower = values[begin + intPos - 1];
+                final double upper = values[begin + intPos];
+                result[i] = lower + (pos - fpos) * (upper - lower);
+            }
+        }
+        return result;
+
+    }
+
+    /**
+     * Select several order statistics at once from an array slice.
+     * <p>
+     * On return, for each index k in the designated part of {@code ks},
+     * {@code work[k]} holds the element that would be at index k if the
+     * slice were sorted. The slice is partitioned only once for all indices:
+     * each partition splits the set of indices between its two sides, and
+     * sides which do not contain any index are left alone.
+     * </p>
+     * @param work work array (will be reorganized during the call)
+     * @param begin index of the first element of the slice
+     * @param end index after the last element of the slice
+     * @param ks sorted indices of the desired elements (in the whole array)
+     * @param kBegin index of the first desired index in {@code ks}
+     * @param kEnd index after the last desired index in {@code ks}
+     */
+    private void multiSelect(final double[] work, final int begin, final int end,
+                             final int[] ks, final int kBegin, final int kEnd) {
+
+        int from  = begin;
+        int to    = end;
+        int kFrom = kBegin;
+        int kTo   = kEnd;
+
+        while (kFrom < kTo) {
+
+            if (to - from <= MIN_SELECT_SIZE) {
+                // sort the small sub-array using insertion sort
+                insertionSort(work, from, to);
+                return;
+            }
+
+            final int pivot = partition(work, from, to, medianOf3(work, from, to));
+
+            // split the indices around the pivot
+            int left = kFrom;
+            while ((left < kTo) && (ks[left] < pivot)) {
+                ++left;
+            }
+            int right = left;
+            while ((right < kTo) && (ks[right] == pivot)) {
+                ++right;
+            }
+
+            // recurse on the side with fewer indices, so the recursion depth
+            // remains logarithmic in the number of indices, and loop on the other
+            if (left - kFrom < kTo - right) {
+                multiSelect(work, from, pivot, ks, kFrom, left);
+                from  = pivot + 1;
+                kFrom = right;
+            } else {
+                multiSelect(work, pivot + 1, to, ks, right, kTo);
+                to   = pivot;
+                kTo  = left;
+            }
+
+        }
+
+    }
+
     /**
      * Select the k<sup>th</sup> smallest element from work array
      * @param work work array (will be reorganized during the call)
@@ -0,0 +1,616 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+
+/**
+ * Storeless estimation of percentiles based on a t-digest.
+ * <p>
+ * A t-digest summarizes a stream of values by a bounded set of weighted
+ * centroids (mean value and number of values represented). Centroids are small
+ * near both ends of the distribution and larger near the median, so extreme
+ * percentiles such as the 99.9<sup>th</sup> one are estimated with a small
+ * relative error even after billions of values. The algorithm implemented here
+ * is the merging variant described in Ted Dunning and Otmar Ertl,
+ * <a href="https://github.com/tdunning/t-digest/blob/master/docs/t-digest-paper/histo.pdf">
+ * Computing Extremely Accurate Quantiles Using t-Digests</a>, using the
+ * k<sub>1</sub> scale function {@code k(q) = compression / (2 pi) asin(2q - 1)}.
+ * Incoming values are buffered and periodically sorted and merged with the
+ * existing centroids in a single pass.</p>
+ * <p>
+ * The accuracy is set by the <code>compression</code> parameter, which bounds
+ * the number of centroids to <code>compression + 1</code> for finite values. The default value
+ * of 100 gives errors well below 1% of the rank in the central part of the
+ * distribution and much smaller ones near the tails; the memory footprint is a
+ * few kilobytes regardless of the number of values added.</p>
+ * <p>
+ * Percentile estimates follow the same conventions as {@link Percentile}: as long
+ * as all the centroids hold a single value (i.e. for small samples), the estimates
+ * are exactly the ones computed by {@link Percentile}. The minimum and maximum
+ * values are tracked exactly. <code>NaN</code> values are ignored.</p>
+ * <p>
+ * Digests can be combined using {@link #aggregate(TDigestPercentile)} or
+ * {@link #aggregate(Collection)}, typically to build one digest per thread or
+ * per partition of the data and merge them when results are needed;
+ * {@link org.apache.commons.math3.stat.descriptive.AggregateSummaryStatistics#aggregatePercentiles(Collection)
+ * AggregateSummaryStatistics.aggregatePercentiles} does the same next to the
+ * aggregation of the per-partition summary statistics. The serialized form of
+ * a digest holds only its parameters and its centroids.</p>
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If
+ * multiple threads access an instance of this class concurrently, and at least
+ * one of the threads invokes the <code>increment()</code> or
+ * <code>clear()</code> method, it must be synchronized externally.</p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class TDigestPercentile extends AbstractStorelessUnivariateStatistic
+    implements Serializable {
+
+    /** Default compression. */
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    /** Serializable version identifier */
+    private static final long serialVersionUID = 20130614L;
+
+    /** Ratio between the size of the input buffer and the compression. */
+    private static final int BUFFER_RATIO = 5;
+
+    /** Compression parameter. */
+    private double compression;
+
+    /** Determines what percentile is computed by {@link #getResult()}. */
+    private double quantile;
+
+    /** Number of values that have been added. */
+    private long n;
+
+    /** Smallest value added. */
+    private double min;
+
+    /** Largest value added. */
+    private double max;
+
+    /** Number of centroids. */
+    private int count;
+
+    /** Means of the centroids, sorted in increasing order. */
+    private transient double[] means;
+
+    /** Weights of the centroids. */
+    private transient double[] weights;
+
+    /** Scratch array for merged means. */
+    private transient double[] mergedMeans;
+
+    /** Scratch array for merged weights. */
+    private transient double[] mergedWeights;
+
+    /** Values added since the last merge. */
+    private transient double[] buffer;
+
+    /** Number of values in the buffer. */
+    private transient int buffered;
+
+    /**
+     * Constructs a digest estimating the median, with the
+     * {@link #DEFAULT_COMPRESSION default compression}.
+     */
+    public TDigestPercentile() {
+        this(50.0);
+    }
+
+    /**
+     * Constructs a digest estimating the given percentile, with the
+     * {@link #DEFAULT_COMPRESSION default compression}.
+     * @param p the quantile
+     * @throws MathIllegalArgumentException if p is not greater than 0 and less
+     * than or equal to 100
+     */
+    public TDigestPercentile(final double p) throws MathIllegalArgumentException {
+        this(p, DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructs a digest estimating the given percentile.
+     * @param p the quantile
+     * @param compression compression parameter, larger values give more
+     * accurate estimates but use more memory
+     * @throws MathIllegalArgumentException if p is not greater than 0 and less
+     * than or equal to 100
+     * @throws NotStrictlyPositiveException if compression is not strictly positive
+     */
+    public TDigestPercentile(final double p, final double compression)
+        throws MathIllegalArgumentException, NotStrictlyPositiveException {
+        if (!(compression > 0)) {
+            throw new NotStrictlyPositiveException(compression);
+        }
+        setQuantile(p);
+        this.compression = compression;
+        allocate(0);
+        clear();
+    }
+
+    /**
+     * Copy constructor, creates a new {@code TDigestPercentile} identical
+     * to the {@code original}
+     *
+     * @param original the {@code TDigestPercentile} instance to copy
+     * @throws NullArgumentException if original is null
+     */
+    public TDigestPercentile(final TDigestPercentile original) throws NullArgumentException {
+        copy(original, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p><code>NaN</code> values are ignored.</p>
+     */
+    @Override
+    public void increment(final double d) {
+        if (Double.isNaN(d)) {
+            return;
+        }
+        if (buffered == buffer.length) {
+            flush();
+        }
+        buffer[buffered++] = d;
+        if (n == 0) {
+            min = d;
+            max = d;
+        } else if (d < min) {
+            min = d;
+        } else if (d > max) {
+            max = d;
+        }
+        ++n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        n        = 0;
+        min      = Double.NaN;
+        max      = Double.NaN;
+        count    = 0;
+        buffered = 0;
+    }
+
+    /**
+     * Returns the estimate of the percentile set by {@link #setQuantile(double)},
+     * or <code>Double.NaN</code> if no value has been added.
+     * @return the estimated percentile
+     */
+    @Override
+    public double getResult() {
+        return getPercentile(quantile);
+    }
+
+    /** {@inheritDoc} */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * Returns an estimate of the <code>p</code>th percentile of the values added.
+     * <p>
+     * Calls to this method do not modify the internal <code>quantile</code>
+     * state of this statistic.</p>
+     *
+     * @param p the percentile value to compute
+     * @return the estimated percentile, or <code>Double.NaN</code> if no
+     * value has been added
+     * @throws MathIllegalArgumentException if p is not greater than 0 and less
+     * than or equal to 100
+     */
+    public double getPercentile(final double p) throws MathIllegalArgumentException {
+        checkQuantile(p);
+        if (n == 0) {
+            return Double.NaN;
+        }
+        flush();
+
+        // each centroid is considered to be located at the middle of the ranks
+        // it covers, using 0.5 as the position of the smallest value and n - 0.5
+        // as the position of the largest, consistently with Percentile
+        final double index = p * (n + 1) / 100 - 0.5;
+        if (index <= 0.5) {
+            return min;
+        }
+        if (index >= n - 0.5) {
+            return max;
+        }
+
+        double previousIndex = 0.5;
+        double previousValue = min;
+        double cumulated     = 0;
+        for (int i = 0; i < count; ++i) {
+            final double centroidIndex = cumulated + 0.5 * weights[i];
+            if (index < centroidIndex) {
+                return interpolate(previousIndex, previousValue, centroidIndex, means[i], index);
+            }
+            previousIndex = centroidIndex;
+            previousValue = means[i];
+            cumulated    += weights[i];
+        }
+        return interpolate(previousIndex, previousValue, n - 0.5, max, index);
+
+    }
+
+    /**
+     * Returns the value of the quantile field (determines what percentile is
+     * computed when getResult() is called).
+     *
+     * @return quantile
+     */
+    public double getQuantile() {
+        return quantile;
+    }
+
+    /**
+     * Sets the value of the quantile field (determines what percentile is
+     * computed when getResult() is called).
+     *
+     * @param p a value between 0 < p <= 100
+     * @throws MathIllegalArgumentException  if p is not greater than 0 and less
+     * than or equal to 100
+     */
+    public void setQuantile(final double p) throws MathIllegalArgumentException {
+        checkQuantile(p);
+        quantile = p;
+    }
+
+    /**
+     * Get the compression parameter.
+     * @return compression parameter
+     */
+    public double getCompression() {
+        return compression;
+    }
+
+    /**
+     * Get the number of centroids currently used to summarize the values.
+     * <p>
+     * As long as all values are finite, this number never exceeds
+     * <code>compression + 1</code>. It is equal to the number of values for
+     * small samples.</p>
+     * @return number of centroids
+     */
+    public int getCentroidCount() {
+        flush();
+        return count;
+    }
+
+    /**
+     * Add the values summarized by another digest to this one.
+     * <p>
+     * After this call, this digest summarizes the union of the values it held
+     * and of the values held by {@code other}, which is not modified. The
+     * compression parameter and the quantile of this digest are preserved.</p>
+     *
+     * @param other digest to add
+     * @throws NullArgumentException if other is null
+     */
+    public void aggregate(final TDigestPercentile other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        if (other.n == 0) {
+            return;
+        }
+
+        flush();
+
+        // merge the centroids and the pending values of the other digest
+        final double[] otherBuffer = new double[other.buffered];
+        System.arraycopy(other.buffer, 0, otherBuffer, 0, other.buffered);
+        Arrays.sort(otherBuffer);
+        final double[] otherMeans   = new double[other.count + other.buffered];
+        final double[] otherWeights = new double[other.count + other.buffered];
+        merge(other.means, other.weights, other.count,
+              otherBuffer, null, otherBuffer.length,
+              otherMeans, otherWeights);
+        mergeAndCompress(otherMeans, otherWeights, otherMeans.length);
+
+        if (n == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = FastMath.min(min, other.min);
+            max = FastMath.max(max, other.max);
+        }
+        n += other.n;
+
+    }
+
+    /**
+     * Computes a digest summarizing the union of the values summarized by a
+     * collection of digests.
+     * <p>
+     * The compression parameter and the quantile of the result are those of
+     * the first digest in the collection. The digests themselves are not
+     * modified.</p>
+     *
+     * @param digests collection of digests to aggregate
+     * @return a new digest, or null if the collection is empty
+     * @throws NullArgumentException if the collection is null
+     */
+    public static TDigestPercentile aggregate(final Collection<TDigestPercentile> digests)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(digests);
+        final Iterator<TDigestPercentile> iterator = digests.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        final TDigestPercentile result = iterator.next().copy();
+        while (iterator.hasNext()) {
+            result.aggregate(iterator.next());
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TDigestPercentile copy() {
+        return new TDigestPercentile(this);
+    }
+
+    /**
+     * Copies source to dest.
+     * <p>Neither source nor dest can be null.</p>
+     *
+     * @param source TDigestPercentile to copy
+     * @param dest TDigestPercentile to copy to
+     * @throws NullArgumentException if either source or dest is null
+     */
+    public static void copy(final TDigestPercentile source, final TDigestPercentile dest)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(source);
+        MathUtils.checkNotNull(dest);
+        dest.setData(source.getDataRef());
+        dest.compression = source.compression;
+        dest.quantile    = source.quantile;
+        dest.n           = source.n;
+        dest.min         = source.min;
+        dest.max         = source.max;
+        dest.allocate(source.count);
+        dest.count       = source.count;
+        dest.buffered    = source.buffered;
+        System.arraycopy(source.means,   0, dest.means,   0, source.count);
+        System.arraycopy(source.weights, 0, dest.weights, 0, source.count);
+        System.arraycopy(source.buffer,  0, dest.buffer,  0, source.buffered);
+    }
+
+    /**
+     * Check a quantile value.
+     * @param p quantile to check
+     * @throws OutOfRangeException if p is not greater than 0 and less
+     * than or equal to 100
+     */
+    private static void checkQuantile(final double p) throws OutOfRangeException {
+        if (p <= 0 || p > 100 || Double.isNaN(p)) {
+            throw new OutOfRangeException(
+                    LocalizedFormats.OUT_OF_BOUNDS_QUANTILE_VALUE, p, 0, 100);
+        }
+    }
+
+    /**
+     * Allocate the internal arrays.
+     * @param minCentroids minimum number of centroids to hold
+     */
+    private void allocate(final int minCentroids) {
+        final int size    = FastMath.max((int) FastMath.ceil(compression) + 2, minCentroids);
+        final int bufSize = BUFFER_RATIO * ((int) FastMath.ceil(compression) + 2);
+        means         = new double[size];
+        weights       = new double[size];
+        mergedMeans   = new double[size + bufSize];
+        mergedWeights = new double[size + bufSize];
+        buffer        = new double[bufSize];
+    }
+
+    /** Merge the buffered values into the centroids. */
+    private void flush() {
+        if (buffered > 0) {
+            Arrays.sort(buffer, 0, buffered);
+            mergeAndCompress(buffer, null, buffered);
+            buffered = 0;
+        }
+    }
+
+    /**
+     * Merge sorted points into the centroids and compress the result.
+     * @param m means of the points to merge, sorted in increasing order
+     * @param w weights of the points to merge (null for unit weights)
+     * @param size number of points to merge
+     */
+    private void mergeAndCompress(final double[] m, final double[] w, final int size) {
+
+        if (mergedMeans.length < count + size) {
+            mergedMeans   = new double[count + size];
+            mergedWeights = new double[count + size];
+        }
+        final double total = merge(means, weights, count, m, w, size, mergedMeans, mergedWeights);
+        final int compressed = compress(mergedMeans, mergedWeights, count + size, total);
+
+        // swap the centroids and scratch arrays
+        final double[] tmpMeans   = means;
+        final double[] tmpWeights = weights;
+        means         = mergedMeans;
+        weights       = mergedWeights;
+        mergedMeans   = tmpMeans;
+        mergedWeights = tmpWeights;
+        count         = compressed;
+
+    }
+
+    /**
+     * Merge two sorted lists of weighted points.
+     * @param m1 means of the first list
+     * @param w1 weights of the first list (null for unit weights)
+     * @param size1 size of the first list
+     * @param m2 means of the second list
+     * @param w2 weights of the second list (null for unit weights)
+     * @param size2 size of the second list
+     * @param m placeholder for merged means
+     * @param w placeholder for merged weights
+     * @return total weight of the merged points
+     */
+    private static double merge(final double[] m1, final double[] w1, final int size1,
+                                final double[] m2, final double[] w2, final int size2,
+                                final double[] m, final double[] w) {
+        double total = 0;
+        int i1 = 0;
+        int i2 = 0;
+        for (int i = 0; i < size1 + size2; ++i) {
+            if (i2 == size2 || (i1 < size1 && m1[i1] <= m2[i2])) {
+                m[i] = m1[i1];
+                w[i] = (w1 == null) ? 1 : w1[i1];
+                ++i1;
+            } else {
+                m[i] = m2[i2];
+                w[i] = (w2 == null) ? 1 : w2[i2];
+                ++i2;
+            }
+            total += w[i];
+        }
+        return total;
+    }
+
+    /**
+     * Compress in place a sorted list of weighted points into centroids.
+     * <p>
+     * Adjacent points are merged as long as the resulting centroid spans
+     * less than one unit of the scale function.</p>
+     * @param m means of the points (overwritten with the centroids means)
+     * @param w weights of the points (overwritten with the centroids weights)
+     * @param size number of points
+     * @param total total weight of the points
+     * @return number of centroids
+     */
+    private int compress(final double[] m, final double[] w, final int size, final double total) {
+
+        if (size == 0) {
+            return 0;
+        }
+
+        int out = 0;
+        double before = 0;
+        double limit  = total * nextQuantile(0);
+        double mean   = m[0];
+        double weight = w[0];
+        for (int i = 1; i < size; ++i) {
+            final double proposed = weight + w[i];
+            if (before + proposed <= limit &&
+                (m[i] == mean || !(Double.isInfinite(mean) || Double.isInfinite(m[i])))) {
+                // the point fits in the current centroid
+                if (m[i] != mean) {
+                    mean += (m[i] - mean) * w[i] / proposed;
+                }
+                weight = proposed;
+            } else {
+                // start a new centroid
+                m[out] = mean;
+                w[out] = weight;
+                ++out;
+                before += weight;
+                limit   = total * nextQuantile(before / total);
+                mean    = m[i];
+                weight  = w[i];
+            }
+        }
+        m[out] = mean;
+        w[out] = weight;
+        return out + 1;
+
+    }
+
+    /**
+     * Compute the largest quantile a centroid starting at q can reach.
+     * @param q quantile at which the centroid starts
+     * @return quantile at which the scale function has increased by one unit
+     */
+    private double nextQuantile(final double q) {
+        final double a = FastMath.asin(2 * q - 1) + 2 * FastMath.PI / compression;
+        return (a >= 0.5 * FastMath.PI) ? 1.0 : 0.5 * (FastMath.sin(a) + 1);
+    }
+
+    /**
+     * Linear interpolation.
+     * @param x0 abscissa of first point
+     * @param y0 ordinate of first point
+     * @param x1 abscissa of second point
+     * @param y1 ordinate of second point
+     * @param x abscissa at which interpolation is required
+     * @return interpolated ordinate
+     */
+    private static double interpolate(final double x0, final double y0,
+                                      final double x1, final double y1,
+                                      final double x) {
+        if (y0 == y1) {
+            return y0;
+        }
+        return y0 + (x - x0) * (y1 - y0) / (x1 - x0);
+    }
+
+    /**
+     * Serialize the instance.
+     * <p>Pending values are merged first, so only the centroids are written.</p>
+     * @param oos stream where object should be written
+     * @throws IOException if object cannot be written to stream
+     */
+    private void writeObject(final ObjectOutputStream oos) throws IOException {
+        flush();
+        oos.defaultWriteObject();
+        for (int i = 0; i < count; ++i) {
+            oos.writeDouble(means[i]);
+            oos.writeDouble(weights[i]);
+        }
+    }
+
+    /**
+     * Deserialize the instance.
+     * @param ois stream from which the object should be read
+     * @throws ClassNotFoundException if a class in the stream cannot be found
+     * @throws IOException if object cannot be read from the stream
+     */
+    private void readObject(final ObjectInputStream ois)
+      throws ClassNotFoundException, IOException {
+        ois.defaultReadObject();
+        allocate(count);
+        for (int i = 0; i < count; ++i) {
+            means[i]   = ois.readDouble();
+            weights[i] = ois.readDouble();
+        }
+        buffered = 0;
+    }
+
+}
@@ -17,10 +17,13 @@
 package org.apache.commons.math3.stat.descriptive.summary;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.stat.descriptive.WeightedEvaluation;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
@@ -131,6 +134,28 @@ public class Product extends AbstractStorelessUnivariateStatistic implements Ser
         return product;
     }
 
+    /**
+     * Returns the product of the entries in the specified portion of
+     * the input array, computed in parallel on chunks of the array.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the product of the values or 1 if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] partial = ChunkedEvaluation.evaluate(this, values, begin, length, executor);
+        return (partial == null) ? evaluate(values, begin, length) : evaluate(partial, 0, partial.length);
+    }
+
     /**
      * <p>Returns the weighted product of the entries in the specified portion of
      * the input array, or <code>Double.NaN</code> if the designated subarray
@@ -17,10 +17,13 @@
 package org.apache.commons.math3.stat.descriptive.summary;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.util.MathUtils;
 
 
@@ -94,6 +97,19 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
         return n;
     }
 
+    /**
+     * Adds the sum and the count of another instance to this one.
+     *
+     * @param other sum instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @since 3.2
+     */
+    public void aggregate(final Sum other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        value += other.value;
+        n     += other.n;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -130,6 +146,28 @@ public class Sum extends AbstractStorelessUnivariateStatistic implements Seriali
         return sum;
     }
 
+    /**
+     * The sum of the entries in the specified portion of the input array,
+     * computed in parallel on chunks of the array.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the sum of the values or 0 if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] partial = ChunkedEvaluation.evaluate(this, values, begin, length, executor);
+        return (partial == null) ? evaluate(values, begin, length) : ChunkedEvaluation.pairwiseSum(partial);
+    }
+
     /**
      * The weighted sum of the entries in the specified portion of
      * the input array, or 0 if the designated subarray
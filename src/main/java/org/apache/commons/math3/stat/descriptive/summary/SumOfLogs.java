@@ -17,10 +17,13 @@
 package org.apache.commons.math3.stat.descriptive.summary;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.stat.descriptive.AbstractStorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.ChunkedEvaluation;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.MathUtils;
 
@@ -102,6 +105,19 @@ public class SumOfLogs extends AbstractStorelessUnivariateStatistic implements S
         return n;
     }
 
+    /**
+     * Adds the sum of logs and the count of another instance to this one.
+     *
+     * @param other sum of logs instance to aggregate with this one
+     * @throws NullArgumentException if other is null
+     * @since 3.2
+     */
+    public void aggregate(final SumOfLogs other) throws NullArgumentException {
+        MathUtils.checkNotNull(other);
+        value += other.value;
+        n     += other.n;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,6 +157,28 @@ public class SumOfLogs extends AbstractStorelessUnivariateStatistic implements S
         return sumLog;
     }
 
+    /**
+     * Returns the sum of the natural logs of the entries in the specified
+     * portion of the input array, computed in parallel on chunks of the array.
+     *
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return the sum of the natural logs of the values or 0 if length = 0
+     * @throws MathIllegalArgumentException if the array or the executor is null
+     * or the array index parameters are not valid
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public double evaluate(final double[] values, final int begin, final int length,
+                           final ExecutorService executor)
+    throws MathIllegalArgumentException, MathIllegalStateException {
+        test(values, begin, length, true);
+        final double[] partial = ChunkedEvaluation.evaluate(this, values, begin, length, executor);
+        return (partial == null) ? evaluate(values, begin, length) : ChunkedEvaluation.pairwiseSum(partial);
+    }
+
     /**
      * {@inheritDoc}
      */
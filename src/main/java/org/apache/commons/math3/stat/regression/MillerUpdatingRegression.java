@@ -16,9 +16,18 @@
  */
 package org.apache.commons.math3.stat.regression;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.MathUtils;
+import org.apache.commons.math3.util.ParallelUtils;
 import org.apache.commons.math3.util.Precision;
 import org.apache.commons.math3.util.MathArrays;
 
@@ -37,6 +46,14 @@ import org.apache.commons.math3.util.MathArrays;
  * <p>This method for multiple regression forms the solution to the OLS problem
  * by updating the QR decomposition as described by Gentleman.</p>
  *
+ * <p>Since 3.2, regressions fitted on separate partitions of a dataset can be
+ * combined using {@link #aggregate(MillerUpdatingRegression)}: the rows of the
+ * triangular factor of one regression are included into the other one as
+ * weighted observations, which only requires O(p<sup>2</sup>) memory per
+ * partition and O(p<sup>3</sup>) operations per aggregation. This is used by
+ * {@link #addObservations(double[][], double[], ExecutorService)} to fit large
+ * batches of observations on several threads.</p>
+ *
  * @version $Id$
  * @since 3.0
  */
@@ -80,6 +97,8 @@ public class MillerUpdatingRegression implements UpdatingMultipleLinearRegressio
     private boolean hasIntercept;
     /** zero tolerance */
     private final double epsilon;
+    /** minimal number of observations per variable for a parallel chunk */
+    private static final int MIN_CHUNK_OBSERVATIONS_PER_VARIABLE = 64;
     /**
      *  Set the default constructor to private access
      *  to prevent inadvertent instantiation
@@ -192,6 +211,78 @@ public class MillerUpdatingRegression implements UpdatingMultipleLinearRegressio
      * the length of {@code y} or does not contain sufficient data to estimate the model
      */
     public void addObservations(double[][] x, double[] y) throws ModelSpecificationException {
+        checkObservations(x, y);
+        for (int i = 0; i < x.length; i++) {
+            addObservation(x[i], y[i]);
+        }
+    }
+
+    /**
+     * Adds multiple observations to the model, using several threads.
+     * <p>The observations are split into contiguous chunks, each chunk is
+     * fitted by a separate regression in its own task, and the partial
+     * regressions are then aggregated into this one in chunk order (see
+     * {@link #aggregate(MillerUpdatingRegression)}). The results are the
+     * same as the ones obtained with {@link #addObservations(double[][], double[])},
+     * up to rounding errors. Batches too small to be split are added in
+     * the calling thread.</p>
+     *
+     * @param x observations on the regressors
+     * @param y observations on the regressand
+     * @param executor executor used to run the tasks
+     * @throws ModelSpecificationException if {@code x} is not rectangular, does not match
+     * the length of {@code y} or does not contain sufficient data to estimate the model
+     * @throws NullArgumentException if {@code executor} is null
+     * @throws MathIllegalStateException if the computation is interrupted
+     * @since 3.2
+     */
+    public void addObservations(final double[][] x, final double[] y, final ExecutorService executor)
+        throws ModelSpecificationException, NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+        checkObservations(x, y);
+
+        final int maxChunks = x.length / (MIN_CHUNK_OBSERVATIONS_PER_VARIABLE * nvars);
+        final int[] bounds =
+            ParallelUtils.partition(x.length,
+                                    FastMath.min(4 * Runtime.getRuntime().availableProcessors(), maxChunks));
+        if (bounds.length < 3) {
+            for (int i = 0; i < x.length; i++) {
+                addObservation(x[i], y[i]);
+            }
+            return;
+        }
+
+        final int numberOfVariables = hasIntercept ? nvars - 1 : nvars;
+        final List<Callable<MillerUpdatingRegression>> tasks =
+            new ArrayList<Callable<MillerUpdatingRegression>>(bounds.length - 1);
+        for (int k = 0; k < bounds.length - 1; ++k) {
+            final int from = bounds[k];
+            final int to   = bounds[k + 1];
+            tasks.add(new Callable<MillerUpdatingRegression>() {
+                /** {@inheritDoc} */
+                public MillerUpdatingRegression call() {
+                    final MillerUpdatingRegression partial =
+                        new MillerUpdatingRegression(numberOfVariables, hasIntercept, epsilon);
+                    for (int i = from; i < to; i++) {
+                        partial.addObservation(x[i], y[i]);
+                    }
+                    return partial;
+                }
+            });
+        }
+        for (final MillerUpdatingRegression partial : ParallelUtils.invokeAll(executor, tasks)) {
+            aggregate(partial);
+        }
+    }
+
+    /**
+     * Checks a batch of observations.
+     * @param x observations on the regressors
+     * @param y observations on the regressand
+     * @throws ModelSpecificationException if {@code x} does not match the length
+     * of {@code y} or does not contain sufficient data to estimate the model
+     */
+    private void checkObservations(double[][] x, double[] y) throws ModelSpecificationException {
         if ((x == null) || (y == null) || (x.length != y.length)) {
             throw new ModelSpecificationException(
                   LocalizedFormats.DIMENSIONS_MISMATCH_SIMPLE,
@@ -207,9 +298,73 @@ public class MillerUpdatingRegression implements UpdatingMultipleLinearRegressio
                   LocalizedFormats.NOT_ENOUGH_DATA_FOR_NUMBER_OF_PREDICTORS,
                   x.length, x[0].length);
         }
-        for (int i = 0; i < x.length; i++) {
-            addObservation(x[i], y[i]);
+    }
+
+    /**
+     * Aggregates the observations of another regression into this one.
+     * <p>The triangular factorization of {@code other} is merged into the one of
+     * this regression by including each of its rows as a weighted observation,
+     * so after this operation the results are the same as if all the observations
+     * added to {@code other} had been added to this regression, up to rounding
+     * errors. Both regressions may have been reordered by subset regressions.</p>
+     * <p>The other regression is not modified.</p>
+     *
+     * @param other regression to aggregate with this one
+     * @throws NullArgumentException if {@code other} is null
+     * @throws ModelSpecificationException if the regressions do not have the same
+     * number of variables or do not both include (or exclude) a constant
+     * @since 3.2
+     */
+    public void aggregate(final MillerUpdatingRegression other)
+        throws NullArgumentException, ModelSpecificationException {
+        MathUtils.checkNotNull(other);
+        if (other.nvars != nvars || other.hasIntercept != hasIntercept) {
+            throw new ModelSpecificationException(LocalizedFormats.INCOMPATIBLE_REGRESSION_MODELS,
+                                                  other.hasIntercept ? other.nvars - 1 : other.nvars,
+                                                  other.hasIntercept,
+                                                  hasIntercept ? nvars - 1 : nvars,
+                                                  hasIntercept);
+        }
+
+        // take a snapshot, which allows aggregating a regression with itself
+        final double[] otherD      = MathArrays.copyOf(other.d);
+        final double[] otherR      = MathArrays.copyOf(other.r);
+        final double[] otherRhs    = MathArrays.copyOf(other.rhs);
+        final int[]    otherVorder = MathArrays.copyOf(other.vorder);
+        final long     otherNobs   = other.nobs;
+        final double   otherSserr  = other.sserr;
+        final double   otherSumy   = other.sumy;
+        final double   otherSumsqy = other.sumsqy;
+
+        // position of each variable in the current order of this regression
+        final int[] position = new int[nvars];
+        for (int i = 0; i < nvars; i++) {
+            position[vorder[i]] = i;
+        }
+
+        // row i of the other factorization is the observation (0, ..., 0, 1, r[i][i+1], ...)
+        // with weight d[i] and regressand rhs[i]; including it must not change the sums of y
+        final double savedSumy   = sumy;
+        final double savedSumsqy = sumsqy;
+        final double[] row = new double[nvars];
+        int pos = 0;
+        for (int i = 0; i < nvars; i++) {
+            if (otherD[i] != 0.0) {
+                Arrays.fill(row, 0.0);
+                row[position[otherVorder[i]]] = 1.0;
+                for (int k = i + 1, p = pos; k < nvars; k++, p++) {
+                    row[position[otherVorder[k]]] = otherR[p];
+                }
+                include(row, otherD[i], otherRhs[i]);
+            }
+            pos += nvars - i - 1;
         }
+        sumy     = smartAdd(savedSumy, otherSumy);
+        sumsqy   = smartAdd(savedSumsqy, otherSumsqy);
+        sserr    = smartAdd(sserr, otherSserr);
+        nobs    += otherNobs;
+        rss_set  = false;
+        tol_set  = false;
     }
 
     /**
@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+/**
+ * <p>
+ * A variable length {@link DoubleArray} implementation backed by a circular
+ * buffer.
+ * </p>
+ * <p>
+ * The addressable elements occupy a contiguous range of the internal storage
+ * array which may wrap around its end. This allows
+ * {@link #addElementRolling(double)} and {@link #discardFrontElements(int)}
+ * to run in constant time, without ever moving the remaining elements:
+ * a rolling insert simply overwrites the oldest element. When an element is
+ * added to a full array, the storage is expanded according to the
+ * {@code expansionMode} and {@code expansionFactor} properties, with the same
+ * meaning as in {@link ResizableDoubleArray}. The storage never contracts.
+ * </p>
+ * <p>
+ * {@link #compute(MathArrays.Function)} needs the elements in a contiguous
+ * range, so if they currently wrap around the end of the storage array,
+ * the storage array is first rotated in place to move them back to its
+ * beginning, without allocating a new array. Subsequent computations do not
+ * need to move them again until new rolling inserts have been done.
+ * </p>
+ * <p>
+ * This class is not synchronized, in contrast with
+ * {@link ResizableDoubleArray}. If multiple threads access an instance of
+ * this class concurrently, and at least one of the threads modifies it,
+ * it must be synchronized externally.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class CircularDoubleArray implements RollingDoubleArray, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20131017L;
+
+    /** Default value for initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Default value for array size modifier. */
+    private static final double DEFAULT_EXPANSION_FACTOR = 2.0;
+
+    /** The expansion factor of the array. */
+    private final double expansionFactor;
+
+    /** Determines whether array expansion by {@code expansionFactor} is additive or multiplicative. */
+    private final ResizableDoubleArray.ExpansionMode expansionMode;
+
+    /** The internal storage array. */
+    private double[] internalArray;
+
+    /** The position of the first addressable element in the internal storage array. */
+    private int head;
+
+    /** The number of addressable elements in the array. */
+    private int numElements;
+
+    /**
+     * Creates an instance with default properties.
+     * <ul>
+     *  <li>{@code initialCapacity = 16}</li>
+     *  <li>{@code expansionMode = MULTIPLICATIVE}</li>
+     *  <li>{@code expansionFactor = 2.0}</li>
+     * </ul>
+     */
+    public CircularDoubleArray() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an instance with the specified initial capacity.
+     * Other properties take default values.
+     *
+     * @param initialCapacity Initial size of the internal storage array.
+     * @throws NotStrictlyPositiveException if {@code initialCapacity <= 0}.
+     */
+    public CircularDoubleArray(int initialCapacity)
+        throws NotStrictlyPositiveException {
+        this(initialCapacity, DEFAULT_EXPANSION_FACTOR,
+             ResizableDoubleArray.ExpansionMode.MULTIPLICATIVE);
+    }
+
+    /**
+     * Creates an instance from an existing {@code double[]} with the
+     * initial capacity and number of elements set to the array length.
+     * Other properties take default values.
+     *
+     * @param initialArray initial contents of the array; if null, an empty
+     * array with default initial capacity is created
+     */
+    public CircularDoubleArray(double[] initialArray) {
+        this(FastMath.max(DEFAULT_INITIAL_CAPACITY, initialArray == null ? 0 : initialArray.length));
+        if (initialArray != null) {
+            addElements(initialArray);
+        }
+    }
+
+    /**
+     * Creates an instance with the specified properties.
+     *
+     * @param initialCapacity Initial size of the internal storage array.
+     * @param expansionFactor The array will be expanded based on this parameter.
+     * @param expansionMode Expansion mode.
+     * @throws NotStrictlyPositiveException if {@code initialCapacity <= 0}.
+     * @throws NumberIsTooSmallException if {@code expansionFactor <= 1}.
+     * @throws NullArgumentException if {@code expansionMode} is null.
+     */
+    public CircularDoubleArray(int initialCapacity, double expansionFactor,
+                               ResizableDoubleArray.ExpansionMode expansionMode)
+        throws NotStrictlyPositiveException, NumberIsTooSmallException, NullArgumentException {
+        if (initialCapacity <= 0) {
+            throw new NotStrictlyPositiveException(LocalizedFormats.INITIAL_CAPACITY_NOT_POSITIVE,
+                                                   initialCapacity);
+        }
+        if (expansionFactor <= 1) {
+            throw new NumberIsTooSmallException(LocalizedFormats.EXPANSION_FACTOR_SMALLER_THAN_ONE,
+                                                expansionFactor, 1, false);
+        }
+        MathUtils.checkNotNull(expansionMode);
+        this.expansionFactor = expansionFactor;
+        this.expansionMode   = expansionMode;
+        this.internalArray   = new double[initialCapacity];
+        this.head            = 0;
+        this.numElements     = 0;
+    }
+
+    /**
+     * Copy constructor. Creates a new CircularDoubleArray that is a deep,
+     * fresh copy of the original.
+     *
+     * @param original array to copy
+     * @throws NullArgumentException if original is null
+     */
+    public CircularDoubleArray(CircularDoubleArray original)
+        throws NullArgumentException {
+        MathUtils.checkNotNull(original);
+        this.expansionFactor = original.expansionFactor;
+        this.expansionMode   = original.expansionMode;
+        this.internalArray   = original.internalArray.clone();
+        this.head            = original.head;
+        this.numElements     = original.numElements;
+    }
+
+    /** {@inheritDoc} */
+    public int getNumElements() {
+        return numElements;
+    }
+
+    /**
+     * Gets the currently allocated size of the internal data structure used
+     * for storing elements.
+     *
+     * @return the length of the internal storage array.
+     */
+    public int getCapacity() {
+        return internalArray.length;
+    }
+
+    /**
+     * Get the expansion factor.
+     *
+     * @return the expansion factor of this array
+     */
+    public double getExpansionFactor() {
+        return expansionFactor;
+    }
+
+    /**
+     * Get the expansion mode.
+     *
+     * @return the expansion mode of this array
+     */
+    public ResizableDoubleArray.ExpansionMode getExpansionMode() {
+        return expansionMode;
+    }
+
+    /** {@inheritDoc} */
+    public double getElement(int index) {
+        if (index < 0 || index >= numElements) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return internalArray[physical(index)];
+    }
+
+    /** {@inheritDoc} */
+    public void setElement(int index, double value) {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        if (index >= numElements) {
+            ensureCapacity(index + 1);
+            // the skipped slots may hold stale values from discarded elements
+            for (int i = numElements; i < index; ++i) {
+                internalArray[physical(i)] = 0;
+            }
+            numElements = index + 1;
+        }
+        internalArray[physical(index)] = value;
+    }
+
+    /** {@inheritDoc} */
+    public void addElement(double value) {
+        ensureCapacity(numElements + 1);
+        internalArray[physical(numElements)] = value;
+        ++numElements;
+    }
+
+    /** {@inheritDoc} */
+    public void addElements(double[] values) {
+        ensureCapacity(numElements + values.length);
+        final int tail  = physical(numElements);
+        final int first = FastMath.min(values.length, internalArray.length - tail);
+        System.arraycopy(values, 0, internalArray, tail, first);
+        System.arraycopy(values, first, internalArray, 0, values.length - first);
+        numElements += values.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method runs in constant time and never expands the storage. If the
+     * array is empty, the value is simply added and {@code Double.NaN} is
+     * returned.</p>
+     */
+    public double addElementRolling(double value) {
+        if (numElements == 0) {
+            addElement(value);
+            return Double.NaN;
+        }
+        final double discarded = internalArray[head];
+        internalArray[physical(numElements)] = value;
+        head = physical(1);
+        return discarded;
+    }
+
+    /** {@inheritDoc} */
+    public double substituteMostRecentElement(double value)
+        throws MathIllegalStateException {
+        if (numElements < 1) {
+            throw new MathIllegalStateException(
+                    LocalizedFormats.CANNOT_SUBSTITUTE_ELEMENT_FROM_EMPTY_ARRAY);
+        }
+        final int substIndex = physical(numElements - 1);
+        final double discarded = internalArray[substIndex];
+        internalArray[substIndex] = value;
+        return discarded;
+    }
+
+    /** {@inheritDoc} */
+    public void discardFrontElements(int i)
+        throws MathIllegalArgumentException {
+        checkDiscard(i);
+        head = physical(i);
+        numElements -= i;
+    }
+
+    /** {@inheritDoc} */
+    public void discardMostRecentElements(int i)
+        throws MathIllegalArgumentException {
+        checkDiscard(i);
+        numElements -= i;
+    }
+
+    /** {@inheritDoc} */
+    public double[] getElements() {
+        final double[] elementArray = new double[numElements];
+        final int first = FastMath.min(numElements, internalArray.length - head);
+        System.arraycopy(internalArray, head, elementArray, 0, first);
+        System.arraycopy(internalArray, 0, elementArray, first, numElements - first);
+        return elementArray;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The storage array keeps its current capacity.</p>
+     */
+    public void clear() {
+        head        = 0;
+        numElements = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the elements wrap around the end of the storage array, the storage
+     * array is rotated in place to move them back to a contiguous range
+     * before {@code f} is applied.</p>
+     */
+    public double compute(MathArrays.Function f) {
+        if (head + numElements > internalArray.length) {
+            // rotate left by head positions, using three reversals
+            reverse(0, head);
+            reverse(head, internalArray.length);
+            reverse(0, internalArray.length);
+            head = 0;
+        }
+        return f.evaluate(internalArray, head, numElements);
+    }
+
+    /** {@inheritDoc} */
+    public CircularDoubleArray copy() {
+        return new CircularDoubleArray(this);
+    }
+
+    /**
+     * Returns true iff object is a CircularDoubleArray with the same
+     * properties and the same elements as this.
+     * <p>
+     * The layout of the elements within the internal storage array and its
+     * capacity are not compared.</p>
+     *
+     * @param object object to be compared for equality with this
+     * @return true iff object is a CircularDoubleArray with the same data and
+     * properties as this
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object instanceof CircularDoubleArray == false) {
+            return false;
+        }
+        final CircularDoubleArray other = (CircularDoubleArray) object;
+        return other.expansionFactor == expansionFactor &&
+               other.expansionMode == expansionMode &&
+               Arrays.equals(getElements(), other.getElements());
+    }
+
+    /**
+     * Returns a hash code consistent with equals.
+     *
+     * @return the hash code representing this {@code CircularDoubleArray}.
+     */
+    @Override
+    public int hashCode() {
+        final int[] hashData = new int[3];
+        hashData[0] = Double.valueOf(expansionFactor).hashCode();
+        hashData[1] = expansionMode.hashCode();
+        hashData[2] = Arrays.hashCode(getElements());
+        return Arrays.hashCode(hashData);
+    }
+
+    /**
+     * Get the position of an element in the internal storage array.
+     *
+     * @param index index of the element, between 0 and the capacity
+     * @return position of the element in the internal storage array
+     */
+    private int physical(final int index) {
+        final int p = head + index;
+        return (p < internalArray.length) ? p : p - internalArray.length;
+    }
+
+    /**
+     * Check the number of elements to discard.
+     *
+     * @param i number of elements to discard
+     * @throws MathIllegalArgumentException if i is negative or greater than
+     * the number of elements
+     */
+    private void checkDiscard(final int i) throws MathIllegalArgumentException {
+        if (i > numElements) {
+            throw new MathIllegalArgumentException(
+                    LocalizedFormats.TOO_MANY_ELEMENTS_TO_DISCARD_FROM_ARRAY,
+                    i, numElements);
+        } else if (i < 0) {
+            throw new MathIllegalArgumentException(
+                    LocalizedFormats.CANNOT_DISCARD_NEGATIVE_NUMBER_OF_ELEMENTS,
+                    i);
+        }
+    }
+
+    /**
+     * Expand the internal storage array, if needed.
+     *
+     * @param minCapacity minimum capacity required
+     */
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity > internalArray.length) {
+            // notice the use of FastMath.ceil(), this guarantees that we will always
+            // have an array of at least currentSize + 1
+            int newSize = internalArray.length;
+            while (newSize < minCapacity) {
+                if (expansionMode == ResizableDoubleArray.ExpansionMode.MULTIPLICATIVE) {
+                    newSize = (int) FastMath.ceil(newSize * expansionFactor);
+                } else {
+                    newSize = (int) (newSize + FastMath.round(expansionFactor));
+                }
+            }
+            relocate(newSize);
+        }
+    }
+
+    /**
+     * Move the elements to the beginning of a new storage array.
+     *
+     * @param capacity capacity of the new storage array
+     */
+    private void relocate(final int capacity) {
+        final double[] tempArray = new double[capacity];
+        final int first = FastMath.min(numElements, internalArray.length - head);
+        System.arraycopy(internalArray, head, tempArray, 0, first);
+        System.arraycopy(internalArray, 0, tempArray, first, numElements - first);
+        internalArray = tempArray;
+        head          = 0;
+    }
+
+    /**
+     * Reverse in place a range of the internal storage array.
+     *
+     * @param from index of the first element of the range
+     * @param to index after the last element of the range
+     */
+    private void reverse(final int from, final int to) {
+        for (int i = from, j = to - 1; i < j; ++i, --j) {
+            final double tmp = internalArray[i];
+            internalArray[i] = internalArray[j];
+            internalArray[j] = tmp;
+        }
+    }
+
+}
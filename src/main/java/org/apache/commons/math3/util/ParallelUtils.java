@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+/**
+ * Utilities for running independent parts of a computation on a
+ * user-supplied {@link ExecutorService}.
+ * <p>
+ * The library never creates threads by itself: callers that want parallel
+ * evaluation provide the executor (and hence choose the number of threads),
+ * and remain responsible for shutting it down.
+ * </p>
+ *
+ * @version $Id$
+ * @since 3.2
+ */
+public class ParallelUtils {
+
+    /**
+     * Class contains only static methods.
+     */
+    private ParallelUtils() {}
+
+    /**
+     * Runs all tasks on an executor and waits for their completion.
+     * <p>
+     * If a task fails with an unchecked exception or an error, it is
+     * rethrown as is in the calling thread, so the parallel and serial
+     * variants of an algorithm report failures the same way.
+     * </p>
+     *
+     * @param <T> Type of the tasks results.
+     * @param executor Executor on which the tasks are run.
+     * @param tasks Tasks to run.
+     * @return the results of the tasks, in the same order as the tasks.
+     * @throws NullArgumentException if {@code executor} is {@code null}.
+     * @throws MathIllegalStateException if the calling thread is interrupted
+     * while waiting, or if a task throws a checked exception.
+     */
+    public static <T> List<T> invokeAll(final ExecutorService executor,
+                                        final List<? extends Callable<T>> tasks)
+        throws NullArgumentException, MathIllegalStateException {
+        MathUtils.checkNotNull(executor);
+
+        final List<T> results = new ArrayList<T>(tasks.size());
+        try {
+            final List<Future<T>> futures = executor.invokeAll(tasks);
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MathIllegalStateException(ie, LocalizedFormats.INTERRUPTED_COMPUTATION);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MathIllegalStateException(cause, LocalizedFormats.SIMPLE_MESSAGE,
+                                                cause.getMessage());
+        }
+
+        return results;
+    }
+
+    /**
+     * Splits the range [0, n[ into contiguous chunks.
+     * <p>
+     * The returned array holds the {@code k + 1} chunks boundaries, chunk
+     * {@code i} being [bounds[i], bounds[i + 1][. Chunks sizes differ by
+     * at most one. The number of chunks is reduced if needed so that no
+     * chunk is empty.
+     * </p>
+     *
+     * @param n Size of the range to split.
+     * @param chunks Maximum number of chunks.
+     * @return the chunks boundaries.
+     */
+    public static int[] partition(final int n, final int chunks) {
+        final int k = FastMath.max(1, FastMath.min(n, chunks));
+        final int[] bounds = new int[k + 1];
+        final int size = n / k;
+        final int remainder = n % k;
+        for (int i = 0; i < k; ++i) {
+            bounds[i + 1] = bounds[i] + size + (i < remainder ? 1 : 0);
+        }
+        return bounds;
+    }
+
+}
@@ -81,7 +81,7 @@ import org.apache.commons.math3.exception.util.LocalizedFormats;
  * </p>
  * @version $Id$
  */
-public class ResizableDoubleArray implements DoubleArray, Serializable {
+public class ResizableDoubleArray implements RollingDoubleArray, Serializable {
     /** Additive expansion mode.
      * @deprecated As of 3.1. Please use {@link ExpansionMode#ADDITIVE} instead.
      */
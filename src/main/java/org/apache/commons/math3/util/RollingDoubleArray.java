@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+
+/**
+ * A {@link DoubleArray} that can also discard or replace elements at both
+ * of its ends, as needed to maintain a rolling window of values.
+ * <p>
+ * This is the storage interface used by
+ * {@link org.apache.commons.math3.stat.descriptive.DescriptiveStatistics}.</p>
+ *
+ * @see ResizableDoubleArray
+ * @see CircularDoubleArray
+ * @version $Id$
+ * @since 3.2
+ */
+public interface RollingDoubleArray extends DoubleArray {
+
+    /**
+     * Substitutes <code>value</code> for the most recently added value.
+     *
+     * @param value new value to substitute for the most recently added value
+     * @return the value that has been replaced in the array
+     * @throws MathIllegalStateException if the array is empty
+     */
+    double substituteMostRecentElement(double value) throws MathIllegalStateException;
+
+    /**
+     * Discards the <code>i</code> initial elements of the array.  For example,
+     * if the array contains the elements 1,2,3,4, invoking
+     * <code>discardFrontElements(2)</code> will cause the first two elements
+     * to be discarded, leaving 3,4 in the array.
+     *
+     * @param i  the number of elements to discard from the front of the array
+     * @throws MathIllegalArgumentException if i is negative or greater than
+     * the number of elements
+     */
+    void discardFrontElements(int i) throws MathIllegalArgumentException;
+
+    /**
+     * Discards the <code>i</code> last elements of the array.  For example,
+     * if the array contains the elements 1,2,3,4, invoking
+     * <code>discardMostRecentElements(2)</code> will cause the last two elements
+     * to be discarded, leaving 1,2 in the array.
+     *
+     * @param i  the number of elements to discard from the end of the array
+     * @throws MathIllegalArgumentException if i is negative or greater than
+     * the number of elements
+     */
+    void discardMostRecentElements(int i) throws MathIllegalArgumentException;
+
+    /**
+     * Performs an operation on the addressable elements of the array.
+     *
+     * @param f Function to be applied on this array.
+     * @return the result.
+     */
+    double compute(MathArrays.Function f);
+
+    /**
+     * Returns a deep copy of the array.
+     *
+     * @return a new array with the same data and configuration as this
+     */
+    RollingDoubleArray copy();
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.math3.distribution;
 
+import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NotANumberException;
@@ -169,4 +170,26 @@ public class EnumeratedIntegerDistributionTest {
         Assert.assertEquals(testDistribution.getNumericalVariance(),
                 sumOfSquares / n - FastMath.pow(sum / n, 2), 1e-2);
     }
+
+    /**
+     * Tests the frequencies of the values sampled in bulk.
+     */
+    @Test
+    public void testSampleFrequencies() {
+        final int n = 100000;
+        testDistribution.reseedRandomGenerator(-334759360); // fixed seed
+        final int[] values = new int[] { 3, -1, 7 };
+        final long[] observed = new long[values.length];
+        for (final int sample : testDistribution.sample(n)) {
+            boolean found = false;
+            for (int j = 0; j < values.length; j++) {
+                if (sample == values[j]) {
+                    ++observed[j];
+                    found = true;
+                }
+            }
+            Assert.assertTrue(found);
+        }
+        TestUtils.assertChiSquareAccept(new double[] { 0.5 * n, 0.2 * n, 0.3 * n }, observed, 0.001);
+    }
 }
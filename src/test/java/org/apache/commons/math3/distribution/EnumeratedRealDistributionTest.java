@@ -19,11 +19,13 @@ package org.apache.commons.math3.distribution;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.exception.NotANumberException;
 import org.apache.commons.math3.exception.NotFiniteNumberException;
 import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.random.Well19937c;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Pair;
 import org.junit.Assert;
@@ -213,4 +215,77 @@ public class EnumeratedRealDistributionTest {
         Assert.assertEquals(1, new EnumeratedDistribution<Object>(list).sample(1).length);
     }
 
+    /**
+     * Tests the frequencies of sampled values for many uneven probabilities.
+     */
+    @Test
+    public void testSampleFrequencies() {
+        final int k = 200;
+        final List<Pair<Integer, Double>> list = new ArrayList<Pair<Integer, Double>>();
+        final double[] weights = new double[k];
+        double total = 0;
+        for (int i = 0; i < k; i++) {
+            // every third value cannot occur
+            weights[i] = (i % 3 == 0) ? 0 : 1.0 / (i + 1);
+            total += weights[i];
+            list.add(new Pair<Integer, Double>(i, weights[i]));
+        }
+        final EnumeratedDistribution<Integer> distribution =
+            new EnumeratedDistribution<Integer>(new Well19937c(100), list);
+
+        final int n = 500000;
+        final long[] observed = new long[k];
+        for (int i = 0; i < n; i++) {
+            ++observed[distribution.sample()];
+        }
+
+        final double[] expected = new double[2 * k / 3];
+        final long[] nonZero = new long[expected.length];
+        int j = 0;
+        for (int i = 0; i < k; i++) {
+            if (weights[i] == 0) {
+                Assert.assertEquals(0, observed[i]);
+            } else {
+                expected[j] = n * weights[i] / total;
+                nonZero[j]  = observed[i];
+                ++j;
+            }
+        }
+        TestUtils.assertChiSquareAccept(expected, nonZero, 0.001);
+    }
+
+    /**
+     * Tests the frequencies of the values sampled in bulk.
+     */
+    @Test
+    public void testSampleArrayFrequencies() {
+        final int n = 100000;
+        testDistribution.reseedRandomGenerator(-334759360); // fixed seed
+        final double[] values = new double[] { 3.0, -1.0, 7.0 };
+        final long[] observed = new long[values.length];
+        for (final double sample : testDistribution.sample(n)) {
+            boolean found = false;
+            for (int j = 0; j < values.length; j++) {
+                if (sample == values[j]) {
+                    ++observed[j];
+                    found = true;
+                }
+            }
+            Assert.assertTrue(found);
+        }
+        TestUtils.assertChiSquareAccept(new double[] { 0.5 * n, 0.2 * n, 0.3 * n }, observed, 0.001);
+    }
+
+    /**
+     * Tests that a deserialized distribution samples like the original one.
+     */
+    @Test
+    public void testSerialization() {
+        final EnumeratedRealDistribution recovered =
+            (EnumeratedRealDistribution) TestUtils.serializeAndRecover(testDistribution);
+        testDistribution.reseedRandomGenerator(100);
+        recovered.reseedRandomGenerator(100);
+        Assert.assertArrayEquals(testDistribution.sample(1000), recovered.sample(1000), 0);
+    }
+
 }
@@ -18,6 +18,7 @@
 package org.apache.commons.math3.distribution;
 
 import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.random.MersenneTwister;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -121,4 +122,15 @@ public class UniformRealDistributionTest extends RealDistributionAbstractTest {
         
         Assert.assertEquals(2.5e-10, dist.inverseCumulativeProbability(0.25), 0);
     }
+
+    @Test
+    public void testSampleArray() {
+        UniformRealDistribution sequential = new UniformRealDistribution(new MersenneTwister(42), -0.5, 1.25);
+        UniformRealDistribution bulk       = new UniformRealDistribution(new MersenneTwister(42), -0.5, 1.25);
+        double[] values = new double[1000];
+        bulk.sample(values);
+        for (int i = 0; i < values.length; ++i) {
+            Assert.assertEquals(sequential.sample(), values[i], 0.0);
+        }
+    }
 }
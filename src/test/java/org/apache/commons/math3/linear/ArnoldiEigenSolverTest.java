@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArnoldiEigenSolverTest {
+
+    @Test
+    public void testRealSpectrum() {
+        final int n = 300;
+        final OpenMapRealMatrix m = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            m.setEntry(i, i, i);
+            if (i + 1 < n) {
+                m.setEntry(i, i + 1, 0.75);
+            }
+            if (i >= 5) {
+                m.setEntry(i, i - 5, -0.25);
+            }
+        }
+        final CompressedRowRealMatrix a = new CompressedRowRealMatrix(m);
+        final double[] reference =
+            new EigenDecomposition(new Array2DRowRealMatrix(m.getData(), false)).getRealEigenvalues();
+        Arrays.sort(reference);
+
+        final int nev = 4;
+        final ArnoldiEigenSolver solver = new ArnoldiEigenSolver(500, 1.0e-10);
+        final PartialEigenDecomposition ed =
+            solver.solve(a, nev, IterativeEigenSolver.Target.LARGEST_REAL, 30, null);
+        Assert.assertEquals(nev, ed.getCount());
+        for (int i = 0; i < nev; ++i) {
+            Assert.assertEquals(reference[n - 1 - i], ed.getRealEigenvalue(i), 1.0e-8);
+            Assert.assertEquals(0, ed.getImagEigenvalue(i), 1.0e-10);
+            final RealVector x = ed.getEigenvector(i);
+            Assert.assertEquals(1, x.getNorm(), 1.0e-12);
+            final RealVector r = a.operate(x).subtract(x.mapMultiply(ed.getRealEigenvalue(i)));
+            Assert.assertEquals(0, r.getNorm(), 1.0e-7);
+        }
+    }
+
+    @Test
+    public void testComplexSpectrum() {
+        // block diagonal matrix with 2x2 rotation-like blocks, eigenvalues a +/- i b
+        final int blocks = 100;
+        final int n = 2 * blocks;
+        final OpenMapRealMatrix m = new OpenMapRealMatrix(n, n);
+        for (int k = 0; k < blocks; ++k) {
+            final double re = 0.05 * k;
+            final double im = 1 + 0.01 * k;
+            m.setEntry(2 * k, 2 * k, re);
+            m.setEntry(2 * k, 2 * k + 1, im);
+            m.setEntry(2 * k + 1, 2 * k, -im);
+            m.setEntry(2 * k + 1, 2 * k + 1, re);
+        }
+        final CompressedRowRealMatrix a = new CompressedRowRealMatrix(m);
+        final ArnoldiEigenSolver solver = new ArnoldiEigenSolver(500, 1.0e-10);
+        final PartialEigenDecomposition ed =
+            solver.solve(a, 3, IterativeEigenSolver.Target.LARGEST_MAGNITUDE, 30, null);
+
+        // the third eigenvalue belongs to a conjugate pair, which is kept whole
+        Assert.assertEquals(4, ed.getCount());
+        for (int p = 0; p < 2; ++p) {
+            final int k = blocks - 1 - p;
+            final int i = 2 * p;
+            Assert.assertEquals(0.05 * k, ed.getRealEigenvalue(i), 1.0e-8);
+            Assert.assertEquals(0.05 * k, ed.getRealEigenvalue(i + 1), 1.0e-8);
+            Assert.assertEquals(1 + 0.01 * k, FastMath.abs(ed.getImagEigenvalue(i)), 1.0e-8);
+            Assert.assertEquals(-ed.getImagEigenvalue(i), ed.getImagEigenvalue(i + 1), 1.0e-12);
+
+            // A (xr + i xi) = (lr + i li) (xr + i xi)
+            final double lr = ed.getRealEigenvalue(i);
+            final double li = ed.getImagEigenvalue(i);
+            final RealVector xr = ed.getEigenvector(i);
+            final RealVector xi = ed.getEigenvector(i + 1);
+            final RealVector rr = a.operate(xr).subtract(xr.mapMultiply(lr)).add(xi.mapMultiply(li));
+            final RealVector ri = a.operate(xi).subtract(xi.mapMultiply(lr)).subtract(xr.mapMultiply(li));
+            Assert.assertEquals(0, rr.getNorm(), 1.0e-7);
+            Assert.assertEquals(0, ri.getNorm(), 1.0e-7);
+        }
+    }
+
+    @Test(expected=NumberIsTooSmallException.class)
+    public void testSubspaceTooSmall() {
+        new ArnoldiEigenSolver(10, 1.0e-10).solve(new Array2DRowRealMatrix(30, 30), 5,
+                                                  IterativeEigenSolver.Target.LARGEST_REAL,
+                                                  6, null);
+    }
+}
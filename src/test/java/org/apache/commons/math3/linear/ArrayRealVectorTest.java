@@ -170,4 +170,54 @@ public class ArrayRealVectorTest extends RealVectorAbstractTest {
         Assert.assertEquals(0, new ArrayRealVector(new double[0], true).getDimension());
         Assert.assertEquals(0, new ArrayRealVector(new double[0], false).getDimension());
     }
+
+    @Test
+    public void testSparseOperands() {
+        final double[] dense = { 1.5, -2, 0, 4, Double.NaN, 0.25, -7 };
+        final double[] sparse = { 0, 3, 0, -4, 2, 0, 0.5 };
+        final ArrayRealVector a = new ArrayRealVector(dense);
+        final OpenMapRealVector s = new OpenMapRealVector(sparse);
+        final double[] sum = new double[dense.length];
+        final double[] diff = new double[dense.length];
+        final double[] combination = new double[dense.length];
+        for (int i = 0; i < dense.length; i++) {
+            sum[i] = dense[i] + sparse[i];
+            diff[i] = dense[i] - sparse[i];
+            combination[i] = 2 * dense[i] - 3 * sparse[i];
+        }
+        assertArrayEquals(sum, a.add(s).toArray());
+        assertArrayEquals(sum, s.add(a).toArray());
+        assertArrayEquals(diff, a.subtract(s).toArray());
+        assertArrayEquals(diff, s.subtract(a).mapMultiply(-1).toArray());
+        assertArrayEquals(sum, a.copy().addToSelf(s).toArray());
+        assertArrayEquals(diff, a.copy().subtractToSelf(s).toArray());
+        assertArrayEquals(combination, a.copy().combineToSelf(2, -3, s).toArray());
+        Assert.assertTrue(Double.isNaN(a.dotProduct(s)));
+        Assert.assertTrue(Double.isNaN(s.dotProduct(a)));
+        Assert.assertTrue(Double.isNaN(a.getDistance(s)));
+        Assert.assertTrue(Double.isNaN(a.getL1Distance(s)));
+
+        final ArrayRealVector b = new ArrayRealVector(new double[] { 1.5, -2, 0, 4, 1, 0.25, -7 });
+        final RealVector generic = new ArrayRealVector(sparse);
+        Assert.assertEquals(b.dotProduct(generic), b.dotProduct(s), 0);
+        Assert.assertEquals(b.dotProduct(generic), s.dotProduct(b), 0);
+        Assert.assertEquals(b.getDistance(generic), b.getDistance(s), 0);
+        Assert.assertEquals(b.getDistance(generic), s.getDistance(b), 0);
+        Assert.assertEquals(b.getL1Distance(generic), b.getL1Distance(s), 0);
+        Assert.assertEquals(b.getL1Distance(generic), s.getL1Distance(b), 0);
+        Assert.assertEquals(b.getLInfDistance(generic), b.getLInfDistance(s), 0);
+        Assert.assertEquals(b.getLInfDistance(generic), s.getLInfDistance(b), 0);
+
+        final OpenMapRealVector t = new OpenMapRealVector(new double[] { 1, 0, 0, 2, 0, 0, 3 });
+        Assert.assertEquals(-6.5, s.dotProduct(t), 0);
+        final OpenMapRealVector u = s.copy().combineToSelf(2, -1, s.copy().mapMultiply(2));
+        Assert.assertEquals(0, u.getSparsity(), 0);
+    }
+
+    private static void assertArrayEquals(final double[] expected, final double[] actual) {
+        Assert.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals("entry #" + i, expected[i], actual[i], 0);
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.util.IterationEvent;
+import org.apache.commons.math3.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BiCGSTABTest {
+
+    @Test(expected = NonSquareOperatorException.class)
+    public void testNonSquareOperator() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(2, 3);
+        final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+        solver.solve(a, new ArrayRealVector(2), new ArrayRealVector(3));
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testDimensionMismatchSolution() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(3, 3);
+        final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+        solver.solve(a, new ArrayRealVector(3), new ArrayRealVector(2));
+    }
+
+    @Test(expected = MaxCountExceededException.class)
+    public void testMaxIterations() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion2D(20, 10);
+        final RealVector b = new ArrayRealVector(a.getRowDimension(), 1.0);
+        new BiCGSTAB(3, 1.0e-10).solve(a, b);
+    }
+
+    @Test
+    public void testUnpreconditioned() {
+        checkSolution(new BiCGSTAB(1000, 1.0e-12), null);
+    }
+
+    @Test
+    public void testPreconditioned() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion2D(20, 10);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final BiCGSTAB plain = new BiCGSTAB(1000, 1.0e-12);
+        final BiCGSTAB preconditioned = new BiCGSTAB(1000, 1.0e-12);
+        plain.solve(a, b);
+        checkSolution(preconditioned, new ILU0Preconditioner(a));
+        Assert.assertTrue(preconditioned.getIterationManager().getIterations() <
+                          plain.getIterationManager().getIterations());
+    }
+
+    @Test
+    public void testInitialGuessIsSolution() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion2D(5, 10);
+        final RealVector x0 = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector b = a.operate(x0);
+        final BiCGSTAB solver = new BiCGSTAB(10, 1.0e-10);
+        final RealVector x = solver.solve(a, b, x0);
+        Assert.assertEquals(1, solver.getIterationManager().getIterations());
+        TestUtils.assertEquals(x0.toArray(), x.toArray(), 0);
+    }
+
+    @Test
+    public void testEvents() {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion2D(10, 10);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final BiCGSTAB solver = new BiCGSTAB(1000, 1.0e-10);
+        final int[] count = new int[4];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                ++count[0];
+            }
+            public void iterationStarted(final IterationEvent e) {
+                ++count[1];
+            }
+            public void iterationPerformed(final IterationEvent e) {
+                ++count[2];
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                // the residual provided by the event must be consistent with its norm
+                Assert.assertEquals(evt.getNormOfResidual(), evt.getResidual().getNorm(),
+                                    1.0e-12 * evt.getNormOfResidual());
+            }
+            public void terminationPerformed(final IterationEvent e) {
+                ++count[3];
+            }
+        });
+        solver.solve(a, b);
+        Assert.assertEquals(1, count[0]);
+        Assert.assertEquals(solver.getIterationManager().getIterations() - 1, count[1]);
+        Assert.assertEquals(count[1], count[2]);
+        Assert.assertEquals(1, count[3]);
+    }
+
+    private static void checkSolution(final PreconditionedIterativeLinearSolver solver,
+                                      final RealLinearOperator m) {
+        final CompressedRowRealMatrix a = GMRESTest.convectionDiffusion2D(20, 10);
+        final RealVector b = GMRESTest.rightHandSide(a.getRowDimension());
+        final RealVector x = solver.solve(a, m, b);
+        final RealVector expected =
+            new LUDecomposition(new Array2DRowRealMatrix(a.getData(), false)).getSolver().solve(b);
+        TestUtils.assertEquals(expected.toArray(), x.toArray(), 1.0e-8 * expected.getNorm());
+    }
+}
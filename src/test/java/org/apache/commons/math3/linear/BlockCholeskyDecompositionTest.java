@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockCholeskyDecompositionTest {
+
+    /** test non-square matrix */
+    @Test(expected = NonSquareMatrixException.class)
+    public void testNonSquare() {
+        new BlockCholeskyDecomposition(MatrixUtils.createRealMatrix(new double[3][2]));
+    }
+
+    /** test non-symmetric matrix */
+    @Test(expected = NonSymmetricMatrixException.class)
+    public void testNotSymmetricMatrixException() {
+        RealMatrix matrix = createSpdMatrix(130, 3l);
+        matrix.addToEntry(120, 4, 1.0e-5);
+        new BlockCholeskyDecomposition(matrix);
+    }
+
+    /** test non positive definite matrix */
+    @Test
+    public void testNotPositiveDefinite() {
+        RealMatrix matrix = createSpdMatrix(130, 4l);
+        matrix.setEntry(90, 90, -1.0);
+        try {
+            new BlockCholeskyDecomposition(matrix);
+            Assert.fail("an exception should have been thrown");
+        } catch (NonPositiveDefiniteMatrixException npde) {
+            Assert.assertEquals(90, npde.getRow());
+        }
+    }
+
+    /** test A = LLT and same factor as the unblocked decomposition */
+    @Test
+    public void testAEqualLLT() {
+        for (int n : new int[] { 1, 5, 52, 53, 130 }) {
+            RealMatrix matrix = createSpdMatrix(n, 11l + n);
+            BlockCholeskyDecomposition llt = new BlockCholeskyDecomposition(matrix);
+            RealMatrix l = llt.getL();
+            Assert.assertEquals(0, l.multiply(llt.getLT()).subtract(matrix).getNorm(), 1.0e-11 * n);
+            Assert.assertEquals(0, l.subtract(new CholeskyDecomposition(matrix).getL()).getNorm(), 1.0e-11 * n);
+            for (int i = 0; i < n; ++i) {
+                for (int j = i + 1; j < n; ++j) {
+                    Assert.assertEquals(0, l.getEntry(i, j), 0);
+                }
+            }
+        }
+    }
+
+    /** test parallel and in-place factorizations */
+    @Test
+    public void testParallelInPlace() {
+        RealMatrix matrix = createSpdMatrix(200, 21l);
+        BlockCholeskyDecomposition serial = new BlockCholeskyDecomposition(matrix);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BlockRealMatrix copy = new BlockRealMatrix(matrix.getData());
+            BlockCholeskyDecomposition parallel =
+                new BlockCholeskyDecomposition(copy,
+                                               CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+                                               CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD,
+                                               true, executor);
+            Assert.assertEquals(0, serial.getL().subtract(parallel.getL()).getNorm(), 0);
+            Assert.assertEquals(0, serial.getL().subtract(copy).getNorm(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** test solver and determinant */
+    @Test
+    public void testSolve() {
+        RealMatrix matrix = createSpdMatrix(130, 8l);
+        RealVector x = new ArrayRealVector(130, 1.0);
+        RealVector b = matrix.operate(x);
+        BlockCholeskyDecomposition llt = new BlockCholeskyDecomposition(matrix);
+        Assert.assertEquals(0, llt.getSolver().solve(b).subtract(x).getNorm(), 1.0e-10);
+        Assert.assertEquals(1, llt.getDeterminant() / new CholeskyDecomposition(matrix).getDeterminant(),
+                            1.0e-10);
+    }
+
+    private static RealMatrix createSpdMatrix(int n, long seed) {
+        Random r = new Random(seed);
+        RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * r.nextDouble() - 1);
+            }
+        }
+        RealMatrix spd = m.multiply(m.transpose());
+        for (int i = 0; i < n; ++i) {
+            spd.addToEntry(i, i, n);
+        }
+        return spd;
+    }
+
+}
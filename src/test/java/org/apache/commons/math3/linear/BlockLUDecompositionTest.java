@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockLUDecompositionTest {
+
+    /** test dimensions */
+    @Test
+    public void testDimensions() {
+        RealMatrix matrix = createRandomMatrix(130, 1234l);
+        BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+        Assert.assertEquals(130, lu.getL().getRowDimension());
+        Assert.assertEquals(130, lu.getL().getColumnDimension());
+        Assert.assertEquals(130, lu.getU().getRowDimension());
+        Assert.assertEquals(130, lu.getU().getColumnDimension());
+        Assert.assertEquals(130, lu.getP().getRowDimension());
+        Assert.assertEquals(130, lu.getP().getColumnDimension());
+    }
+
+    /** test non-square matrix */
+    @Test(expected = NonSquareMatrixException.class)
+    public void testNonSquare() {
+        new BlockLUDecomposition(MatrixUtils.createRealMatrix(new double[3][2]));
+    }
+
+    /** test PA = LU */
+    @Test
+    public void testPAEqualLU() {
+        for (int n : new int[] { 1, 5, 52, 53, 130 }) {
+            RealMatrix matrix = createRandomMatrix(n, 17l + n);
+            BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+            RealMatrix residual = lu.getP().multiply(matrix).subtract(lu.getL().multiply(lu.getU()));
+            Assert.assertEquals(0, residual.getNorm(), 1.0e-11 * n);
+        }
+    }
+
+    /** test same pivoting and factors as the unblocked decomposition */
+    @Test
+    public void testSameAsUnblocked() {
+        RealMatrix matrix = createRandomMatrix(130, 5678l);
+        LUDecomposition reference = new LUDecomposition(matrix);
+        BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+        Assert.assertArrayEquals(reference.getPivot(), lu.getPivot());
+        Assert.assertEquals(0, reference.getL().subtract(lu.getL()).getNorm(), 1.0e-11);
+        Assert.assertEquals(0, reference.getU().subtract(lu.getU()).getNorm(), 1.0e-11);
+        Assert.assertEquals(1, lu.getDeterminant() / reference.getDeterminant(), 1.0e-10);
+    }
+
+    /** test parallel and in-place factorizations */
+    @Test
+    public void testParallelInPlace() {
+        RealMatrix matrix = createRandomMatrix(200, 91l);
+        BlockLUDecomposition serial = new BlockLUDecomposition(matrix);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BlockRealMatrix copy = new BlockRealMatrix(matrix.getData());
+            BlockLUDecomposition parallel = new BlockLUDecomposition(copy, 1.0e-11, true, executor);
+            Assert.assertArrayEquals(serial.getPivot(), parallel.getPivot());
+            Assert.assertEquals(0, serial.getL().subtract(parallel.getL()).getNorm(), 0);
+            Assert.assertEquals(0, serial.getU().subtract(parallel.getU()).getNorm(), 0);
+
+            // the input matrix now holds L and U
+            RealMatrix packed = serial.getL().add(serial.getU()).subtract(MatrixUtils.createRealIdentityMatrix(200));
+            Assert.assertEquals(0, packed.subtract(copy).getNorm(), 1.0e-12);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** test solver */
+    @Test
+    public void testSolve() {
+        RealMatrix matrix = createRandomMatrix(130, 42l);
+        RealVector x = new ArrayRealVector(130, 1.0);
+        RealVector b = matrix.operate(x);
+        DecompositionSolver solver = new BlockLUDecomposition(matrix).getSolver();
+        Assert.assertTrue(solver.isNonSingular());
+        Assert.assertEquals(0, solver.solve(b).subtract(x).getNorm(), 1.0e-10);
+        Assert.assertEquals(0, solver.getInverse().multiply(matrix)
+                               .subtract(MatrixUtils.createRealIdentityMatrix(130)).getNorm(), 1.0e-10);
+    }
+
+    /** test singular */
+    @Test
+    public void testSingular() {
+        RealMatrix matrix = createRandomMatrix(130, 7l);
+        matrix.setRow(100, matrix.getRow(3));
+        BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+        Assert.assertFalse(lu.getSolver().isNonSingular());
+        Assert.assertNull(lu.getL());
+        Assert.assertNull(lu.getU());
+        Assert.assertNull(lu.getP());
+        Assert.assertEquals(0, lu.getDeterminant(), 0);
+    }
+
+    private static RealMatrix createRandomMatrix(int n, long seed) {
+        Random r = new Random(seed);
+        RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                m.setEntry(i, j, 2 * r.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
@@ -18,6 +18,8 @@ package org.apache.commons.math3.linear;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 import org.junit.Assert;
@@ -288,6 +290,42 @@ public final class BlockRealMatrixTest {
 
     }
 
+    @Test
+    public void testParallelMultiply() {
+        Random r = new Random(0x5b2c8e91d4f3a7e0l);
+        BlockRealMatrix m1 = createRandomMatrix(r, 173, 121);
+        BlockRealMatrix m2 = createRandomMatrix(r, 121, 139);
+        RealMatrix m3 = new Array2DRowRealMatrix(m2.getData());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assert.assertEquals(m1.multiply(m2), m1.multiply(m2, executor));
+            Assert.assertEquals(m1.multiply(m3), m1.multiply(m3, executor));
+            Assert.assertEquals(m1.transposeMultiply(m1),
+                                m1.transposeMultiply(m1, executor));
+            Assert.assertEquals(m1.transpose().multiply(m1), m1.transposeMultiply(m1));
+
+            BlockRealMatrix square = createRandomMatrix(r, 110, 110);
+            for (int p = 0; p < 7; ++p) {
+                Assert.assertEquals(square.power(p), square.power(p, executor));
+            }
+
+            try {
+                m1.multiply(m1, executor);
+                Assert.fail("Expecting MathIllegalArgumentException");
+            } catch (MathIllegalArgumentException ex) {
+                // expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testParallelMultiplyNullExecutor() {
+        BlockRealMatrix m = new BlockRealMatrix(testData);
+        m.multiply(m, null);
+    }
+
     //Additional Test for BlockRealMatrixTest.testMultiply
 
     private double[][] d3 = new double[][] {{1,2,3,4},{5,6,7,8}};
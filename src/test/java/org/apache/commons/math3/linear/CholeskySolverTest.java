@@ -17,7 +17,9 @@
 
 package org.apache.commons.math3.linear;
 
+import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -99,6 +101,63 @@ public class CholeskySolverTest {
 
     }
 
+    /** test solve into caller-provided arrays */
+    @Test
+    public void testSolveInto() {
+        CholeskyDecomposition llt = new CholeskyDecomposition(MatrixUtils.createRealMatrix(testData));
+        double[][] b = new double[][] {
+                {   78,  -13,    1 },
+                {  414,  -62,   -1 },
+                { 1312, -202,  -37 },
+                { 2989, -542,  145 },
+                { 5510, -1465, 201 }
+        };
+        RealMatrix xRef = MatrixUtils.createRealMatrix(new double[][] {
+                { 1,  0,  1 },
+                { 0,  1,  1 },
+                { 2,  1, -4 },
+                { 2,  2,  2 },
+                { 5, -3,  0 }
+        });
+
+        // multiple right-hand sides
+        double[][] x = new double[5][3];
+        llt.solveInto(b, x);
+        Assert.assertEquals(0, MatrixUtils.createRealMatrix(x).subtract(xRef).getNorm(), 1.0e-13);
+        Assert.assertEquals(-62, b[1][1], 0);
+
+        // single right-hand side, with the same output array reused
+        RealMatrix bm = MatrixUtils.createRealMatrix(b);
+        double[] out = new double[5];
+        for (int i = 0; i < bm.getColumnDimension(); ++i) {
+            llt.solveInto(bm.getColumn(i), out);
+            TestUtils.assertEquals(xRef.getColumn(i), out, 1.0e-13);
+        }
+
+        // output arrays must not share storage with the right-hand sides
+        try {
+            llt.solveInto(out, out);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+        try {
+            llt.solveInto(b, new double[][] { new double[3], new double[3], b[0], new double[3], new double[3] });
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+
+        try {
+            llt.solveInto(new double[5], new double[4]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            // expected behavior
+        }
+    }
+
     /** test determinant */
     @Test
     public void testDeterminant() {
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.Random;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link CompressedColumnRealMatrix} class.
+ *
+ * @version $Id$
+ */
+public class CompressedColumnRealMatrixTest {
+
+    @Test
+    public void testTriplets() {
+        CompressedColumnRealMatrix m =
+            new CompressedColumnRealMatrix(3, 4,
+                                           new int[]    { 2,   0,   1,  0,   2 },
+                                           new int[]    { 3,   1,   0,  1,   0 },
+                                           new double[] { 5.0, 1.0, 2.0, 0.5, 4.0 });
+        Assert.assertEquals(3, m.getRowDimension());
+        Assert.assertEquals(4, m.getColumnDimension());
+        Assert.assertEquals(4, m.getNonZeroCount());
+        double[][] expected = {
+            { 0.0, 1.5, 0.0, 0.0 },
+            { 2.0, 0.0, 0.0, 0.0 },
+            { 4.0, 0.0, 0.0, 5.0 }
+        };
+        Assert.assertEquals(MatrixUtils.createRealMatrix(expected), m);
+        Assert.assertEquals(MatrixUtils.createRealMatrix(expected).transpose(), m.transpose());
+        Assert.assertSame(m.transpose().transpose().transpose(), m.transpose());
+    }
+
+    @Test(expected=MathUnsupportedOperationException.class)
+    public void testImmutable() {
+        new CompressedColumnRealMatrix(MatrixUtils.createRealIdentityMatrix(3)).addToEntry(0, 0, 1.0);
+    }
+
+    @Test
+    public void testOperate() {
+        Random random = new Random(0x6e1c0b93f25da847l);
+        RealMatrix dense = new Array2DRowRealMatrix(37, 53);
+        for (int i = 0; i < dense.getRowDimension(); ++i) {
+            for (int j = 0; j < dense.getColumnDimension(); ++j) {
+                if (random.nextDouble() < 0.2) {
+                    dense.setEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        CompressedColumnRealMatrix m = new CompressedColumnRealMatrix(dense);
+        Assert.assertEquals(dense, m);
+
+        double[] x = new double[53];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = random.nextDouble();
+        }
+        double[] y = new double[37];
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = random.nextDouble();
+        }
+
+        TestUtils.assertEquals(dense.operate(x), m.operate(x), 1.0e-14);
+        TestUtils.assertEquals(dense.preMultiply(y), m.preMultiply(y), 1.0e-14);
+        TestUtils.assertEquals(dense.preMultiply(new ArrayRealVector(y)).toArray(),
+                               m.operateTranspose(new ArrayRealVector(y)).toArray(), 1.0e-14);
+    }
+
+}
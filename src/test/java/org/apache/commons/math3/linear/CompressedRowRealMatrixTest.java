@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link CompressedRowRealMatrix} class.
+ *
+ * @version $Id$
+ */
+public class CompressedRowRealMatrixTest {
+
+    @Test
+    public void testTriplets() {
+        // unordered triplets, with a duplicate and an explicit zero
+        CompressedRowRealMatrix m =
+            new CompressedRowRealMatrix(3, 4,
+                                        new int[]    { 2,   0,   1,  0,   2,   1 },
+                                        new int[]    { 3,   1,   0,  1,   0,   2 },
+                                        new double[] { 5.0, 1.0, 2.0, 0.5, 4.0, 0.0 });
+        Assert.assertEquals(3, m.getRowDimension());
+        Assert.assertEquals(4, m.getColumnDimension());
+        Assert.assertEquals(4, m.getNonZeroCount());
+        double[][] expected = {
+            { 0.0, 1.5, 0.0, 0.0 },
+            { 2.0, 0.0, 0.0, 0.0 },
+            { 4.0, 0.0, 0.0, 5.0 }
+        };
+        Assert.assertEquals(MatrixUtils.createRealMatrix(expected), m);
+    }
+
+    @Test(expected=DimensionMismatchException.class)
+    public void testTripletsLengthMismatch() {
+        new CompressedRowRealMatrix(2, 2, new int[] { 0, 1 }, new int[] { 0 }, new double[] { 1, 2 });
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testTripletsOutOfRange() {
+        new CompressedRowRealMatrix(2, 2, new int[] { 0, 2 }, new int[] { 0, 1 }, new double[] { 1, 2 });
+    }
+
+    @Test(expected=MathUnsupportedOperationException.class)
+    public void testImmutable() {
+        new CompressedRowRealMatrix(createSparse(new Random(1234l), 10, 10)).setEntry(0, 0, 1.0);
+    }
+
+    @Test
+    public void testCopyFromOpenMap() {
+        OpenMapRealMatrix openMap = createSparse(new Random(0xa2c5f0d3e71b49e8l), 47, 61);
+        CompressedRowRealMatrix m = new CompressedRowRealMatrix(openMap);
+        Assert.assertEquals(openMap, m);
+        Assert.assertEquals(new CompressedRowRealMatrix(new Array2DRowRealMatrix(openMap.getData())), m);
+        Assert.assertEquals(openMap.transpose(), m.transpose());
+    }
+
+    @Test
+    public void testCopyFromCompressed() {
+        // far too large for a dense scan of the entries
+        final int n = 200000;
+        final int[] rowIndices    = new int[3 * n];
+        final int[] columnIndices = new int[3 * n];
+        final double[] values     = new double[3 * n];
+        for (int k = 0; k < 3 * n; ++k) {
+            rowIndices[k]    = k / 3;
+            columnIndices[k] = (int) ((k * 7919l) % n);
+            values[k]        = k + 1;
+        }
+        final CompressedRowRealMatrix csr =
+            new CompressedRowRealMatrix(n, n, rowIndices, columnIndices, values);
+
+        final CompressedRowRealMatrix copy = new CompressedRowRealMatrix(csr);
+        Assert.assertEquals(3 * n, copy.getNonZeroCount());
+        Assert.assertArrayEquals(csr.getRowStarts(), copy.getRowStarts());
+        Assert.assertArrayEquals(csr.getColumnIndices(), copy.getColumnIndices());
+
+        final CompressedColumnRealMatrix csc = new CompressedColumnRealMatrix(csr);
+        final CompressedRowRealMatrix back   = new CompressedRowRealMatrix(csc);
+        Assert.assertArrayEquals(csr.getRowStarts(), back.getRowStarts());
+        Assert.assertArrayEquals(csr.getColumnIndices(), back.getColumnIndices());
+        for (int k = 0; k < 3 * n; k += 9973) {
+            Assert.assertEquals(values[k], csc.getEntry(rowIndices[k], columnIndices[k]), 0);
+            Assert.assertEquals(values[k], back.getEntry(rowIndices[k], columnIndices[k]), 0);
+        }
+
+        // small matrices compared against the dense path
+        final OpenMapRealMatrix openMap = createSparse(new Random(0x51f3c7a09e2d6b84l), 23, 31);
+        final RealMatrix dense = new Array2DRowRealMatrix(openMap.getData());
+        Assert.assertEquals(dense, new CompressedRowRealMatrix(new CompressedColumnRealMatrix(dense)));
+        Assert.assertEquals(dense.transpose(),
+                            new CompressedColumnRealMatrix(new CompressedColumnRealMatrix(dense).transpose()));
+    }
+
+    @Test
+    public void testOperate() {
+        Random random = new Random(0x3d8a1f6b92c74e05l);
+        OpenMapRealMatrix openMap = createSparse(random, 83, 59);
+        RealMatrix dense = new Array2DRowRealMatrix(openMap.getData());
+        CompressedRowRealMatrix m = new CompressedRowRealMatrix(openMap);
+
+        double[] x = new double[59];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = random.nextDouble();
+        }
+        double[] y = new double[83];
+        for (int i = 0; i < y.length; ++i) {
+            y[i] = random.nextDouble();
+        }
+
+        TestUtils.assertEquals(dense.operate(x), m.operate(x), 1.0e-14);
+        TestUtils.assertEquals(dense.operate(new OpenMapRealVector(x)).toArray(),
+                               m.operate(new OpenMapRealVector(x)).toArray(), 1.0e-14);
+        TestUtils.assertEquals(dense.preMultiply(y), m.preMultiply(y), 1.0e-14);
+        TestUtils.assertEquals(dense.preMultiply(new ArrayRealVector(y)).toArray(),
+                               m.operateTranspose(new ArrayRealVector(y)).toArray(), 1.0e-14);
+        Assert.assertTrue(m.isTransposable());
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            double[] serial   = m.operate(x);
+            double[] parallel = m.operate(x, executor);
+            for (int i = 0; i < serial.length; ++i) {
+                Assert.assertEquals(serial[i], parallel[i], 0.0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try {
+            m.operate(y);
+            Assert.fail("an exception should have been thrown");
+        } catch (DimensionMismatchException dme) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConjugateGradient() {
+        // 1D Laplacian
+        final int n = 200;
+        int[] rows = new int[3 * n - 2];
+        int[] cols = new int[3 * n - 2];
+        double[] values = new double[3 * n - 2];
+        int k = 0;
+        for (int i = 0; i < n; ++i) {
+            rows[k] = i;
+            cols[k] = i;
+            values[k++] = 2.0;
+            if (i > 0) {
+                rows[k] = i;
+                cols[k] = i - 1;
+                values[k++] = -1.0;
+                rows[k] = i - 1;
+                cols[k] = i;
+                values[k++] = -1.0;
+            }
+        }
+        CompressedRowRealMatrix a = new CompressedRowRealMatrix(n, n, rows, cols, values);
+        RealVector b = new ArrayRealVector(n, 1.0);
+        RealVector x = new ConjugateGradient(10 * n, 1.0e-12, true).solve(a, b);
+        TestUtils.assertEquals(b.toArray(), a.operate(x).toArray(), 1.0e-8);
+    }
+
+    private OpenMapRealMatrix createSparse(Random random, int rows, int columns) {
+        OpenMapRealMatrix m = new OpenMapRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                if (random.nextDouble() < 0.1) {
+                    m.setEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        return m;
+    }
+
+}
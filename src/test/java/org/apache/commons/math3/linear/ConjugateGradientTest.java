@@ -510,6 +510,71 @@ public class ConjugateGradientTest {
         }
     }
 
+    @Test
+    public void testPreconditionerTiming() {
+        final CompressedRowRealMatrix a = IncompleteCholeskyPreconditionerTest.laplacian2D(10);
+        final IncompleteCholeskyPreconditioner m = new IncompleteCholeskyPreconditioner(a);
+        final int[] applications = new int[1];
+        final IterationListener listener = new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                Assert.assertTrue(evt.providesPreconditionerTiming());
+                Assert.assertEquals(m.getSetupTime(), evt.getPreconditionerSetupTime());
+                Assert.assertEquals(0, evt.getPreconditionerApplyCount());
+            }
+
+            public void iterationPerformed(final IterationEvent e) {
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                Assert.assertEquals(++applications[0], evt.getPreconditionerApplyCount());
+                Assert.assertTrue(evt.getPreconditionerApplyTime() >= 0);
+            }
+
+            public void iterationStarted(final IterationEvent e) {
+                // nothing to check
+            }
+
+            public void terminationPerformed(final IterationEvent e) {
+                // nothing to check
+            }
+        };
+        final ConjugateGradient solver = new ConjugateGradient(100, 1.0e-10, true);
+        solver.getIterationManager().addIterationListener(listener);
+        solver.solve(a, m, new ArrayRealVector(a.getRowDimension(), 1.0));
+        Assert.assertEquals(applications[0], m.getApplyCount());
+    }
+
+    @Test
+    public void testNoPreconditionerTiming() {
+        final IterationListener listener = new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                Assert.assertFalse(evt.providesPreconditionerTiming());
+                try {
+                    evt.getPreconditionerApplyTime();
+                    Assert.fail("an exception should have been thrown");
+                } catch (MathUnsupportedOperationException exc) {
+                    // Expected behavior
+                }
+            }
+
+            public void iterationPerformed(final IterationEvent e) {
+                // nothing to check
+            }
+
+            public void iterationStarted(final IterationEvent e) {
+                // nothing to check
+            }
+
+            public void terminationPerformed(final IterationEvent e) {
+                // nothing to check
+            }
+        };
+        final RealLinearOperator a = new HilbertMatrix(3);
+        final ConjugateGradient solver = new ConjugateGradient(100, 1.0e-10, true);
+        solver.getIterationManager().addIterationListener(listener);
+        solver.solve(a, JacobiPreconditioner.create(a), new ArrayRealVector(3, 1.0));
+    }
+
     @Test
     public void testUnpreconditionedNormOfResidual() {
         final int n = 5;
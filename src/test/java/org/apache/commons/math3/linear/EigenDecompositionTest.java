@@ -19,6 +19,8 @@ package org.apache.commons.math3.linear;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 import org.apache.commons.math3.distribution.NormalDistribution;
@@ -318,6 +320,84 @@ public class EigenDecompositionTest {
         }
     }
 
+    /** test eigenvalues only computation. */
+    @Test
+    public void testEigenvaluesOnly() {
+        Random r = new Random(3920719231651l);
+        double[] values = new double[100];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = 2 * r.nextDouble() - 1;
+        }
+        RealMatrix m = createTestMatrix(r, values);
+        double[] reference = new EigenDecomposition(m).getRealEigenvalues();
+        EigenDecomposition ed = new EigenDecomposition(m, false);
+        double[] eigenValues = ed.getRealEigenvalues();
+        for (int i = 0; i < values.length; ++i) {
+            Assert.assertEquals(reference[i], eigenValues[i], 1.0e-14);
+        }
+        Assert.assertEquals(new EigenDecomposition(m).getDeterminant(), ed.getDeterminant(), 1.0e-14);
+        try {
+            ed.getV();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathUnsupportedOperationException muoe) {
+            // expected
+        }
+        try {
+            ed.getSolver();
+            Assert.fail("an exception should have been thrown");
+        } catch (MathUnsupportedOperationException muoe) {
+            // expected
+        }
+    }
+
+    /** test divide-and-conquer algorithm on a big matrix. */
+    @Test
+    public void testDivideAndConquer() {
+        Random r = new Random(7193427390141l);
+        double[] bigValues = new double[300];
+        for (int i = 0; i < bigValues.length; ++i) {
+            bigValues[i] = 2 * r.nextDouble() - 1;
+        }
+        Arrays.sort(bigValues);
+        RealMatrix m = createTestMatrix(r, bigValues);
+        checkDivideAndConquer(m, bigValues, new EigenDecomposition(m, (ExecutorService) null));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            checkDivideAndConquer(m, bigValues, new EigenDecomposition(m, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** test divide-and-conquer algorithm with many equal eigenvalues (deflation). */
+    @Test
+    public void testDivideAndConquerRepeatedEigenvalues() {
+        Random r = new Random(8163410289433l);
+        double[] values = new double[200];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (i % 4) - 1;
+        }
+        Arrays.sort(values);
+        RealMatrix m = createTestMatrix(r, values);
+        checkDivideAndConquer(m, values, new EigenDecomposition(m, (ExecutorService) null));
+
+        // diagonal matrix: all merges are fully deflated
+        RealMatrix diagonal = MatrixUtils.createRealDiagonalMatrix(values);
+        checkDivideAndConquer(diagonal, values, new EigenDecomposition(diagonal, (ExecutorService) null));
+    }
+
+    private void checkDivideAndConquer(RealMatrix m, double[] sortedValues, EigenDecomposition ed) {
+        double[] eigenValues = ed.getRealEigenvalues();
+        Assert.assertEquals(sortedValues.length, eigenValues.length);
+        for (int i = 0; i < sortedValues.length; ++i) {
+            Assert.assertEquals(sortedValues[sortedValues.length - i - 1], eigenValues[i], 1.0e-13);
+        }
+        RealMatrix v = ed.getV();
+        RealMatrix id = MatrixUtils.createRealIdentityMatrix(sortedValues.length);
+        Assert.assertEquals(0, v.transpose().multiply(v).subtract(id).getNorm(), 1.0e-12);
+        Assert.assertEquals(0, m.multiply(v).subtract(v.multiply(ed.getD())).getNorm(), 1.0e-12);
+    }
+
     @Test
     public void testSymmetric() {
         RealMatrix symmetric = MatrixUtils.createRealMatrix(new double[][] {
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MaxCountExceededException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.IterationEvent;
+import org.apache.commons.math3.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GMRESTest {
+
+    @Test(expected = NonSquareOperatorException.class)
+    public void testNonSquareOperator() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(2, 3);
+        final IterativeLinearSolver solver = new GMRES(10, 0., 5);
+        solver.solve(a, new ArrayRealVector(2), new ArrayRealVector(3));
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testDimensionMismatchRightHandSide() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(3, 3);
+        final IterativeLinearSolver solver = new GMRES(10, 0., 5);
+        solver.solve(a, new ArrayRealVector(2), new ArrayRealVector(3));
+    }
+
+    @Test(expected = NotStrictlyPositiveException.class)
+    public void testInvalidRestart() {
+        new GMRES(10, 0., 0);
+    }
+
+    @Test(expected = MaxCountExceededException.class)
+    public void testMaxIterations() {
+        final CompressedRowRealMatrix a = convectionDiffusion2D(20, 10);
+        final RealVector b = new ArrayRealVector(a.getRowDimension(), 1.0);
+        new GMRES(5, 1.0e-10, 20).solve(a, b);
+    }
+
+    @Test
+    public void testUnpreconditioned() {
+        checkSolution(new GMRES(1000, 1.0e-10, 30), null, 20);
+    }
+
+    @Test
+    public void testFullSpace() {
+        // without restarts, GMRES converges in at most n iterations
+        final CompressedRowRealMatrix a = convectionDiffusion2D(4, 5);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final GMRES solver = new GMRES(100, 1.0e-12, 100);
+        final RealVector x = solver.solve(a, b);
+        Assert.assertTrue(solver.getIterationManager().getIterations() <= a.getRowDimension() + 1);
+        Assert.assertEquals(0, a.operate(x).subtract(b).getNorm(), 1.0e-10 * b.getNorm());
+    }
+
+    @Test
+    public void testInvariantSubspace() {
+        // the Krylov subspace of a multiple of the identity is spanned by b
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 2, 0, 0 }, { 0, 2, 0 }, { 0, 0, 2 }
+        });
+        final RealVector b = new ArrayRealVector(new double[] { 1, -2, 3 });
+        final RealVector x = new GMRES(10, 1.0e-12, 3).solve(a, b);
+        TestUtils.assertEquals(new double[] { 0.5, -1, 1.5 }, x.toArray(), 1.0e-15);
+    }
+
+    @Test(expected = SingularOperatorException.class)
+    public void testSingularInconsistent() {
+        // b is not in the range of A, the breakdown does not give a solution
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 1, 0 }, { 0, 0 }
+        });
+        final RealVector b = new ArrayRealVector(new double[] { 1, 1 });
+        new GMRES(10, 1.0e-10, 5).solve(a, b);
+    }
+
+    @Test
+    public void testShortRestart() {
+        checkSolution(new GMRES(5000, 1.0e-10, 5), null, 20);
+    }
+
+    @Test
+    public void testPreconditioned() {
+        final CompressedRowRealMatrix a = convectionDiffusion2D(20, 10);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final GMRES plain = new GMRES(1000, 1.0e-10, 30);
+        final GMRES preconditioned = new GMRES(1000, 1.0e-10, 30);
+        plain.solve(a, b);
+        checkSolution(preconditioned, new ILU0Preconditioner(a), 20);
+        Assert.assertTrue(preconditioned.getIterationManager().getIterations() <
+                          plain.getIterationManager().getIterations());
+    }
+
+    @Test
+    public void testEvents() {
+        final CompressedRowRealMatrix a = convectionDiffusion2D(10, 10);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final GMRES solver = new GMRES(1000, 1.0e-10, 10);
+        final int[] count = new int[4];
+        final double[] lastNorm = new double[1];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                ++count[0];
+            }
+            public void iterationStarted(final IterationEvent e) {
+                ++count[1];
+            }
+            public void iterationPerformed(final IterationEvent e) {
+                ++count[2];
+            }
+            public void terminationPerformed(final IterationEvent e) {
+                ++count[3];
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                lastNorm[0] = evt.getNormOfResidual();
+                Assert.assertFalse(evt.providesResidual());
+            }
+        });
+        final RealVector x = solver.solve(a, b);
+        Assert.assertEquals(1, count[0]);
+        Assert.assertEquals(count[1], count[2]);
+        Assert.assertEquals(1, count[3]);
+        // the iteration count also includes the residual computation at each restart
+        final int restarts = solver.getIterationManager().getIterations() - 1 - count[1];
+        Assert.assertEquals((count[1] - 1) / 10, restarts);
+        Assert.assertTrue(lastNorm[0] <= 1.0e-10 * b.getNorm());
+        Assert.assertEquals(0, a.operate(x).subtract(b).getNorm(), 1.0e-9 * b.getNorm());
+    }
+
+    private static void checkSolution(final PreconditionedIterativeLinearSolver solver,
+                                      final RealLinearOperator m, final int size) {
+        final CompressedRowRealMatrix a = convectionDiffusion2D(size, 10);
+        final RealVector b = rightHandSide(a.getRowDimension());
+        final RealVector x = solver.solve(a, m, b);
+        final RealVector expected =
+            new LUDecomposition(new Array2DRowRealMatrix(a.getData(), false)).getSolver().solve(b);
+        TestUtils.assertEquals(expected.toArray(), x.toArray(), 1.0e-8 * expected.getNorm());
+    }
+
+    static RealVector rightHandSide(final int n) {
+        final RealVector b = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            b.setEntry(i, 1 + FastMath.sin(i));
+        }
+        return b;
+    }
+
+    /**
+     * Builds the upwind finite differences discretization of the
+     * convection-diffusion operator -&Delta;u + c (&part;u/&part;x + &part;u/&part;y)
+     * on a square grid.
+     *
+     * @param size number of interior nodes along each direction
+     * @param c convection coefficient (scaled by the mesh size)
+     * @return the non-symmetric matrix of the system
+     */
+    static CompressedRowRealMatrix convectionDiffusion2D(final int size, final double c) {
+        final int n = size * size;
+        final OpenMapRealMatrix m = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                final int row = i * size + j;
+                m.setEntry(row, row, 4 + 2 * c);
+                if (i > 0) {
+                    m.setEntry(row, row - size, -1 - c);
+                }
+                if (i < size - 1) {
+                    m.setEntry(row, row + size, -1);
+                }
+                if (j > 0) {
+                    m.setEntry(row, row - 1, -1 - c);
+                }
+                if (j < size - 1) {
+                    m.setEntry(row, row + 1, -1);
+                }
+            }
+        }
+        return new CompressedRowRealMatrix(m);
+    }
+}
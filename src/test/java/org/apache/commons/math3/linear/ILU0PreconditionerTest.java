@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ILU0Preconditioner} class.
+ *
+ * @version $Id$
+ */
+public class ILU0PreconditionerTest {
+
+    @Test
+    public void testExactOnTridiagonal() {
+        // no fill-in occurs for tridiagonal matrices, so ILU(0) is exact
+        RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            {  4, -3,  0,  0 },
+            { -1,  5,  2,  0 },
+            {  0, -2,  6, -4 },
+            {  0,  0,  7,  3 }
+        });
+        ILU0Preconditioner m = new ILU0Preconditioner(a);
+        RealVector y = new ArrayRealVector(new double[] { 1, -2, 3, 0.5 });
+        TestUtils.assertEquals(y.toArray(), m.operate(a.operate(y)).toArray(), 1.0e-14);
+    }
+
+    @Test
+    public void testApproximateInverse() {
+        // the exact factors of a 2D Laplacian have fill-in, which ILU(0)
+        // drops, so M^-1 A is only close to the identity
+        final CompressedRowRealMatrix a = IncompleteCholeskyPreconditionerTest.laplacian2D(6);
+        final ILU0Preconditioner m = new ILU0Preconditioner(a);
+        final int n = a.getRowDimension();
+        final RealVector x = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            x.setEntry(i, FastMath.sin(i));
+        }
+        final RealVector y = m.operate(a.operate(x));
+        Assert.assertTrue(y.subtract(x).getNorm() < 0.5 * x.getNorm());
+    }
+
+    @Test(expected=SingularMatrixException.class)
+    public void testZeroPivot() {
+        new ILU0Preconditioner(MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 1 },
+            { 1, 1 }
+        }));
+    }
+
+    @Test(expected=SingularMatrixException.class)
+    public void testMissingDiagonal() {
+        new ILU0Preconditioner(MatrixUtils.createRealMatrix(new double[][] {
+            { 0, 1 },
+            { 1, 0 }
+        }));
+    }
+
+}
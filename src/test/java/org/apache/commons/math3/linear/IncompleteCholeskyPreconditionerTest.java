@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link IncompleteCholeskyPreconditioner} class.
+ *
+ * @version $Id$
+ */
+public class IncompleteCholeskyPreconditionerTest {
+
+    @Test
+    public void testExactOnTridiagonal() {
+        // no fill-in occurs for tridiagonal matrices, so IC(0) is exact
+        RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            {  4, -1,  0,  0 },
+            { -1,  5, -2,  0 },
+            {  0, -2,  6, -1 },
+            {  0,  0, -1,  3 }
+        });
+        IncompleteCholeskyPreconditioner m = new IncompleteCholeskyPreconditioner(a);
+        RealVector y = new ArrayRealVector(new double[] { 1, -2, 3, 0.5 });
+        TestUtils.assertEquals(y.toArray(), m.operate(a.operate(y)).toArray(), 1.0e-14);
+        Assert.assertEquals(1, m.getApplyCount());
+        Assert.assertTrue(m.getSetupTime() >= 0);
+    }
+
+    @Test
+    public void testFewerIterations() {
+        final int size = 20;
+        final CompressedRowRealMatrix a = laplacian2D(size);
+        final RealVector b = new ArrayRealVector(size * size, 1.0);
+        final ConjugateGradient plain = new ConjugateGradient(1000, 1.0e-10, true);
+        final ConjugateGradient preconditioned = new ConjugateGradient(1000, 1.0e-10, true);
+        final RealVector x0 = plain.solve(a, b);
+        final RealVector x1 = preconditioned.solve(a, new IncompleteCholeskyPreconditioner(a), b);
+        TestUtils.assertEquals(x0.toArray(), x1.toArray(), 1.0e-8);
+        Assert.assertTrue(preconditioned.getIterationManager().getIterations() <
+                          plain.getIterationManager().getIterations());
+    }
+
+    @Test(expected=NonPositiveDefiniteMatrixException.class)
+    public void testNonPositiveDefinite() {
+        new IncompleteCholeskyPreconditioner(MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2 },
+            { 2, 1 }
+        }));
+    }
+
+    @Test(expected=NonSquareMatrixException.class)
+    public void testNonSquare() {
+        new IncompleteCholeskyPreconditioner(new Array2DRowRealMatrix(2, 3));
+    }
+
+    /**
+     * Builds the 5-point finite differences Laplacian on a square grid.
+     *
+     * @param size number of grid points along each side
+     * @return the Laplacian matrix
+     */
+    static CompressedRowRealMatrix laplacian2D(final int size) {
+        final int n = size * size;
+        final int[] rows = new int[5 * n];
+        final int[] cols = new int[5 * n];
+        final double[] values = new double[5 * n];
+        int k = 0;
+        for (int i = 0; i < size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                final int row = i * size + j;
+                rows[k] = row;
+                cols[k] = row;
+                values[k++] = 4;
+                if (i > 0) {
+                    rows[k] = row;
+                    cols[k] = row - size;
+                    values[k++] = -1;
+                }
+                if (i < size - 1) {
+                    rows[k] = row;
+                    cols[k] = row + size;
+                    values[k++] = -1;
+                }
+                if (j > 0) {
+                    rows[k] = row;
+                    cols[k] = row - 1;
+                    values[k++] = -1;
+                }
+                if (j < size - 1) {
+                    rows[k] = row;
+                    cols[k] = row + 1;
+                    values[k++] = -1;
+                }
+            }
+        }
+        return new CompressedRowRealMatrix(n, n, rows, cols, values);
+    }
+
+}
@@ -17,7 +17,9 @@
 
 package org.apache.commons.math3.linear;
 
+import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
 
 import org.junit.Test;
 import org.junit.Assert;
@@ -154,6 +156,85 @@ public class LUSolverTest {
         }
     }
 
+    /** test solve into caller-provided arrays */
+    @Test
+    public void testSolveInto() {
+        LUDecomposition lu = new LUDecomposition(MatrixUtils.createRealMatrix(testData));
+        double[][] b = new double[][] {
+                { 1, 0 }, { 2, -5 }, { 3, 1 }
+        };
+        double[][] xRef = new double[][] {
+                { 19, -71 }, { -6, 22 }, { -2, 9 }
+        };
+
+        // multiple right-hand sides
+        double[][] x = new double[3][2];
+        lu.solveInto(b, x);
+        Assert.assertEquals(0, MatrixUtils.createRealMatrix(x).subtract(MatrixUtils.createRealMatrix(xRef)).getNorm(), 1.0e-13);
+        Assert.assertEquals(-5, b[1][1], 0);
+
+        // single right-hand side, with the same output array reused
+        RealMatrix bm = MatrixUtils.createRealMatrix(b);
+        RealMatrix xm = MatrixUtils.createRealMatrix(xRef);
+        double[] out = new double[3];
+        for (int i = 0; i < bm.getColumnDimension(); ++i) {
+            lu.solveInto(bm.getColumn(i), out);
+            TestUtils.assertEquals(xm.getColumn(i), out, 1.0e-13);
+        }
+
+        try {
+            lu.solveInto(new double[2], out);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            // expected behavior
+        }
+        try {
+            lu.solveInto(b, new double[3][3]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            // expected behavior
+        }
+        try {
+            new LUDecomposition(MatrixUtils.createRealMatrix(singular)).solveInto(new double[2], new double[2]);
+            Assert.fail("an exception should have been thrown");
+        } catch (SingularMatrixException ime) {
+            // expected behavior
+        }
+    }
+
+    /** test solve into arrays aliasing the right-hand side */
+    @Test
+    public void testSolveIntoAliased() {
+        LUDecomposition lu = new LUDecomposition(MatrixUtils.createRealMatrix(testData));
+        double[] b = new double[] { 1, 2, 3 };
+        try {
+            lu.solveInto(b, b);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+
+        double[][] bm = new double[][] {
+                { 1, 0 }, { 2, -5 }, { 3, 1 }
+        };
+        try {
+            lu.solveInto(bm, bm);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+        try {
+            lu.solveInto(bm, new double[][] { new double[2], bm[2], new double[2] });
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+        Assert.assertEquals(-5, bm[1][1], 0);
+    }
+
     /** test determinant */
     @Test
     public void testDeterminant() {
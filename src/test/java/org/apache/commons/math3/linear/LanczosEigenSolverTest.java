@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.IterationEvent;
+import org.apache.commons.math3.util.IterationListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LanczosEigenSolverTest {
+
+    @Test
+    public void testLargest() {
+        checkExtremeEigenpairs(IterativeEigenSolver.Target.LARGEST_REAL);
+    }
+
+    @Test
+    public void testSmallest() {
+        checkExtremeEigenpairs(IterativeEigenSolver.Target.SMALLEST_REAL);
+    }
+
+    @Test
+    public void testLargestMagnitude() {
+        checkExtremeEigenpairs(IterativeEigenSolver.Target.LARGEST_MAGNITUDE);
+    }
+
+    @Test
+    public void testWholeSpace() {
+        // the Krylov subspace becomes invariant before reaching its maximal dimension
+        final int n = 10;
+        final OpenMapRealMatrix a = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            a.setEntry(i, i, i + 1);
+        }
+        final RealVector v0 = new ArrayRealVector(n);
+        v0.setEntry(3, 1);
+        v0.setEntry(7, 1);
+        final LanczosEigenSolver solver = new LanczosEigenSolver(10, 1.0e-12);
+        final PartialEigenDecomposition ed =
+            solver.solve(new CompressedRowRealMatrix(a), 3,
+                         IterativeEigenSolver.Target.LARGEST_REAL, n, v0);
+        Assert.assertEquals(3, ed.getCount());
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals(n - i, ed.getRealEigenvalue(i), 1.0e-12);
+            Assert.assertEquals(1, FastMath.abs(ed.getEigenvector(i).getEntry(n - 1 - i)), 1.0e-12);
+        }
+    }
+
+    @Test
+    public void testEvents() {
+        final SparseFixture fixture = new SparseFixture(300);
+        final LanczosEigenSolver solver = new LanczosEigenSolver(500, 1.0e-10);
+        final int[] counts = new int[4];
+        final IterativeEigenSolverEvent[] last = new IterativeEigenSolverEvent[1];
+        solver.getIterationManager().addIterationListener(new IterationListener() {
+            public void initializationPerformed(final IterationEvent e) {
+                ++counts[0];
+            }
+            public void iterationStarted(final IterationEvent e) {
+                ++counts[1];
+            }
+            public void iterationPerformed(final IterationEvent e) {
+                ++counts[2];
+                last[0] = (IterativeEigenSolverEvent) e;
+            }
+            public void terminationPerformed(final IterationEvent e) {
+                ++counts[3];
+            }
+        });
+        final PartialEigenDecomposition ed =
+            solver.solve(fixture.operator, 4, IterativeEigenSolver.Target.LARGEST_REAL);
+        final int iterations = solver.getIterationManager().getIterations();
+        Assert.assertEquals(1, counts[0]);
+        Assert.assertEquals(iterations, counts[1]);
+        Assert.assertEquals(iterations, counts[2]);
+        Assert.assertEquals(1, counts[3]);
+        Assert.assertEquals(4, last[0].getConvergedCount());
+        Assert.assertEquals(iterations, last[0].getIterations());
+        Assert.assertArrayEquals(ed.getRealEigenvalues(), last[0].getRealRitzValues(), 0);
+    }
+
+    @Test
+    public void testReproducible() {
+        final SparseFixture fixture = new SparseFixture(300);
+        final PartialEigenDecomposition ed1 =
+            new LanczosEigenSolver(500, 1.0e-10, new Well19937c(0x3f1c5e8a9b2d4c7el)).
+            solve(fixture.operator, 3, IterativeEigenSolver.Target.LARGEST_REAL);
+        final PartialEigenDecomposition ed2 =
+            new LanczosEigenSolver(500, 1.0e-10, new Well19937c(0x3f1c5e8a9b2d4c7el)).
+            solve(fixture.operator, 3, IterativeEigenSolver.Target.LARGEST_REAL);
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals(ed1.getRealEigenvalue(i), ed2.getRealEigenvalue(i), 0);
+            Assert.assertEquals(0, ed1.getEigenvector(i).getDistance(ed2.getEigenvector(i)), 0);
+        }
+    }
+
+    @Test(expected=NonSquareOperatorException.class)
+    public void testNonSquare() {
+        new LanczosEigenSolver(10, 1.0e-10).solve(new Array2DRowRealMatrix(3, 4), 1,
+                                                  IterativeEigenSolver.Target.LARGEST_REAL);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testNoEigenvalues() {
+        new LanczosEigenSolver(10, 1.0e-10).solve(new Array2DRowRealMatrix(30, 30), 0,
+                                                  IterativeEigenSolver.Target.LARGEST_REAL);
+    }
+
+    @Test(expected=NumberIsTooSmallException.class)
+    public void testSubspaceTooSmall() {
+        new LanczosEigenSolver(10, 1.0e-10).solve(new Array2DRowRealMatrix(30, 30), 5,
+                                                  IterativeEigenSolver.Target.LARGEST_REAL,
+                                                  5, null);
+    }
+
+    private void checkExtremeEigenpairs(final IterativeEigenSolver.Target target) {
+        final SparseFixture fixture = new SparseFixture(300);
+        final int nev = 5;
+        final LanczosEigenSolver solver = new LanczosEigenSolver(500, 1.0e-10);
+        final PartialEigenDecomposition ed = solver.solve(fixture.operator, nev, target, 30, null);
+        Assert.assertEquals(nev, ed.getCount());
+
+        final double[] reference = new EigenDecomposition(fixture.dense).getRealEigenvalues();
+        Arrays.sort(reference);
+        for (int i = 0; i < nev; ++i) {
+            final double expected;
+            if (target == IterativeEigenSolver.Target.SMALLEST_REAL) {
+                expected = reference[i];
+            } else {
+                expected = reference[reference.length - 1 - i];
+            }
+            Assert.assertEquals(expected, ed.getRealEigenvalue(i), 1.0e-8);
+            Assert.assertEquals(0, ed.getImagEigenvalue(i), 0);
+            final RealVector x = ed.getEigenvector(i);
+            final RealVector r = fixture.operator.operate(x).subtract(x.mapMultiply(ed.getRealEigenvalue(i)));
+            Assert.assertEquals(0, r.getNorm(), 1.0e-7);
+            for (int j = 0; j < nev; ++j) {
+                Assert.assertEquals(i == j ? 1 : 0, x.dotProduct(ed.getEigenvector(j)), 1.0e-10);
+            }
+        }
+    }
+
+    /** Sparse symmetric matrix with well separated extreme eigenvalues. */
+    private static class SparseFixture {
+
+        /** Sparse operator. */
+        final CompressedRowRealMatrix operator;
+
+        /** Dense copy. */
+        final RealMatrix dense;
+
+        SparseFixture(final int n) {
+            final OpenMapRealMatrix m = new OpenMapRealMatrix(n, n);
+            for (int i = 0; i < n; ++i) {
+                m.setEntry(i, i, i - 0.3 * n);
+                if (i + 1 < n) {
+                    m.setEntry(i, i + 1, 0.5);
+                    m.setEntry(i + 1, i, 0.5);
+                }
+                if (i + 17 < n) {
+                    m.setEntry(i, i + 17, -1.25);
+                    m.setEntry(i + 17, i, -1.25);
+                }
+            }
+            operator = new CompressedRowRealMatrix(m);
+            dense = new Array2DRowRealMatrix(m.getData(), false);
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.commons.math3.linear;
 
 import java.util.Random;
 
+import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
 
 import org.junit.Test;
 import org.junit.Assert;
@@ -183,6 +185,77 @@ public class QRSolverTest {
         Assert.assertEquals(0.0, x.getSubMatrix(p, q - 1, 0, x.getColumnDimension() - 1).getNorm(), 0);
     }
 
+    @Test
+    public void testSolveInto() {
+        final Random r    = new Random(8215720913746291l);
+        int          p    = (7 * BlockRealMatrix.BLOCK_SIZE) / 4;
+        int          q    = (5 * BlockRealMatrix.BLOCK_SIZE) / 4;
+        RealMatrix   a    = createTestMatrix(r, p, q);
+        RealMatrix   b    = createTestMatrix(r, p, BlockRealMatrix.BLOCK_SIZE + 3);
+        checkSolveInto(new QRDecomposition(a),
+                       new QRDecomposition(createTestMatrix(r, q, q)),
+                       b);
+    }
+
+    /**
+     * Check the allocation-free solve methods against the solver.
+     * @param qr decomposition of a matrix with more rows than columns
+     * @param square decomposition of a square matrix
+     * @param b right-hand sides, with as many rows as the matrix decomposed by {@code qr}
+     */
+    static void checkSolveInto(final QRDecomposition qr, final QRDecomposition square,
+                               final RealMatrix b) {
+        final int p = b.getRowDimension();
+        final int q = qr.getR().getColumnDimension();
+        RealMatrix xRef = qr.getSolver().solve(b);
+
+        // multiple right-hand sides, the right-hand sides are destroyed
+        double[][] bData = b.getData();
+        double[][] x = new double[q][b.getColumnDimension()];
+        qr.solveInto(bData, x);
+        Assert.assertEquals(0, MatrixUtils.createRealMatrix(x).subtract(xRef).getNorm(), 1.0e-12);
+
+        // single right-hand side, with the same output array reused
+        double[] out = new double[q];
+        for (int i = 0; i < b.getColumnDimension(); ++i) {
+            qr.solveInto(b.getColumn(i), out);
+            TestUtils.assertEquals(xRef.getColumn(i), out, 1.0e-12);
+        }
+
+        try {
+            qr.solveInto(new double[q], out);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            // expected behavior
+        }
+        try {
+            qr.solveInto(b.getData(), new double[p][b.getColumnDimension()]);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            // expected behavior
+        }
+
+        // output arrays must not share storage with the right-hand sides
+        bData = b.getData();
+        x[q / 2] = bData[p / 3];
+        try {
+            qr.solveInto(bData, x);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+        Assert.assertEquals(b.getEntry(p / 3, 1), x[q / 2][1], 0);
+        try {
+            out = xRef.getColumn(0);
+            square.solveInto(out, out);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException iae) {
+            Assert.assertEquals(LocalizedFormats.SOLUTION_SHARES_RIGHT_HAND_SIDE.getSourceString(),
+                                iae.getMessage());
+        }
+    }
+
     private RealMatrix createTestMatrix(final Random r, final int rows, final int columns) {
         RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
         m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
@@ -189,6 +189,18 @@ public class RRQRSolverTest {
 
     }
 
+    @Test
+    public void testSolveInto() {
+        final Random r    = new Random(1762930586212453l);
+        int          p    = (7 * BlockRealMatrix.BLOCK_SIZE) / 4;
+        int          q    = (5 * BlockRealMatrix.BLOCK_SIZE) / 4;
+        RealMatrix   a    = createTestMatrix(r, p, q);
+        RealMatrix   b    = createTestMatrix(r, p, BlockRealMatrix.BLOCK_SIZE + 3);
+        QRSolverTest.checkSolveInto(new RRQRDecomposition(a),
+                                    new RRQRDecomposition(createTestMatrix(r, q, q)),
+                                    b);
+    }
+
     private RealMatrix createTestMatrix(final Random r, final int rows, final int columns) {
         RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
         m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
@@ -534,6 +534,39 @@ public abstract class RealVectorAbstractTest {
         }
     }
 
+    private void doTestEbeBinaryOperationToSelf(final BinaryOperation op, final boolean mixed) {
+        final double[] data1 = new double[values.length * values.length];
+        final double[] data2 = new double[values.length * values.length];
+        int k = 0;
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                data1[k] = values[i];
+                data2[k] = values[j];
+                ++k;
+            }
+        }
+        final RealVector v1 = create(data1);
+        final RealVector v2 = mixed ? createAlien(data2) : create(data2);
+        final RealVector actual;
+        switch (op) {
+            case ADD:
+                actual = v1.addToSelf(v2);
+                break;
+            case SUB:
+                actual = v1.subtractToSelf(v2);
+                break;
+            default:
+                throw new AssertionError("unexpected value");
+        }
+        Assert.assertSame(v1, actual);
+        for (int i = 0; i < data1.length; i++) {
+            final String msg = "entry #"+i+", left = "+data1[i]+", right = " + data2[i];
+            final double expected = op == BinaryOperation.ADD ?
+                                    data1[i] + data2[i] : data1[i] - data2[i];
+            Assert.assertEquals(msg, expected, actual.getEntry(i), 0.0);
+        }
+    }
+
     @Test
     public void testAddSameType() {
         doTestEbeBinaryOperation(BinaryOperation.ADD, false);
@@ -564,6 +597,36 @@ public abstract class RealVectorAbstractTest {
         doTestEbeBinaryOperationDimensionMismatch(BinaryOperation.SUB);
     }
 
+    @Test
+    public void testAddToSelfSameType() {
+        doTestEbeBinaryOperationToSelf(BinaryOperation.ADD, false);
+    }
+
+    @Test
+    public void testAddToSelfMixedTypes() {
+        doTestEbeBinaryOperationToSelf(BinaryOperation.ADD, true);
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testAddToSelfDimensionMismatch() {
+        create(new double[10]).addToSelf(create(new double[11]));
+    }
+
+    @Test
+    public void testSubtractToSelfSameType() {
+        doTestEbeBinaryOperationToSelf(BinaryOperation.SUB, false);
+    }
+
+    @Test
+    public void testSubtractToSelfMixedTypes() {
+        doTestEbeBinaryOperationToSelf(BinaryOperation.SUB, true);
+    }
+
+    @Test(expected = DimensionMismatchException.class)
+    public void testSubtractToSelfDimensionMismatch() {
+        create(new double[10]).subtractToSelf(create(new double[11]));
+    }
+
     @Ignore("ebeMultiply(RealVector) is known to be faulty (MATH-803) and is deprecated.")
     @Test
     public void testEbeMultiplySameType() {
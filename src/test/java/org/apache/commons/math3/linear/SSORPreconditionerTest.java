@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.linear;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link SSORPreconditioner} class.
+ *
+ * @version $Id$
+ */
+public class SSORPreconditionerTest {
+
+    @Test
+    public void testSymmetricGaussSeidel() {
+        RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            {  4, -1,  0 },
+            { -1,  5, -2 },
+            {  0, -2,  6 }
+        });
+        SSORPreconditioner m = new SSORPreconditioner(a, 1.0);
+        Assert.assertEquals(1.0, m.getOmega(), 0.0);
+
+        // M = (D + L) D^-1 (D + U)
+        RealMatrix dl = MatrixUtils.createRealMatrix(new double[][] {
+            {  4,  0,  0 },
+            { -1,  5,  0 },
+            {  0, -2,  6 }
+        });
+        RealMatrix dinv = MatrixUtils.createRealDiagonalMatrix(new double[] {
+            0.25, 0.2, 1.0 / 6.0
+        });
+        RealMatrix expected = dl.multiply(dinv).multiply(dl.transpose());
+        RealVector y = new ArrayRealVector(new double[] { 1, -2, 3 });
+        TestUtils.assertEquals(y.toArray(), m.operate(expected.operate(y)).toArray(), 1.0e-14);
+    }
+
+    @Test
+    public void testConjugateGradient() {
+        final CompressedRowRealMatrix a = IncompleteCholeskyPreconditionerTest.laplacian2D(20);
+        final RealVector b = new ArrayRealVector(a.getRowDimension(), 1.0);
+        final ConjugateGradient plain = new ConjugateGradient(1000, 1.0e-10, true);
+        final ConjugateGradient preconditioned = new ConjugateGradient(1000, 1.0e-10, true);
+        final RealVector x0 = plain.solve(a, b);
+        final RealVector x1 = preconditioned.solve(a, new SSORPreconditioner(a, 1.5), b);
+        TestUtils.assertEquals(x0.toArray(), x1.toArray(), 1.0e-8);
+        Assert.assertTrue(preconditioned.getIterationManager().getIterations() <
+                          plain.getIterationManager().getIterations());
+    }
+
+    @Test(expected=NumberIsTooSmallException.class)
+    public void testOmegaTooSmall() {
+        new SSORPreconditioner(MatrixUtils.createRealIdentityMatrix(2), 0.0);
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testOmegaTooLarge() {
+        new SSORPreconditioner(MatrixUtils.createRealIdentityMatrix(2), 2.0);
+    }
+
+}
@@ -99,6 +99,49 @@ public class SparseRealVectorTest extends RealVectorAbstractTest {
         u.ebeDivide(v1);
     }
 
+    @Test
+    public void testCombineToSelfAliased() {
+        final double[] data = {1d, 0d, 2d, 0d, 3d};
+        final OpenMapRealVector x = new OpenMapRealVector(data);
+        x.combineToSelf(2, 3, x);
+        Assert.assertArrayEquals(new double[] {5d, 0d, 10d, 0d, 15d},
+                                x.toArray(), 0d);
+
+        final OpenMapRealVector y = new OpenMapRealVector(data);
+        y.combineToSelf(1, -1, y);
+        Assert.assertArrayEquals(new double[5], y.toArray(), 0d);
+        Assert.assertEquals(0, y.getEntries().size());
+    }
+
+    @Test
+    public void testAddToSelfAliased() {
+        final OpenMapRealVector x =
+            new OpenMapRealVector(new double[] {1d, 0d, 2d, 0d, 3d});
+        x.addToSelf(x);
+        Assert.assertArrayEquals(new double[] {2d, 0d, 4d, 0d, 6d},
+                                x.toArray(), 0d);
+    }
+
+    @Test
+    public void testSubtractToSelfAliased() {
+        final OpenMapRealVector x =
+            new OpenMapRealVector(new double[] {1d, 0d, 2d, 0d, 3d});
+        x.subtractToSelf(x);
+        Assert.assertArrayEquals(new double[5], x.toArray(), 0d);
+        Assert.assertEquals(0, x.getEntries().size());
+    }
+
+    @Test
+    public void testSubtractDenseKeepsPositiveZero() {
+        final OpenMapRealVector x =
+            new OpenMapRealVector(new double[] {1d, 0d, 2d});
+        final RealVector d = x.subtract(new ArrayRealVector(3));
+        Assert.assertEquals(1d, d.getEntry(0), 0d);
+        Assert.assertEquals(Double.doubleToLongBits(0d),
+                            Double.doubleToLongBits(d.getEntry(1)));
+        Assert.assertEquals(2d, d.getEntry(2), 0d);
+    }
+
     /**
      * XXX This test is disabled because it currently fails.
      * The bug must still be fixed in the sparse vector implementation.
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.linear;
+
+import java.util.Random;
+
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
+import org.apache.commons.math3.random.Well1024a;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TruncatedSingularValueDecompositionTest {
+
+    /** test exact recovery of a low rank matrix */
+    @Test
+    public void testLowRank() {
+        final double[] values = { 50, 20, 10, 5, 2, 1 };
+        final AbstractRealMatrix a = createTestMatrix(new Random(2301472381l), 120, 80, values);
+        final TruncatedSingularValueDecomposition svd =
+            new TruncatedSingularValueDecomposition(a, values.length, 4, 0, new Well1024a(17));
+        final double[] s = svd.getSingularValues();
+        Assert.assertEquals(values.length, s.length);
+        for (int i = 0; i < values.length; ++i) {
+            Assert.assertEquals(values[i], s[i], 1.0e-11);
+        }
+        final RealMatrix rebuilt = svd.getU().multiply(svd.getS()).multiply(svd.getVT());
+        Assert.assertEquals(0, rebuilt.subtract(a).getNorm(), 1.0e-11);
+        checkOrthonormalColumns(svd.getU());
+        checkOrthonormalColumns(svd.getV());
+        Assert.assertEquals(50, svd.getNorm(), 1.0e-11);
+    }
+
+    /** test leading singular values of a full rank matrix with decaying spectrum */
+    @Test
+    public void testDecayingSpectrum() {
+        final double[] values = new double[60];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = FastMath.pow(0.7, i);
+        }
+        final AbstractRealMatrix a = createTestMatrix(new Random(8870134571l), 150, 60, values);
+        final double[] reference = new SingularValueDecomposition(a).getSingularValues();
+        final TruncatedSingularValueDecomposition svd =
+            new TruncatedSingularValueDecomposition(a, 8, 10, 2, new Well1024a(42));
+        final double[] s = svd.getSingularValues();
+        for (int i = 0; i < s.length; ++i) {
+            Assert.assertEquals(reference[i], s[i], 1.0e-10 * reference[0]);
+        }
+        checkOrthonormalColumns(svd.getU());
+        checkOrthonormalColumns(svd.getV());
+    }
+
+    /** test a sparse operator, supporting only matrix-vector products */
+    @Test
+    public void testSparseOperator() {
+        final int n = 200;
+        final OpenMapRealMatrix m = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            m.setEntry(i, i, FastMath.pow(0.8, i));
+            if (i + 1 < n) {
+                m.setEntry(i, i + 1, 0.1 * FastMath.pow(0.8, i));
+            }
+        }
+        final CompressedRowRealMatrix csr = new CompressedRowRealMatrix(m);
+        final double[] reference = new SingularValueDecomposition(m).getSingularValues();
+        final TruncatedSingularValueDecomposition svd =
+            new TruncatedSingularValueDecomposition(csr, 5, 10, 2, new Well1024a(5));
+        final double[] s = svd.getSingularValues();
+        for (int i = 0; i < s.length; ++i) {
+            Assert.assertEquals(reference[i], s[i], 1.0e-10 * reference[0]);
+        }
+    }
+
+    @Test(expected=MathUnsupportedOperationException.class)
+    public void testNonTransposableOperator() {
+        final RealMatrix a = MatrixUtils.createRealIdentityMatrix(4);
+        new TruncatedSingularValueDecomposition(new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return a.getRowDimension();
+            }
+            @Override
+            public int getColumnDimension() {
+                return a.getColumnDimension();
+            }
+            @Override
+            public RealVector operate(RealVector x) {
+                return a.operate(x);
+            }
+        }, 2);
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testRankTooLarge() {
+        new TruncatedSingularValueDecomposition(new Array2DRowRealMatrix(4, 4), 5);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testNullRank() {
+        new TruncatedSingularValueDecomposition(new Array2DRowRealMatrix(4, 4), 0);
+    }
+
+    private static void checkOrthonormalColumns(final RealMatrix q) {
+        final RealMatrix id = MatrixUtils.createRealIdentityMatrix(q.getColumnDimension());
+        Assert.assertEquals(0, q.transpose().multiply(q).subtract(id).getNorm(), 1.0e-12);
+    }
+
+    private static AbstractRealMatrix createTestMatrix(final Random r, final int rows, final int columns,
+                                               final double[] singularValues) {
+        final RealMatrix u = EigenDecompositionTest.createOrthogonalMatrix(r, rows);
+        final RealMatrix v = EigenDecompositionTest.createOrthogonalMatrix(r, columns);
+        final RealMatrix s = new Array2DRowRealMatrix(rows, columns);
+        for (int i = 0; i < singularValues.length; ++i) {
+            s.setEntry(i, i, singularValues[i]);
+        }
+        return new Array2DRowRealMatrix(u.multiply(s).multiply(v.transpose()).getData(), false);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GF2PolynomialsTest {
+
+    @Test
+    public void testCharacteristicPolynomial() {
+        // sequence generated by the recurrence s(k+4) = s(k+1) + s(k), i.e. P(x) = x^4 + x + 1
+        final int n = 30;
+        final long[] sequence = new long[1];
+        final int[] s = new int[n];
+        s[0] = 1;
+        for (int k = 0; k + 4 < n; ++k) {
+            s[k + 4] = s[k + 1] ^ s[k];
+        }
+        for (int k = 0; k < n; ++k) {
+            sequence[0] |= ((long) s[k]) << k;
+        }
+        final long[] p = GF2Polynomials.characteristicPolynomial(sequence, n);
+        Assert.assertEquals(4, GF2Polynomials.degree(p));
+        Assert.assertEquals(0x13l, p[0]);
+    }
+
+    @Test
+    public void testXPowerOfTwoMod() {
+        // x^4 = x + 1 mod P, x^8 = x^2 + 1, x^16 = x (as P is primitive with period 15)
+        final long[] p = { 0x13l };
+        Assert.assertEquals(0x2l, GF2Polynomials.xPowerOfTwoMod(p, 0)[0]);
+        Assert.assertEquals(0x4l, GF2Polynomials.xPowerOfTwoMod(p, 1)[0]);
+        Assert.assertEquals(0x3l, GF2Polynomials.xPowerOfTwoMod(p, 2)[0]);
+        Assert.assertEquals(0x5l, GF2Polynomials.xPowerOfTwoMod(p, 3)[0]);
+        Assert.assertEquals(0x2l, GF2Polynomials.xPowerOfTwoMod(p, 4)[0]);
+    }
+
+    @Test
+    public void testMultiWordPolynomial() {
+        // Mersenne Twister characteristic polynomial has degree 19937
+        final int n = 2 * 32 * 624;
+        final MersenneTwister mt = new MersenneTwister(5489);
+        final long[] sequence = new long[n / 64];
+        for (int i = 0; i < n; ++i) {
+            if ((mt.nextInt() & 0x1) != 0) {
+                sequence[i >> 6] |= 1l << (i & 63);
+            }
+        }
+        final long[] p = GF2Polynomials.characteristicPolynomial(sequence, n);
+        Assert.assertEquals(19937, GF2Polynomials.degree(p));
+        Assert.assertTrue(GF2Polynomials.coefficient(p, 0));
+    }
+
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.random;
 
+import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.exception.NumberIsTooLargeException;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -25,6 +28,16 @@ public class MersenneTwisterTest extends RandomGeneratorAbstractTest {
     protected RandomGenerator makeGenerator() {
         return new MersenneTwister(111);
     }
+
+    @Override
+    protected int getLinearDegree() {
+        return 19937;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
     
     // TODO: Some of the tests moved up to RandomGeneratorAbstractTest tested alternative seeding / constructors
     // Tests exercising these features directly should be added to this class.
@@ -301,4 +314,67 @@ public class MersenneTwisterTest extends RandomGeneratorAbstractTest {
 
     }
 
+    @Test
+    public void testBulkInts() {
+        MersenneTwister sequential = new MersenneTwister(new int[] {0x123, 0x234, 0x345, 0x456});
+        MersenneTwister bulk       = new MersenneTwister(new int[] {0x123, 0x234, 0x345, 0x456});
+        // chunks straddling the 624 words state regeneration boundary
+        for (int length : new int[] { 1, 17, 624, 1000, 0, 3 }) {
+            int[] values = new int[length + 5];
+            bulk.nextInts(values, 2, length);
+            Assert.assertEquals(0, values[0]);
+            Assert.assertEquals(0, values[1]);
+            for (int i = 0; i < length; ++i) {
+                Assert.assertEquals(sequential.nextInt(), values[i + 2]);
+            }
+            for (int i = length + 2; i < values.length; ++i) {
+                Assert.assertEquals(0, values[i]);
+            }
+        }
+        Assert.assertEquals(sequential.nextInt(), bulk.nextInt());
+    }
+
+    @Test
+    public void testBulkLongs() {
+        MersenneTwister sequential = new MersenneTwister(1234567l);
+        MersenneTwister bulk       = new MersenneTwister(1234567l);
+        for (int length : new int[] { 1, 311, 625, 1500 }) {
+            long[] values = new long[length];
+            bulk.nextLongs(values, 0, length);
+            for (int i = 0; i < length; ++i) {
+                Assert.assertEquals(sequential.nextLong(), values[i]);
+            }
+        }
+        Assert.assertEquals(sequential.nextInt(), bulk.nextInt());
+    }
+
+    @Test
+    public void testBulkDoubles() {
+        MersenneTwister sequential = new MersenneTwister(1234567l);
+        MersenneTwister bulk       = new MersenneTwister(1234567l);
+        for (int length : new int[] { 1, 311, 625, 1500 }) {
+            double[] values = new double[length + 1];
+            bulk.nextDoubles(values, 1, length);
+            for (int i = 0; i < length; ++i) {
+                Assert.assertEquals(sequential.nextDouble(), values[i + 1], 0.0);
+            }
+        }
+        Assert.assertEquals(sequential.nextInt(), bulk.nextInt());
+    }
+
+    @Test(expected=NumberIsTooLargeException.class)
+    public void testBulkOutOfRange() {
+        new MersenneTwister(111).nextDoubles(new double[10], 4, 7);
+    }
+
+    @Test(expected=NotPositiveException.class)
+    public void testBulkNegativeOffset() {
+        new MersenneTwister(111).nextInts(new int[10], -1, 3);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testBulkNull() {
+        new MersenneTwister(111).nextLongs(null, 0, 3);
+    }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PcgXshRr32Test extends RandomGeneratorAbstractTest {
+
+    @Override
+    protected RandomGenerator makeGenerator() {
+        return new PcgXshRr32(100l);
+    }
+
+    @Test
+    public void testReferenceCode() {
+        // reference values from the pcg32-demo program of the pcg-c-basic distribution
+        final PcgXshRr32 generator = new PcgXshRr32(42l, 54l);
+        final int[] ref = {
+            0xa15c02b7, 0x7b47f409, 0xba1d3330, 0x83d2f293, 0xbfa4784b, 0xcbed606e
+        };
+        for (int i = 0; i < ref.length; ++i) {
+            Assert.assertEquals(ref[i], generator.nextInt());
+        }
+    }
+
+    @Test
+    public void testAdvance() {
+        final PcgXshRr32 generator = new PcgXshRr32(12345l, 6789l);
+        final PcgXshRr32 reference = new PcgXshRr32(12345l, 6789l);
+        generator.advance(1000);
+        for (int i = 0; i < 1000; ++i) {
+            reference.nextInt();
+        }
+        Assert.assertEquals(reference.nextInt(), generator.nextInt());
+
+        // going backwards
+        generator.advance(-1001);
+        Assert.assertEquals(new PcgXshRr32(12345l, 6789l).nextInt(), generator.nextInt());
+    }
+
+    @Test
+    public void testJump() {
+        final PcgXshRr32 generator = new PcgXshRr32(12345l);
+        final PcgXshRr32 reference = new PcgXshRr32(12345l);
+        final PcgXshRr32 copy      = generator.jump();
+        reference.advance(1l << 48);
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(reference.nextInt(), generator.nextInt());
+        }
+        reference.advance(-(1l << 48) - 100);
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(reference.nextInt(), copy.nextInt());
+        }
+    }
+
+    @Test
+    public void testStreams() {
+        final PcgXshRr32 a = new PcgXshRr32(12345l, 1l);
+        final PcgXshRr32 b = new PcgXshRr32(12345l, 2l);
+        boolean same = true;
+        for (int i = 0; i < 10; ++i) {
+            same &= a.nextInt() == b.nextInt();
+        }
+        Assert.assertFalse(same);
+    }
+
+}
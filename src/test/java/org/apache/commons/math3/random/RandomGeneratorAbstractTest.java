@@ -429,4 +429,81 @@ public abstract class RandomGeneratorAbstractTest extends RandomDataGeneratorTes
         Assert.assertTrue(Arrays.equals(values[0], values[1]));
     }
 
+    /**
+     * Override this method in subclasses of F<sub>2</sub>-linear jumpable
+     * generators, whose {@code nextLong()} least significant bit is a linear
+     * function of the state.
+     * @return degree of the generator recurrence, or -1 if the jump
+     * cannot be checked against the recurrence
+     */
+    protected int getLinearDegree() {
+        return -1;
+    }
+
+    /**
+     * Override this method in subclasses of F<sub>2</sub>-linear jumpable
+     * generators.
+     * @return logarithm in base 2 of the jump length, in calls to {@code nextLong()}
+     */
+    protected int getLog2JumpLongs() {
+        return -1;
+    }
+
+    @Test
+    public void testJumpCopy() {
+        if (!(generator instanceof JumpableRandomGenerator)) {
+            return;
+        }
+        final RandomGenerator reference = makeGenerator();
+        for (int i = 0; i < 1000; ++i) {
+            generator.nextInt();
+            reference.nextInt();
+        }
+        final RandomGenerator copy = ((JumpableRandomGenerator) generator).jump();
+        Assert.assertEquals(generator.getClass(), copy.getClass());
+        boolean same = true;
+        for (int i = 0; i < 1000; ++i) {
+            final int r = reference.nextInt();
+            Assert.assertEquals(r, copy.nextInt());
+            same &= r == generator.nextInt();
+        }
+        Assert.assertFalse(same);
+    }
+
+    @Test
+    public void testJumpPolynomial() {
+        final int degree = getLinearDegree();
+        if (!(generator instanceof JumpableRandomGenerator) || degree < 0) {
+            return;
+        }
+
+        // the least significant bit of the output is a linear function of the state,
+        // so its sequence after the jump can be predicted from the sequence before
+        final int n = 1000;
+        for (int i = 0; i < 701; ++i) {
+            generator.nextInt();
+        }
+        final RandomGenerator reference = ((JumpableRandomGenerator) generator).jump();
+        final long[] sequence = new long[(2 * degree + n + 63) / 64];
+        for (int i = 0; i < 2 * degree + n; ++i) {
+            if ((reference.nextLong() & 0x1l) != 0) {
+                sequence[i >> 6] |= 1l << (i & 63);
+            }
+        }
+
+        final long[] p = GF2Polynomials.characteristicPolynomial(sequence, 2 * degree);
+        final int d    = GF2Polynomials.degree(p);
+        Assert.assertTrue(d > degree / 2 && d <= degree);
+        final long[] q = GF2Polynomials.xPowerOfTwoMod(p, getLog2JumpLongs());
+        for (int k = 0; k < n; ++k) {
+            boolean expected = false;
+            for (int i = 0; i < d; ++i) {
+                expected ^= GF2Polynomials.coefficient(q, i) &&
+                            GF2Polynomials.coefficient(sequence, k + i);
+            }
+            Assert.assertEquals(expected, (generator.nextLong() & 0x1l) != 0);
+        }
+
+    }
+
 }
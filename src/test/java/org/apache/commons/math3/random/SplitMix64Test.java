@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SplitMix64Test extends RandomGeneratorAbstractTest {
+
+    @Override
+    protected RandomGenerator makeGenerator() {
+        return new SplitMix64(100l);
+    }
+
+    @Test
+    public void testReferenceSplittableRandom() {
+        // reference values from java.util.SplittableRandom
+        final long[] ref = {
+            0x157a3807a48faa9dl, 0xd573529b34a1d093l, 0x2f90b72e996dccbel,
+            0xa2d419334c4667ecl, 0x01404ce914938008l, 0x14bc574c2a2b4c72l
+        };
+        final long[] refSplit = {
+            0xd8eb04682f9f9a62l, 0x58379692540d80efl, 0x9d290eb9bf10af6el,
+            0x547ffb56925657bel, 0x31769e2cc8107cbdl, 0x03704be158b919c2l
+        };
+        final long[] refAfterSplit = {
+            0xf984db4ef14fde1bl, 0x2680d065cb73ece7l, 0xcdb8c9cd9a62da0fl
+        };
+        final SplitMix64 generator = new SplitMix64(0x0123456789abcdefl);
+        for (int i = 0; i < ref.length; ++i) {
+            Assert.assertEquals(ref[i], generator.nextLong());
+        }
+        final SplitMix64 split = generator.split();
+        for (int i = 0; i < refSplit.length; ++i) {
+            Assert.assertEquals(refSplit[i], split.nextLong());
+        }
+        for (int i = 0; i < refAfterSplit.length; ++i) {
+            Assert.assertEquals(refAfterSplit[i], generator.nextLong());
+        }
+    }
+
+    @Test
+    public void testSplitReproducible() {
+        final SplitMix64 a = new SplitMix64(42);
+        final SplitMix64 b = new SplitMix64(42);
+        final SplitMix64 splitA = a.split();
+        final SplitMix64 splitB = b.split();
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(splitA.nextLong(), splitB.nextLong());
+            Assert.assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    public void testSeedCombination() {
+        Assert.assertEquals(new SplitMix64(0x0123456789abcdefl).nextLong(),
+                            new SplitMix64(new int[] { 0x01234567, 0x89abcdef }).nextLong());
+        Assert.assertEquals(new SplitMix64(0x00000000ffffffffl).nextLong(),
+                            new SplitMix64(-1).nextLong());
+    }
+
+}
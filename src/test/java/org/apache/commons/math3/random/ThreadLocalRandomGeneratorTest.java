@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThreadLocalRandomGeneratorTest extends RandomGeneratorAbstractTest {
+
+    @Override
+    protected RandomGenerator makeGenerator() {
+        return new ThreadLocalRandomGenerator(101l);
+    }
+
+    @Test
+    public void testFirstThreadGetsFirstSubstream() {
+        final XoShiRo256StarStar master = new XoShiRo256StarStar(12345l);
+        final ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(12345l);
+        final XoShiRo256StarStar expected = master.jump();
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(expected.nextLong(), generator.nextLong());
+        }
+    }
+
+    @Test
+    public void testThreadsGetDistinctSubstreams() throws Exception {
+        final ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(12345l);
+        final long first = generator.nextLong();
+
+        // threads started one after the other get the following substreams
+        final XoShiRo256StarStar master = new XoShiRo256StarStar(12345l);
+        master.jump();
+        for (int t = 0; t < 3; ++t) {
+            final long[] result = new long[1];
+            final Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    result[0] = generator.nextLong();
+                }
+            });
+            thread.start();
+            thread.join();
+            Assert.assertEquals(master.jump().nextLong(), result[0]);
+            Assert.assertTrue(result[0] != first);
+        }
+
+        // the calling thread keeps its own substream
+        final XoShiRo256StarStar expected = new XoShiRo256StarStar(12345l).jump();
+        expected.nextLong();
+        Assert.assertEquals(expected.nextLong(), generator.nextLong());
+    }
+
+    @Test
+    public void testSetSeed() {
+        final ThreadLocalRandomGenerator generator = new ThreadLocalRandomGenerator(1l);
+        generator.nextLong();
+        generator.setSeed(12345l);
+        final XoShiRo256StarStar expected = new XoShiRo256StarStar(12345l).jump();
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertEquals(expected.nextLong(), generator.nextLong());
+        }
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testNullMaster() {
+        new ThreadLocalRandomGenerator(null);
+    }
+
+    @Test
+    public void testConcurrentSampling() throws Exception {
+        final NormalDistribution distribution =
+            new NormalDistribution(new ThreadLocalRandomGenerator(12345l), 0, 1,
+                                   NormalDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY);
+        final int numTasks   = 8;
+        final int numSamples = 10000;
+        final List<Callable<double[]>> tasks = new ArrayList<Callable<double[]>>();
+        for (int i = 0; i < numTasks; i++) {
+            tasks.add(new Callable<double[]>() {
+                public double[] call() {
+                    return distribution.sample(numSamples);
+                }
+            });
+        }
+
+        final ExecutorService exec = Executors.newFixedThreadPool(4);
+        try {
+            final Set<Double> seen = new HashSet<Double>();
+            for (final Future<double[]> result : exec.invokeAll(tasks)) {
+                final double[] sample = result.get();
+                double sum = 0;
+                for (final double x : sample) {
+                    sum += x;
+                    seen.add(x);
+                }
+                Assert.assertEquals(0, sum / numSamples, 0.05);
+            }
+            // substreams of different threads do not overlap
+            Assert.assertEquals(numTasks * numSamples, seen.size());
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+}
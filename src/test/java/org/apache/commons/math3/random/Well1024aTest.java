@@ -27,6 +27,16 @@ public class Well1024aTest extends RandomGeneratorAbstractTest {
         return new Well1024a(1001);
     }
 
+    @Override
+    protected int getLinearDegree() {
+        return 1024;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
+
     @Test
     public void testReferenceCode() {
         Well1024a mt = new Well1024a(new int[] {
@@ -26,6 +26,16 @@ public class Well19937aTest extends RandomGeneratorAbstractTest {
         return new Well19937a(100);
     }
 
+    @Override
+    protected int getLinearDegree() {
+        return 19937;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
+
     @Test
     public void testReferenceCode() {
         int[] base = {
@@ -26,6 +26,16 @@ public class Well19937cTest extends RandomGeneratorAbstractTest {
         return new Well19937c(100);
     }
 
+    @Override
+    protected int getLinearDegree() {
+        return 19937;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
+
     @Test
     public void testReferenceCode() {
         int[] base = {
@@ -112,4 +122,25 @@ public class Well19937cTest extends RandomGeneratorAbstractTest {
 
     }
 
+    @Test
+    public void testBulk() {
+        Well19937c sequential = new Well19937c(100);
+        Well19937c bulk       = new Well19937c(100);
+        int[] ints = new int[100];
+        bulk.nextInts(ints, 0, ints.length);
+        for (int i = 0; i < ints.length; ++i) {
+            Assert.assertEquals(sequential.nextInt(), ints[i]);
+        }
+        long[] longs = new long[100];
+        bulk.nextLongs(longs, 0, longs.length);
+        for (int i = 0; i < longs.length; ++i) {
+            Assert.assertEquals(sequential.nextLong(), longs[i]);
+        }
+        double[] doubles = new double[100];
+        bulk.nextDoubles(doubles, 0, doubles.length);
+        for (int i = 0; i < doubles.length; ++i) {
+            Assert.assertEquals(sequential.nextDouble(), doubles[i], 0.0);
+        }
+    }
+
 }
@@ -25,6 +25,16 @@ public class Well44497aTest extends RandomGeneratorAbstractTest {
     public RandomGenerator makeGenerator() {
         return new Well44497a(100);
     }
+
+    @Override
+    protected int getLinearDegree() {
+        return 44497;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
     
     @Test
     public void testReferenceCode() {
@@ -25,6 +25,16 @@ public class Well512aTest extends RandomGeneratorAbstractTest {
     public RandomGenerator makeGenerator() {
         return new Well512a(101);
     }
+
+    @Override
+    protected int getLinearDegree() {
+        return 512;
+    }
+
+    @Override
+    protected int getLog2JumpLongs() {
+        return 127;
+    }
     @Test
     public void testReferenceCode() {
         Well512a mt = new Well512a(new int[] {
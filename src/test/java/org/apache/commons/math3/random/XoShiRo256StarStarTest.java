@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class XoShiRo256StarStarTest extends RandomGeneratorAbstractTest {
+
+    @Override
+    protected RandomGenerator makeGenerator() {
+        return new XoShiRo256StarStar(101l);
+    }
+
+    @Test
+    public void testJumpReproducible() {
+        final XoShiRo256StarStar a = new XoShiRo256StarStar(42l);
+        final XoShiRo256StarStar b = new XoShiRo256StarStar(42l);
+        for (int k = 0; k < 4; ++k) {
+            final XoShiRo256StarStar streamA = a.jump();
+            final XoShiRo256StarStar streamB = b.jump();
+            for (int i = 0; i < 10; ++i) {
+                Assert.assertEquals(streamA.nextLong(), streamB.nextLong());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.random;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.stat.StatUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZigguratExponentialRandomGeneratorTest {
+
+    @Test
+    public void testMeanAndStandardDeviation() {
+        RandomGenerator rg = new Well19937c(17399225432l);
+        ZigguratExponentialRandomGenerator generator = new ZigguratExponentialRandomGenerator(rg);
+        double[] sample = new double[100000];
+        for (int i = 0; i < sample.length; ++i) {
+            sample[i] = generator.nextExponential();
+        }
+        Assert.assertEquals(1.0, StatUtils.mean(sample), 0.01);
+        Assert.assertEquals(1.0, StatUtils.variance(sample), 0.02);
+        Assert.assertTrue(StatUtils.min(sample) >= 0);
+    }
+
+    @Test
+    public void testDistribution() {
+        ZigguratExponentialRandomGenerator generator =
+            new ZigguratExponentialRandomGenerator(new Well19937c(0x4d2e7a1b3c9f0658l));
+        ExponentialDistribution exponential = new ExponentialDistribution(1.0);
+
+        // equiprobable bins, the last one only covering the far tail
+        final int nBins = 100;
+        final double[] bounds = new double[nBins + 1];
+        for (int i = 1; i < nBins; ++i) {
+            bounds[i] = exponential.inverseCumulativeProbability(((double) i) / nBins);
+        }
+        bounds[0]     = 0;
+        bounds[nBins] = Double.POSITIVE_INFINITY;
+
+        final int n = 1000000;
+        final long[] observed = new long[nBins];
+        final double[] expected = new double[nBins];
+        Arrays.fill(expected, ((double) n) / nBins);
+        int tail = 0;
+        for (int i = 0; i < n; ++i) {
+            final double x = generator.nextExponential();
+            int k = Arrays.binarySearch(bounds, x);
+            observed[k < 0 ? -k - 2 : k]++;
+            if (x > 7.697117470131487) {
+                ++tail;
+            }
+        }
+        TestUtils.assertChiSquareAccept(expected, observed, 0.001);
+
+        // the tail beyond the base layer holds 4.54e-4 of the mass
+        Assert.assertEquals(n * (1 - exponential.cumulativeProbability(7.697117470131487)), tail, 80);
+    }
+
+    @Test
+    public void testBulk() {
+        ZigguratExponentialRandomGenerator generator1 =
+            new ZigguratExponentialRandomGenerator(new Well1024a(0x1be7c4d35a6f2809l));
+        ZigguratExponentialRandomGenerator generator2 =
+            new ZigguratExponentialRandomGenerator(new Well1024a(0x1be7c4d35a6f2809l));
+        double[] values = new double[1000];
+        generator2.nextExponentials(values);
+        for (int i = 0; i < values.length; ++i) {
+            Assert.assertEquals(generator1.nextExponential(), values[i], 0);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.math3.random;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.stat.StatUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZigguratNormalizedRandomGeneratorTest {
+
+    @Test
+    public void testMeanAndStandardDeviation() {
+        RandomGenerator rg = new Well19937c(17399225432l);
+        ZigguratNormalizedRandomGenerator generator = new ZigguratNormalizedRandomGenerator(rg);
+        double[] sample = new double[100000];
+        for (int i = 0; i < sample.length; ++i) {
+            sample[i] = generator.nextNormalizedDouble();
+        }
+        Assert.assertEquals(0.0, StatUtils.mean(sample), 0.01);
+        Assert.assertEquals(1.0, StatUtils.variance(sample), 0.01);
+    }
+
+    @Test
+    public void testDistribution() {
+        ZigguratNormalizedRandomGenerator generator =
+            new ZigguratNormalizedRandomGenerator(new Well19937c(0x4d2e7a1b3c9f0658l));
+        NormalDistribution normal = new NormalDistribution();
+
+        // equiprobable bins, the outer ones only covering the far tails
+        final int nBins = 100;
+        final double[] bounds = new double[nBins + 1];
+        for (int i = 1; i < nBins; ++i) {
+            bounds[i] = normal.inverseCumulativeProbability(((double) i) / nBins);
+        }
+        bounds[0]     = Double.NEGATIVE_INFINITY;
+        bounds[nBins] = Double.POSITIVE_INFINITY;
+
+        final int n = 1000000;
+        final long[] observed = new long[nBins];
+        final double[] expected = new double[nBins];
+        Arrays.fill(expected, ((double) n) / nBins);
+        int tail = 0;
+        for (int i = 0; i < n; ++i) {
+            final double x = generator.nextNormalizedDouble();
+            int k = Arrays.binarySearch(bounds, x);
+            observed[k < 0 ? -k - 2 : k]++;
+            if (Math.abs(x) > 3.6541528853610088) {
+                ++tail;
+            }
+        }
+        TestUtils.assertChiSquareAccept(expected, observed, 0.001);
+
+        // the tail beyond the base layer holds 2.58e-4 of the mass
+        Assert.assertEquals(n * 2 * normal.cumulativeProbability(-3.6541528853610088), tail, 60);
+    }
+
+    @Test
+    public void testBulk() {
+        ZigguratNormalizedRandomGenerator generator1 =
+            new ZigguratNormalizedRandomGenerator(new Well1024a(0x1be7c4d35a6f2809l));
+        ZigguratNormalizedRandomGenerator generator2 =
+            new ZigguratNormalizedRandomGenerator(new Well1024a(0x1be7c4d35a6f2809l));
+        double[] values = new double[1000];
+        generator2.nextNormalizedDoubles(values);
+        for (int i = 0; i < values.length; ++i) {
+            Assert.assertEquals(generator1.nextNormalizedDouble(), values[i], 0);
+        }
+    }
+
+}
@@ -17,11 +17,16 @@
 package org.apache.commons.math3.stat;
 
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Precision;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.apache.commons.math3.random.Well1024a;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -508,4 +513,57 @@ public final class StatUtilsTest {
 
     }
     
+    @Test
+    public void testParallel() {
+        final double[] x = new double[200003];
+        final Well1024a random = new Well1024a(0x7e3b1d5aa2e0c19bl);
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = 1.0e6 + random.nextGaussian();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Assert.assertEquals(StatUtils.sum(x), StatUtils.sum(x, executor), 1.0e-12 * FastMath.abs(StatUtils.sum(x)));
+            Assert.assertEquals(StatUtils.sumSq(x), StatUtils.sumSq(x, executor), 1.0e-12 * StatUtils.sumSq(x));
+            Assert.assertEquals(StatUtils.mean(x), StatUtils.mean(x, executor), 1.0e-12 * StatUtils.mean(x));
+            Assert.assertEquals(StatUtils.variance(x), StatUtils.variance(x, executor), 1.0e-10);
+            Assert.assertEquals(StatUtils.populationVariance(x), StatUtils.populationVariance(x, executor), 1.0e-10);
+            Assert.assertEquals(StatUtils.min(x), StatUtils.min(x, executor), 0);
+            Assert.assertEquals(StatUtils.max(x), StatUtils.max(x, executor), 0);
+
+            // slices, including one too small to be split
+            Assert.assertEquals(StatUtils.mean(x, 17, 150000), StatUtils.mean(x, 17, 150000, executor), 1.0e-6);
+            Assert.assertEquals(StatUtils.variance(x, 17, 150000), StatUtils.variance(x, 17, 150000, executor), 1.0e-10);
+            Assert.assertEquals(StatUtils.max(x, 5, 150000), StatUtils.max(x, 5, 150000, executor), 0);
+            Assert.assertEquals(StatUtils.variance(x, 3, 100), StatUtils.variance(x, 3, 100, executor), 0);
+            Assert.assertTrue(Double.isNaN(StatUtils.variance(new double[0], executor)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testParallelNullExecutor() {
+        StatUtils.mean(new double[100000], null);
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testParallelNullArray() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            StatUtils.sum(null, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=MathIllegalArgumentException.class)
+    public void testParallelInvalidRange() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            StatUtils.variance(new double[100000], 50000, 60000, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -16,10 +16,15 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.descriptive.moment.Variance;
 import org.junit.Assert;
 import org.junit.Test;
@@ -240,6 +245,51 @@ public class CovarianceTest {
                 new Covariance().covariance(x, y, true), Double.MIN_VALUE);
     }
 
+    @Test
+    public void testParallel() {
+        final RealMatrix longley = createRealMatrix(longleyData, 16, 7);
+        final RealMatrix swiss   = createRealMatrix(swissData, 47, 5);
+
+        // wide enough to span several blocks
+        final Well1024a random = new Well1024a(0x3c8e1f4a7d2b9065l);
+        final RealMatrix wide = new Array2DRowRealMatrix(230, 120);
+        for (int i = 0; i < wide.getRowDimension(); i++) {
+            for (int j = 0; j < wide.getColumnDimension(); j++) {
+                wide.setEntry(i, j, 100 * j + random.nextGaussian() + (j % 3) * wide.getEntry(i, j / 2));
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TestUtils.assertEquals("Longley", new Covariance(longley).getCovarianceMatrix(),
+                                   new Covariance(longley, true, executor).getCovarianceMatrix(), 1.0e-5);
+            TestUtils.assertEquals("Swiss", new Covariance(swiss, false).getCovarianceMatrix(),
+                                   new Covariance(swiss, false, executor).getCovarianceMatrix(), 1.0e-12);
+            final Covariance covariance = new Covariance(wide, true, executor);
+            Assert.assertEquals(230, covariance.getN());
+            final RealMatrix covarianceMatrix = covariance.getCovarianceMatrix();
+            TestUtils.assertEquals("wide", new Covariance(wide).getCovarianceMatrix(), covarianceMatrix, 1.0e-9);
+            for (int i = 0; i < 120; i++) {
+                for (int j = 0; j < i; j++) {
+                    Assert.assertEquals(covarianceMatrix.getEntry(i, j), covarianceMatrix.getEntry(j, i), 0);
+                }
+            }
+            try {
+                new Covariance(new Array2DRowRealMatrix(1, 3), true, executor);
+                Assert.fail("Expecting IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // Expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testParallelNullExecutor() {
+        new Covariance(createRealMatrix(swissData, 47, 5), true, null);
+    }
+
     protected RealMatrix createRealMatrix(double[] data, int nRows, int nCols) {
         double[][] matrixData = new double[nRows][nCols];
         int ptr = 0;
@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.linear.RealMatrix;
@@ -282,6 +285,38 @@ public class PearsonsCorrelationTest {
                 new PearsonsCorrelation().computeCorrelationMatrix(data), Double.MIN_VALUE);
     }
 
+    @Test
+    public void testParallel() {
+        RealMatrix matrix = createRealMatrix(longleyData, 16, 7);
+        PearsonsCorrelation corrInstance = new PearsonsCorrelation(matrix);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PearsonsCorrelation parallelInstance = new PearsonsCorrelation(matrix, executor);
+            TestUtils.assertEquals("correlation matrix", corrInstance.getCorrelationMatrix(),
+                                   parallelInstance.getCorrelationMatrix(), 1.0e-14);
+            TestUtils.assertEquals("p values", corrInstance.getCorrelationPValues(),
+                                   parallelInstance.getCorrelationPValues(), 1.0e-12);
+            TestUtils.assertEquals("correlation matrix", corrInstance.getCorrelationMatrix(),
+                                   new PearsonsCorrelation().computeCorrelationMatrix(matrix, executor), 1.0e-14);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStorelessCovariance() {
+        RealMatrix matrix = createRealMatrix(swissData, 47, 5);
+        PearsonsCorrelation corrInstance = new PearsonsCorrelation(matrix);
+        StorelessCovariance covariance = new StorelessCovariance(5);
+        covariance.increment(matrix.getSubMatrix(0, 19, 0, 4));
+        covariance.increment(matrix.getSubMatrix(20, 46, 0, 4));
+        PearsonsCorrelation streamedInstance = new PearsonsCorrelation(covariance);
+        TestUtils.assertEquals("correlation matrix", corrInstance.getCorrelationMatrix(),
+                               streamedInstance.getCorrelationMatrix(), 1.0e-14);
+        TestUtils.assertEquals("standard errors", corrInstance.getCorrelationStandardErrors(),
+                               streamedInstance.getCorrelationStandardErrors(), 1.0e-14);
+    }
+
     protected RealMatrix createRealMatrix(double[] data, int nRows, int nCols) {
         double[][] matrixData = new double[nRows][nCols];
         int ptr = 0;
@@ -16,10 +16,14 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.linear.BlockRealMatrix;
 import org.apache.commons.math3.linear.MatrixUtils;
 import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.ranking.NaNStrategy;
 import org.apache.commons.math3.stat.ranking.NaturalRanking;
 import org.junit.Assert;
@@ -150,6 +154,55 @@ public class SpearmansRankCorrelationTest extends PearsonsCorrelationTest {
         Assert.assertEquals(0.5, spearman.getCorrelationMatrix().getEntry(0, 1), Double.MIN_VALUE);
     }
 
+    @Override
+    @Test
+    public void testParallel() {
+        final double[] xArray = new double[] { Double.NaN, 1.9, 2, 100, 3 };
+        final double[] yArray = new double[] { 10, 2, 10, Double.NaN, 4 };
+        RealMatrix withNaN = MatrixUtils.createRealMatrix(xArray.length, 2);
+        withNaN.setColumn(0, xArray);
+        withNaN.setColumn(1, yArray);
+        NaturalRanking ranking = new NaturalRanking(NaNStrategy.REMOVED);
+
+        RealMatrix matrix = createRealMatrix(longleyData, 16, 7);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TestUtils.assertEquals("Correlation matrix",
+                                   new SpearmansCorrelation(matrix).getCorrelationMatrix(),
+                                   new SpearmansCorrelation(matrix, new NaturalRanking(), executor).getCorrelationMatrix(),
+                                   1.0e-14);
+            TestUtils.assertEquals("Correlation matrix",
+                                   new SpearmansCorrelation().computeCorrelationMatrix(matrix),
+                                   new SpearmansCorrelation().computeCorrelationMatrix(matrix, executor),
+                                   1.0e-14);
+            SpearmansCorrelation removed = new SpearmansCorrelation(withNaN, ranking, executor);
+            Assert.assertEquals(0.5, removed.getCorrelationMatrix().getEntry(0, 1), 1.0e-15);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelRandomTies() {
+        // many ties, broken using a shared random generator
+        final RealMatrix matrix = new BlockRealMatrix(30, 40);
+        for (int i = 0; i < matrix.getRowDimension(); i++) {
+            for (int j = 0; j < matrix.getColumnDimension(); j++) {
+                matrix.setEntry(i, j, (i * 7 + j * 3) % 4);
+            }
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final RealMatrix serial =
+                new SpearmansCorrelation(new NaturalRanking(new Well1024a(0x2b6e4f1a93c07d58l))).computeCorrelationMatrix(matrix);
+            final RealMatrix parallel =
+                new SpearmansCorrelation(new NaturalRanking(new Well1024a(0x2b6e4f1a93c07d58l))).computeCorrelationMatrix(matrix, executor);
+            TestUtils.assertEquals("Correlation matrix", serial, parallel, 1.0e-12);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     // Not relevant here
     @Override
     @Test
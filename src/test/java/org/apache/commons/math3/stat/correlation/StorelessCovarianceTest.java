@@ -16,7 +16,13 @@
  */
 package org.apache.commons.math3.stat.correlation;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.DimensionMismatchException;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.junit.Assert;
@@ -221,6 +227,102 @@ public class StorelessCovarianceTest {
         }
     }
     
+    @Test
+    public void testAggregate() {
+        RealMatrix matrix = createRealMatrix(swissData, 47, 5);
+        StorelessCovariance reference = new StorelessCovariance(5, true);
+        List<StorelessCovariance> parts = new ArrayList<StorelessCovariance>();
+        int start = 0;
+        for (int size : new int[] { 0, 1, 13, 5, 28 }) {
+            StorelessCovariance part = new StorelessCovariance(5, true);
+            for (int i = start; i < start + size; ++i) {
+                reference.increment(matrix.getRow(i));
+                part.increment(matrix.getRow(i));
+            }
+            parts.add(part);
+            start += size;
+        }
+
+        StorelessCovariance aggregate = new StorelessCovariance(5, true);
+        for (StorelessCovariance part : parts) {
+            aggregate.aggregate(part);
+        }
+        TestUtils.assertEquals("covariance", reference.getCovarianceMatrix(), aggregate.getCovarianceMatrix(), 1.0e-12);
+        TestUtils.assertEquals("covariance", new Covariance(matrix).getCovarianceMatrix(),
+                               aggregate.getCovarianceMatrix(), 1.0e-12);
+        TestUtils.assertEquals("covariance", reference.getCovarianceMatrix(),
+                               StorelessCovariance.aggregate(parts).getCovarianceMatrix(), 1.0e-12);
+
+        // aggregating an instance with itself duplicates all rows
+        StorelessCovariance doubled = StorelessCovariance.aggregate(parts);
+        doubled.aggregate(doubled);
+        Assert.assertEquals(reference.getCovariance(1, 2) * 92.0 / 93.0, doubled.getCovariance(1, 2), 1.0e-11);
+
+        Assert.assertNull(StorelessCovariance.aggregate(new ArrayList<StorelessCovariance>()));
+    }
+
+    @Test
+    public void testIncrementBatch() {
+        RealMatrix matrix = createRealMatrix(swissData, 47, 5);
+        StorelessCovariance reference = new StorelessCovariance(5, false);
+        for (int i = 0; i < matrix.getRowDimension(); ++i) {
+            reference.increment(matrix.getRow(i));
+        }
+
+        StorelessCovariance batched = new StorelessCovariance(5, false);
+        StorelessCovariance parallel = new StorelessCovariance(5, false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            int start = 0;
+            for (int size : new int[] { 1, 13, 5, 28 }) {
+                RealMatrix batch = matrix.getSubMatrix(start, start + size - 1, 0, 4);
+                batched.increment(batch);
+                parallel.increment(batch, executor);
+                start += size;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        TestUtils.assertEquals("covariance", reference.getCovarianceMatrix(), batched.getCovarianceMatrix(), 1.0e-11);
+        TestUtils.assertEquals("covariance", batched.getCovarianceMatrix(), parallel.getCovarianceMatrix(), 1.0e-15);
+        TestUtils.assertEquals("covariance", new Covariance(matrix, false).getCovarianceMatrix(),
+                               batched.getCovarianceMatrix(), 1.0e-11);
+
+        // batches and single rows can be mixed
+        batched.increment(matrix.getRow(7));
+        reference.increment(matrix.getRow(7));
+        TestUtils.assertEquals("covariance", reference.getCovarianceMatrix(), batched.getCovarianceMatrix(), 1.0e-11);
+    }
+
+    @Test(expected=DimensionMismatchException.class)
+    public void testIncrementBatchDimension() {
+        new StorelessCovariance(3).increment(new Array2DRowRealMatrix(4, 4));
+    }
+
+    @Test(expected=DimensionMismatchException.class)
+    public void testAggregateDimension() {
+        new StorelessCovariance(3).aggregate(new StorelessCovariance(4));
+    }
+
+    @Test
+    public void testSerialization() {
+        RealMatrix matrix = createRealMatrix(longleyData, 16, 7);
+        StorelessCovariance covariance = new StorelessCovariance(7, false);
+        for (int i = 0; i < matrix.getRowDimension(); ++i) {
+            covariance.increment(matrix.getRow(i));
+        }
+        StorelessCovariance recovered = (StorelessCovariance) TestUtils.serializeAndRecover(covariance);
+        TestUtils.assertEquals("covariance", covariance.getCovarianceMatrix(), recovered.getCovarianceMatrix(), 1.0e-15);
+
+        // the recovered instance can be updated further
+        covariance.increment(matrix.getRow(3));
+        recovered.increment(matrix.getRow(3));
+        TestUtils.assertEquals("covariance", covariance.getCovarianceMatrix(), recovered.getCovarianceMatrix(), 1.0e-15);
+
+        StorelessCovariance empty = (StorelessCovariance) TestUtils.serializeAndRecover(new StorelessCovariance(0));
+        Assert.assertEquals(0, empty.getData().length);
+    }
+
     protected RealMatrix createRealMatrix(double[] data, int nRows, int nCols) {
         double[][] matrixData = new double[nRows][nCols];
         int ptr = 0;
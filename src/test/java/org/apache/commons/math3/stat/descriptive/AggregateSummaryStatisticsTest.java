@@ -26,6 +26,8 @@ import org.apache.commons.math3.distribution.RealDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.apache.commons.math3.distribution.IntegerDistribution;
 import org.apache.commons.math3.distribution.UniformIntegerDistribution;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.apache.commons.math3.stat.descriptive.rank.TDigestPercentile;
 import org.apache.commons.math3.util.Precision;
 import org.junit.Assert;
 import org.junit.Test;
@@ -164,6 +166,34 @@ public class AggregateSummaryStatisticsTest {
     }
 
 
+    /**
+     * Test aggregate function of per-partition TDigestPercentile sketches against
+     * Percentile computed over the full sample.
+     */
+    @Test
+    public void testAggregatePercentiles() {
+        double[] totalSample = generateSample();
+        double[][] subSamples = generatePartition(totalSample);
+
+        Collection<TDigestPercentile> digests = new ArrayList<TDigestPercentile>();
+        for (int i = 0; i < subSamples.length; i++) {
+            // compression is large enough for every centroid to hold one value
+            TDigestPercentile digest = new TDigestPercentile(90, 1000);
+            digest.incrementAll(subSamples[i]);
+            digests.add(digest);
+        }
+
+        TDigestPercentile aggregated = AggregateSummaryStatistics.aggregatePercentiles(digests);
+        Assert.assertEquals(totalSample.length, aggregated.getN());
+        Assert.assertEquals(90, aggregated.getQuantile(), 0);
+        for (double p = 10; p <= 100; p += 10) {
+            Assert.assertEquals(new Percentile(p).evaluate(totalSample), aggregated.getPercentile(p), 1.0e-10);
+        }
+
+        Assert.assertNull(AggregateSummaryStatistics.aggregatePercentiles(null));
+        Assert.assertNull(AggregateSummaryStatistics.aggregatePercentiles(new ArrayList<TDigestPercentile>()));
+    }
+
     @Test
     public void testAggregateDegenerate() {
         double[] totalSample = {1, 2, 3, 4, 5};
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ConcurrentSummaryStatistics} class.
+ *
+ * @version $Id$
+ */
+public class ConcurrentSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        Assert.assertEquals(0, stats.getN());
+        Assert.assertEquals(0, stats.getSum(), 0);
+        Assert.assertTrue(Double.isNaN(stats.getMean()));
+        Assert.assertTrue(Double.isNaN(stats.getVariance()));
+        Assert.assertTrue(Double.isNaN(stats.getStandardDeviation()));
+        Assert.assertTrue(Double.isNaN(stats.getMin()));
+        Assert.assertTrue(Double.isNaN(stats.getMax()));
+        Assert.assertTrue(Double.isNaN(stats.getGeometricMean()));
+        Assert.assertTrue(Double.isNaN(stats.getSecondMoment()));
+    }
+
+    @Test
+    public void testSingleValue() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(3);
+        Assert.assertEquals(4, stats.getStripes());
+        stats.addValue(2.5);
+        Assert.assertEquals(1, stats.getN());
+        Assert.assertEquals(2.5, stats.getMean(), 0);
+        Assert.assertEquals(0, stats.getVariance(), 0);
+        Assert.assertEquals(0, stats.getStandardDeviation(), 0);
+        Assert.assertEquals(0, stats.getSecondMoment(), 0);
+        Assert.assertEquals(2.5, stats.getMin(), 0);
+        Assert.assertEquals(2.5, stats.getMax(), 0);
+    }
+
+    @Test
+    public void testSingleThread() {
+        final RandomGenerator random = new Well19937c(0x6e2f0d8c5b3a1947l);
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        final SummaryStatistics reference = new SummaryStatistics();
+        for (int i = 0; i < 10000; ++i) {
+            final double x = 1000 + random.nextGaussian();
+            stats.addValue(x);
+            reference.addValue(x);
+        }
+        checkEquals(reference, stats, 1.0e-10);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        final int nThreads = 16;
+        final int perThread = 20000;
+        final double[][] data = new double[nThreads][perThread];
+        final RandomGenerator random = new Well19937c(0x2b7e151628aed2a6l);
+        final SummaryStatistics reference = new SummaryStatistics();
+        for (int t = 0; t < nThreads; ++t) {
+            for (int i = 0; i < perThread; ++i) {
+                // different offsets per thread so stripes have different means
+                data[t][i] = t + random.nextDouble();
+                reference.addValue(data[t][i]);
+            }
+        }
+
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int t = 0; t < nThreads; ++t) {
+                final double[] values = data[t];
+                futures.add(executor.submit(new Callable<Void>() {
+                    public Void call() {
+                        for (final double v : values) {
+                            stats.addValue(v);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        checkEquals(reference, stats, 1.0e-9);
+        final StatisticalSummary summary = stats.getSummary();
+        TestUtils.assertEquals(reference.getMean(), summary.getMean(), 1.0e-12);
+        TestUtils.assertEquals(reference.getVariance(), summary.getVariance(), 1.0e-9);
+        Assert.assertEquals(reference.getN(), summary.getN());
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        final SummaryStatistics reference = new SummaryStatistics();
+        final double[] values = { Double.NaN, 1, Double.POSITIVE_INFINITY, -2 };
+        for (final double v : values) {
+            stats.addValue(v);
+            reference.addValue(v);
+        }
+        Assert.assertEquals(reference.getMin(), stats.getMin(), 0);
+        Assert.assertEquals(reference.getMax(), stats.getMax(), 0);
+        Assert.assertTrue(Double.isNaN(stats.getMean()));
+    }
+
+    @Test
+    public void testClear() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        stats.addValue(1);
+        stats.addValue(3);
+        stats.clear();
+        Assert.assertEquals(0, stats.getN());
+        Assert.assertTrue(Double.isNaN(stats.getMax()));
+        stats.addValue(5);
+        Assert.assertEquals(5, stats.getMean(), 0);
+    }
+
+    @Test
+    public void testSerialization() {
+        final ConcurrentSummaryStatistics stats = new ConcurrentSummaryStatistics();
+        stats.addValue(1);
+        stats.addValue(2);
+        stats.addValue(6);
+        final ConcurrentSummaryStatistics recovered =
+            (ConcurrentSummaryStatistics) TestUtils.serializeAndRecover(stats);
+        Assert.assertEquals(stats.getN(), recovered.getN());
+        Assert.assertEquals(stats.getMean(), recovered.getMean(), 0);
+        Assert.assertEquals(stats.getVariance(), recovered.getVariance(), 0);
+        recovered.addValue(3);
+        Assert.assertEquals(3, recovered.getMean(), 0);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testInvalidStripes() {
+        new ConcurrentSummaryStatistics(0);
+    }
+
+    private void checkEquals(final SummaryStatistics expected,
+                             final ConcurrentSummaryStatistics actual,
+                             final double relativeTolerance) {
+        Assert.assertEquals(expected.getN(), actual.getN());
+        checkRelative(expected.getSum(), actual.getSum(), relativeTolerance);
+        checkRelative(expected.getSumsq(), actual.getSumsq(), relativeTolerance);
+        checkRelative(expected.getSumOfLogs(), actual.getSumOfLogs(), relativeTolerance);
+        checkRelative(expected.getMean(), actual.getMean(), relativeTolerance);
+        checkRelative(expected.getGeometricMean(), actual.getGeometricMean(), relativeTolerance);
+        checkRelative(expected.getVariance(), actual.getVariance(), relativeTolerance);
+        checkRelative(expected.getPopulationVariance(), actual.getPopulationVariance(), relativeTolerance);
+        checkRelative(expected.getStandardDeviation(), actual.getStandardDeviation(), relativeTolerance);
+        checkRelative(expected.getSecondMoment(), actual.getSecondMoment(), relativeTolerance);
+        Assert.assertEquals(expected.getMin(), actual.getMin(), 0);
+        Assert.assertEquals(expected.getMax(), actual.getMax(), 0);
+    }
+
+    private void checkRelative(final double expected, final double actual, final double tolerance) {
+        Assert.assertEquals(expected, actual, tolerance * Math.abs(expected));
+    }
+
+}
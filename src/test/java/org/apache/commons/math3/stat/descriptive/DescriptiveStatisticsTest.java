@@ -25,6 +25,8 @@ import org.apache.commons.math3.stat.descriptive.rank.Max;
 import org.apache.commons.math3.stat.descriptive.rank.Min;
 import org.apache.commons.math3.stat.descriptive.summary.Sum;
 import org.apache.commons.math3.stat.descriptive.summary.SumOfSquares;
+import org.apache.commons.math3.util.CircularDoubleArray;
+import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.util.Precision;
 import org.junit.Assert;
 import org.junit.Test;
@@ -88,6 +90,34 @@ public class DescriptiveStatisticsTest {
         Assert.assertEquals(refSum2 / 50.0, stats.getMean(), 1E-10);
     }
 
+    @Test
+    public void testCircularStorage() {
+        DescriptiveStatistics reference = createDescriptiveStatistics();
+        DescriptiveStatistics stats = new DescriptiveStatistics(new CircularDoubleArray(new double[] { -4, 17 }));
+        reference.addValue(-4);
+        reference.addValue(17);
+        reference.setWindowSize(30);
+        stats.setWindowSize(30);
+        for (int i = 0; i < 100; ++i) {
+            final double x = FastMath.sin(i);
+            reference.addValue(x);
+            stats.addValue(x);
+            if (i % 7 == 0) {
+                Assert.assertEquals(reference.getMean(), stats.getMean(), 1E-15);
+                Assert.assertEquals(reference.getVariance(), stats.getVariance(), 1E-15);
+                Assert.assertEquals(reference.getPercentile(75), stats.getPercentile(75), 0);
+            }
+        }
+        Assert.assertArrayEquals(reference.getValues(), stats.getValues(), 0);
+        stats.setWindowSize(10);
+        reference.setWindowSize(10);
+        stats.removeMostRecentValue();
+        reference.removeMostRecentValue();
+        Assert.assertEquals(reference.replaceMostRecentValue(2), stats.replaceMostRecentValue(2), 0);
+        Assert.assertArrayEquals(reference.getValues(), stats.getValues(), 0);
+        Assert.assertEquals(reference.getMax(), stats.copy().getMax(), 0);
+    }
+
     @Test
     public void testGetValues() {
         DescriptiveStatistics stats = createDescriptiveStatistics();
@@ -163,6 +193,26 @@ public class DescriptiveStatisticsTest {
 
     }
 
+    @Test
+    public void testPercentiles() {
+        DescriptiveStatistics stats = createDescriptiveStatistics();
+        for (int i = 0; i < 1000; i++) {
+            stats.addValue((i * 7919) % 1000);
+        }
+        final double[] ps = { 50, 90, 99, 99.9 };
+        final double[] percentiles = stats.getPercentiles(ps);
+        for (int i = 0; i < ps.length; i++) {
+            Assert.assertEquals(stats.getPercentile(ps[i]), percentiles[i], 0);
+        }
+
+        // percentile implementation which is not a Percentile
+        stats.setPercentileImpl(new goodPercentile());
+        final double[] wrapped = stats.getPercentiles(ps);
+        for (int i = 0; i < ps.length; i++) {
+            Assert.assertEquals(percentiles[i], wrapped[i], 0);
+        }
+    }
+
     @Test
     public void testPercentileSetter() {
         DescriptiveStatistics stats = createDescriptiveStatistics();
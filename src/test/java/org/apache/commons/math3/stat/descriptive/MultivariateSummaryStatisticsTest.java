@@ -20,8 +20,12 @@ package org.apache.commons.math3.stat.descriptive;
 import java.util.Locale;
 
 import org.apache.commons.math3.exception.DimensionMismatchException;
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
 import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.apache.commons.math3.stat.descriptive.moment.SecondMoment;
 import org.apache.commons.math3.util.FastMath;
 
 import org.junit.Test;
@@ -312,4 +316,85 @@ public class MultivariateSummaryStatisticsTest {
         Assert.assertEquals(emptyHash, t.hashCode());
         Assert.assertEquals(emptyHash, u.hashCode());
     }
+
+    @Test
+    public void testAggregate() {
+        final RandomGenerator random = new Well1024a(0x1f8e6c3ab5e4d2c7l);
+        final MultivariateSummaryStatistics all = createMultivariateSummaryStatistics(3, true);
+        final MultivariateSummaryStatistics[] parts = new MultivariateSummaryStatistics[4];
+        for (int p = 0; p < parts.length; ++p) {
+            parts[p] = createMultivariateSummaryStatistics(3, true);
+            // first part is empty
+            for (int i = 0; i < 50 * p; ++i) {
+                final double[] x = new double[] {
+                    random.nextDouble(), 100 + random.nextGaussian(), FastMath.exp(random.nextGaussian())
+                };
+                all.addValue(x);
+                parts[p].addValue(x);
+            }
+        }
+        final MultivariateSummaryStatistics aggregate = createMultivariateSummaryStatistics(3, true);
+        for (final MultivariateSummaryStatistics part : parts) {
+            aggregate.aggregate(part);
+        }
+        Assert.assertEquals(all.getN(), aggregate.getN());
+        TestUtils.assertEquals(all.getSum(), aggregate.getSum(), 1.0e-10);
+        TestUtils.assertEquals(all.getSumSq(), aggregate.getSumSq(), 1.0e-6);
+        TestUtils.assertEquals(all.getSumLog(), aggregate.getSumLog(), 1.0e-10);
+        TestUtils.assertEquals(all.getMean(), aggregate.getMean(), 1.0e-12);
+        TestUtils.assertEquals(all.getGeometricMean(), aggregate.getGeometricMean(), 1.0e-12);
+        TestUtils.assertEquals(all.getStandardDeviation(), aggregate.getStandardDeviation(), 1.0e-10);
+        TestUtils.assertEquals(all.getMin(), aggregate.getMin(), 0);
+        TestUtils.assertEquals(all.getMax(), aggregate.getMax(), 0);
+        TestUtils.assertEquals("covariance", all.getCovariance(), aggregate.getCovariance(), 1.0e-10);
+
+        // the aggregated parts are unchanged
+        Assert.assertEquals(150, parts[3].getN());
+    }
+
+    @Test(expected=DimensionMismatchException.class)
+    public void testAggregateDimension() {
+        createMultivariateSummaryStatistics(2, true).aggregate(createMultivariateSummaryStatistics(3, true));
+    }
+
+    @Test
+    public void testAggregateCustomImpl() {
+        final MultivariateSummaryStatistics u = createMultivariateSummaryStatistics(2, true);
+        u.setMeanImpl(new StorelessUnivariateStatistic[] {
+            new sumMean(), new sumMean()
+        });
+        final MultivariateSummaryStatistics v = createMultivariateSummaryStatistics(2, true);
+        v.addValue(new double[] { 1, 2 });
+        try {
+            v.aggregate(u);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathUnsupportedOperationException e) {
+            // expected
+        }
+        // nothing has been modified
+        Assert.assertEquals(1, v.getN());
+        Assert.assertEquals(2, v.getMax()[1], 0);
+    }
+
+    @Test
+    public void testAggregateExternalMeanMoment() {
+        final MultivariateSummaryStatistics u = createMultivariateSummaryStatistics(2, true);
+        u.addValue(new double[] { 3, 4 });
+        final MultivariateSummaryStatistics v = createMultivariateSummaryStatistics(2, true);
+        v.setMeanImpl(new StorelessUnivariateStatistic[] {
+            new Mean(), new Mean(new SecondMoment())
+        });
+        v.addValue(new double[] { 1, 2 });
+        try {
+            v.aggregate(u);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathUnsupportedOperationException e) {
+            // expected
+        }
+        // nothing has been modified
+        Assert.assertEquals(1, v.getN());
+        Assert.assertEquals(1, v.getMean()[0], 0);
+        Assert.assertEquals(2, v.getMax()[1], 0);
+    }
+
 }
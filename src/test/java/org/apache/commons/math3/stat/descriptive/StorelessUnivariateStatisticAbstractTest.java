@@ -40,6 +40,40 @@ public abstract class StorelessUnivariateStatisticAbstractTest
     @Override
     public abstract double expectedValue();
 
+    /**
+     * Aggregates a statistic into another one, for the statistics supporting it.
+     * @param target statistic to update
+     * @param source statistic to aggregate into target
+     * @return false if aggregation is not supported
+     */
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        return false;
+    }
+
+    /**
+     * Verifies that aggregating statistics over partitions of the data gives
+     * the statistic of the whole data.
+     */
+    @Test
+    public void testAggregate() {
+        final StorelessUnivariateStatistic all    = (StorelessUnivariateStatistic) getUnivariateStatistic();
+        final StorelessUnivariateStatistic first  = (StorelessUnivariateStatistic) getUnivariateStatistic();
+        final StorelessUnivariateStatistic second = (StorelessUnivariateStatistic) getUnivariateStatistic();
+        final StorelessUnivariateStatistic empty  = (StorelessUnivariateStatistic) getUnivariateStatistic();
+        all.incrementAll(testArray);
+        first.incrementAll(testArray, 0, 7);
+        second.incrementAll(testArray, 7, testArray.length - 7);
+        if (aggregate(first, empty)) {
+            aggregate(first, second);
+            aggregate(empty, first);
+            Assert.assertEquals(all.getN(), first.getN());
+            Assert.assertEquals(all.getN(), empty.getN());
+            Assert.assertEquals(all.getResult(), first.getResult(), getTolerance());
+            Assert.assertEquals(all.getResult(), empty.getResult(), getTolerance());
+        }
+    }
+
     /**
      *  Verifies that increment() and incrementAll work properly.
      */
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link TimeWindowedSummaryStatistics} class.
+ *
+ * @version $Id$
+ */
+public class TimeWindowedSummaryStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(60000, 60);
+        final StatisticalSummary summary = stats.getSummary(123456l);
+        Assert.assertEquals(0, summary.getN());
+        Assert.assertTrue(Double.isNaN(summary.getMean()));
+        Assert.assertTrue(Double.isNaN(summary.getVariance()));
+        Assert.assertTrue(Double.isNaN(summary.getMax()));
+    }
+
+    @Test
+    public void testWindowLength() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(1000, 3);
+        Assert.assertEquals(3, stats.getBucketCount());
+        Assert.assertEquals(334, stats.getBucketDuration());
+        Assert.assertEquals(1002, stats.getWindowLength());
+    }
+
+    @Test
+    public void testAgainstSlidingReference() {
+        final RandomGenerator random = new Well19937c(0x3bc51c0e83a1f35dl);
+        final long bucket = 100;
+        final int  count  = 10;
+        final TimeWindowedSummaryStatistics stats =
+                new TimeWindowedSummaryStatistics(bucket * count, count);
+        final double[] values = new double[5000];
+        final long[]   times  = new long[values.length];
+        long t = -2000;
+        for (int i = 0; i < values.length; ++i) {
+            t += random.nextInt(20);
+            values[i] = random.nextGaussian();
+            times[i]  = t;
+            stats.addValue(values[i], t);
+
+            // reference: recompute everything in the window
+            final long windowStart = (Math.round(Math.floor(t / (double) bucket)) - count + 1) * bucket;
+            final SummaryStatistics reference = new SummaryStatistics();
+            for (int j = 0; j <= i; ++j) {
+                if (times[j] >= windowStart) {
+                    reference.addValue(values[j]);
+                }
+            }
+            final StatisticalSummary summary = stats.getSummary(t);
+            Assert.assertEquals(reference.getN(), summary.getN());
+            Assert.assertEquals(reference.getMean(), summary.getMean(), 1.0e-12);
+            Assert.assertEquals(reference.getVariance(), summary.getVariance(), 1.0e-12);
+            Assert.assertEquals(reference.getMin(), summary.getMin(), 0);
+            Assert.assertEquals(reference.getMax(), summary.getMax(), 0);
+        }
+    }
+
+    @Test
+    public void testExpiry() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(60, 6);
+        stats.addValue(1.0, 0);
+        stats.addValue(2.0, 15);
+        stats.addValue(3.0, 59);
+        Assert.assertEquals(3, stats.getSummary(59).getN());
+        Assert.assertEquals(2, stats.getSummary(60).getN());
+        Assert.assertEquals(5.0, stats.getSummary(65).getSum(), 0);
+        Assert.assertEquals(1, stats.getSummary(105).getN());
+        Assert.assertEquals(0, stats.getSummary(120).getN());
+
+        // a quiet period longer than the window clears everything
+        stats.addValue(4.0, 1000);
+        final StatisticalSummary summary = stats.getSummary(1000);
+        Assert.assertEquals(1, summary.getN());
+        Assert.assertEquals(4.0, summary.getMean(), 0);
+    }
+
+    @Test
+    public void testLateValues() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(100, 10);
+        stats.addValue(1.0, 500);
+        // still in the window, accepted
+        stats.addValue(2.0, 420);
+        // already out of the window, ignored
+        stats.addValue(3.0, 399);
+        final StatisticalSummary summary = stats.getSummary(500);
+        Assert.assertEquals(2, summary.getN());
+        Assert.assertEquals(2.0, summary.getMax(), 0);
+    }
+
+    @Test
+    public void testClearAndCopy() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(100, 10);
+        for (int i = 0; i < 50; ++i) {
+            stats.addValue(i, 3 * i);
+        }
+        final TimeWindowedSummaryStatistics copy = stats.copy();
+        Assert.assertEquals(stats.getSummary(150), copy.getSummary(150));
+        copy.addValue(1000, 150);
+        Assert.assertEquals(stats.getSummary(150).getN() + 1, copy.getSummary(150).getN());
+        stats.clear();
+        Assert.assertEquals(0, stats.getSummary(150).getN());
+        Assert.assertEquals(31, copy.getSummary(150).getN());
+    }
+
+    @Test
+    public void testSerialization() {
+        final TimeWindowedSummaryStatistics stats = new TimeWindowedSummaryStatistics(100, 10);
+        for (int i = 0; i < 50; ++i) {
+            stats.addValue(i * 0.5, 3 * i);
+        }
+        final TimeWindowedSummaryStatistics recovered =
+                (TimeWindowedSummaryStatistics) TestUtils.serializeAndRecover(stats);
+        Assert.assertEquals(stats.getSummary(150), recovered.getSummary(150));
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testZeroBuckets() {
+        new TimeWindowedSummaryStatistics(100, 0);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testZeroWindow() {
+        new TimeWindowedSummaryStatistics(0, 10);
+    }
+
+}
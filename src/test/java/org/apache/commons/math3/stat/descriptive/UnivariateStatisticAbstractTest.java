@@ -18,6 +18,8 @@ package org.apache.commons.math3.stat.descriptive;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 import org.apache.commons.math3.TestUtils;
@@ -25,6 +27,7 @@ import org.apache.commons.math3.distribution.IntegerDistribution;
 import org.apache.commons.math3.distribution.UniformIntegerDistribution;
 import org.apache.commons.math3.distribution.RealDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.util.FastMath;
 import org.junit.Assert;
 import org.junit.Test;
@@ -116,6 +119,46 @@ public abstract class UnivariateStatisticAbstractTest {
         Assert.assertEquals(stat.evaluate(arrayEnd), stat.evaluate(testArray, testArray.length - 5, 5), 0);
     }
     
+    /**
+     * Evaluates the statistic in parallel, for the statistics supporting it.
+     * @param statistic statistic returned by {@link #getUnivariateStatistic()}
+     * @param values the input array
+     * @param begin index of the first array element to include
+     * @param length the number of elements to include
+     * @param executor executor used to run the tasks
+     * @return value of the statistic, or null if parallel evaluation is not supported
+     */
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return null;
+    }
+
+    @Test
+    public void testEvaluateParallel() {
+        final UnivariateStatistic stat = getUnivariateStatistic();
+        final double[] x = new double[100003];
+        final Well1024a random = new Well1024a(0x3a2f9c1d77e0b54el);
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = FastMath.exp(1.0e-3 * random.nextGaussian());
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Double parallel = evaluateInParallel(stat, x, 5, x.length - 10, executor);
+            if (parallel != null) {
+                final double serial = stat.evaluate(x, 5, x.length - 10);
+                Assert.assertEquals(serial, parallel, 1.0e-9 * FastMath.abs(serial));
+
+                // too small to be split
+                Assert.assertEquals(expectedValue(),
+                                    evaluateInParallel(stat, testArray, 0, testArray.length, executor),
+                                    getTolerance());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testEvaluateArraySegmentWeighted() {
         // See if this statistic computes weighted statistics
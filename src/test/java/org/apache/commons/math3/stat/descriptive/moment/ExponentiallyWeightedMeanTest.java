@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.moment;
+
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ExponentiallyWeightedMean} class.
+ * @version $Id$
+ */
+public class ExponentiallyWeightedMeanTest extends StorelessUnivariateStatisticAbstractTest {
+
+    /** Smoothing factor used in tests. */
+    private static final double ALPHA = 0.1;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UnivariateStatistic getUnivariateStatistic() {
+        return new ExponentiallyWeightedMean(ALPHA);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double expectedValue() {
+        // definitional formula: the first value keeps the weight of all older values
+        final int n = testArray.length;
+        double m = testArray[0] * Math.pow(1 - ALPHA, n - 1);
+        for (int i = 1; i < n; ++i) {
+            m += ALPHA * Math.pow(1 - ALPHA, n - 1 - i) * testArray[i];
+        }
+        return m;
+    }
+
+    @Test
+    public void testSmallSamples() {
+        ExponentiallyWeightedMean mean = new ExponentiallyWeightedMean(ALPHA);
+        Assert.assertTrue(Double.isNaN(mean.getResult()));
+        mean.increment(1d);
+        Assert.assertEquals(1d, mean.getResult(), 0);
+        mean.increment(11d);
+        Assert.assertEquals(2d, mean.getResult(), 1.0e-15);
+        Assert.assertEquals(2, mean.getN());
+    }
+
+    @Test
+    public void testUnitAlpha() {
+        ExponentiallyWeightedMean mean = new ExponentiallyWeightedMean(1.0);
+        mean.incrementAll(testArray);
+        Assert.assertEquals(testArray[testArray.length - 1], mean.getResult(), 0);
+    }
+
+    @Test
+    public void testTracksLevelShift() {
+        ExponentiallyWeightedMean mean = new ExponentiallyWeightedMean(ALPHA);
+        for (int i = 0; i < 1000; ++i) {
+            mean.increment(5.0);
+        }
+        for (int i = 0; i < 200; ++i) {
+            mean.increment(-3.0);
+        }
+        Assert.assertEquals(-3.0, mean.getResult(), 1.0e-8);
+    }
+
+    @Test
+    public void testSummaryStatisticsImpl() {
+        SummaryStatistics stats = new SummaryStatistics();
+        stats.setMeanImpl(new ExponentiallyWeightedMean(ALPHA));
+        for (double x : testArray) {
+            stats.addValue(x);
+        }
+        Assert.assertEquals(expectedValue(), stats.getMean(), getTolerance());
+        Assert.assertEquals(testArray.length, stats.getN());
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testZeroAlpha() {
+        new ExponentiallyWeightedMean(0);
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testLargeAlpha() {
+        new ExponentiallyWeightedMean(1.5);
+    }
+
+}
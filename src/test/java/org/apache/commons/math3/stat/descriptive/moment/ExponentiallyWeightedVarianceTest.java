@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.moment;
+
+import org.apache.commons.math3.exception.OutOfRangeException;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ExponentiallyWeightedVariance} class.
+ * @version $Id$
+ */
+public class ExponentiallyWeightedVarianceTest extends StorelessUnivariateStatisticAbstractTest {
+
+    /** Smoothing factor used in tests. */
+    private static final double ALPHA = 0.1;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UnivariateStatistic getUnivariateStatistic() {
+        return new ExponentiallyWeightedVariance(ALPHA);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double expectedValue() {
+        // definitional formula, using the exponential weights
+        final int n = testArray.length;
+        final double[] w = new double[n];
+        w[0] = Math.pow(1 - ALPHA, n - 1);
+        for (int i = 1; i < n; ++i) {
+            w[i] = ALPHA * Math.pow(1 - ALPHA, n - 1 - i);
+        }
+        double m = 0;
+        for (int i = 0; i < n; ++i) {
+            m += w[i] * testArray[i];
+        }
+        double v = 0;
+        for (int i = 0; i < n; ++i) {
+            v += w[i] * (testArray[i] - m) * (testArray[i] - m);
+        }
+        return v;
+    }
+
+    @Test
+    public void testSmallSamples() {
+        ExponentiallyWeightedVariance variance = new ExponentiallyWeightedVariance(0.5);
+        Assert.assertTrue(Double.isNaN(variance.getResult()));
+        Assert.assertTrue(Double.isNaN(variance.getMean()));
+        variance.increment(1d);
+        Assert.assertEquals(0d, variance.getResult(), 0);
+        variance.increment(3d);
+        // equal weights on 1 and 3
+        Assert.assertEquals(2d, variance.getMean(), 0);
+        Assert.assertEquals(1d, variance.getResult(), 1.0e-15);
+    }
+
+    @Test
+    public void testStationary() {
+        // constant data has no spread, whatever the smoothing factor
+        ExponentiallyWeightedVariance variance = new ExponentiallyWeightedVariance(0.3);
+        for (int i = 0; i < 100; ++i) {
+            variance.increment(7.25);
+        }
+        Assert.assertEquals(0, variance.getResult(), 0);
+        Assert.assertEquals(7.25, variance.getMean(), 0);
+    }
+
+    @Test
+    public void testSummaryStatisticsImpl() {
+        SummaryStatistics stats = new SummaryStatistics();
+        stats.setVarianceImpl(new ExponentiallyWeightedVariance(ALPHA));
+        for (double x : testArray) {
+            stats.addValue(x);
+        }
+        Assert.assertEquals(expectedValue(), stats.getVariance(), getTolerance());
+        Assert.assertEquals(Math.sqrt(expectedValue()), stats.getStandardDeviation(), getTolerance());
+    }
+
+    @Test(expected=OutOfRangeException.class)
+    public void testNegativeAlpha() {
+        new ExponentiallyWeightedVariance(-0.1);
+    }
+
+}
@@ -16,6 +16,11 @@
  */
 package org.apache.commons.math3.stat.descriptive.moment;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.junit.Assert;
@@ -37,6 +42,20 @@ public class GeometricMeanTest extends StorelessUnivariateStatisticAbstractTest{
         return new GeometricMean();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((GeometricMean) statistic).evaluate(values, begin, length, executor);
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((GeometricMean) target).aggregate((GeometricMean) source);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -76,4 +95,28 @@ public class GeometricMeanTest extends StorelessUnivariateStatisticAbstractTest{
         Assert.assertTrue(Double.isNaN(mean.getResult()));
     }
 
+    @Test
+    public void testParallelCustomSumLog() {
+        // the custom implementation is honored by the parallel evaluation
+        final double[] x = new double[1000];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = 1 + (i % 7);
+        }
+        final GeometricMean mean = new GeometricMean();
+        mean.setSumLogImpl(new SecondMoment());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Assert.assertEquals(mean.evaluate(x, 0, x.length),
+                                mean.evaluate(x, 0, x.length, executor), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=MathUnsupportedOperationException.class)
+    public void testAggregateCustomSumLog() {
+        final GeometricMean mean = new GeometricMean();
+        mean.setSumLogImpl(new SecondMoment());
+        mean.aggregate(new GeometricMean());
+    }
 }
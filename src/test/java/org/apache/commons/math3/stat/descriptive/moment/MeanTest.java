@@ -16,6 +16,10 @@
  */
 package org.apache.commons.math3.stat.descriptive.moment;
 
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.exception.MathUnsupportedOperationException;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.junit.Assert;
@@ -37,6 +41,20 @@ public class MeanTest extends StorelessUnivariateStatisticAbstractTest{
         return new Mean();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((Mean) statistic).evaluate(values, begin, length, executor);
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((Mean) target).aggregate((Mean) source);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -65,4 +83,21 @@ public class MeanTest extends StorelessUnivariateStatisticAbstractTest{
         Assert.assertEquals(expectedValue(), mean.evaluate(testArray, identicalWeightsArray, 0, testArray.length), getTolerance());
     }
 
+    @Test
+    public void testAggregateExternalMoment() {
+        // the external moment is not owned by the mean, so it cannot be merged into
+        final FirstMoment m1 = new FirstMoment();
+        final Mean mean = new Mean(m1);
+        m1.increment(1.0);
+        final Mean other = new Mean();
+        other.increment(3.0);
+        try {
+            mean.aggregate(other);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathUnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals(1, mean.getN());
+        Assert.assertEquals(1.0, mean.getResult(), 0);
+    }
 }
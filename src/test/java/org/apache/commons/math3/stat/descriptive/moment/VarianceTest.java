@@ -16,6 +16,8 @@
  */
 package org.apache.commons.math3.stat.descriptive.moment;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.apache.commons.math3.util.MathArrays;
@@ -39,6 +41,13 @@ public class VarianceTest extends StorelessUnivariateStatisticAbstractTest{
         return new Variance();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((Variance) statistic).evaluate(values, begin, length, executor);
+    }
+
     /**
      * {@inheritDoc}
      */
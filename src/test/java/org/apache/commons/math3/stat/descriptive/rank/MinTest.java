@@ -16,6 +16,9 @@
  */
 package org.apache.commons.math3.stat.descriptive.rank;
 
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.junit.Assert;
@@ -37,6 +40,20 @@ public class MinTest extends StorelessUnivariateStatisticAbstractTest{
         return new Min();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((Min) statistic).evaluate(values, begin, length, executor);
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((Min) target).aggregate((Min) source);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
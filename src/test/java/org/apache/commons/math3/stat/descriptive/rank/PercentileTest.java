@@ -16,6 +16,10 @@
  */
 package org.apache.commons.math3.stat.descriptive.rank;
 
+import java.util.Arrays;
+
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatisticAbstractTest;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
@@ -167,4 +171,93 @@ public class PercentileTest extends UnivariateStatisticAbstractTest{
         }
     }
 
+    @Test
+    public void testMultiplePercentiles() {
+        final RandomGenerator random = new Well1024a(0x5c4a2e3f8d1b7960l);
+        final double[] ps = { 50, 90, 99, 99.9, 0.1, 50, 100, 25 };
+        for (final int n : new int[] { 2, 3, 10, 16, 17, 100, 1001, 100000 }) {
+            final double[] values = new double[n];
+            for (int i = 0; i < n; ++i) {
+                // use a small range to get many ties
+                values[i] = random.nextInt(n / 2 + 1) + 0.5 * random.nextDouble();
+            }
+            final double[] copy = values.clone();
+            final double[] results = new Percentile().evaluate(values, ps);
+            Assert.assertArrayEquals(copy, values, 0);
+            Assert.assertEquals(ps.length, results.length);
+            for (int i = 0; i < ps.length; ++i) {
+                Assert.assertEquals(new Percentile().evaluate(values, ps[i]), results[i], 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplePercentilesSlice() {
+        final Percentile percentile = new Percentile();
+        final double[] results = percentile.evaluate(testArray, 2, 10, new double[] { 10, 50, 75 });
+        Assert.assertEquals(percentile.evaluate(testArray, 2, 10, 10), results[0], 0);
+        Assert.assertEquals(percentile.evaluate(testArray, 2, 10, 50), results[1], 0);
+        Assert.assertEquals(percentile.evaluate(testArray, 2, 10, 75), results[2], 0);
+        Assert.assertEquals(0, percentile.evaluate(testArray, new double[0]).length);
+        Assert.assertTrue(Double.isNaN(percentile.evaluate(testArray, 0, 0, new double[] { 10, 20 })[1]));
+        Assert.assertEquals(testArray[3], percentile.evaluate(testArray, 3, 1, new double[] { 10, 20 })[1], 0);
+    }
+
+    @Test
+    public void testEvaluateInPlace() {
+        final RandomGenerator random = new Well1024a(0x1f3b8e92c7a5d046l);
+        final int n = 5000;
+        final double[] values = new double[n + 20];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextGaussian();
+        }
+        final double[] original = values.clone();
+        final double[] ps = { 1, 50, 90, 99 };
+        final double[] expected = new Percentile().evaluate(original, 10, n, ps);
+        final double[] actual = new Percentile().evaluateInPlace(values, 10, n, ps);
+        Assert.assertArrayEquals(expected, actual, 0);
+
+        // elements outside of the slice are untouched and the slice is a permutation
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertEquals(original[i], values[i], 0);
+            Assert.assertEquals(original[n + 10 + i], values[n + 10 + i], 0);
+        }
+        final double[] sortedOriginal = new double[n];
+        final double[] sortedValues   = new double[n];
+        System.arraycopy(original, 10, sortedOriginal, 0, n);
+        System.arraycopy(values, 10, sortedValues, 0, n);
+        Arrays.sort(sortedOriginal);
+        Arrays.sort(sortedValues);
+        Assert.assertArrayEquals(sortedOriginal, sortedValues, 0);
+    }
+
+    @Test
+    public void testMultiplePercentilesInvalid() {
+        final Percentile percentile = new Percentile();
+        try {
+            percentile.evaluate(testArray, new double[] { 50, 0 });
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluate(testArray, new double[] { 50, 100.5 });
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluate(testArray, (double[]) null);
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            percentile.evaluateInPlace(null, 0, 0, new double[] { 50 });
+            Assert.fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException ex) {
+            // expected
+        }
+    }
+
 }
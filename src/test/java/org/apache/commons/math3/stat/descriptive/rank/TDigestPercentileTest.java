@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.stat.descriptive.rank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well19937c;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
+import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
+import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link TDigestPercentile} class.
+ * @version $Id$
+ */
+public class TDigestPercentileTest extends StorelessUnivariateStatisticAbstractTest {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UnivariateStatistic getUnivariateStatistic() {
+        return new TDigestPercentile(95.0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double expectedValue() {
+        return this.percentile95;
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((TDigestPercentile) target).aggregate((TDigestPercentile) source);
+        return true;
+    }
+
+    @Test
+    public void testSmallSamplesAreExact() {
+        final RandomGenerator random = new Well19937c(0x8c4a1e2b3d5f6071l);
+        final double[] values = new double[25];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextGaussian();
+        }
+        final TDigestPercentile digest = new TDigestPercentile();
+        digest.incrementAll(values);
+        Assert.assertEquals(values.length, digest.getCentroidCount());
+        for (double p = 0.5; p <= 100; p += 0.5) {
+            Assert.assertEquals("p = " + p, new Percentile(p).evaluate(values),
+                                digest.getPercentile(p), 1.0e-12);
+        }
+    }
+
+    @Test
+    public void testLargeSample() {
+        final RandomGenerator random = new Well19937c(0x3a2b1c0d9e8f7061l);
+        final double[] values = new double[1000000];
+        final TDigestPercentile digest = new TDigestPercentile();
+        for (int i = 0; i < values.length; ++i) {
+            // log-normal values, similar to latencies
+            values[i] = FastMath.exp(random.nextGaussian());
+            digest.increment(values[i]);
+        }
+        Assert.assertEquals(values.length, digest.getN());
+        Assert.assertTrue(digest.getCentroidCount() <= digest.getCompression() + 1);
+        Arrays.sort(values);
+        checkRankError(values, digest, new double[] { 50, 25, 75 }, 2.0e-3);
+        checkRankError(values, digest, new double[] { 1, 99 }, 1.0e-3);
+        checkRankError(values, digest, new double[] { 0.1, 99.9 }, 2.0e-4);
+        Assert.assertEquals(values[0], digest.getPercentile(1.0e-9), 0);
+        Assert.assertEquals(values[values.length - 1], digest.getPercentile(100), 0);
+    }
+
+    @Test
+    public void testCompression() {
+        final RandomGenerator random = new Well19937c(0x0123456789abcdefl);
+        final double[] values = new double[100000];
+        final TDigestPercentile coarse = new TDigestPercentile(50, 20);
+        final TDigestPercentile fine   = new TDigestPercentile(50, 500);
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = random.nextDouble();
+            coarse.increment(values[i]);
+            fine.increment(values[i]);
+        }
+        Assert.assertTrue(coarse.getCentroidCount() <= 21);
+        Assert.assertTrue(fine.getCentroidCount() > coarse.getCentroidCount());
+        Assert.assertTrue(fine.getCentroidCount() <= 501);
+        Arrays.sort(values);
+        checkRankError(values, coarse, new double[] { 10, 50, 90 }, 2.0e-2);
+        checkRankError(values, fine, new double[] { 10, 50, 90 }, 1.0e-3);
+    }
+
+    @Test
+    public void testAggregateAccuracy() {
+        final RandomGenerator random = new Well19937c(0xfedcba9876543210l);
+        final double[] values = new double[200000];
+        final List<TDigestPercentile> parts = new ArrayList<TDigestPercentile>();
+        for (int k = 0; k < 8; ++k) {
+            parts.add(new TDigestPercentile(99));
+        }
+        for (int i = 0; i < values.length; ++i) {
+            // each part sees a different range, so aggregation really matters
+            values[i] = random.nextGaussian() + (i % 8);
+            parts.get(i % 8).increment(values[i]);
+        }
+        final long[] sizes = new long[parts.size()];
+        for (int k = 0; k < sizes.length; ++k) {
+            sizes[k] = parts.get(k).getN();
+        }
+
+        final TDigestPercentile aggregate = TDigestPercentile.aggregate(parts);
+        Assert.assertEquals(values.length, aggregate.getN());
+        Assert.assertEquals(99, aggregate.getQuantile(), 0);
+        Assert.assertTrue(aggregate.getCentroidCount() <= aggregate.getCompression() + 1);
+        Arrays.sort(values);
+        checkRankError(values, aggregate, new double[] { 0.1, 1, 50, 99, 99.9 }, 2.0e-3);
+        Assert.assertEquals(values[0], aggregate.getPercentile(1.0e-9), 0);
+        Assert.assertEquals(values[values.length - 1], aggregate.getPercentile(100), 0);
+
+        // the aggregated digests are not modified
+        for (int k = 0; k < sizes.length; ++k) {
+            Assert.assertEquals(sizes[k], parts.get(k).getN());
+        }
+
+        Assert.assertNull(TDigestPercentile.aggregate(new ArrayList<TDigestPercentile>()));
+    }
+
+    @Test
+    public void testAggregateSmall() {
+        final TDigestPercentile a = new TDigestPercentile();
+        final TDigestPercentile b = new TDigestPercentile();
+        a.incrementAll(new double[] { 3, 1, 4 });
+        b.incrementAll(new double[] { 1, 5, 9, 2, 6 });
+        a.aggregate(new TDigestPercentile());
+        a.aggregate(b);
+        Assert.assertEquals(8, a.getN());
+        final double[] all = { 3, 1, 4, 1, 5, 9, 2, 6 };
+        for (double p = 5; p <= 100; p += 5) {
+            Assert.assertEquals(new Percentile(p).evaluate(all), a.getPercentile(p), 1.0e-12);
+        }
+        final TDigestPercentile empty = new TDigestPercentile();
+        empty.aggregate(b);
+        Assert.assertEquals(b.getResult(), empty.getResult(), 0);
+    }
+
+    @Test
+    public void testSerializedForm() {
+        final RandomGenerator random = new Well19937c(0x1b873593cc9e2d51l);
+        final TDigestPercentile digest = new TDigestPercentile(90, 50);
+        for (int i = 0; i < 100000; ++i) {
+            digest.increment(random.nextDouble());
+        }
+        final TDigestPercentile recovered = (TDigestPercentile) TestUtils.serializeAndRecover(digest);
+        Assert.assertEquals(digest.getN(), recovered.getN());
+        Assert.assertEquals(digest.getCompression(), recovered.getCompression(), 0);
+        Assert.assertEquals(digest.getCentroidCount(), recovered.getCentroidCount());
+        for (double p = 1; p <= 100; p += 1) {
+            Assert.assertEquals(digest.getPercentile(p), recovered.getPercentile(p), 0);
+        }
+
+        // the recovered digest can still be updated
+        recovered.increment(2.0);
+        Assert.assertEquals(2.0, recovered.getPercentile(100), 0);
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final TDigestPercentile digest = new TDigestPercentile();
+        Assert.assertTrue(Double.isNaN(digest.getResult()));
+        digest.increment(Double.NaN);
+        Assert.assertEquals(0, digest.getN());
+        Assert.assertTrue(Double.isNaN(digest.getResult()));
+        digest.increment(1.0);
+        Assert.assertEquals(1.0, digest.getResult(), 0);
+        for (int i = 0; i < 10000; ++i) {
+            digest.increment(Double.POSITIVE_INFINITY);
+            digest.increment(Double.NEGATIVE_INFINITY);
+            digest.increment(i);
+        }
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, digest.getPercentile(10), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, digest.getPercentile(90), 0);
+        Assert.assertFalse(Double.isNaN(digest.getPercentile(50)));
+    }
+
+    @Test
+    public void testClear() {
+        final TDigestPercentile digest = new TDigestPercentile();
+        digest.incrementAll(new double[] { 1, 2, 3 });
+        digest.clear();
+        Assert.assertEquals(0, digest.getN());
+        Assert.assertEquals(0, digest.getCentroidCount());
+        digest.incrementAll(new double[] { 10, 20, 30 });
+        Assert.assertEquals(10, digest.getPercentile(1), 0);
+        Assert.assertEquals(20, digest.getResult(), 0);
+    }
+
+    @Test(expected=MathIllegalArgumentException.class)
+    public void testInvalidQuantile() {
+        new TDigestPercentile(0);
+    }
+
+    @Test(expected=MathIllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new TDigestPercentile().getPercentile(100.5);
+    }
+
+    @Test(expected=NotStrictlyPositiveException.class)
+    public void testInvalidCompression() {
+        new TDigestPercentile(50, 0);
+    }
+
+    private void checkRankError(final double[] sorted, final TDigestPercentile digest,
+                                final double[] ps, final double tolerance) {
+        for (final double p : ps) {
+            final double estimate = digest.getPercentile(p);
+            // rank of the estimate in the sorted sample
+            int index = Arrays.binarySearch(sorted, estimate);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            final double rank = (double) index / sorted.length;
+            Assert.assertEquals("p = " + p, p / 100, rank, tolerance);
+        }
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.math3.stat.descriptive.summary;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
@@ -38,6 +40,13 @@ public class ProductTest extends StorelessUnivariateStatisticAbstractTest{
         return new Product();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((Product) statistic).evaluate(values, begin, length, executor);
+    }
+
     /**
      * {@inheritDoc}
      */
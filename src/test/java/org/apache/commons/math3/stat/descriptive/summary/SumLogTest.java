@@ -16,6 +16,8 @@
  */
 package org.apache.commons.math3.stat.descriptive.summary;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
@@ -38,6 +40,20 @@ public class SumLogTest extends StorelessUnivariateStatisticAbstractTest{
         return new SumOfLogs();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((SumOfLogs) statistic).evaluate(values, begin, length, executor);
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((SumOfLogs) target).aggregate((SumOfLogs) source);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
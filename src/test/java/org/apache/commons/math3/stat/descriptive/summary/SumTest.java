@@ -16,6 +16,8 @@
  */
 package org.apache.commons.math3.stat.descriptive.summary;
 
+import java.util.concurrent.ExecutorService;
+
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatistic;
 import org.apache.commons.math3.stat.descriptive.StorelessUnivariateStatisticAbstractTest;
 import org.apache.commons.math3.stat.descriptive.UnivariateStatistic;
@@ -38,6 +40,20 @@ public class SumTest extends StorelessUnivariateStatisticAbstractTest{
         return new Sum();
     }
 
+    @Override
+    protected Double evaluateInParallel(final UnivariateStatistic statistic, final double[] values,
+                                        final int begin, final int length,
+                                        final ExecutorService executor) {
+        return ((Sum) statistic).evaluate(values, begin, length, executor);
+    }
+
+    @Override
+    protected boolean aggregate(final StorelessUnivariateStatistic target,
+                                final StorelessUnivariateStatistic source) {
+        ((Sum) target).aggregate((Sum) source);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
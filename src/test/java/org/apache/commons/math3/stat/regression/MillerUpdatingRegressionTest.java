@@ -16,7 +16,11 @@
  */
 package org.apache.commons.math3.stat.regression;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.random.Well1024a;
 import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
 import org.apache.commons.math3.TestUtils;
 import org.apache.commons.math3.util.FastMath;
@@ -1079,4 +1083,122 @@ public class MillerUpdatingRegressionTest {
     }
     
     
+    @Test
+    public void testAggregate() {
+        double[][] x = new double[airdata[0].length][];
+        double[] y = new double[airdata[0].length];
+        for (int i = 0; i < airdata[0].length; i++) {
+            x[i] = new double[3];
+            x[i][0] = Math.log(airdata[3][i]);
+            x[i][1] = Math.log(airdata[4][i]);
+            x[i][2] = airdata[5][i];
+            y[i] = Math.log(airdata[2][i]);
+        }
+
+        for (boolean intercept : new boolean[] { true, false }) {
+            MillerUpdatingRegression reference = new MillerUpdatingRegression(3, intercept);
+            reference.addObservations(x, y);
+            RegressionResults expected = reference.regress();
+
+            MillerUpdatingRegression aggregate = new MillerUpdatingRegression(3, intercept);
+            int start = 0;
+            for (int size : new int[] { 0, 1, 17, 5, 67 }) {
+                MillerUpdatingRegression part = new MillerUpdatingRegression(3, intercept);
+                for (int i = start; i < start + size; i++) {
+                    part.addObservation(x[i], y[i]);
+                }
+                aggregate.aggregate(part);
+                Assert.assertEquals(size, part.getN());
+                start += size;
+            }
+            Assert.assertEquals(reference.getN(), aggregate.getN());
+            RegressionResults actual = aggregate.regress();
+            TestUtils.assertEquals(expected.getParameterEstimates(), actual.getParameterEstimates(), 1.0e-10);
+            TestUtils.assertEquals(expected.getStdErrorOfEstimates(), actual.getStdErrorOfEstimates(), 1.0e-10);
+            Assert.assertEquals(expected.getErrorSumSquares(), actual.getErrorSumSquares(), 1.0e-10);
+            Assert.assertEquals(expected.getRSquared(), actual.getRSquared(), 1.0e-12);
+
+            // aggregating a regression with itself duplicates all observations
+            aggregate.aggregate(aggregate);
+            RegressionResults doubled = aggregate.regress();
+            Assert.assertEquals(2 * reference.getN(), aggregate.getN());
+            TestUtils.assertEquals(expected.getParameterEstimates(), doubled.getParameterEstimates(), 1.0e-10);
+            Assert.assertEquals(2 * expected.getErrorSumSquares(), doubled.getErrorSumSquares(), 1.0e-10);
+            Assert.assertEquals(expected.getRSquared(), doubled.getRSquared(), 1.0e-12);
+        }
+    }
+
+    @Test
+    public void testAggregateReordered() {
+        double[][] x = new double[airdata[0].length][];
+        double[] y = new double[airdata[0].length];
+        for (int i = 0; i < airdata[0].length; i++) {
+            x[i] = new double[3];
+            x[i][0] = Math.log(airdata[3][i]);
+            x[i][1] = Math.log(airdata[4][i]);
+            x[i][2] = airdata[5][i];
+            y[i] = Math.log(airdata[2][i]);
+        }
+        MillerUpdatingRegression reference = new MillerUpdatingRegression(3, true);
+        reference.addObservations(x, y);
+
+        // subset regressions move the variables within the factorizations
+        MillerUpdatingRegression first = new MillerUpdatingRegression(3, true);
+        MillerUpdatingRegression second = new MillerUpdatingRegression(3, true);
+        for (int i = 0; i < x.length; i++) {
+            (i < 40 ? first : second).addObservation(x[i], y[i]);
+        }
+        first.regress(new int[] { 0, 1, 2 });
+        second.regress(new int[] { 0, 2 });
+        first.aggregate(second);
+
+        TestUtils.assertEquals(reference.regress(new int[] { 0, 2 }).getParameterEstimates(),
+                               first.regress(new int[] { 0, 2 }).getParameterEstimates(), 1.0e-10);
+        TestUtils.assertEquals(reference.regress().getParameterEstimates(),
+                               first.regress().getParameterEstimates(), 1.0e-10);
+    }
+
+    @Test(expected=ModelSpecificationException.class)
+    public void testAggregateIncompatible() {
+        new MillerUpdatingRegression(3, true).aggregate(new MillerUpdatingRegression(4, false));
+    }
+
+    @Test
+    public void testParallelAddObservations() {
+        Well1024a random = new Well1024a(0x5b1c93e0d7a24f68l);
+        double[][] x = new double[20000][4];
+        double[] y = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            for (int j = 0; j < 4; j++) {
+                x[i][j] = 10 * random.nextDouble() + j;
+            }
+            y[i] = 3 - 2 * x[i][0] + 0.5 * x[i][1] + x[i][3] + random.nextGaussian();
+        }
+
+        MillerUpdatingRegression reference = new MillerUpdatingRegression(4, true);
+        reference.addObservations(x, y);
+        RegressionResults expected = reference.regress();
+
+        MillerUpdatingRegression parallel = new MillerUpdatingRegression(4, true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            parallel.addObservations(x, y, executor);
+            try {
+                x[12345] = new double[3];
+                parallel.addObservations(x, y, executor);
+                Assert.fail("an exception should have been thrown");
+            } catch (ModelSpecificationException mse) {
+                // expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(x.length, parallel.getN());
+        RegressionResults actual = parallel.regress();
+        TestUtils.assertEquals(expected.getParameterEstimates(), actual.getParameterEstimates(), 1.0e-10);
+        TestUtils.assertEquals(expected.getStdErrorOfEstimates(), actual.getStdErrorOfEstimates(), 1.0e-12);
+        Assert.assertEquals(expected.getErrorSumSquares(), actual.getErrorSumSquares(), 1.0e-7);
+        Assert.assertEquals(expected.getRSquared(), actual.getRSquared(), 1.0e-12);
+    }
+
 }
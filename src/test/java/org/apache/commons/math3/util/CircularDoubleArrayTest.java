@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import org.apache.commons.math3.TestUtils;
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.MathIllegalStateException;
+import org.apache.commons.math3.exception.NotStrictlyPositiveException;
+import org.apache.commons.math3.exception.NumberIsTooSmallException;
+import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.Well1024a;
+import org.apache.commons.math3.stat.descriptive.summary.Sum;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * This class contains test cases for the CircularDoubleArray.
+ *
+ * @version $Id$
+ */
+public class CircularDoubleArrayTest extends DoubleArrayAbstractTest {
+
+    @After
+    public void tearDown() throws Exception {
+        da = null;
+        ra = null;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        da = new CircularDoubleArray();
+        ra = new CircularDoubleArray();
+    }
+
+    @Test
+    public void testConstructors() {
+        CircularDoubleArray a = new CircularDoubleArray();
+        Assert.assertEquals(16, a.getCapacity());
+        Assert.assertEquals(2.0, a.getExpansionFactor(), 0);
+        Assert.assertEquals(ResizableDoubleArray.ExpansionMode.MULTIPLICATIVE, a.getExpansionMode());
+        Assert.assertEquals(0, a.getNumElements());
+
+        a = new CircularDoubleArray(new double[] { 1, 2, 3 });
+        Assert.assertEquals(3, a.getNumElements());
+        Assert.assertEquals(3.0, a.getElement(2), 0);
+
+        a = new CircularDoubleArray((double[]) null);
+        Assert.assertEquals(0, a.getNumElements());
+
+        try {
+            new CircularDoubleArray(0);
+            Assert.fail("an exception should have been thrown");
+        } catch (NotStrictlyPositiveException e) {
+            // expected
+        }
+        try {
+            new CircularDoubleArray(10, 1.0, ResizableDoubleArray.ExpansionMode.ADDITIVE);
+            Assert.fail("an exception should have been thrown");
+        } catch (NumberIsTooSmallException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRollingDoesNotExpand() {
+        final CircularDoubleArray a = new CircularDoubleArray(4);
+        for (int i = 0; i < 4; i++) {
+            a.addElement(i);
+        }
+        for (int i = 4; i < 1000; i++) {
+            Assert.assertEquals(i - 4, a.addElementRolling(i), 0);
+        }
+        Assert.assertEquals(4, a.getCapacity());
+        Assert.assertEquals(4, a.getNumElements());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(996 + i, a.getElement(i), 0);
+        }
+    }
+
+    @Test
+    public void testRollingEmpty() {
+        final CircularDoubleArray a = new CircularDoubleArray();
+        Assert.assertTrue(Double.isNaN(a.addElementRolling(3.5)));
+        Assert.assertEquals(1, a.getNumElements());
+        Assert.assertEquals(3.5, a.getElement(0), 0);
+    }
+
+    @Test
+    public void testAdditiveExpansion() {
+        final CircularDoubleArray a =
+                new CircularDoubleArray(3, 5.0, ResizableDoubleArray.ExpansionMode.ADDITIVE);
+        for (int i = 0; i < 9; i++) {
+            a.addElement(i);
+        }
+        Assert.assertEquals(13, a.getCapacity());
+        a.addElements(new double[20]);
+        Assert.assertEquals(33, a.getCapacity());
+        Assert.assertEquals(29, a.getNumElements());
+    }
+
+    @Test
+    public void testAgainstResizableDoubleArray() {
+        final RandomGenerator random = new Well1024a(0x4a1c1d3fb3d5bc1el);
+        final CircularDoubleArray circular = new CircularDoubleArray(5);
+        final ResizableDoubleArray reference = new ResizableDoubleArray(5);
+        for (int k = 0; k < 20000; k++) {
+            final double x = random.nextDouble();
+            final int n = reference.getNumElements();
+            switch (random.nextInt(8)) {
+            case 0 :
+                circular.addElement(x);
+                reference.addElement(x);
+                break;
+            case 1 :
+                final double[] values = new double[random.nextInt(7)];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = random.nextDouble();
+                }
+                circular.addElements(values);
+                reference.addElements(values);
+                break;
+            case 2 :
+            case 3 :
+                if (n > 0) {
+                    Assert.assertEquals(reference.addElementRolling(x), circular.addElementRolling(x), 0);
+                }
+                break;
+            case 4 :
+                if (n > 0) {
+                    final int i = random.nextInt(FastMath.min(n, 3) + 1);
+                    circular.discardFrontElements(i);
+                    reference.discardFrontElements(i);
+                }
+                break;
+            case 5 :
+                if (n > 0) {
+                    circular.discardMostRecentElements(1);
+                    reference.discardMostRecentElements(1);
+                }
+                break;
+            case 6 :
+                if (n > 0) {
+                    Assert.assertEquals(reference.substituteMostRecentElement(x),
+                                        circular.substituteMostRecentElement(x), 0);
+                }
+                break;
+            default :
+                final int index = random.nextInt(n + 1);
+                circular.setElement(index, x);
+                reference.setElement(index, x);
+                break;
+            }
+            Assert.assertEquals(reference.getNumElements(), circular.getNumElements());
+            if (n > 0) {
+                final int i = random.nextInt(reference.getNumElements());
+                Assert.assertEquals(reference.getElement(i), circular.getElement(i), 0);
+            }
+            if (k % 100 == 0) {
+                Assert.assertArrayEquals(reference.getElements(), circular.getElements(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testComputeWrapped() {
+        final CircularDoubleArray a = new CircularDoubleArray(8);
+        for (int i = 1; i <= 8; i++) {
+            a.addElement(i);
+        }
+        for (int i = 9; i <= 13; i++) {
+            a.addElementRolling(i);
+        }
+        // elements 6 to 13, wrapping around the end of the storage
+        Assert.assertEquals(76.0, a.compute(new Sum()), 0);
+        Assert.assertArrayEquals(new double[] { 6, 7, 8, 9, 10, 11, 12, 13 }, a.getElements(), 0);
+        Assert.assertEquals(6.0, a.addElementRolling(14), 0);
+        Assert.assertEquals(84.0, a.compute(new Sum()), 0);
+    }
+
+    @Test
+    public void testComputeWrappedPartiallyFilled() {
+        final CircularDoubleArray a = new CircularDoubleArray(8);
+        for (int i = 1; i <= 8; i++) {
+            a.addElement(i);
+        }
+        a.discardFrontElements(3);
+        a.addElement(9);
+        a.addElement(10);
+        a.discardMostRecentElements(1);
+        // elements 4 to 9, wrapping around the end of the storage
+        Assert.assertEquals(39.0, a.compute(new Sum()), 0);
+        Assert.assertEquals(8, a.getCapacity());
+        Assert.assertArrayEquals(new double[] { 4, 5, 6, 7, 8, 9 }, a.getElements(), 0);
+        a.addElement(11);
+        Assert.assertEquals(11.0, a.getElement(6), 0);
+        Assert.assertEquals(50.0, a.compute(new Sum()), 0);
+    }
+
+    @Test
+    public void testSetElementBeyondEnd() {
+        final CircularDoubleArray a = new CircularDoubleArray(4);
+        for (int i = 1; i <= 4; i++) {
+            a.addElement(i);
+        }
+        a.discardMostRecentElements(3);
+        a.setElement(3, 5.0);
+        Assert.assertArrayEquals(new double[] { 1, 0, 0, 5 }, a.getElements(), 0);
+    }
+
+    @Test
+    public void testDiscard() {
+        for (int i = 0; i < 11; i++) {
+            da.addElement(i);
+        }
+        ((CircularDoubleArray) da).discardFrontElements(5);
+        Assert.assertEquals(6, da.getNumElements());
+        Assert.assertEquals(5.0, da.getElement(0), 0);
+        ((CircularDoubleArray) da).discardMostRecentElements(2);
+        Assert.assertEquals(4, da.getNumElements());
+        Assert.assertEquals(8.0, da.getElement(3), 0);
+
+        try {
+            ((CircularDoubleArray) da).discardFrontElements(-1);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException e) {
+            // expected
+        }
+        try {
+            ((CircularDoubleArray) da).discardMostRecentElements(5);
+            Assert.fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test(expected=MathIllegalStateException.class)
+    public void testSubstituteEmpty() {
+        new CircularDoubleArray().substituteMostRecentElement(1.0);
+    }
+
+    @Test(expected=ArrayIndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        da.addElement(1.0);
+        da.getElement(1);
+    }
+
+    @Test
+    public void testEqualsAndCopy() {
+        final CircularDoubleArray a = new CircularDoubleArray(4);
+        final CircularDoubleArray b = new CircularDoubleArray(16);
+        for (int i = 0; i < 10; i++) {
+            a.addElement(i);
+            b.addElement(i);
+        }
+        // same content, different layouts
+        a.addElementRolling(10);
+        b.discardFrontElements(1);
+        b.addElement(10);
+        Assert.assertEquals(a, b);
+        Assert.assertEquals(a.hashCode(), b.hashCode());
+
+        final CircularDoubleArray c = a.copy();
+        Assert.assertEquals(a, c);
+        c.substituteMostRecentElement(-1);
+        Assert.assertFalse(a.equals(c));
+        Assert.assertEquals(10.0, a.getElement(9), 0);
+
+        Assert.assertEquals(a, TestUtils.serializeAndRecover(a));
+    }
+
+}
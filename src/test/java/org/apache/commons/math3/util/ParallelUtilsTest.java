@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.math3.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.NullArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for the {@link ParallelUtils} class.
+ *
+ * @version $Id$
+ */
+public class ParallelUtilsTest {
+
+    @Test
+    public void testPartition() {
+        checkPartition(ParallelUtils.partition(10, 3), 10, 3);
+        checkPartition(ParallelUtils.partition(10, 10), 10, 10);
+        checkPartition(ParallelUtils.partition(3, 10), 3, 3);
+        checkPartition(ParallelUtils.partition(1000, 7), 1000, 7);
+    }
+
+    @Test
+    public void testInvokeAllPreservesOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+            for (int i = 0; i < 50; ++i) {
+                final int index = i;
+                tasks.add(new Callable<Integer>() {
+                    public Integer call() {
+                        return index * index;
+                    }
+                });
+            }
+            List<Integer> results = ParallelUtils.invokeAll(executor, tasks);
+            Assert.assertEquals(50, results.size());
+            for (int i = 0; i < 50; ++i) {
+                Assert.assertEquals(i * i, results.get(i).intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NotPositiveException.class)
+    public void testInvokeAllRethrowsUncheckedException() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+            tasks.add(new Callable<Integer>() {
+                public Integer call() {
+                    throw new NotPositiveException(-1);
+                }
+            });
+            ParallelUtils.invokeAll(executor, tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=NullArgumentException.class)
+    public void testInvokeAllNullExecutor() {
+        ParallelUtils.invokeAll(null, new ArrayList<Callable<Integer>>());
+    }
+
+    private void checkPartition(int[] bounds, int n, int chunks) {
+        Assert.assertEquals(chunks + 1, bounds.length);
+        Assert.assertEquals(0, bounds[0]);
+        Assert.assertEquals(n, bounds[chunks]);
+        for (int i = 0; i < chunks; ++i) {
+            int size = bounds[i + 1] - bounds[i];
+            Assert.assertTrue(size >= n / chunks);
+            Assert.assertTrue(size <= n / chunks + 1);
+        }
+    }
+
+}